@@ -0,0 +1,65 @@
+/**
+ * @file useAnalyticsStream.ts
+ * @module api/analytics/hooks
+ *
+ * @summary
+ * Applies live analytics deltas from `/api/analytics/stream` to the React Query cache.
+ *
+ * @enterprise
+ * - Low-stock transitions adjust the cached KPI count in place (no refetch)
+ * - Quantity changes and movements mark analytics queries stale, batched per second
+ * - A reconnect (`ready` after the first) refetches once to cover missed events
+ */
+
+import { useEffect } from 'react';
+import { useQueryClient } from '@tanstack/react-query';
+import { subscribeAnalyticsStream } from '../stream';
+
+const DASHBOARD_METRICS_KEY = ['analytics', 'dashboard-metrics'] as const;
+const INVALIDATE_DEBOUNCE_MS = 1_000;
+
+type DashboardMetrics = { inventoryCount: number; suppliersCount: number; lowStockCount: number };
+
+/**
+ * Keeps analytics widgets current while mounted.
+ *
+ * @param enabled - Whether to hold a stream subscription (defaults to true)
+ */
+export function useAnalyticsStream(enabled: boolean = true): void {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    if (!enabled) return undefined;
+
+    let connected = false;
+    let pending: ReturnType<typeof setTimeout> | null = null;
+    const invalidateAnalytics = () => {
+      if (pending) return;
+      pending = setTimeout(() => {
+        pending = null;
+        void queryClient.invalidateQueries({ queryKey: ['analytics'] });
+      }, INVALIDATE_DEBOUNCE_MS);
+    };
+
+    const unsubscribe = subscribeAnalyticsStream((event) => {
+      if (event === null) {
+        if (connected) invalidateAnalytics(); // reconnect: catch up on missed deltas
+        connected = true;
+        return;
+      }
+      if (event.type === 'low-stock-entered' || event.type === 'low-stock-left') {
+        const step = event.type === 'low-stock-entered' ? 1 : -1;
+        queryClient.setQueryData<DashboardMetrics>(DASHBOARD_METRICS_KEY, (old) =>
+          old ? { ...old, lowStockCount: Math.max(0, old.lowStockCount + step) } : old,
+        );
+        return;
+      }
+      invalidateAnalytics();
+    });
+
+    return () => {
+      if (pending) clearTimeout(pending);
+      unsubscribe();
+    };
+  }, [enabled, queryClient]);
+}
@@ -8,6 +8,7 @@
  *
  * @enterprise
  * - Caches KPI data for 2 minutes to balance freshness and performance
+ * - Low-stock count follows live deltas from /api/analytics/stream while mounted
  * - Conditional fetching support for performance optimization
  * - Graceful fallbacks on error
  * - Comprehensive TypeDoc documentation
@@ -15,6 +16,7 @@
 
 import { useQuery } from '@tanstack/react-query';
 import { getItemCount, getSupplierCount, getLowStockCount } from '../metrics';
+import { useAnalyticsStream } from './useAnalyticsStream';
 
 /**
  * Hook to load dashboard KPI metrics (inventory count, supplier count, low stock count).
@@ -43,6 +45,7 @@ import { getItemCount, getSupplierCount, getLowStockCount } from '../metrics';
  * ```
  */
 export function useDashboardMetrics(enabled: boolean = true) {
+  useAnalyticsStream(enabled);
   return useQuery({
     queryKey: ['analytics', 'dashboard-metrics'],
     queryFn: async () => {
@@ -0,0 +1,78 @@
+/**
+ * @module api/analytics/stream
+ *
+ * Shared connection to `GET /api/analytics/stream` (Server-Sent Events).
+ * One `EventSource` is opened for the whole tab and reference-counted across
+ * subscribers, so several widgets listening for deltas cost a single
+ * connection. The browser's built-in `EventSource` retry handles reconnects
+ * (the server sends a `retry` hint with the initial `ready` event).
+ */
+
+import { API_BASE } from '../httpClient';
+
+/** Delta payload pushed by the backend (`AnalyticsStreamEventDTO`). */
+export interface AnalyticsStreamEvent {
+  type: 'item-quantity' | 'low-stock-entered' | 'low-stock-left' | 'movement';
+  itemId: string;
+  itemName?: string;
+  supplierId?: string;
+  quantity?: number;
+  minimumQuantity?: number;
+  change?: number;
+  reason?: string;
+  timestamp?: string;
+}
+
+/** Receives deltas; `ready` is delivered as `null` on every (re)connect. */
+export type AnalyticsStreamListener = (event: AnalyticsStreamEvent | null) => void;
+
+const EVENT_TYPES: AnalyticsStreamEvent['type'][] = [
+  'item-quantity',
+  'low-stock-entered',
+  'low-stock-left',
+  'movement',
+];
+
+const listeners = new Set<AnalyticsStreamListener>();
+let source: EventSource | null = null;
+
+function open(): void {
+  source = new EventSource(`${API_BASE.replace(/\/+$/, '')}/api/analytics/stream`, {
+    withCredentials: true,
+  });
+  source.addEventListener('ready', () => listeners.forEach((l) => l(null)));
+  for (const type of EVENT_TYPES) {
+    source.addEventListener(type, (msg) => {
+      let payload: AnalyticsStreamEvent;
+      try {
+        payload = JSON.parse((msg as MessageEvent<string>).data) as AnalyticsStreamEvent;
+      } catch {
+        return; // malformed frame: ignore rather than break other listeners
+      }
+      listeners.forEach((l) => l(payload));
+    });
+  }
+}
+
+/**
+ * Subscribes to live analytics deltas.
+ * No-op (returns a no-op unsubscribe) where `EventSource` is unavailable, e.g. jsdom.
+ *
+ * @returns unsubscribe function; the connection closes with the last subscriber
+ */
+export function subscribeAnalyticsStream(listener: AnalyticsStreamListener): () => void {
+  if (typeof EventSource === 'undefined') {
+    return () => {};
+  }
+  listeners.add(listener);
+  if (!source) {
+    open();
+  }
+  return () => {
+    listeners.delete(listener);
+    if (listeners.size === 0 && source) {
+      source.close();
+      source = null;
+    }
+  };
+}
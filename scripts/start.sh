@@ -13,6 +13,9 @@ set -eu
 : "${SPRING_PROFILES_ACTIVE:=prod}" # default to 'prod' profile
 : "${SERVER_PORT:=8081}"            # honor CI's 8081 preflight; defaults to 8081
 : "${DEBUG:=0}"                     # set to 1 to enable debug output
+: "${JFR_ENABLED:=1}"               # continuous Flight Recorder with app events (0 to disable)
+: "${JFR_DIR:=/tmp/jfr}"            # repository + dump-on-exit location
+: "${STARTUP_CACHE:=1}"             # CDS archive + Spring AOT context trained in the image (0 to disable)
 
 umask 077
 
@@ -68,6 +71,28 @@ JAVA_OPTS="${JAVA_OPTS:-} \
  -Dserver.forward-headers-strategy=framework \
  -XX:MaxRAMPercentage=75"
 
+# Continuous JFR: JDK default profile plus the SmartSupplyPro events (scripts/jfr/smartsupplypro.jfc).
+# Bounded on disk; dump a live window with: jcmd <pid> JFR.dump name=continuous filename=...
+if [ "${JFR_ENABLED}" = "1" ] && [ -f /app/jfr/smartsupplypro.jfc ]; then
+  mkdir -p "${JFR_DIR}"
+  JAVA_OPTS="${JAVA_OPTS} \
+ -XX:StartFlightRecording=name=continuous,settings=default,settings=/app/jfr/smartsupplypro.jfc,disk=true,maxage=12h,maxsize=256m,dumponexit=true,filename=${JFR_DIR}/ \
+ -XX:FlightRecorderOptions=repository=${JFR_DIR}/repo"
+fi
+
+# Startup cache from the Dockerfile training stage: the CDS archive maps the classes the
+# app loads at startup instead of parsing and verifying them from the jars; Spring AOT
+# replaces configuration-class parsing with generated bean definitions. Measured on a
+# single shared core: ~35 s (fat jar) -> ~11 s to a refreshed context. A stale archive
+# (other JVM or jars) is ignored by the JVM with a warning. The AOT context was built
+# for the prod profile, so it is only switched on for prod.
+if [ "${STARTUP_CACHE}" = "1" ] && [ -f /app/app.jsa ]; then
+  JAVA_OPTS="${JAVA_OPTS} -XX:SharedArchiveFile=/app/app.jsa"
+  if [ "${SPRING_PROFILES_ACTIVE}" = "prod" ]; then
+    JAVA_OPTS="${JAVA_OPTS} -Dspring.aot.enabled=true"
+  fi
+fi
+
 echo "Starting Spring Boot on port ${SERVER_PORT}..."
 echo "[start] Starting Inventory Service App..."
 # Launch the Spring Boot app (the jar is part of the Docker image)
@@ -0,0 +1,44 @@
+package com.smartsupplypro.inventory.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import com.smartsupplypro.inventory.dto.StockEventRowDTO;
+import com.smartsupplypro.inventory.model.AppUser;
+import com.smartsupplypro.inventory.repository.AppUserRepository;
+import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+
+/**
+ * Repository stand-ins that return pre-generated rows, so services run without Spring
+ * or a database. Only the methods a benchmark drives are answered; anything else fails
+ * loudly rather than returning a silent default.
+ */
+public final class RepositoryStubs {
+
+    private RepositoryStubs() {}
+
+    /** Answers {@code streamEventsForWAC} with {@code events}, regardless of arguments. */
+    public static StockHistoryRepository stockHistory(List<StockEventRowDTO> events) {
+        return stub(StockHistoryRepository.class, "streamEventsForWAC", 2, events);
+    }
+
+    /** Answers {@code findAll()} with {@code users}. */
+    public static AppUserRepository appUsers(List<AppUser> users) {
+        return stub(AppUserRepository.class, "findAll", 0, users);
+    }
+
+    private static <T> T stub(Class<T> type, String method, int parameterCount, Object result) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (self, m, args) -> {
+            if (m.getName().equals(method) && m.getParameterCount() == parameterCount) {
+                return result;
+            }
+            return switch (m.getName()) {
+                case "toString" -> type.getSimpleName() + " stub";
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + m.getName());
+            };
+        });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,183 @@
+package com.smartsupplypro.inventory.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.dto.StockEventRowDTO;
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.model.InventoryItem;
+import com.smartsupplypro.inventory.model.StockHistory;
+import com.smartsupplypro.inventory.model.Supplier;
+
+/**
+ * Deterministic in-memory data for the benchmarks: the same seed and parameters always
+ * produce the same rows, so results are comparable across runs and machines.
+ */
+public final class SyntheticEvents {
+
+    /** Last day covered by generated events; the replay window ends here. */
+    public static final LocalDate END = LocalDate.of(2026, 6, 30);
+
+    /** Days of history before {@link #END} that events are spread over. */
+    public static final int HISTORY_DAYS = 730;
+
+    private static final long SEED = 0x5EED_2026L;
+
+    /** Reason distribution of generated stock movements. */
+    public enum ReasonMix {
+        /** Priced receipts and sales only. */
+        SALES,
+        /** Receipts, sales, customer returns, supplier returns and every write-off reason. */
+        MIXED
+    }
+
+    private static final StockChangeReason[] WRITE_OFFS = {
+        StockChangeReason.DAMAGED, StockChangeReason.DESTROYED, StockChangeReason.SCRAPPED,
+        StockChangeReason.EXPIRED, StockChangeReason.LOST
+    };
+
+    private SyntheticEvents() {}
+
+    /**
+     * Chronological WAC replay input.
+     *
+     * @param events         number of rows
+     * @param items          distinct item ids, spread over ten suppliers
+     * @param mix            reason distribution
+     * @param nullPriceRatio share of inbound rows without a price snapshot
+     */
+    public static List<StockEventRowDTO> wacEvents(int events, int items, ReasonMix mix, double nullPriceRatio) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] itemIds = ids("item-", items);
+        String[] supplierIds = ids("supplier-", 10);
+        BigDecimal[] basePrices = new BigDecimal[items];
+        for (int i = 0; i < items; i++) {
+            basePrices[i] = BigDecimal.valueOf(100 + random.nextInt(9_900), 2);
+        }
+
+        LocalDateTime first = END.minusDays(HISTORY_DAYS).atStartOfDay();
+        long spanSeconds = HISTORY_DAYS * 86_400L;
+        List<StockEventRowDTO> rows = new ArrayList<>(events);
+        for (int n = 0; n < events; n++) {
+            int item = random.nextInt(items);
+            LocalDateTime at = first.plusSeconds(spanSeconds * n / events);
+            StockChangeReason reason = reason(random, mix);
+            int qty = 1 + random.nextInt(20);
+            boolean inbound = reason == StockChangeReason.INITIAL_STOCK
+                    || reason == StockChangeReason.MANUAL_UPDATE
+                    || reason == StockChangeReason.RETURNED_BY_CUSTOMER;
+            BigDecimal price = inbound && random.nextDouble() >= nullPriceRatio ? basePrices[item] : null;
+            rows.add(new StockEventRowDTO(itemIds[item], supplierIds[item % supplierIds.length], at,
+                    inbound ? qty : -qty, price, reason));
+        }
+        return rows;
+    }
+
+    /**
+     * Daily per-creator counts as returned by {@code getDailyEmployeeActivity}, one row per
+     * employee per day.
+     */
+    public static List<DailyEmployeeActivityRowDTO> dailyEmployeeRows(int employees, int days) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<DailyEmployeeActivityRowDTO> rows = new ArrayList<>(employees * days);
+        LocalDate first = END.minusDays(days - 1L);
+        for (int d = 0; d < days; d++) {
+            LocalDate day = first.plusDays(d);
+            for (int e = 0; e < employees; e++) {
+                rows.add(new DailyEmployeeActivityRowDTO(employeeEmail(e), day, random.nextInt(50)));
+            }
+        }
+        return rows;
+    }
+
+    /** Email of the n-th synthetic employee. */
+    public static String employeeEmail(int n) {
+        return "employee" + n + "@example.com";
+    }
+
+    /** Inventory items with their supplier loaded, as returned by a fetch join. */
+    public static List<InventoryItem> items(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Supplier> suppliers = suppliers(10);
+        List<InventoryItem> out = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            Supplier supplier = suppliers.get(n % suppliers.size());
+            out.add(InventoryItem.builder()
+                    .id("item-" + n)
+                    .name("Item " + n)
+                    .sku("SKU-" + n)
+                    .quantity(random.nextInt(500))
+                    .price(BigDecimal.valueOf(100 + random.nextInt(9_900), 2))
+                    .supplierId(supplier.getId())
+                    .supplier(supplier)
+                    .minimumQuantity(10)
+                    .createdBy(employeeEmail(n % 20))
+                    .createdAt(END.atStartOfDay().minusMinutes(n))
+                    .build());
+        }
+        return out;
+    }
+
+    /** Stock history rows with mixed reasons and optional price snapshots. */
+    public static List<StockHistory> history(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        StockChangeReason[] reasons = StockChangeReason.values();
+        List<StockHistory> out = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            out.add(StockHistory.builder()
+                    .id("sh-" + n)
+                    .itemId("item-" + random.nextInt(1_000))
+                    .supplierId("supplier-" + random.nextInt(10))
+                    .change(random.nextInt(41) - 20)
+                    .reason(reasons[random.nextInt(reasons.length)])
+                    .createdBy(employeeEmail(n % 20))
+                    .timestamp(END.atStartOfDay().minusMinutes(n))
+                    .priceAtChange(random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(10_000), 2) : null)
+                    .build());
+        }
+        return out;
+    }
+
+    /** Suppliers with contact details filled in. */
+    public static List<Supplier> suppliers(int count) {
+        List<Supplier> out = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            out.add(Supplier.builder()
+                    .id("supplier-" + n)
+                    .name("Supplier " + n)
+                    .contactName("Contact " + n)
+                    .phone("+49 30 " + (1_000_000 + n))
+                    .email("supplier" + n + "@example.com")
+                    .createdBy("admin@example.com")
+                    .createdAt(END.atStartOfDay())
+                    .build());
+        }
+        return out;
+    }
+
+    private static StockChangeReason reason(SplittableRandom random, ReasonMix mix) {
+        int roll = random.nextInt(100);
+        if (mix == ReasonMix.SALES) {
+            return roll < 50 ? (roll < 5 ? StockChangeReason.INITIAL_STOCK : StockChangeReason.MANUAL_UPDATE)
+                    : StockChangeReason.SOLD;
+        }
+        if (roll < 45) return roll < 5 ? StockChangeReason.INITIAL_STOCK : StockChangeReason.MANUAL_UPDATE;
+        if (roll < 50) return StockChangeReason.RETURNED_BY_CUSTOMER;
+        if (roll < 85) return StockChangeReason.SOLD;
+        if (roll < 90) return StockChangeReason.RETURNED_TO_SUPPLIER;
+        return WRITE_OFFS[roll % WRITE_OFFS.length];
+    }
+
+    private static String[] ids(String prefix, int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = prefix + i;
+        }
+        return ids;
+    }
+}
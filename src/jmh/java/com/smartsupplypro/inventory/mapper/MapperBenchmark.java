@@ -0,0 +1,95 @@
+package com.smartsupplypro.inventory.mapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.smartsupplypro.inventory.benchmark.SyntheticEvents;
+import com.smartsupplypro.inventory.dto.InventoryItemDTO;
+import com.smartsupplypro.inventory.dto.StockHistoryDTO;
+import com.smartsupplypro.inventory.dto.SupplierDTO;
+import com.smartsupplypro.inventory.model.InventoryItem;
+import com.smartsupplypro.inventory.model.StockHistory;
+import com.smartsupplypro.inventory.model.Supplier;
+
+/**
+ * Entity/DTO mappers over a page-sized and an export-sized batch, in both directions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"50", "10000"})
+    int rows;
+
+    private final InventoryItemMapper itemMapper = new InventoryItemMapper();
+    private final StockHistoryMapper historyMapper = new StockHistoryMapper();
+    private final SupplierMapper supplierMapper = new SupplierMapper();
+
+    private List<InventoryItem> items;
+    private List<InventoryItemDTO> itemDtos;
+    private List<StockHistory> history;
+    private List<StockHistoryDTO> historyDtos;
+    private List<Supplier> suppliers;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        items = SyntheticEvents.items(rows);
+        itemDtos = items.stream().map(itemMapper::toDTO).toList();
+        history = SyntheticEvents.history(rows);
+        historyDtos = history.stream().map(historyMapper::toDTO).toList();
+        suppliers = SyntheticEvents.suppliers(rows);
+    }
+
+    @Benchmark
+    public void inventoryItemToDto(Blackhole bh) {
+        for (InventoryItem item : items) {
+            bh.consume(itemMapper.toDTO(item));
+        }
+    }
+
+    @Benchmark
+    public void inventoryItemToEntity(Blackhole bh) {
+        for (InventoryItemDTO dto : itemDtos) {
+            bh.consume(itemMapper.toEntity(dto));
+        }
+    }
+
+    @Benchmark
+    public void stockHistoryToDto(Blackhole bh) {
+        for (StockHistory h : history) {
+            bh.consume(historyMapper.toDTO(h));
+        }
+    }
+
+    @Benchmark
+    public void stockHistoryToEntity(Blackhole bh) {
+        for (StockHistoryDTO dto : historyDtos) {
+            bh.consume(historyMapper.toEntity(dto));
+        }
+    }
+
+    @Benchmark
+    public void supplierToDto(Blackhole bh) {
+        for (Supplier s : suppliers) {
+            bh.consume(supplierMapper.toDTO(s));
+        }
+    }
+}
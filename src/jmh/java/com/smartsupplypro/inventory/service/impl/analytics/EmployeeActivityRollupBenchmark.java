@@ -0,0 +1,64 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.smartsupplypro.inventory.benchmark.RepositoryStubs;
+import com.smartsupplypro.inventory.benchmark.SyntheticEvents;
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.dto.EmployeeActivityDTO;
+import com.smartsupplypro.inventory.model.AppUser;
+
+/**
+ * {@link EmployeeAnalyticsService#rollUpDailyActivity}: daily per-employee counts rolled up
+ * to the requested granularity, including the display-name join.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeActivityRollupBenchmark {
+
+    @Param({"10", "200"})
+    int employees;
+
+    @Param({"90", "730"})
+    int days;
+
+    @Param({"daily", "weekly", "monthly"})
+    String granularity;
+
+    private EmployeeAnalyticsService service;
+    private List<DailyEmployeeActivityRowDTO> rows;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        rows = SyntheticEvents.dailyEmployeeRows(employees, days);
+        List<AppUser> users = new ArrayList<>(employees);
+        for (int e = 0; e < employees; e++) {
+            users.add(new AppUser(SyntheticEvents.employeeEmail(e), "Employee " + e));
+        }
+        service = new EmployeeAnalyticsService(null, RepositoryStubs.appUsers(users));
+    }
+
+    @Benchmark
+    public List<EmployeeActivityDTO> rollUp() {
+        return service.rollUpDailyActivity(rows, granularity);
+    }
+}
@@ -0,0 +1,65 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.smartsupplypro.inventory.benchmark.RepositoryStubs;
+import com.smartsupplypro.inventory.benchmark.SyntheticEvents;
+import com.smartsupplypro.inventory.dto.FinancialSummaryDTO;
+import com.smartsupplypro.inventory.dto.StockEventRowDTO;
+
+/**
+ * {@link FinancialAnalyticsService#getFinancialSummaryWAC} over synthetic event streams.
+ *
+ * <p>The reporting period is the last year of the two-year history, so both the opening
+ * replay and the period categorisation run over half of the events each. The repository
+ * returns the pre-generated list, so the score is the in-memory replay alone.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class WacReplayBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    int events;
+
+    @Param({"100", "10000"})
+    int items;
+
+    @Param({"SALES", "MIXED"})
+    SyntheticEvents.ReasonMix reasons;
+
+    @Param({"0.0", "0.3"})
+    double nullPriceRatio;
+
+    private FinancialAnalyticsService service;
+    private final LocalDate from = SyntheticEvents.END.minusDays(SyntheticEvents.HISTORY_DAYS / 2);
+
+    @Setup(Level.Trial)
+    public void generate() {
+        List<StockEventRowDTO> rows = SyntheticEvents.wacEvents(events, items, reasons, nullPriceRatio);
+        service = new FinancialAnalyticsService(RepositoryStubs.stockHistory(rows));
+    }
+
+    @Benchmark
+    public FinancialSummaryDTO replay() {
+        return service.getFinancialSummaryWAC(from, SyntheticEvents.END, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.smartsupplypro.inventory.admission;
+
+/**
+ * AIMD concurrency limit for one cost class.
+ *
+ * <p>Starts at {@code max}. Every completed request is a sample: if it took longer than
+ * the target latency, or analytics connections waited longer than the pool-wait target
+ * while it ran, the limit is cut by a quarter (never below one); otherwise it grows by
+ * {@code 1/limit}, i.e. by about one per limit's worth of healthy requests.</p>
+ */
+final class AdaptiveLimit {
+
+    private static final double BACKOFF = 0.75;
+
+    private final int max;
+    private final long targetLatencyNanos;
+    private final long maxPoolWaitNanos;
+    private double limit;
+    private int inFlight;
+
+    AdaptiveLimit(int max, long targetLatencyNanos, long maxPoolWaitNanos) {
+        this.max = Math.max(1, max);
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.maxPoolWaitNanos = maxPoolWaitNanos;
+        this.limit = this.max;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /** Returns a slot without a sample, for requests refused after acquiring it. */
+    synchronized void cancel() {
+        inFlight--;
+    }
+
+    synchronized void release(long latencyNanos, long poolWaitNanos) {
+        inFlight--;
+        if (latencyNanos > targetLatencyNanos || poolWaitNanos > maxPoolWaitNanos) {
+            limit = Math.max(1, limit * BACKOFF);
+        } else {
+            limit = Math.min(max, limit + 1 / limit);
+        }
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,135 @@
+package com.smartsupplypro.inventory.admission;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.smartsupplypro.inventory.controller.AnalyticsStreamController;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the {@link AdmissionController} to {@code /api/analytics/**} and answers refused
+ * requests with 429 or 503 and {@code Retry-After} before the controller is invoked.
+ *
+ * <p>Clients are keyed by authenticated principal, otherwise by IP address. The forwarded-header
+ * support resolves {@code getRemoteAddr()} from the leftmost {@code X-Forwarded-For} entry,
+ * which the client can forge, so the filter reads the header itself: with
+ * {@code trustedProxyHops} proxies in front of the app, the client IP is the entry the
+ * outermost of them appended, and everything to its left is ignored. Without trusted
+ * proxies it is the TCP peer. Anonymous sessions are not used as a key: a crawler that
+ * drops cookies would get a fresh bucket on every request. Runs after the Spring Security
+ * chain so the principal is known. The event stream is long-lived and not
+ * admission-controlled; it is matched by path so no request header can opt out.</p>
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private final AdmissionController controller;
+    private final int trustedProxyHops;
+
+    public AdmissionControlFilter(AdmissionController controller, int trustedProxyHops) {
+        this.controller = controller;
+        this.trustedProxyHops = trustedProxyHops;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return AnalyticsStreamController.STREAM_PATH.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        CostClass costClass = controller.classify(request.getRequestURI().substring(request.getContextPath().length()));
+        String client = clientKey(request, trustedProxyHops);
+        AdmissionController.Decision decision = controller.admit(client, costClass);
+        if (!decision.admitted()) {
+            log.debug("Refused {} {} ({}) for {}: {}", request.getMethod(), request.getRequestURI(),
+                    costClass, client, decision.outcome());
+            reject(response, decision);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            controller.complete(decision, System.nanoTime() - start);
+        }
+    }
+
+    static String clientKey(HttpServletRequest request, int trustedProxyHops) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "principal:" + auth.getName();
+        }
+        return "ip:" + clientAddress(request, trustedProxyHops);
+    }
+
+    /**
+     * Client IP as seen by the outermost trusted proxy. Entries are counted from the right
+     * of {@code X-Forwarded-For} because each proxy appends the address it received the
+     * request from; a chain shorter than expected yields its leftmost entry.
+     */
+    static String clientAddress(HttpServletRequest request, int trustedProxyHops) {
+        List<String> forwarded = new ArrayList<>();
+        if (trustedProxyHops > 0) {
+            for (String header : Collections.list(request.getHeaders("X-Forwarded-For"))) {
+                for (String hop : header.split(",")) {
+                    if (!hop.isBlank()) {
+                        forwarded.add(hop.trim());
+                    }
+                }
+            }
+        }
+        if (forwarded.isEmpty()) {
+            return peerAddress(request);
+        }
+        return forwarded.get(Math.max(0, forwarded.size() - trustedProxyHops));
+    }
+
+    /** Address of the TCP peer, below the forwarded-header wrapper that rewrites it. */
+    private static String peerAddress(ServletRequest request) {
+        ServletRequest current = request;
+        while (current instanceof ServletRequestWrapper wrapper) {
+            current = wrapper.getRequest();
+        }
+        return current.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, AdmissionController.Decision decision)
+            throws IOException {
+        boolean shed = decision.outcome() == AdmissionController.Outcome.SHED;
+        HttpStatus status = shed ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.TOO_MANY_REQUESTS;
+        String message = shed
+                ? "Analytics is under heavy load; retry shortly"
+                : "Too many analytics requests; slow down";
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(AdmissionController.retryAfterSeconds(decision.retryAfter())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + status.name().toLowerCase() + "\",\"message\":\"" + message
+                + "\",\"timestamp\":\"" + Instant.now() + "\"}");
+    }
+}
@@ -0,0 +1,212 @@
+package com.smartsupplypro.inventory.admission;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartsupplypro.inventory.bulkhead.PartitionedDataSource;
+import com.smartsupplypro.inventory.config.AppProperties;
+
+/**
+ * Decides whether an analytics request may run, before any SQL is issued.
+ *
+ * <p>Two checks, in order:</p>
+ * <ol>
+ *   <li><b>Shedding</b> ({@link Outcome#SHED}, 503): the cost class's {@link AdaptiveLimit}
+ *       is full. The limit adapts to observed request latency and to the average wait for
+ *       an analytics connection permit, so it tightens as soon as the database slows down
+ *       and recovers once requests are fast again.</li>
+ *   <li><b>Rate limiting</b> ({@link Outcome#RATE_LIMITED}, 429): the client has no token
+ *       left in its bucket for the cost class.</li>
+ * </ol>
+ *
+ * <p>Buckets live in a bounded Caffeine cache keyed by cost class and client, expiring
+ * after {@code client-idle-timeout}; an evicted client simply starts with a full bucket.</p>
+ */
+public class AdmissionController {
+
+    /** Result of an admission check. */
+    public enum Outcome { ADMITTED, RATE_LIMITED, SHED }
+
+    /**
+     * Admission result; an admitted decision must be passed to {@link #complete} once the
+     * request has finished.
+     *
+     * @param outcome    admission outcome
+     * @param costClass  cost class of the request
+     * @param retryAfter suggested back-off for refused requests, null when admitted
+     */
+    public record Decision(Outcome outcome, CostClass costClass, Duration retryAfter) {
+
+        public boolean admitted() {
+            return outcome == Outcome.ADMITTED;
+        }
+    }
+
+    private record BucketKey(CostClass costClass, String client) {}
+
+    private final AppProperties.Admission cfg;
+    private final PartitionedDataSource.Partition analyticsPartition;
+    private final LongSupplier nanoClock;
+    private final List<PathPattern> heavyPaths;
+    private final List<PathPattern> lightPaths;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final Map<CostClass, AdaptiveLimit> limits = new EnumMap<>(CostClass.class);
+    private final Map<CostClass, Map<Outcome, LongAdder>> decisions = new EnumMap<>(CostClass.class);
+    private long lastAcquired;
+    private long lastAcquireNanos;
+
+    /**
+     * @param cfg                admission settings
+     * @param analyticsPartition analytics bulkhead partition whose permit wait feeds shedding;
+     *                           null when the bulkhead is disabled (latency only)
+     */
+    public AdmissionController(AppProperties.Admission cfg, PartitionedDataSource.Partition analyticsPartition) {
+        this(cfg, analyticsPartition, System::nanoTime);
+    }
+
+    /** Test seam: controllable clock for buckets, limits and bucket expiry. */
+    AdmissionController(AppProperties.Admission cfg, PartitionedDataSource.Partition analyticsPartition,
+                        LongSupplier nanoClock) {
+        this.cfg = cfg;
+        this.analyticsPartition = analyticsPartition;
+        this.nanoClock = nanoClock;
+        this.heavyPaths = parse(cfg.getHeavyPaths());
+        this.lightPaths = parse(cfg.getLightPaths());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(cfg.getMaxClients())
+                .expireAfterAccess(cfg.getClientIdleTimeout())
+                .ticker(nanoClock::getAsLong)
+                .build();
+        for (CostClass costClass : CostClass.values()) {
+            AppProperties.Admission.CostClass classCfg = settings(costClass);
+            if (classCfg.getTargetLatency() != null && classCfg.getMaxConcurrent() > 0) {
+                limits.put(costClass, new AdaptiveLimit(classCfg.getMaxConcurrent(),
+                        classCfg.getTargetLatency().toNanos(), cfg.getMaxPoolWait().toNanos()));
+            }
+            Map<Outcome, LongAdder> counters = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                counters.put(outcome, new LongAdder());
+            }
+            decisions.put(costClass, counters);
+        }
+    }
+
+    /** Cost class of a request path; paths matching neither list are {@link CostClass#STANDARD}. */
+    public CostClass classify(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        if (matches(heavyPaths, container)) {
+            return CostClass.HEAVY;
+        }
+        if (matches(lightPaths, container)) {
+            return CostClass.LIGHT;
+        }
+        return CostClass.STANDARD;
+    }
+
+    /** Runs the shedding and rate-limit checks for one request from {@code client}. */
+    public Decision admit(String client, CostClass costClass) {
+        AdaptiveLimit limit = limits.get(costClass);
+        if (limit != null && !limit.tryAcquire()) {
+            return record(new Decision(Outcome.SHED, costClass, cfg.getShedRetryAfter()));
+        }
+        long now = nanoClock.getAsLong();
+        AppProperties.Admission.CostClass classCfg = settings(costClass);
+        TokenBucket bucket = buckets.get(new BucketKey(costClass, client),
+                key -> new TokenBucket(classCfg.getBurst(), classCfg.getRefillPeriod().toNanos(), now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            if (limit != null) {
+                limit.cancel();
+            }
+            return record(new Decision(Outcome.RATE_LIMITED, costClass, Duration.ofNanos(waitNanos)));
+        }
+        return record(new Decision(Outcome.ADMITTED, costClass, null));
+    }
+
+    /** Feeds the latency of an admitted request back into its class's limit. */
+    public void complete(Decision decision, long latencyNanos) {
+        AdaptiveLimit limit = limits.get(decision.costClass());
+        if (decision.admitted() && limit != null) {
+            limit.release(latencyNanos, recentPoolWaitNanos());
+        }
+    }
+
+    /** Current adaptive limit of a cost class, or -1 when the class is not shed. */
+    public int limit(CostClass costClass) {
+        AdaptiveLimit limit = limits.get(costClass);
+        return limit != null ? limit.limit() : -1;
+    }
+
+    /** Admitted requests of a cost class currently running, or 0 when the class is not shed. */
+    public int inFlight(CostClass costClass) {
+        AdaptiveLimit limit = limits.get(costClass);
+        return limit != null ? limit.inFlight() : 0;
+    }
+
+    /** Decisions of one outcome made for a cost class since startup. */
+    public long decisions(CostClass costClass, Outcome outcome) {
+        return decisions.get(costClass).get(outcome).sum();
+    }
+
+    /**
+     * Average analytics permit wait since the previous sample. With no permit granted in
+     * between but threads still queued, the partition is stuck and the wait is unbounded.
+     */
+    synchronized long recentPoolWaitNanos() {
+        if (analyticsPartition == null) {
+            return 0;
+        }
+        long acquired = analyticsPartition.acquired();
+        long acquireNanos = analyticsPartition.acquireNanos();
+        long granted = acquired - lastAcquired;
+        long waited = acquireNanos - lastAcquireNanos;
+        lastAcquired = acquired;
+        lastAcquireNanos = acquireNanos;
+        if (granted == 0) {
+            return analyticsPartition.waiting() > 0 ? Long.MAX_VALUE : 0;
+        }
+        return waited / granted;
+    }
+
+    private Decision record(Decision decision) {
+        decisions.get(decision.costClass()).get(decision.outcome()).increment();
+        return decision;
+    }
+
+    private AppProperties.Admission.CostClass settings(CostClass costClass) {
+        return switch (costClass) {
+            case HEAVY -> cfg.getHeavy();
+            case STANDARD -> cfg.getStandard();
+            case LIGHT -> cfg.getLight();
+        };
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whole seconds for a {@code Retry-After} header, rounded up and at least one. */
+    public static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfter.toNanos() + 999_999_999L));
+    }
+}
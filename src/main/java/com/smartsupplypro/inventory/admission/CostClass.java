@@ -0,0 +1,15 @@
+package com.smartsupplypro.inventory.admission;
+
+/**
+ * Relative database cost of an analytics endpoint, selected by {@code app.admission.heavy-paths}
+ * and {@code app.admission.light-paths}. Each class has its own per-client token bucket and,
+ * unless {@code LIGHT}, its own adaptive concurrency limit.
+ */
+public enum CostClass {
+    /** Single indexed count or lookup, e.g. the low-stock count. */
+    LIGHT,
+    /** Ordinary aggregate over one window. */
+    STANDARD,
+    /** Full replay or multi-query endpoint, e.g. the WAC financial summary. */
+    HEAVY
+}
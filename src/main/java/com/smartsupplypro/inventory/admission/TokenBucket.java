@@ -0,0 +1,35 @@
+package com.smartsupplypro.inventory.admission;
+
+/**
+ * Token bucket holding up to {@code burst} tokens and regaining one every {@code refillNanos}.
+ *
+ * <p>Kept as a single "theoretical arrival time" (GCRA) instead of a token count, so a
+ * refill needs no timer and the wait until the next token falls out of the same value.</p>
+ */
+final class TokenBucket {
+
+    private final long refillNanos;
+    private final long burstNanos;
+    private long theoreticalArrival;
+
+    TokenBucket(int burst, long refillNanos, long now) {
+        this.refillNanos = Math.max(1, refillNanos);
+        this.burstNanos = Math.max(1, burst) * this.refillNanos;
+        this.theoreticalArrival = now;
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return 0 when a token was taken, otherwise the nanoseconds until one is available
+     */
+    synchronized long tryConsume(long now) {
+        long next = Math.max(theoreticalArrival, now) + refillNanos;
+        long excess = next - now - burstNanos;
+        if (excess > 0) {
+            return excess;
+        }
+        theoreticalArrival = next;
+        return 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.smartsupplypro.inventory.bulkhead;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+/**
+ * Thrown by {@link PartitionedDataSource#getConnection()} when the current partition has
+ * no permit left within its acquire timeout. No pool connection was borrowed.
+ */
+public class PartitionSaturatedException extends SQLTransientConnectionException {
+
+    private final transient PoolPartition partition;
+    private final transient Duration retryAfter;
+
+    public PartitionSaturatedException(PoolPartition partition, Duration retryAfter) {
+        super("Connection pool partition " + partition + " is saturated");
+        this.partition = partition;
+        this.retryAfter = retryAfter;
+    }
+
+    public PoolPartition getPartition() {
+        return partition;
+    }
+
+    /** Suggested client back-off before retrying. */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * The saturation anywhere in {@code ex}'s cause chain; JPA and the transaction manager wrap it.
+     *
+     * @return the exception, or null when the failure has another cause
+     */
+    public static PartitionSaturatedException findIn(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof PartitionSaturatedException saturated) {
+                return saturated;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+}
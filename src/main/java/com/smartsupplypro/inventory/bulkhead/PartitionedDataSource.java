@@ -0,0 +1,188 @@
+package com.smartsupplypro.inventory.bulkhead;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+
+/**
+ * Semaphore partition over one connection pool: every {@link #getConnection()} is charged
+ * to the calling thread's {@link PoolPartition} and holds one of its permits until the
+ * connection is closed.
+ *
+ * <p>Permits are taken before the pool is asked for a connection, so a saturated analytics
+ * partition never queues inside Hikari and never delays CRUD borrowers. A partition that
+ * cannot get a permit within its {@code acquire-timeout} throws
+ * {@link PartitionSaturatedException} without touching the pool. Sizing each partition
+ * below the pool size leaves headroom for the other.</p>
+ *
+ * <p>Permits are fair, so waiting threads are served in arrival order. With virtual threads
+ * the number of waiting requests is no longer capped by Tomcat's thread pool; a partition's
+ * {@code max-waiting} caps it instead, refusing further borrowers right away.</p>
+ */
+public class PartitionedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Map<PoolPartition, Partition> partitions = new EnumMap<>(PoolPartition.class);
+
+    public PartitionedDataSource(DataSource target, AppProperties.Bulkhead cfg) {
+        super(target);
+        partitions.put(PoolPartition.CRUD, new Partition(cfg.getCrud()));
+        partitions.put(PoolPartition.ANALYTICS, new Partition(cfg.getAnalytics()));
+    }
+
+    /** The partitioned decorator somewhere in {@code dataSource}'s wrapper chain, or null if none. */
+    public static PartitionedDataSource unwrap(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(PartitionedDataSource.class)) {
+                return dataSource.unwrap(PartitionedDataSource.class);
+            }
+        } catch (SQLException ex) {
+            // not partitioned
+        }
+        return null;
+    }
+
+    /** Permit bookkeeping for one partition, read by the partition metrics. */
+    public Partition partition(PoolPartition partition) {
+        return partitions.get(partition);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Partition partition = partitions.get(PoolPartition.current());
+        partition.acquire(PoolPartition.current());
+        try {
+            return partition.wrap(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            partition.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Partition partition = partitions.get(PoolPartition.current());
+        partition.acquire(PoolPartition.current());
+        try {
+            return partition.wrap(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            partition.release();
+            throw ex;
+        }
+    }
+
+    /** Closes the pool on context shutdown; the decorator must not hide its lifecycle. */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /** Permits and counters of one partition. */
+    public static final class Partition {
+
+        private final int maxConcurrent;
+        private final Duration acquireTimeout;
+        private final Duration retryAfter;
+        private final int maxWaiting;
+        private final Semaphore permits;
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        Partition(AppProperties.Bulkhead.Partition cfg) {
+            this.maxConcurrent = cfg.getMaxConcurrent();
+            this.acquireTimeout = cfg.getAcquireTimeout();
+            this.retryAfter = cfg.getRetryAfter();
+            this.maxWaiting = cfg.getMaxWaiting();
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        /** Configured number of concurrent connections. */
+        public int maxConcurrent() { return maxConcurrent; }
+
+        /** Connections currently held by this partition. */
+        public int active() { return maxConcurrent - permits.availablePermits(); }
+
+        /** Threads waiting for a permit. */
+        public int waiting() { return permits.getQueueLength(); }
+
+        /** Permits granted since startup. */
+        public long acquired() { return acquired.sum(); }
+
+        /** Total time spent waiting for granted permits. */
+        public long acquireNanos() { return acquireNanos.sum(); }
+
+        /** Borrow attempts refused because no permit became available in time. */
+        public long rejected() { return rejected.sum(); }
+
+        private void acquire(PoolPartition name) throws SQLException {
+            // A full queue would only time out: with virtual threads nothing else bounds its length.
+            if (maxWaiting > 0 && permits.getQueueLength() >= maxWaiting) {
+                rejected.increment();
+                throw new PartitionSaturatedException(name, retryAfter);
+            }
+            long start = System.nanoTime();
+            boolean granted;
+            try {
+                granted = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a " + name + " connection permit", ex);
+            }
+            if (!granted) {
+                rejected.increment();
+                throw new PartitionSaturatedException(name, retryAfter);
+            }
+            acquired.increment();
+            acquireNanos.add(System.nanoTime() - start);
+        }
+
+        private void release() {
+            permits.release();
+        }
+
+        /** Returns a connection whose first {@code close()} gives the permit back. */
+        private Connection wrap(Connection target) {
+            AtomicBoolean released = new AtomicBoolean();
+            InvocationHandler handler = (proxy, method, args) -> invoke(target, released, method, args);
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, handler);
+        }
+
+        private Object invoke(Connection target, AtomicBoolean released, Method method, Object[] args)
+                throws Throwable {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        release();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.smartsupplypro.inventory.bulkhead;
+
+/**
+ * Traffic classes sharing the single Hikari pool, each capped by its own permits in
+ * {@link PartitionedDataSource}.
+ *
+ * <p>The partition of the current thread is set by {@link PoolPartitionInterceptor} for
+ * services annotated with {@link PoolPartitioned}; everything else (CRUD, auth,
+ * sessions) uses {@link #CRUD}.</p>
+ */
+public enum PoolPartition {
+    CRUD,
+    ANALYTICS;
+
+    private static final ThreadLocal<PoolPartition> CURRENT = new ThreadLocal<>();
+
+    /** Partition connections opened on this thread are charged to. */
+    public static PoolPartition current() {
+        PoolPartition partition = CURRENT.get();
+        return partition != null ? partition : CRUD;
+    }
+
+    /**
+     * Switches this thread to {@code partition}.
+     *
+     * @return the previous value, to be passed to {@link #restore(PoolPartition)}
+     */
+    static PoolPartition enter(PoolPartition partition) {
+        PoolPartition previous = CURRENT.get();
+        CURRENT.set(partition);
+        return previous;
+    }
+
+    /** Restores the value returned by {@link #enter(PoolPartition)}. */
+    static void restore(PoolPartition previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.smartsupplypro.inventory.bulkhead;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import com.smartsupplypro.inventory.exception.ServiceUnavailableException;
+
+/**
+ * Runs {@link PoolPartitioned} services with their partition bound to the calling thread.
+ *
+ * <p>A {@link PartitionSaturatedException} anywhere in the cause chain (JPA and the
+ * transaction manager wrap it) is rethrown as {@link ServiceUnavailableException}, so
+ * the client gets 503 with {@code Retry-After} instead of a generic 500.</p>
+ */
+public class PoolPartitionInterceptor implements MethodInterceptor {
+
+    private final Map<Class<?>, PoolPartition> partitions = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        PoolPartition partition = partitions.computeIfAbsent(targetClass, PoolPartitionInterceptor::resolve);
+
+        PoolPartition previous = PoolPartition.enter(partition);
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException ex) {
+            PartitionSaturatedException saturated = PartitionSaturatedException.findIn(ex);
+            if (saturated == null) {
+                throw ex;
+            }
+            throw new ServiceUnavailableException(
+                    "Too many concurrent " + saturated.getPartition().name().toLowerCase() + " requests; retry shortly",
+                    saturated.getRetryAfter(), ex);
+        } finally {
+            PoolPartition.restore(previous);
+        }
+    }
+
+    private static PoolPartition resolve(Class<?> type) {
+        PoolPartitioned annotation = AnnotatedElementUtils.findMergedAnnotation(type, PoolPartitioned.class);
+        return annotation != null ? annotation.value() : PoolPartition.CRUD;
+    }
+}
@@ -0,0 +1,20 @@
+package com.smartsupplypro.inventory.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Routes every connection opened while a method of the annotated service runs to the
+ * given {@link PoolPartition}. Nested calls into other services keep the partition of
+ * the outermost partitioned service unless they declare their own.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PoolPartitioned {
+
+    PoolPartition value();
+}
@@ -0,0 +1,76 @@
+package com.smartsupplypro.inventory.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.smartsupplypro.inventory.admission.AdmissionControlFilter;
+import com.smartsupplypro.inventory.admission.AdmissionController;
+import com.smartsupplypro.inventory.admission.CostClass;
+import com.smartsupplypro.inventory.bulkhead.PartitionedDataSource;
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Admission control for {@code /api/analytics/**} ({@code app.admission.*}): per-client
+ * token buckets per cost class and adaptive shedding fed by the analytics bulkhead.
+ *
+ * <p>The filter keeps the default (lowest) order so it runs inside the Spring Security
+ * chain and can key buckets by principal.</p>
+ */
+@Configuration
+public class AdmissionConfig {
+
+    private final AppProperties props;
+
+    public AdmissionConfig(AppProperties props) {
+        this.props = props;
+    }
+
+    @Bean
+    public AdmissionController admissionController(ObjectProvider<DataSource> dataSource) {
+        PartitionedDataSource partitioned = PartitionedDataSource.unwrap(dataSource.getIfAvailable());
+        return new AdmissionController(props.getAdmission(),
+                partitioned != null ? partitioned.partition(PoolPartition.ANALYTICS) : null);
+    }
+
+    /** Guards analytics endpoints; disabled entirely with {@code app.admission.enabled=false}. */
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionController controller) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(controller, props.getAdmission().getTrustedProxyHops()));
+        registration.addUrlPatterns("/api/analytics/*");
+        registration.setEnabled(props.getAdmission().isEnabled());
+        return registration;
+    }
+
+    /**
+     * {@code admission.decisions} counters tagged by {@code class} and {@code outcome}, and
+     * {@code admission.limit} / {@code admission.in_flight} gauges for the shed classes.
+     */
+    @Bean
+    public MeterBinder admissionMetrics(AdmissionController controller) {
+        return registry -> {
+            for (CostClass costClass : CostClass.values()) {
+                String tag = costClass.name().toLowerCase();
+                for (AdmissionController.Outcome outcome : AdmissionController.Outcome.values()) {
+                    FunctionCounter.builder("admission.decisions", controller, c -> c.decisions(costClass, outcome))
+                            .tag("class", tag).tag("outcome", outcome.name().toLowerCase())
+                            .description("Analytics admission decisions").register(registry);
+                }
+                if (controller.limit(costClass) >= 0) {
+                    Gauge.builder("admission.limit", controller, c -> c.limit(costClass))
+                            .tag("class", tag).description("Current adaptive concurrency limit").register(registry);
+                    Gauge.builder("admission.in_flight", controller, c -> c.inFlight(costClass))
+                            .tag("class", tag).description("Admitted requests currently running").register(registry);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.smartsupplypro.inventory.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartsupplypro.inventory.service.impl.analytics.cache.AnalyticsCacheExpiry;
+import com.smartsupplypro.inventory.service.impl.analytics.cache.AnalyticsCacheKeyGenerator;
+import com.smartsupplypro.inventory.service.impl.analytics.cache.AnalyticsCaches;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-memory cache for analytics results.
+ *
+ * <p>Size, TTL and the longer TTL for fully past windows come from
+ * {@code app.analytics.cache.*}. Hit/miss/eviction counters are published as
+ * {@code cache.*} meters tagged {@code cache=analytics}. The caching advice runs
+ * with highest precedence so a hit never opens a read-only transaction.</p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class AnalyticsCacheConfig {
+
+    private final AppProperties props;
+
+    public AnalyticsCacheConfig(AppProperties props) {
+        this.props = props;
+    }
+
+    /**
+     * Caffeine-backed manager holding the single {@code analytics} cache, or a
+     * pass-through manager when {@code app.analytics.cache.enabled=false}.
+     */
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<MeterRegistry> meterRegistry) {
+        AppProperties.Analytics.Cache cfg = props.getAnalytics().getCache();
+        if (!cfg.isEnabled()) {
+            return new NoOpCacheManager();
+        }
+
+        Cache<Object, Object> nativeCache = Caffeine.newBuilder()
+                .maximumSize(cfg.getMaximumSize())
+                .expireAfter(new AnalyticsCacheExpiry(cfg.getTtl(), cfg.getPastWindowTtl()))
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry ->
+                CaffeineCacheMetrics.monitor(registry, nativeCache, AnalyticsCaches.NAME));
+
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCacheNames(List.of());
+        manager.registerCustomCache(AnalyticsCaches.NAME, nativeCache);
+        return manager;
+    }
+
+    /** Normalising key generator referenced by the analytics services' {@code @CacheConfig}. */
+    @Bean(name = AnalyticsCaches.KEY_GENERATOR)
+    public KeyGenerator analyticsKeyGenerator() {
+        return new AnalyticsCacheKeyGenerator();
+    }
+}
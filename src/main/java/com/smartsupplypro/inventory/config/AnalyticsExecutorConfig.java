@@ -0,0 +1,72 @@
+package com.smartsupplypro.inventory.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.smartsupplypro.inventory.observability.RequestProfile;
+
+/**
+ * Bounded executors for analytics widget queries and background report jobs.
+ *
+ * <p>Pool size is {@code app.analytics.dashboard.parallelism} for all requests
+ * combined, so concurrent dashboard loads cannot claim more than that many
+ * JDBC connections. With {@code app.virtual-threads.enabled} the pool keeps its size but
+ * its threads are virtual, so widgets waiting on JDBC hold no platform thread.</p>
+ *
+ * <p>Both pools reject when their queue is full, never run the task on the caller. A rejected
+ * widget is reported as {@code REJECTED} (running it on the request thread would escape the
+ * dashboard budget); a rejected report job is refused with 503, so a job is accepted only
+ * when it can actually run in the background.</p>
+ */
+@Configuration
+public class AnalyticsExecutorConfig {
+
+    /** Bean name of the widget executor. */
+    public static final String DASHBOARD_EXECUTOR = "analyticsDashboardExecutor";
+
+    /** Bean name of the report job executor. */
+    public static final String JOB_EXECUTOR = "analyticsJobExecutor";
+
+    private final AppProperties props;
+
+    public AnalyticsExecutorConfig(AppProperties props) {
+        this.props = props;
+    }
+
+    /** Fixed-size pool for dashboard widget queries. */
+    @Bean(name = DASHBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor analyticsDashboardExecutor() {
+        AppProperties.Analytics.Dashboard cfg = props.getAnalytics().getDashboard();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cfg.getParallelism());
+        executor.setMaxPoolSize(cfg.getParallelism());
+        executor.setQueueCapacity(cfg.getQueueCapacity());
+        executor.setThreadNamePrefix("analytics-widget-");
+        if (props.getVirtualThreads().isEnabled()) {
+            executor.setThreadFactory(Thread.ofVirtual().name("analytics-widget-", 1).factory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // widget queries count towards the calling request's Server-Timing breakdown
+        executor.setTaskDecorator(RequestProfile.taskDecorator());
+        return executor;
+    }
+
+    /** Fixed-size pool for background report jobs; full queue rejects with {@code TaskRejectedException}. */
+    @Bean(name = JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor analyticsJobExecutor() {
+        AppProperties.Analytics.Jobs cfg = props.getAnalytics().getJobs();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cfg.getParallelism());
+        executor.setMaxPoolSize(cfg.getParallelism());
+        executor.setQueueCapacity(cfg.getQueueCapacity());
+        executor.setThreadNamePrefix("analytics-job-");
+        if (props.getVirtualThreads().isEnabled()) {
+            executor.setThreadFactory(Thread.ofVirtual().name("analytics-job-", 1).factory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.smartsupplypro.inventory.config;
 
+import java.time.Duration;
 import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -17,6 +18,14 @@ public class AppProperties {
     private final Frontend frontend = new Frontend();
     private final Cors cors = new Cors();
     private final Cookie cookie = new Cookie();
+    private final Analytics analytics = new Analytics();
+    private final Metrics metrics = new Metrics();
+    private final Profiling profiling = new Profiling();
+    private final Health health = new Health();
+    private final Warmup warmup = new Warmup();
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+    private final Bulkhead bulkhead = new Bulkhead();
+    private final Admission admission = new Admission();
 
     public boolean isDemoReadonly() { return isDemoReadonly; }
     public void setDemoReadonly(boolean demoReadonly) { this.isDemoReadonly = demoReadonly; }
@@ -24,6 +33,14 @@ public class AppProperties {
     public Frontend getFrontend() { return frontend; }
     public Cors getCors() { return cors; }
     public Cookie getCookie() { return cookie; }
+    public Analytics getAnalytics() { return analytics; }
+    public Metrics getMetrics() { return metrics; }
+    public Profiling getProfiling() { return profiling; }
+    public Health getHealth() { return health; }
+    public Warmup getWarmup() { return warmup; }
+    public VirtualThreads getVirtualThreads() { return virtualThreads; }
+    public Bulkhead getBulkhead() { return bulkhead; }
+    public Admission getAdmission() { return admission; }
 
     /** Frontend OAuth2 redirect and base URL configuration. */
     public static class Frontend {
@@ -55,4 +72,346 @@ public class AppProperties {
         public int getAuthRequestMaxAge() { return authRequestMaxAge; }
         public void setAuthRequestMaxAge(int authRequestMaxAge) { this.authRequestMaxAge = authRequestMaxAge; }
     }
+
+    /** Analytics read-path tuning (result cache, dashboard fan-out, live stream, report jobs). */
+    public static class Analytics {
+        private final Cache cache = new Cache();
+        private final Dashboard dashboard = new Dashboard();
+        private final Stream stream = new Stream();
+        private final Jobs jobs = new Jobs();
+        private final LowStock lowStock = new LowStock();
+
+        public Cache getCache() { return cache; }
+        public Dashboard getDashboard() { return dashboard; }
+        public Stream getStream() { return stream; }
+        public Jobs getJobs() { return jobs; }
+        public LowStock getLowStock() { return lowStock; }
+
+        /**
+         * Bounded analytics result cache. Windows that ended before today use
+         * {@code pastWindowTtl} because no new movement can land inside them.
+         */
+        public static class Cache {
+            private boolean enabled = true;
+            private long maximumSize = 500;
+            private Duration ttl = Duration.ofMinutes(5);
+            private Duration pastWindowTtl = Duration.ofHours(12);
+
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public long getMaximumSize() { return maximumSize; }
+            public void setMaximumSize(long maximumSize) { this.maximumSize = maximumSize; }
+            public Duration getTtl() { return ttl; }
+            public void setTtl(Duration ttl) { this.ttl = ttl; }
+            public Duration getPastWindowTtl() { return pastWindowTtl; }
+            public void setPastWindowTtl(Duration pastWindowTtl) { this.pastWindowTtl = pastWindowTtl; }
+        }
+
+        /**
+         * Dashboard summary fan-out. {@code parallelism} caps widget queries in flight
+         * across all requests so the dashboard never takes the whole connection pool.
+         */
+        public static class Dashboard {
+            private int parallelism = 3;
+            private int queueCapacity = 32;
+            private Duration budget = Duration.ofSeconds(5);
+
+            public int getParallelism() { return parallelism; }
+            public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+            public int getQueueCapacity() { return queueCapacity; }
+            public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+            public Duration getBudget() { return budget; }
+            public void setBudget(Duration budget) { this.budget = budget; }
+        }
+
+        /**
+         * Server-Sent Events hub. Each subscriber gets a {@code bufferSize} queue;
+         * a client that lets it fill up is disconnected instead of slowing publishers.
+         */
+        public static class Stream {
+            private int bufferSize = 64;
+            private int maxSubscribers = 100;
+            private Duration timeout = Duration.ofMinutes(30);
+            private Duration heartbeat = Duration.ofSeconds(20);
+
+            public int getBufferSize() { return bufferSize; }
+            public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+            public int getMaxSubscribers() { return maxSubscribers; }
+            public void setMaxSubscribers(int maxSubscribers) { this.maxSubscribers = maxSubscribers; }
+            public Duration getTimeout() { return timeout; }
+            public void setTimeout(Duration timeout) { this.timeout = timeout; }
+            public Duration getHeartbeat() { return heartbeat; }
+            public void setHeartbeat(Duration heartbeat) { this.heartbeat = heartbeat; }
+        }
+
+        /**
+         * Background report jobs. {@code parallelism} jobs run at a time and {@code queueCapacity}
+         * more may wait; beyond that submissions get 503 with {@code retryAfter}. Results are kept
+         * for {@code resultTtl}. Employee changes are read {@code pageSize} rows per step and
+         * refused above {@code maxResultRows}. Active jobs carry a {@code lease} renewed by
+         * the instance running them, identified by {@code instanceId} (random when blank).
+         */
+        public static class Jobs {
+            private int parallelism = 1;
+            private int queueCapacity = 8;
+            private Duration resultTtl = Duration.ofHours(24);
+            private Duration retryAfter = Duration.ofSeconds(30);
+            private int pageSize = 500;
+            private int maxResultRows = 200_000;
+            private Duration lease = Duration.ofMinutes(2);
+            private String instanceId = "";
+
+            public int getParallelism() { return parallelism; }
+            public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+            public int getQueueCapacity() { return queueCapacity; }
+            public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+            public Duration getResultTtl() { return resultTtl; }
+            public void setResultTtl(Duration resultTtl) { this.resultTtl = resultTtl; }
+            public Duration getRetryAfter() { return retryAfter; }
+            public void setRetryAfter(Duration retryAfter) { this.retryAfter = retryAfter; }
+            public int getPageSize() { return pageSize; }
+            public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+            public int getMaxResultRows() { return maxResultRows; }
+            public void setMaxResultRows(int maxResultRows) { this.maxResultRows = maxResultRows; }
+            public Duration getLease() { return lease; }
+            public void setLease(Duration lease) { this.lease = lease; }
+            public String getInstanceId() { return instanceId; }
+            public void setInstanceId(String instanceId) { this.instanceId = instanceId; }
+        }
+
+        /**
+         * In-memory low-stock index. It is reloaded from the database every
+         * {@code reconcileInterval} so writes this instance never saw (other instances,
+         * direct SQL) stop skewing counts; zero disables the reload.
+         */
+        public static class LowStock {
+            private Duration reconcileInterval = Duration.ofMinutes(5);
+
+            public Duration getReconcileInterval() { return reconcileInterval; }
+            public void setReconcileInterval(Duration reconcileInterval) { this.reconcileInterval = reconcileInterval; }
+        }
+    }
+
+    /**
+     * Metrics scraping. When {@code scrapeToken} is set, {@code /actuator/prometheus}
+     * also accepts {@code Authorization: Bearer <token>} in addition to an ADMIN session.
+     */
+    public static class Metrics {
+        private String scrapeToken = "";
+
+        public String getScrapeToken() { return scrapeToken; }
+        public void setScrapeToken(String scrapeToken) { this.scrapeToken = scrapeToken; }
+    }
+
+    /**
+     * Request profiling on {@code /api/**}: JDBC, service and serialisation time per request,
+     * reported in a {@code Server-Timing} header and in a warning for slow requests.
+     */
+    public static class Profiling {
+        /** Who receives the {@code Server-Timing} header. */
+        public enum ServerTiming { ALL, ADMINS, OFF }
+
+        private boolean enabled = true;
+        private ServerTiming serverTiming = ServerTiming.ADMINS;
+        private Duration slowRequestThreshold = Duration.ofSeconds(2);
+        private final Statements statements = new Statements();
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public ServerTiming getServerTiming() { return serverTiming; }
+        public void setServerTiming(ServerTiming serverTiming) { this.serverTiming = serverTiming; }
+        public Duration getSlowRequestThreshold() { return slowRequestThreshold; }
+        public void setSlowRequestThreshold(Duration slowRequestThreshold) { this.slowRequestThreshold = slowRequestThreshold; }
+        public Statements getStatements() { return statements; }
+
+        /**
+         * Per-fingerprint SQL statistics. Executions at or above {@code slowThreshold} are
+         * logged; at most {@code maxFingerprints} fingerprints are kept, evicting the one
+         * executed least recently.
+         */
+        public static class Statements {
+            private boolean enabled = true;
+            private Duration slowThreshold = Duration.ofMillis(500);
+            private int maxFingerprints = 200;
+
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public Duration getSlowThreshold() { return slowThreshold; }
+            public void setSlowThreshold(Duration slowThreshold) { this.slowThreshold = slowThreshold; }
+            public int getMaxFingerprints() { return maxFingerprints; }
+            public void setMaxFingerprints(int maxFingerprints) { this.maxFingerprints = maxFingerprints; }
+        }
+    }
+
+    /**
+     * Background database probe behind {@code /api/health}. The probe runs every
+     * {@code probeInterval} off the request path; a snapshot older than {@code staleAfter}
+     * is reported as down. The last {@code latencySamples} probe latencies feed the
+     * percentiles on {@code /api/health/ready}.
+     */
+    public static class Health {
+        private boolean probeEnabled = true;
+        private Duration probeInterval = Duration.ofSeconds(10);
+        private Duration probeTimeout = Duration.ofSeconds(2);
+        private Duration staleAfter = Duration.ofSeconds(35);
+        private int latencySamples = 360;
+
+        public boolean isProbeEnabled() { return probeEnabled; }
+        public void setProbeEnabled(boolean probeEnabled) { this.probeEnabled = probeEnabled; }
+        public Duration getProbeInterval() { return probeInterval; }
+        public void setProbeInterval(Duration probeInterval) { this.probeInterval = probeInterval; }
+        public Duration getProbeTimeout() { return probeTimeout; }
+        public void setProbeTimeout(Duration probeTimeout) { this.probeTimeout = probeTimeout; }
+        public Duration getStaleAfter() { return staleAfter; }
+        public void setStaleAfter(Duration staleAfter) { this.staleAfter = staleAfter; }
+        public int getLatencySamples() { return latencySamples; }
+        public void setLatencySamples(int latencySamples) { this.latencySamples = latencySamples; }
+    }
+
+    /**
+     * Startup warm-up that runs representative read-only queries before readiness flips to
+     * accepting traffic. Catalogue steps repeat for {@code rounds} rounds to get the mapping
+     * code compiled; the whole warm-up stops after {@code budget} and the app becomes ready anyway.
+     */
+    public static class Warmup {
+        private boolean enabled = true;
+        private Duration budget = Duration.ofSeconds(15);
+        private int rounds = 3;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public Duration getBudget() { return budget; }
+        public void setBudget(Duration budget) { this.budget = budget; }
+        public int getRounds() { return rounds; }
+        public void setRounds(int rounds) { this.rounds = rounds; }
+    }
+
+    /**
+     * Runs servlet requests and dashboard widget tasks on virtual threads. Requires the
+     * bulkhead, whose fair permits then bound how many of those threads reach the pool.
+     */
+    public static class VirtualThreads {
+        private boolean enabled = false;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    /**
+     * Semaphore partitions over the single connection pool. {@code crud} covers everything
+     * not marked as analytics; {@code analytics} covers the analytics services and fails
+     * fast with 503 and {@code Retry-After} when it stays saturated for {@code acquireTimeout}.
+     * {@code maxWaiting} (0 = unbounded) refuses a borrow at once when that many threads are
+     * already queued, instead of letting each of them wait out the timeout.
+     */
+    public static class Bulkhead {
+        private boolean enabled = true;
+        private final Partition crud = new Partition(3, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        private final Partition analytics = new Partition(2, Duration.ofMillis(500), Duration.ofSeconds(5));
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public Partition getCrud() { return crud; }
+        public Partition getAnalytics() { return analytics; }
+
+        public static class Partition {
+            private int maxConcurrent;
+            private Duration acquireTimeout;
+            private Duration retryAfter;
+            private int maxWaiting;
+
+            public Partition() {
+                this(1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+            }
+
+            Partition(int maxConcurrent, Duration acquireTimeout, Duration retryAfter) {
+                this.maxConcurrent = maxConcurrent;
+                this.acquireTimeout = acquireTimeout;
+                this.retryAfter = retryAfter;
+            }
+
+            public int getMaxConcurrent() { return maxConcurrent; }
+            public void setMaxConcurrent(int maxConcurrent) { this.maxConcurrent = maxConcurrent; }
+            public Duration getAcquireTimeout() { return acquireTimeout; }
+            public void setAcquireTimeout(Duration acquireTimeout) { this.acquireTimeout = acquireTimeout; }
+            public Duration getRetryAfter() { return retryAfter; }
+            public void setRetryAfter(Duration retryAfter) { this.retryAfter = retryAfter; }
+            public int getMaxWaiting() { return maxWaiting; }
+            public void setMaxWaiting(int maxWaiting) { this.maxWaiting = maxWaiting; }
+        }
+    }
+
+    /**
+     * Admission control for {@code /api/analytics/**}. Each client (principal, else IP) gets a
+     * token bucket per cost class; {@code heavyPaths} and {@code lightPaths} pick the class,
+     * everything else is standard. Classes with a {@code targetLatency} also get an adaptive
+     * concurrency limit that shrinks while latency or analytics pool wait exceed their targets.
+     * The client IP is the {@code X-Forwarded-For} entry appended by the outermost of
+     * {@code trustedProxyHops} proxies; with 0 it is the TCP peer.
+     */
+    public static class Admission {
+        private boolean enabled = true;
+        private int maxClients = 10_000;
+        private int trustedProxyHops = 0;
+        private Duration clientIdleTimeout = Duration.ofMinutes(10);
+        private List<String> heavyPaths = List.of("/api/analytics/financial/summary", "/api/analytics/summary",
+                "/api/analytics/batch", "/api/analytics/stock-updates/query");
+        private List<String> lightPaths = List.of("/api/analytics/low-stock/count", "/api/analytics/jobs/*");
+        private Duration maxPoolWait = Duration.ofMillis(200);
+        private Duration shedRetryAfter = Duration.ofSeconds(5);
+        private final CostClass heavy = new CostClass(5, Duration.ofSeconds(12), Duration.ofSeconds(3), 4);
+        private final CostClass standard = new CostClass(30, Duration.ofSeconds(1), Duration.ofSeconds(1), 16);
+        private final CostClass light = new CostClass(60, Duration.ofMillis(250), null, 0);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getMaxClients() { return maxClients; }
+        public void setMaxClients(int maxClients) { this.maxClients = maxClients; }
+        public int getTrustedProxyHops() { return trustedProxyHops; }
+        public void setTrustedProxyHops(int trustedProxyHops) { this.trustedProxyHops = trustedProxyHops; }
+        public Duration getClientIdleTimeout() { return clientIdleTimeout; }
+        public void setClientIdleTimeout(Duration clientIdleTimeout) { this.clientIdleTimeout = clientIdleTimeout; }
+        public List<String> getHeavyPaths() { return heavyPaths; }
+        public void setHeavyPaths(List<String> heavyPaths) { this.heavyPaths = heavyPaths; }
+        public List<String> getLightPaths() { return lightPaths; }
+        public void setLightPaths(List<String> lightPaths) { this.lightPaths = lightPaths; }
+        public Duration getMaxPoolWait() { return maxPoolWait; }
+        public void setMaxPoolWait(Duration maxPoolWait) { this.maxPoolWait = maxPoolWait; }
+        public Duration getShedRetryAfter() { return shedRetryAfter; }
+        public void setShedRetryAfter(Duration shedRetryAfter) { this.shedRetryAfter = shedRetryAfter; }
+        public CostClass getHeavy() { return heavy; }
+        public CostClass getStandard() { return standard; }
+        public CostClass getLight() { return light; }
+
+        /**
+         * Bucket of {@code burst} tokens refilled one per {@code refillPeriod}; a null
+         * {@code targetLatency} disables adaptive shedding for the class.
+         */
+        public static class CostClass {
+            private int burst;
+            private Duration refillPeriod;
+            private Duration targetLatency;
+            private int maxConcurrent;
+
+            public CostClass() {
+                this(10, Duration.ofSeconds(1), null, 0);
+            }
+
+            CostClass(int burst, Duration refillPeriod, Duration targetLatency, int maxConcurrent) {
+                this.burst = burst;
+                this.refillPeriod = refillPeriod;
+                this.targetLatency = targetLatency;
+                this.maxConcurrent = maxConcurrent;
+            }
+
+            public int getBurst() { return burst; }
+            public void setBurst(int burst) { this.burst = burst; }
+            public Duration getRefillPeriod() { return refillPeriod; }
+            public void setRefillPeriod(Duration refillPeriod) { this.refillPeriod = refillPeriod; }
+            public Duration getTargetLatency() { return targetLatency; }
+            public void setTargetLatency(Duration targetLatency) { this.targetLatency = targetLatency; }
+            public int getMaxConcurrent() { return maxConcurrent; }
+            public void setMaxConcurrent(int maxConcurrent) { this.maxConcurrent = maxConcurrent; }
+        }
+    }
 }
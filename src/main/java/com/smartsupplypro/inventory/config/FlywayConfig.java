@@ -0,0 +1,36 @@
+package com.smartsupplypro.inventory.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Flyway migration strategy that stays out of the image's class-data-sharing training run.
+ *
+ * <p>The Docker build starts the application once with {@code spring.context.exit=onRefresh}
+ * to record the classes it loads, with no database reachable. With Spring AOT the Flyway
+ * beans are fixed at build time for the prod profile, so {@code spring.flyway.enabled=false}
+ * cannot switch them off for that run; this strategy skips the migration instead. Every other
+ * start migrates exactly as Spring Boot's default would.</p>
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayConfig.class);
+
+    /** Migrates on every start except a refresh-only training run. */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        boolean trainingRun = "onRefresh".equalsIgnoreCase(environment.getProperty("spring.context.exit"));
+        return flyway -> {
+            if (trainingRun) {
+                log.info("Refresh-only start (spring.context.exit=onRefresh): skipping Flyway migration");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.smartsupplypro.inventory.config;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import com.smartsupplypro.inventory.bulkhead.PartitionedDataSource;
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.bulkhead.PoolPartitionInterceptor;
+import com.smartsupplypro.inventory.bulkhead.PoolPartitioned;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Connection-pool bulkheads: CRUD and analytics traffic share the Hikari pool but are
+ * capped by separate permits ({@code app.bulkhead.*}).
+ *
+ * <p>The partition advisor is an infrastructure advisor with the highest order, so the
+ * transaction and cache proxies of {@link PoolPartitioned} services run inside it and the
+ * connection taken at transaction begin is already charged to the right partition. Cache
+ * hits never reach the DataSource and therefore never take a permit.</p>
+ */
+@Configuration
+public class PoolPartitionConfig {
+
+    /** Binds the calling thread to the partition of {@link PoolPartitioned} services. */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor poolPartitionAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(PoolPartitioned.class, true), new PoolPartitionInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /** Wraps the pool in a {@link PartitionedDataSource}; disabled with {@code app.bulkhead.enabled=false}. */
+    @Bean
+    public static BeanPostProcessor partitionedDataSourcePostProcessor(ObjectProvider<AppProperties> props) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof PartitionedDataSource)) {
+                    AppProperties.Bulkhead cfg = props.getObject().getBulkhead();
+                    if (cfg.isEnabled()) {
+                        return new PartitionedDataSource(dataSource, cfg);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Per-partition meters, tagged {@code partition=crud|analytics}: {@code db.pool.partition.active},
+     * {@code .max}, {@code .waiting}, {@code .rejected} and the {@code .acquire} wait timer.
+     */
+    @Bean
+    public MeterBinder poolPartitionMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            PartitionedDataSource partitioned = PartitionedDataSource.unwrap(dataSource.getIfAvailable());
+            if (partitioned == null) {
+                return;
+            }
+            for (PoolPartition name : PoolPartition.values()) {
+                PartitionedDataSource.Partition p = partitioned.partition(name);
+                String tag = name.name().toLowerCase();
+                Gauge.builder("db.pool.partition.active", p, PartitionedDataSource.Partition::active)
+                        .tag("partition", tag).description("Connections held by the partition").register(registry);
+                Gauge.builder("db.pool.partition.max", p, PartitionedDataSource.Partition::maxConcurrent)
+                        .tag("partition", tag).description("Configured partition size").register(registry);
+                Gauge.builder("db.pool.partition.waiting", p, PartitionedDataSource.Partition::waiting)
+                        .tag("partition", tag).description("Threads waiting for a partition permit").register(registry);
+                FunctionCounter.builder("db.pool.partition.rejected", p, PartitionedDataSource.Partition::rejected)
+                        .tag("partition", tag).description("Borrows refused because the partition was saturated")
+                        .register(registry);
+                FunctionTimer.builder("db.pool.partition.acquire", p, PartitionedDataSource.Partition::acquired,
+                                PartitionedDataSource.Partition::acquireNanos, TimeUnit.NANOSECONDS)
+                        .tag("partition", tag).description("Time spent waiting for a partition permit")
+                        .register(registry);
+            }
+        };
+    }
+}
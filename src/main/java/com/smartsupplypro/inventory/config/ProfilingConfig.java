@@ -0,0 +1,80 @@
+package com.smartsupplypro.inventory.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.smartsupplypro.inventory.observability.RequestProfile;
+import com.smartsupplypro.inventory.observability.RequestProfilingFilter;
+import com.smartsupplypro.inventory.observability.jdbc.ObservedDataSource;
+import com.smartsupplypro.inventory.observability.jdbc.SlowStatementStats;
+import com.smartsupplypro.inventory.observability.jdbc.StatementListener;
+
+/**
+ * Request profiling wiring: the {@code /api/*} profiling filter, the DataSource
+ * decorator, and the statement listeners it feeds (the current {@link RequestProfile}
+ * and the per-fingerprint {@link SlowStatementStats}).
+ *
+ * <p>The filter keeps the default (lowest) order so it runs inside the Spring Security
+ * chain and can tell admins apart for {@code app.profiling.server-timing=admins}.</p>
+ */
+@Configuration
+public class ProfilingConfig {
+
+    private final AppProperties props;
+
+    public ProfilingConfig(AppProperties props) {
+        this.props = props;
+    }
+
+    /** Profiles API requests; disabled entirely with {@code app.profiling.enabled=false}. */
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter() {
+        FilterRegistrationBean<RequestProfilingFilter> registration =
+                new FilterRegistrationBean<>(new RequestProfilingFilter(props.getProfiling()));
+        registration.addUrlPatterns("/api/*");
+        registration.setEnabled(props.getProfiling().isEnabled());
+        return registration;
+    }
+
+    /** Reports every statement's driver time into the current request profile. */
+    @Bean
+    public StatementListener requestProfileStatementListener() {
+        return execution -> {
+            RequestProfile profile = RequestProfile.current();
+            if (profile != null) {
+                profile.recordStatement(execution.elapsedNanos());
+            }
+        };
+    }
+
+    /** Per-fingerprint statement statistics behind {@code /api/admin/sql-stats}. */
+    @Bean
+    public SlowStatementStats slowStatementStats() {
+        return new SlowStatementStats(props.getProfiling().getStatements(), Clock.systemUTC());
+    }
+
+    /**
+     * Wraps the pool so every statement reports to the {@link StatementListener} beans.
+     * Listeners are resolved when the DataSource is created, so they must not depend on it.
+     */
+    @Bean
+    public static BeanPostProcessor observedDataSourcePostProcessor(ObjectProvider<StatementListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ObservedDataSource)) {
+                    return new ObservedDataSource(dataSource, listeners.orderedStream().toList());
+                }
+                return bean;
+            }
+        };
+    }
+}
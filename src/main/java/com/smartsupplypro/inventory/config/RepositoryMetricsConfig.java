@@ -0,0 +1,43 @@
+package com.smartsupplypro.inventory.config;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsQueryMetrics;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Attaches {@link AnalyticsQueryMetrics} to every Spring Data repository proxy.
+ *
+ * <p>The advice is added through the repository factory so it sees the repository
+ * interface method (and its query annotations) rather than a generated proxy class.
+ * The registry and dialect detector are resolved lazily because repository factory
+ * beans are post-processed before most of the context exists.</p>
+ */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    /** Registers the query-metrics advice on repository factory beans as they are created. */
+    @Bean
+    public static BeanPostProcessor analyticsQueryMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> registry,
+            ObjectProvider<DatabaseDialectDetector> dialectDetector) {
+        AnalyticsQueryMetrics advice = new AnalyticsQueryMetrics(registry, dialectDetector);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxy, info) -> proxy.addAdvice(advice)));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -26,6 +26,8 @@ public class SecurityAuthorizationHelper {
         // CORS preflight and public endpoints
         auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
         auth.requestMatchers("/logout").permitAll();
+        // Metrics scrape: ADMIN session or the scrape token (see SecurityFilterHelper)
+        auth.requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS");
         auth.requestMatchers(
                 "/",
                 "/actuator/**",
@@ -41,6 +43,8 @@ public class SecurityAuthorizationHelper {
             auth.requestMatchers(HttpMethod.GET, "/api/inventory/**").permitAll();
             auth.requestMatchers(HttpMethod.GET, "/api/analytics/**").permitAll();
             auth.requestMatchers(HttpMethod.GET, "/api/suppliers/**").permitAll();
+            // read-only query that takes its filters as a body
+            auth.requestMatchers(HttpMethod.POST, "/api/analytics/batch").permitAll();
         }
 
         auth.requestMatchers(HttpMethod.GET, "/api/inventory/**").authenticated();
@@ -69,6 +69,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         OncePerRequestFilter apiFlagFilter = filterHelper.createApiDetectionFilter();
+        OncePerRequestFilter scrapeTokenFilter = filterHelper.createMetricsScrapeTokenFilter(props.getMetrics().getScrapeToken());
         RequestMatcher apiMatcher = request -> Boolean.TRUE.equals(request.getAttribute("IS_API_REQUEST"));
         AuthenticationEntryPoint apiEntry = entryPointHelper.createApiEntryPoint();
         AuthenticationEntryPoint webEntry = entryPointHelper.createWebEntryPoint(props.getFrontend().getBaseUrl());
@@ -76,6 +77,7 @@ public class SecurityConfig {
 
         http
             .addFilterBefore(apiFlagFilter, AbstractPreAuthenticatedProcessingFilter.class)
+            .addFilterBefore(scrapeTokenFilter, AbstractPreAuthenticatedProcessingFilter.class)
             .cors(Customizer.withDefaults())
             .authorizeHttpRequests(auth -> authorizationHelper.configureAuthorization(auth, props.isDemoReadonly()))
             .exceptionHandling(ex -> ex
@@ -1,8 +1,15 @@
 package com.smartsupplypro.inventory.config;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
 
 import org.jspecify.annotations.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -14,6 +21,7 @@ import jakarta.servlet.http.HttpServletResponse;
 /**
  * Detects JSON API requests and marks them with an {@code IS_API_REQUEST} attribute
  * so downstream handlers can return 401 instead of triggering an OAuth2 redirect.
+ * Also authenticates metrics scrapers that present the configured bearer token.
  */
 @Component
 public class SecurityFilterHelper {
@@ -40,4 +48,39 @@ public class SecurityFilterHelper {
             }
         };
     }
+
+    /**
+     * Builds the filter that lets a Prometheus scraper authenticate with a static bearer
+     * token. A matching token on {@code /actuator/prometheus} yields a request-scoped
+     * {@code ROLE_METRICS} principal; any other request passes through unchanged. A blank
+     * token disables the filter, leaving the endpoint to ADMIN sessions only.
+     *
+     * @param scrapeToken expected bearer token, blank to disable
+     * @return a request filter that authenticates metrics scrapes
+     */
+    public OncePerRequestFilter createMetricsScrapeTokenFilter(String scrapeToken) {
+        byte[] expected = scrapeToken == null || scrapeToken.isBlank()
+                ? null
+                : scrapeToken.getBytes(StandardCharsets.UTF_8);
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(@NonNull HttpServletRequest req,
+                                            @NonNull HttpServletResponse res,
+                                            @NonNull FilterChain chain)
+                    throws ServletException, IOException {
+                String header = req.getHeader("Authorization");
+                if (expected != null
+                        && "/actuator/prometheus".equals(req.getRequestURI())
+                        && header != null && header.startsWith("Bearer ")
+                        && MessageDigest.isEqual(expected,
+                                header.substring(7).trim().getBytes(StandardCharsets.UTF_8))) {
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                            "metrics-scraper", null, List.of(new SimpleGrantedAuthority("ROLE_METRICS"))));
+                    SecurityContextHolder.setContext(context);
+                }
+                chain.doFilter(req, res);
+            }
+        };
+    }
 }
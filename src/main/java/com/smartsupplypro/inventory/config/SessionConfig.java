@@ -0,0 +1,45 @@
+package com.smartsupplypro.inventory.config;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import com.smartsupplypro.inventory.security.SessionAttributeSerializer;
+
+/**
+ * HTTP sessions in the shared database, so any instance can serve any request.
+ *
+ * <p>Spring Boot's JDBC session auto-configuration keeps sessions in {@code SPRING_SESSION}
+ * and {@code SPRING_SESSION_ATTRIBUTES} (Flyway V7 in prod, created on startup for embedded
+ * test databases) and sends a {@code SESSION} cookie instead of {@code JSESSIONID}. Expired
+ * rows are deleted on {@code spring.session.jdbc.cleanup-cron} through the expiry-time index;
+ * the delete is idempotent, so every instance may run it.</p>
+ *
+ * <p>The store is Spring Session's {@code SessionRepository}: another backend (e.g. Redis)
+ * replaces it by swapping the starter, with no code here or in the security setup changing.
+ * This class only supplies the attribute serializer.</p>
+ */
+@Configuration
+public class SessionConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /** Picked up by name by the JDBC session repository for {@code ATTRIBUTE_BYTES}. */
+    @Bean
+    public ConversionService springSessionConversionService() {
+        SessionAttributeSerializer serializer = new SessionAttributeSerializer(classLoader);
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new SerializingConverter(serializer));
+        conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(serializer));
+        return conversionService;
+    }
+}
@@ -0,0 +1,49 @@
+package com.smartsupplypro.inventory.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opt-in virtual threads for servlet requests ({@code app.virtual-threads.enabled}).
+ *
+ * <p>Spring Boot's own {@code spring.threads.virtual.enabled} is a bean condition; with the
+ * image's Spring AOT context it is evaluated when the image is built and ignored at runtime.
+ * This switch is read when the web server starts, so it works with and without AOT.</p>
+ *
+ * <p>Every request then blocks on JDBC in a virtual thread, and Tomcat's {@code max-threads}
+ * no longer limits how many wait for a connection. The fair permits of the connection-pool
+ * bulkhead take over that role, so the switch refuses to start without it. Dashboard widget
+ * tasks follow the same switch in {@link AnalyticsExecutorConfig}.</p>
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private final boolean enabled;
+
+    public VirtualThreadConfig(AppProperties props) {
+        this.enabled = props.getVirtualThreads().isEnabled();
+        if (enabled && !props.getBulkhead().isEnabled()) {
+            throw new IllegalStateException(
+                    "app.virtual-threads.enabled requires app.bulkhead.enabled: without the partition permits "
+                            + "every parked request thread queues inside the connection pool");
+        }
+    }
+
+    /** Replaces Tomcat's worker pool with a thread per request when enabled. */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return handler -> {
+            if (enabled) {
+                handler.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+                log.info("Servlet requests run on virtual threads");
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.smartsupplypro.inventory.controller;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.smartsupplypro.inventory.dto.SqlStatementStatsDTO;
+import com.smartsupplypro.inventory.exception.InvalidRequestException;
+import com.smartsupplypro.inventory.observability.jdbc.SlowStatementStats;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin view of per-fingerprint SQL statistics collected on the DataSource.
+ *
+ * <p>Lets regressions in the analytics SQL builders be spotted from the application
+ * itself, without database-side tooling. All endpoints require {@code ROLE_ADMIN}.</p>
+ *
+ * @see SlowStatementStats
+ */
+@RestController
+@RequestMapping("/api/admin/sql-stats")
+@RequiredArgsConstructor
+public class AdminSqlStatsController {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final SlowStatementStats slowStatementStats;
+
+    /**
+     * Worst SQL fingerprints since startup or the last reset.
+     *
+     * @param sort  ordering: {@code total} (default), {@code max}, {@code mean} or {@code rows}
+     * @param limit number of fingerprints to return (1..200, default 20)
+     * @return fingerprint statistics, worst first
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public List<SqlStatementStatsDTO> getStats(
+            @RequestParam(defaultValue = "total") String sort,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        SlowStatementStats.Sort order;
+        try {
+            order = SlowStatementStats.Sort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("sort must be one of total, max, mean, rows");
+        }
+        return slowStatementStats.top(order, limit);
+    }
+
+    /**
+     * Clears the collected statistics.
+     *
+     * @return 204 No Content
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        slowStatementStats.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -9,25 +9,32 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.smartsupplypro.inventory.controller.analytics.AnalyticsControllerValidationHelper;
 import com.smartsupplypro.inventory.controller.analytics.AnalyticsDashboardHelper;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchRequestDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchResponseDTO;
 import com.smartsupplypro.inventory.dto.DashboardSummaryDTO;
 import com.smartsupplypro.inventory.dto.FinancialSummaryDTO;
+import com.smartsupplypro.inventory.service.impl.analytics.AnalyticsBatchService;
 import com.smartsupplypro.inventory.service.impl.analytics.FinancialAnalyticsService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 /**
- * REST controller for analytics dashboard and financial summary endpoints.
+ * REST controller for analytics dashboard, financial summary and batched widget endpoints.
  *
  * <p>All endpoints require authentication or demo-readonly access.</p>
  *
  * @see FinancialAnalyticsService
  * @see AnalyticsDashboardHelper
+ * @see AnalyticsBatchService
  */
 @RestController
 @RequestMapping(value = "/api/analytics", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -38,6 +45,7 @@ public class AnalyticsController {
     private final FinancialAnalyticsService financialAnalyticsService;
     private final AnalyticsControllerValidationHelper validationHelper;
     private final AnalyticsDashboardHelper dashboardHelper;
+    private final AnalyticsBatchService batchService;
 
     /**
      * Gets dashboard summary with multiple analytics (defaults to last 30 days).
@@ -77,4 +85,18 @@ public class AnalyticsController {
         validationHelper.validateDateRange(from, to, "from", "to");
         return ResponseEntity.ok(financialAnalyticsService.getFinancialSummaryWAC(from, to, supplierId));
     }
+
+    /**
+     * Computes several widgets over one shared window and supplier filter in a single request.
+     *
+     * <p>Read-only despite being a POST; the body only carries the widget list and filters.</p>
+     *
+     * @param request widgets plus shared filters (window defaults to the last 30 days)
+     * @return per-widget results in the shape of each widget's own endpoint
+     */
+    @PreAuthorize("isAuthenticated() or @appProperties.demoReadonly")
+    @PostMapping("/batch")
+    public ResponseEntity<AnalyticsBatchResponseDTO> getBatch(@Valid @RequestBody AnalyticsBatchRequestDTO request) {
+        return ResponseEntity.ok(batchService.execute(request));
+    }
 }
@@ -0,0 +1,113 @@
+package com.smartsupplypro.inventory.controller;
+
+import java.net.URI;
+import java.util.Locale;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.AnalyticsJobDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsJobRequestDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+import com.smartsupplypro.inventory.service.impl.analytics.AnalyticsJobService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST controller for background analytics reports that can outlast a proxy timeout.
+ *
+ * <p>Submitting a report stores its result, so it needs a signed-in user even in demo
+ * mode; status and result follow the read rules of the report's synchronous endpoint.
+ * Employee-change reports are ADMIN only, like {@code /api/analytics/employee-changes}.</p>
+ *
+ * @see AnalyticsJobService
+ */
+@RestController
+@RequestMapping(value = "/api/analytics/jobs", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@Validated
+public class AnalyticsJobController {
+
+    private final AnalyticsJobService jobService;
+    private final AppProperties props;
+
+    /**
+     * Starts a report, or joins the identical one still queued or running.
+     *
+     * @param request report type, window and filters
+     * @return 202 with the job and its status URL in {@code Location}
+     */
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping
+    public ResponseEntity<AnalyticsJobDTO> submit(@Valid @RequestBody AnalyticsJobRequestDTO request,
+                                                  Authentication authentication) {
+        checkAccess(request.type(), authentication);
+        AnalyticsJobDTO job = jobService.submit(request, authentication.getName());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/analytics/jobs/" + job.id()))
+                .body(job);
+    }
+
+    /**
+     * Gets the status and progress of a report.
+     *
+     * @param id job id
+     * @return job status; 404 once expired
+     */
+    @PreAuthorize("isAuthenticated() or @appProperties.demoReadonly")
+    @GetMapping("/{id}")
+    public ResponseEntity<AnalyticsJobDTO> getStatus(@PathVariable String id, Authentication authentication) {
+        AnalyticsJobDTO job = jobService.find(id);
+        checkAccess(job.type(), authentication);
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * Downloads the stored result of a succeeded report, as often as needed until it expires.
+     *
+     * @param id job id
+     * @return the payload of the report's synchronous endpoint (employee changes as one list);
+     *         409 while the job is not succeeded
+     */
+    @PreAuthorize("isAuthenticated() or @appProperties.demoReadonly")
+    @GetMapping("/{id}/result")
+    public ResponseEntity<String> getResult(@PathVariable String id, Authentication authentication) {
+        AnalyticsJobDTO job = jobService.find(id);
+        checkAccess(job.type(), authentication);
+        String filename = job.type().name().toLowerCase(Locale.ROOT)
+                + "-" + job.startDate() + "_" + job.endDate() + ".json";
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(jobService.result(id));
+    }
+
+    /** Mirrors {@code hasRole('ADMIN') or (!isAuthenticated() and @appProperties.demoReadonly)} for ADMIN-only reports. */
+    private void checkAccess(AnalyticsJobType type, Authentication authentication) {
+        if (!type.isAdminOnly()) {
+            return;
+        }
+        boolean anonymous = authentication == null || authentication instanceof AnonymousAuthenticationToken;
+        boolean admin = !anonymous && authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        if (!admin && !(anonymous && props.isDemoReadonly())) {
+            throw new AccessDeniedException("Report type " + type + " requires the ADMIN role");
+        }
+    }
+}
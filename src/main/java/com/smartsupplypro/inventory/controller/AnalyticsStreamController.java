@@ -0,0 +1,46 @@
+package com.smartsupplypro.inventory.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.smartsupplypro.inventory.dto.AnalyticsStreamEventDTO;
+import com.smartsupplypro.inventory.service.impl.analytics.stream.AnalyticsStreamHub;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Live analytics deltas over Server-Sent Events.
+ *
+ * <p>Clients keep their widgets current by applying {@link AnalyticsStreamEventDTO}
+ * deltas instead of polling the aggregate endpoints. A {@code ready} event opens
+ * every connection; clients should refetch once on it to cover anything missed
+ * while disconnected.</p>
+ *
+ * @see AnalyticsStreamHub
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsStreamController {
+
+    /** Path of the stream below the context path; filters that buffer or meter requests exempt it. */
+    public static final String STREAM_PATH = "/api/analytics/stream";
+
+    private final AnalyticsStreamHub hub;
+
+    /**
+     * Opens a live analytics stream.
+     *
+     * @return SSE emitter producing {@code item-quantity}, {@code low-stock-entered},
+     *         {@code low-stock-left} and {@code movement} events
+     */
+    @PreAuthorize("isAuthenticated() or @appProperties.demoReadonly")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return hub.subscribe();
+    }
+}
@@ -3,64 +3,119 @@ package com.smartsupplypro.inventory.controller;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
 import javax.sql.DataSource;
 
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.smartsupplypro.inventory.dto.HealthReadinessDTO;
+import com.smartsupplypro.inventory.observability.health.DatabaseHealthProber;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+import com.smartsupplypro.inventory.warmup.StartupWarmup;
+
 /**
  * REST controller for application and database health monitoring.
  *
  * <p>These endpoints are publicly accessible (no authentication required)
  * and serve frontend polling and infrastructure probes.
- * Designed for Oracle Free Tier environments where database pausing may occur.</p>
+ * Designed for Oracle Free Tier environments where database pausing may occur.
+ * {@code /api/health} and {@code /api/health/ready} answer from the
+ * {@link DatabaseHealthProber} snapshot and never borrow a pool connection;
+ * only the diagnostic {@code /api/health/db} queries the database on the request.
+ * Until the application reports {@link ReadinessState#ACCEPTING_TRAFFIC}, which happens after
+ * the {@link StartupWarmup}, both answer 503 so no traffic is routed to a cold instance.</p>
  */
 @RestController
 @RequestMapping("/api/health")
 public class HealthCheckController {
 
     private final DataSource dataSource;
+    private final DatabaseHealthProber prober;
+    private final ApplicationAvailability availability;
+    private final StartupWarmup warmup;
+    private final DatabaseDialectDetector dialectDetector;
 
-    /**
-     * Cached JDBC database product name (e.g. "Oracle", "H2").
-     * Resolved once from connection metadata during a successful ping;
-     * volatile because pings may run on different request threads.
-     */
-    private volatile String databaseProduct;
-
-    public HealthCheckController(DataSource dataSource) {
+    public HealthCheckController(DataSource dataSource, DatabaseHealthProber prober,
+                                 ApplicationAvailability availability, StartupWarmup warmup,
+                                 DatabaseDialectDetector dialectDetector) {
         this.dataSource = dataSource;
+        this.prober = prober;
+        this.availability = availability;
+        this.warmup = warmup;
+        this.dialectDetector = dialectDetector;
     }
 
     /**
-     * Basic health check for the frontend.
+     * Basic health check for the frontend and the Fly.io HTTP check.
      *
-     * @return {@code {"status":"ok","database":"ok"|"down","timestamp":<epochMillis>}},
-     *         200 OK when database is up, 503 Service Unavailable when database is down
+     * @return {@code {"status":"ok"|"starting","database":"ok"|"down"|"unknown","databaseProduct":...,
+     *         "timestamp":<epochMillis>,"lastSuccess":<ISO instant|null>}},
+     *         200 OK when the application is ready and the last probe reached the database
+     *         (also while the pool is saturated), 503 Service Unavailable otherwise
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> health() {
-        long now = System.currentTimeMillis();
-        boolean dbUp = pingDatabase();
+        DatabaseHealthProber.Snapshot db = prober.snapshot();
+        boolean ready = isReady();
         Map<String, Object> body = new HashMap<>();
-        body.put("status", "ok"); // application is up if this controller was reached
-        body.put("database", dbUp ? "ok" : "down");
-        // Real DB flavor from JDBC metadata; "unknown" until first successful ping.
-        body.put("databaseProduct", databaseProduct != null ? databaseProduct : "unknown");
-        body.put("timestamp", now);
-        HttpStatus status = dbUp ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        // application is up if this controller was reached; "starting" while the warm-up runs
+        body.put("status", ready ? "ok" : "starting");
+        body.put("database", db.databaseUp() ? "ok"
+                : db.status() == DatabaseHealthProber.Status.UNKNOWN ? "unknown" : "down");
+        // Real DB flavor from JDBC metadata; "unknown" until the first successful probe.
+        body.put("databaseProduct", db.databaseProduct() != null ? db.databaseProduct() : "unknown");
+        body.put("timestamp", System.currentTimeMillis());
+        body.put("lastSuccess", db.lastSuccess() != null ? db.lastSuccess().toString() : null);
+        HttpStatus status = ready && db.databaseUp() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return new ResponseEntity<>(body, status);
+    }
+
+    /**
+     * Readiness view: last probe result, pool saturation, probe latency percentiles and warm-up.
+     *
+     * @return 200 OK when the application is ready and the last probe reached the database,
+     *         503 otherwise
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<HealthReadinessDTO> readiness() {
+        DatabaseHealthProber.Snapshot db = prober.snapshot();
+        DatabaseHealthProber.PoolStats pool = prober.poolStats();
+        DatabaseHealthProber.LatencyPercentiles latency = prober.latencyPercentiles();
+        StartupWarmup.Result warm = warmup.result();
+        boolean ready = isReady();
+
+        HealthReadinessDTO body = new HealthReadinessDTO(
+                db.status().name(),
+                new HealthReadinessDTO.Database(db.databaseProduct(), db.latencyNanos() / 1_000_000.0,
+                        db.lastProbe(), db.lastSuccess(), db.consecutiveFailures(), db.error()),
+                pool == null ? null : new HealthReadinessDTO.Pool(
+                        pool.active(), pool.idle(), pool.total(), pool.max(), pool.pending()),
+                new HealthReadinessDTO.ProbeLatency(
+                        latency.samples(), latency.p50(), latency.p95(), latency.p99(), latency.max()),
+                availability.getReadinessState().name(),
+                new HealthReadinessDTO.Warmup(warm.state().name(), warm.elapsedMillis(),
+                        warm.rounds(), warm.succeeded(), warm.failed()));
+        HttpStatus status = ready && db.databaseUp() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
         return new ResponseEntity<>(body, status);
     }
 
+    private boolean isReady() {
+        return availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+    }
+
     /**
-     * Deep database health check with Oracle-specific query.
+     * Deep database health check: runs a query on the request and returns the client IP
+     * as the database sees it. The field keeps its historical {@code oracleSeesIp} name
+     * on every dialect.
      *
      * @return 200 OK with client IP if database accessible, 503 if database down
      */
@@ -68,16 +123,14 @@ public class HealthCheckController {
     public ResponseEntity<String> checkDatabaseConnection() {
         try (
             Connection conn = dataSource.getConnection();
-            // SYS_CONTEXT verifies actual Oracle functionality and returns client IP for diagnostics
-            PreparedStatement stmt = conn.prepareStatement(
-                    "SELECT SYS_CONTEXT('USERENV', 'IP_ADDRESS') AS ip FROM DUAL");
+            PreparedStatement stmt = conn.prepareStatement(clientIpSql(dialectDetector.dialect()));
             ResultSet rs = stmt.executeQuery()
         ) {
             if (rs.next()) {
                 String ip = rs.getString("ip");
                 return ResponseEntity.ok("{\"status\": \"UP\", \"oracleSeesIp\": \"" + ip + "\"}");
             } else {
-                // unexpected empty result from a healthy Oracle connection
+                // unexpected empty result from a healthy connection
                 return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                         .body("{\"status\": \"DOWN\", \"db\": \"query failed\"}");
             }
@@ -87,34 +140,16 @@ public class HealthCheckController {
         }
     }
 
-    // low-cost ping; runs every 15 min from the frontend health check
-    private boolean pingDatabase() {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM DUAL");
-             ResultSet rs = stmt.executeQuery()) {
-            resolveDatabaseProduct(conn);
-            return rs.next();
-        } catch (SQLException ex) {
-            return false;
-        }
-    }
-
     /**
-     * Resolves and caches the database product name from connection metadata.
-     * Failures are swallowed (and not cached) so a metadata hiccup never
-     * breaks the health ping; the next ping retries.
+     * Query returning the client address as seen by the database, in a column named {@code ip}.
+     * Oracle's SYS_CONTEXT also verifies that the session context works; H2 has no
+     * client address and answers null.
      */
-    private void resolveDatabaseProduct(Connection conn) {
-        if (databaseProduct != null) {
-            return;
-        }
-        try {
-            String name = conn.getMetaData().getDatabaseProductName();
-            if (name != null && !name.isBlank()) {
-                databaseProduct = name;
-            }
-        } catch (Exception ex) {
-            // metadata unavailable; keep null and retry on a later ping
-        }
+    static String clientIpSql(DatabaseDialect dialect) {
+        return switch (dialect) {
+            case ORACLE -> "SELECT SYS_CONTEXT('USERENV', 'IP_ADDRESS') AS ip FROM DUAL";
+            case POSTGRESQL -> "SELECT host(inet_client_addr()) AS ip";
+            case H2 -> "SELECT CAST(NULL AS VARCHAR) AS ip";
+        };
     }
 }
@@ -1,26 +1,61 @@
 package com.smartsupplypro.inventory.controller.analytics;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import com.smartsupplypro.inventory.config.AnalyticsExecutorConfig;
+import com.smartsupplypro.inventory.config.AppProperties;
 import com.smartsupplypro.inventory.dto.DashboardSummaryDTO;
+import com.smartsupplypro.inventory.enums.DashboardWidgetStatus;
+import com.smartsupplypro.inventory.exception.ServiceUnavailableException;
 import com.smartsupplypro.inventory.service.impl.analytics.StockAnalyticsService;
 
-import lombok.RequiredArgsConstructor;
-
 /**
  * Aggregates multi-source analytics data for the dashboard summary endpoint.
  *
  * <p>Extracted from {@link com.smartsupplypro.inventory.controller.AnalyticsController}
- * to keep endpoint methods under 15 lines.</p>
+ * to keep endpoint methods under 15 lines. Widget queries run concurrently on the
+ * bounded {@link AnalyticsExecutorConfig#DASHBOARD_EXECUTOR}, each in its own
+ * read-only transaction, and share one latency budget
+ * ({@code app.analytics.dashboard.budget}). A widget that misses the budget or
+ * fails is returned empty and flagged in {@code widgetStatus}; a late query keeps
+ * running and warms the analytics cache for the next load. A widget refused for lack of
+ * capacity, by the saturated executor or by the analytics bulkhead, is flagged
+ * {@code REJECTED}; when nothing loaded and a widget was refused the request gets 503.</p>
  */
 @Component
-@RequiredArgsConstructor
 public class AnalyticsDashboardHelper {
 
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsDashboardHelper.class);
+
     private final StockAnalyticsService stockAnalyticsService;
+    private final Executor executor;
+    private final Duration budget;
+    private final Duration retryAfter;
+
+    public AnalyticsDashboardHelper(StockAnalyticsService stockAnalyticsService,
+                                    @Qualifier(AnalyticsExecutorConfig.DASHBOARD_EXECUTOR) Executor executor,
+                                    AppProperties props) {
+        this.stockAnalyticsService = stockAnalyticsService;
+        this.executor = executor;
+        this.budget = props.getAnalytics().getDashboard().getBudget();
+        this.retryAfter = props.getBulkhead().getAnalytics().getRetryAfter();
+    }
 
     /**
      * Builds a comprehensive dashboard summary with multiple analytics.
@@ -32,22 +67,99 @@ public class AnalyticsDashboardHelper {
      * @param supplierId optional supplier filter
      * @param startDate  start of date range
      * @param endDate    end of date range
-     * @return dashboard summary with aggregated data
+     * @return dashboard summary with aggregated data and per-widget status
      */
     public DashboardSummaryDTO buildDashboardSummary(
             String supplierId, LocalDateTime startDate, LocalDateTime endDate) {
+        boolean scoped = isSupplierProvided(supplierId);
+        long deadline = System.nanoTime() + budget.toNanos();
+        Map<String, DashboardWidgetStatus> status = new LinkedHashMap<>();
+
         // stockPerSupplier always loads all suppliers regardless of filter -- needed for the overview chart
-        return DashboardSummaryDTO.builder()
-                .stockPerSupplier(stockAnalyticsService.getTotalStockPerSupplier())
-                .lowStockItems(isSupplierProvided(supplierId)
-                        ? stockAnalyticsService.getItemsBelowMinimumStock(supplierId).stream().limit(3).toList()
-                        : stockAnalyticsService.getItemsBelowMinimumStock().stream().limit(5).toList())
-                .monthlyStockMovement(stockAnalyticsService.getMonthlyStockMovement(
-                        startDate.toLocalDate(), endDate.toLocalDate(), supplierId))
-                .topUpdatedItems(isSupplierProvided(supplierId)
-                        ? stockAnalyticsService.getItemUpdateFrequency(supplierId).stream().limit(5).toList()
-                        : List.of())
+        var stockPerSupplier = submit(stockAnalyticsService::getTotalStockPerSupplier);
+        var lowStockItems = submit(() -> scoped
+                ? stockAnalyticsService.getTopLowStockItems(supplierId, 3)
+                : stockAnalyticsService.getTopLowStockItems(null, 5));
+        var monthlyStockMovement = submit(() -> stockAnalyticsService.getMonthlyStockMovement(
+                startDate.toLocalDate(), endDate.toLocalDate(), supplierId));
+        var topUpdatedItems = scoped
+                ? submit(() -> stockAnalyticsService.getItemUpdateFrequency(supplierId).stream().limit(5).toList())
+                : null;
+
+        DashboardSummaryDTO summary = DashboardSummaryDTO.builder()
+                .stockPerSupplier(await("stockPerSupplier", stockPerSupplier, deadline, status))
+                .lowStockItems(await("lowStockItems", lowStockItems, deadline, status))
+                .monthlyStockMovement(await("monthlyStockMovement", monthlyStockMovement, deadline, status))
+                .topUpdatedItems(await("topUpdatedItems", topUpdatedItems, deadline, status))
+                .widgetStatus(status)
                 .build();
+        rejectIfNothingLoaded(status, stockPerSupplier, lowStockItems, monthlyStockMovement, topUpdatedItems);
+        return summary;
+    }
+
+    /**
+     * A dashboard where nothing loaded and widgets were refused (by the executor or the analytics
+     * bulkhead) is answered with 503 and {@code Retry-After} rather than an empty 200; partial
+     * results are still returned.
+     */
+    private void rejectIfNothingLoaded(Map<String, DashboardWidgetStatus> status, CompletableFuture<?>... futures) {
+        if (status.containsValue(DashboardWidgetStatus.OK)) {
+            return;
+        }
+        for (CompletableFuture<?> future : futures) {
+            if (future != null && future.isCompletedExceptionally()) {
+                Throwable cause = future.exceptionNow();
+                if (cause instanceof ServiceUnavailableException unavailable) {
+                    throw unavailable;
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues one widget query. When the executor rejects it the future fails at once with
+     * {@link ServiceUnavailableException}, which {@link #await} reports as a rejected widget.
+     */
+    private <T> CompletableFuture<List<T>> submit(Supplier<List<T>> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Dashboard widget rejected, executor saturated: {}", e.getMessage());
+            return CompletableFuture.failedFuture(new ServiceUnavailableException(
+                    "Too many concurrent dashboard requests; retry shortly", retryAfter, e));
+        }
+    }
+
+    /**
+     * Waits for one widget until the shared deadline; a null future marks a widget that does
+     * not apply to the request.
+     */
+    private <T> List<T> await(String widget, CompletableFuture<List<T>> future, long deadline,
+                              Map<String, DashboardWidgetStatus> status) {
+        if (future == null) {
+            status.put(widget, DashboardWidgetStatus.SKIPPED);
+            return List.of();
+        }
+        try {
+            List<T> result = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            status.put(widget, DashboardWidgetStatus.OK);
+            return result;
+        } catch (TimeoutException e) {
+            log.warn("Dashboard widget {} exceeded the {} ms budget", widget, budget.toMillis());
+            status.put(widget, DashboardWidgetStatus.TIMED_OUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ServiceUnavailableException) {
+                log.warn("Dashboard widget {} refused: {}", widget, e.getCause().getMessage());
+                status.put(widget, DashboardWidgetStatus.REJECTED);
+            } else {
+                log.warn("Dashboard widget {} failed", widget, e.getCause());
+                status.put(widget, DashboardWidgetStatus.FAILED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status.put(widget, DashboardWidgetStatus.FAILED);
+        }
+        return List.of();
     }
 
     private boolean isSupplierProvided(String supplierId) {
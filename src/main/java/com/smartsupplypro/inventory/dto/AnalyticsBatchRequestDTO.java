@@ -0,0 +1,34 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.smartsupplypro.inventory.enums.AnalyticsWidget;
+
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * Request payload for the batched analytics endpoint.
+ *
+ * <p>Submitted to {@link com.smartsupplypro.inventory.controller.AnalyticsController#getBatch}.
+ * All widgets share the window and supplier filter; the remaining fields only apply
+ * to the widgets that use them.</p>
+ *
+ * @param widgets     widgets to compute (duplicates are ignored)
+ * @param startDate   inclusive start date (null = 30 days before {@code endDate})
+ * @param endDate     inclusive end date (null = today)
+ * @param supplierId  optional supplier filter
+ * @param itemId      item for {@code PRICE_TREND} (required when that widget is requested)
+ * @param itemName    optional partial item name for {@code REASON_BREAKDOWN}
+ * @param granularity {@code daily}, {@code weekly} or {@code monthly} for {@code EMPLOYEE_ACTIVITY} (null = monthly)
+ */
+public record AnalyticsBatchRequestDTO(
+        @NotEmpty(message = "At least one widget is required")
+        List<AnalyticsWidget> widgets,
+        LocalDate startDate,
+        LocalDate endDate,
+        String supplierId,
+        String itemId,
+        String itemName,
+        String granularity
+) {}
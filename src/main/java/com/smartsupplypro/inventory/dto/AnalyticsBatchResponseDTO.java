@@ -0,0 +1,23 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.smartsupplypro.inventory.enums.AnalyticsWidget;
+
+/**
+ * Response payload for the batched analytics endpoint.
+ *
+ * <p>Returned by {@link com.smartsupplypro.inventory.controller.AnalyticsController#getBatch}.</p>
+ *
+ * @param startDate  resolved inclusive start date shared by all widgets
+ * @param endDate    resolved inclusive end date shared by all widgets
+ * @param supplierId supplier filter applied to all widgets (null = all suppliers)
+ * @param results    per-widget payload, identical in shape to the widget's own endpoint
+ */
+public record AnalyticsBatchResponseDTO(
+        LocalDate startDate,
+        LocalDate endDate,
+        String supplierId,
+        Map<AnalyticsWidget, Object> results
+) {}
@@ -0,0 +1,46 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.smartsupplypro.inventory.enums.AnalyticsJobStatus;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+
+/**
+ * Status of a background analytics report, as returned when it is submitted and polled.
+ *
+ * @param id          job id, used in the status and result URLs
+ * @param type        report being computed
+ * @param status      lifecycle state
+ * @param progress    completed share of the work in percent (0-100)
+ * @param stepsDone   completed steps (one per query, or per page for employee changes)
+ * @param stepsTotal  total steps; known once the first step has run
+ * @param startDate   inclusive window start
+ * @param endDate     inclusive window end
+ * @param supplierId  supplier filter, or null
+ * @param createdBy   creator filter for employee changes, or null
+ * @param resultRows  rows in the stored result once succeeded, else null
+ * @param error       failure reason once failed, else null
+ * @param createdAt   submission time
+ * @param startedAt   time the first query started, or null while queued
+ * @param finishedAt  completion time, or null while active
+ * @param expiresAt   time after which the job and its result are deleted
+ */
+public record AnalyticsJobDTO(
+        String id,
+        AnalyticsJobType type,
+        AnalyticsJobStatus status,
+        int progress,
+        int stepsDone,
+        int stepsTotal,
+        LocalDate startDate,
+        LocalDate endDate,
+        String supplierId,
+        String createdBy,
+        Integer resultRows,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,31 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.LocalDate;
+
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request payload for starting a background analytics report.
+ *
+ * <p>Submitted to {@link com.smartsupplypro.inventory.controller.AnalyticsJobController#submit}.
+ * Jobs exist for long windows, so both bounds are required; requests with the same type,
+ * window and filters share one job while it is queued or running.</p>
+ *
+ * @param type       report to run
+ * @param startDate  inclusive start date
+ * @param endDate    inclusive end date
+ * @param supplierId optional supplier filter
+ * @param createdBy  optional creator (email) filter for {@code EMPLOYEE_CHANGES}, case-insensitive
+ */
+public record AnalyticsJobRequestDTO(
+        @NotNull(message = "type is required")
+        AnalyticsJobType type,
+        @NotNull(message = "startDate is required")
+        LocalDate startDate,
+        @NotNull(message = "endDate is required")
+        LocalDate endDate,
+        String supplierId,
+        String createdBy
+) {}
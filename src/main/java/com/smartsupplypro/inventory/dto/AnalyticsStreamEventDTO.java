@@ -0,0 +1,40 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Delta event pushed to live dashboard clients over {@code /api/analytics/stream}.
+ *
+ * <p>The SSE event name equals {@link #type()}; fields that do not apply to a
+ * type are omitted from the JSON payload.</p>
+ *
+ * @param type            one of {@link #ITEM_QUANTITY}, {@link #LOW_STOCK_ENTERED},
+ *                        {@link #LOW_STOCK_LEFT}, {@link #MOVEMENT}
+ * @param itemId          affected item
+ * @param itemName        item display name (item events only)
+ * @param supplierId      supplier of the item
+ * @param quantity        on-hand quantity after the change (item events only)
+ * @param minimumQuantity low-stock threshold after the change (item events only)
+ * @param change          signed quantity delta (movement events only)
+ * @param reason          stock change reason (movement events only)
+ * @param timestamp       server time of the change
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnalyticsStreamEventDTO(
+        String type,
+        String itemId,
+        String itemName,
+        String supplierId,
+        Integer quantity,
+        Integer minimumQuantity,
+        Integer change,
+        String reason,
+        LocalDateTime timestamp
+) {
+    public static final String ITEM_QUANTITY = "item-quantity";
+    public static final String LOW_STOCK_ENTERED = "low-stock-entered";
+    public static final String LOW_STOCK_LEFT = "low-stock-left";
+    public static final String MOVEMENT = "movement";
+}
@@ -0,0 +1,19 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable per-creator, per-day change count used internally by employee analytics.
+ *
+ * <p>Read from the daily activity query (or derived from the batched window digest) and
+ * rolled up to weekly/monthly buckets in the service layer. Not exposed to API clients.</p>
+ *
+ * @param createdBy   audit identity (email) that made the changes
+ * @param day         calendar day of the changes
+ * @param changeCount number of stock history rows on that day
+ */
+public record DailyEmployeeActivityRowDTO(
+        String createdBy,
+        LocalDate day,
+        long changeCount
+) {}
@@ -1,6 +1,9 @@
 package com.smartsupplypro.inventory.dto;
 
 import java.util.List;
+import java.util.Map;
+
+import com.smartsupplypro.inventory.enums.DashboardWidgetStatus;
 
 import lombok.Builder;
 
@@ -13,11 +16,13 @@ import lombok.Builder;
  * @param lowStockItems        items currently below their minimum quantity threshold
  * @param monthlyStockMovement inbound/outbound movement totals per calendar month
  * @param topUpdatedItems      items with the highest number of recent stock changes
+ * @param widgetStatus         per-widget load outcome keyed by field name; non-OK widgets are empty
  */
 @Builder
 public record DashboardSummaryDTO(
         List<StockPerSupplierDTO> stockPerSupplier,
         List<LowStockItemDTO> lowStockItems,
         List<MonthlyStockMovementDTO> monthlyStockMovement,
-        List<ItemUpdateFrequencyDTO> topUpdatedItems
+        List<ItemUpdateFrequencyDTO> topUpdatedItems,
+        Map<String, DashboardWidgetStatus> widgetStatus
 ) {}
@@ -0,0 +1,50 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.Instant;
+
+/**
+ * Readiness view for {@code GET /api/health/ready}: the background database probe,
+ * pool saturation, probe latency percentiles and the startup warm-up.
+ *
+ * @param status          {@code UP}, {@code SATURATED}, {@code DOWN} or {@code UNKNOWN}
+ * @param database        last probe result
+ * @param pool            pool occupancy; null when the DataSource is not a Hikari pool
+ * @param probeLatency    latency percentiles over the retained probes
+ * @param readiness       {@code ACCEPTING_TRAFFIC} or {@code REFUSING_TRAFFIC}
+ * @param warmup          startup warm-up outcome
+ */
+public record HealthReadinessDTO(String status, Database database, Pool pool, ProbeLatency probeLatency,
+                                 String readiness, Warmup warmup) {
+
+    /**
+     * @param product             JDBC product name, null until the first successful probe
+     * @param lastLatencyMillis   latency of the last probe that reached the database
+     * @param lastProbe           when the last probe finished
+     * @param lastSuccess         when the database last answered
+     * @param consecutiveFailures probes failed since the last success
+     * @param error               failure message of the last probe, null when healthy
+     */
+    public record Database(String product, double lastLatencyMillis, Instant lastProbe, Instant lastSuccess,
+                           int consecutiveFailures, String error) {}
+
+    /**
+     * @param active  connections in use
+     * @param idle    connections available
+     * @param total   connections open
+     * @param max     configured maximum pool size
+     * @param pending threads waiting for a connection, in the pool or for a bulkhead permit
+     */
+    public record Pool(int active, int idle, int total, int max, int pending) {}
+
+    /** Nearest-rank percentiles in milliseconds over {@code samples} probes. */
+    public record ProbeLatency(int samples, double p50, double p95, double p99, double max) {}
+
+    /**
+     * @param state         {@code PENDING}, {@code RUNNING}, {@code COMPLETED}, {@code TIMED_OUT} or {@code DISABLED}
+     * @param elapsedMillis time spent, 0 until finished
+     * @param rounds        catalogue rounds started
+     * @param succeeded     steps that completed
+     * @param failed        steps that threw
+     */
+    public record Warmup(String state, long elapsedMillis, int rounds, int succeeded, int failed) {}
+}
@@ -0,0 +1,38 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Aggregated execution statistics for one SQL fingerprint.
+ *
+ * <p>Returned by {@link com.smartsupplypro.inventory.controller.AdminSqlStatsController}.
+ * Durations include result-set fetching. {@code nullBindPatterns} counts executions per
+ * set of NULL-bound parameter positions (e.g. {@code "3,4"}; {@code ""} when none), which
+ * separates the branches of {@code :x IS NULL OR ...} filters.</p>
+ *
+ * @param fingerprint      SQL with literals stripped
+ * @param executions       number of executions
+ * @param failures         executions that threw
+ * @param totalMillis      summed execution time
+ * @param meanMillis       mean execution time
+ * @param maxMillis        slowest execution
+ * @param slowExecutions   executions at or above the slow-statement threshold
+ * @param meanRows         mean rows fetched or affected
+ * @param maxRows          most rows fetched or affected by one execution
+ * @param nullBindPatterns executions per NULL-bound parameter set
+ * @param lastSeen         time of the latest execution
+ */
+public record SqlStatementStatsDTO(
+        String fingerprint,
+        long executions,
+        long failures,
+        double totalMillis,
+        double meanMillis,
+        double maxMillis,
+        long slowExecutions,
+        double meanRows,
+        long maxRows,
+        Map<String, Long> nullBindPatterns,
+        Instant lastSeen
+) {}
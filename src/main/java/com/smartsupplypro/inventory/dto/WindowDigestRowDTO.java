@@ -0,0 +1,30 @@
+package com.smartsupplypro.inventory.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable row of the shared window digest used internally by batched analytics.
+ *
+ * <p>One row per day, reason, creator and supplier-match combination. With a supplier
+ * filter, a row matches it through the history row's supplier, the item's current
+ * supplier, or both; the two flags say which. Not exposed to API clients.</p>
+ *
+ * @param day                  calendar day of the changes
+ * @param reason               stock change reason name
+ * @param createdBy            audit identity (email) that made the changes
+ * @param increase             sum of positive quantity changes
+ * @param decrease             sum of absolute negative quantity changes
+ * @param changeCount          number of stock history rows
+ * @param historySupplierMatch whether the rows match the filter via {@code stock_history.supplier_id}
+ * @param itemSupplierMatch    whether the rows match the filter via the item's supplier
+ */
+public record WindowDigestRowDTO(
+        LocalDate day,
+        String reason,
+        String createdBy,
+        long increase,
+        long decrease,
+        long changeCount,
+        boolean historySupplierMatch,
+        boolean itemSupplierMatch
+) {}
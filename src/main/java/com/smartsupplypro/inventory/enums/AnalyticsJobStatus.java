@@ -0,0 +1,21 @@
+package com.smartsupplypro.inventory.enums;
+
+/**
+ * Lifecycle state of an analytics report job.
+ */
+public enum AnalyticsJobStatus {
+
+    /** Accepted and waiting for a job executor thread. */
+    QUEUED,
+    /** Queries are running; progress is reported in steps. */
+    RUNNING,
+    /** Result stored and downloadable until the job expires. */
+    SUCCEEDED,
+    /** Stopped with an error; the job carries the reason. */
+    FAILED;
+
+    /** Whether identical requests still join this job instead of starting a new one. */
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
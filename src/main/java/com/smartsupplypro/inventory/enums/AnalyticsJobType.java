@@ -0,0 +1,29 @@
+package com.smartsupplypro.inventory.enums;
+
+/**
+ * Analytics report that can run as a background job.
+ *
+ * <p>Each constant corresponds to one synchronous analytics endpoint and stores the same
+ * payload shape, except that employee changes are stored as one list of all rows instead
+ * of a page.</p>
+ */
+public enum AnalyticsJobType {
+
+    /** Weighted-average-cost summary, as {@code GET /api/analytics/financial/summary}. */
+    FINANCIAL_SUMMARY(false),
+    /** Daily inventory valuation, as {@code GET /api/analytics/stock-value}. */
+    STOCK_VALUE(false),
+    /** Every change row in the window, as {@code GET /api/analytics/employee-changes}; ADMIN only. */
+    EMPLOYEE_CHANGES(true);
+
+    private final boolean adminOnly;
+
+    AnalyticsJobType(boolean adminOnly) {
+        this.adminOnly = adminOnly;
+    }
+
+    /** Whether the report needs the ADMIN role, like its synchronous endpoint. */
+    public boolean isAdminOnly() {
+        return adminOnly;
+    }
+}
@@ -0,0 +1,25 @@
+package com.smartsupplypro.inventory.enums;
+
+/**
+ * Widget query that can be requested through the batched analytics endpoint.
+ *
+ * <p>Each constant corresponds to one single-widget analytics endpoint and returns
+ * the same payload shape.</p>
+ */
+public enum AnalyticsWidget {
+
+    /** Daily inventory valuation, as {@code GET /api/analytics/stock-value}. */
+    STOCK_VALUE,
+    /** Stock-in/stock-out per month, as {@code GET /api/analytics/monthly-stock-movement}. */
+    MONTHLY_MOVEMENT,
+    /** Sign-split totals per reason, as {@code GET /api/analytics/reason-breakdown}. */
+    REASON_BREAKDOWN,
+    /** Change counts per employee and period, as {@code GET /api/analytics/by-employee}. */
+    EMPLOYEE_ACTIVITY,
+    /** Daily average price of one item, as {@code GET /api/analytics/price-trend}; requires {@code itemId}. */
+    PRICE_TREND,
+    /** Items below their minimum quantity, as {@code GET /api/analytics/low-stock-items}. */
+    LOW_STOCK_ITEMS,
+    /** Weighted-average-cost summary, as {@code GET /api/analytics/financial/summary}. */
+    FINANCIAL_SUMMARY
+}
@@ -0,0 +1,18 @@
+package com.smartsupplypro.inventory.enums;
+
+/**
+ * Load outcome of a single dashboard widget in the analytics summary response.
+ */
+public enum DashboardWidgetStatus {
+
+    /** Widget data loaded within the latency budget. */
+    OK,
+    /** Widget not applicable for the request (e.g. supplier-scoped widget without a supplier). */
+    SKIPPED,
+    /** Widget query did not finish within the latency budget; data is empty. */
+    TIMED_OUT,
+    /** Widget query failed; data is empty. */
+    FAILED,
+    /** Widget query refused because the analytics capacity is saturated; data is empty, retry later. */
+    REJECTED
+}
@@ -0,0 +1,65 @@
+package com.smartsupplypro.inventory.event;
+
+import java.util.Objects;
+
+import com.smartsupplypro.inventory.model.InventoryItem;
+
+/**
+ * Application event published by
+ * {@link com.smartsupplypro.inventory.service.impl.InventoryItemServiceImpl} after every
+ * write to an inventory item, carrying the item state before and after the change.
+ *
+ * <p>Published inside the writing transaction; listeners should use
+ * {@code @TransactionalEventListener} so rolled-back writes are never observed.
+ * Stock movements written alongside (quantity, price) are announced separately
+ * as {@link StockMovementRecordedEvent}.</p>
+ *
+ * @param itemId item identifier
+ * @param before state before the write, or null when the item was just created
+ * @param after  state after the write
+ */
+public record InventoryItemChangedEvent(String itemId, Snapshot before, Snapshot after) {
+
+    /**
+     * Immutable view of the item fields that derived read models depend on.
+     */
+    public record Snapshot(String name, String supplierId, int quantity, int minimumQuantity, boolean active) {
+
+        /** Captures the current field values of {@code item}. */
+        public static Snapshot of(InventoryItem item) {
+            return new Snapshot(item.getName(), item.getSupplierId(), item.getQuantity(),
+                    item.getMinimumQuantity(), item.isActive());
+        }
+
+        /** Same rule as the low-stock queries: active and {@code quantity < minimumQuantity}. */
+        public boolean isLowStock() {
+            return active && quantity < minimumQuantity;
+        }
+    }
+
+    /** True when the item was below its minimum before the write. */
+    public boolean wasLowStock() {
+        return before != null && before.isLowStock();
+    }
+
+    /** True when the item is below its minimum after the write. */
+    public boolean isLowStock() {
+        return after.isLowStock();
+    }
+
+    /** True when the on-hand quantity changed (creation counts as a change). */
+    public boolean quantityChanged() {
+        return before == null || before.quantity() != after.quantity();
+    }
+
+    /**
+     * True when fields that label or scope historical results changed
+     * (name, supplier, active flag), as opposed to quantities and thresholds.
+     */
+    public boolean descriptiveChange() {
+        return before == null
+                || !Objects.equals(before.name(), after.name())
+                || !Objects.equals(before.supplierId(), after.supplierId())
+                || before.active() != after.active();
+    }
+}
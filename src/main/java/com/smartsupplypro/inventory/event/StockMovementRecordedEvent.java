@@ -0,0 +1,29 @@
+package com.smartsupplypro.inventory.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+
+/**
+ * Application event published whenever a stock movement is written to the audit trail.
+ *
+ * <p>Published by {@link com.smartsupplypro.inventory.service.impl.StockHistoryServiceImpl}
+ * inside the writing transaction; listeners that depend on committed data should use
+ * {@code @TransactionalEventListener} so they only observe movements that survived commit.</p>
+ *
+ * @param itemId        inventory item the movement belongs to
+ * @param supplierId    denormalized supplier of the item (may be null for orphaned items)
+ * @param reason        business reason of the movement
+ * @param change        signed quantity delta (zero for price-only changes)
+ * @param priceAtChange unit price snapshot recorded with the movement (nullable)
+ * @param timestamp     server-authoritative movement timestamp
+ */
+public record StockMovementRecordedEvent(
+        String itemId,
+        String supplierId,
+        StockChangeReason reason,
+        int change,
+        BigDecimal priceAtChange,
+        LocalDateTime timestamp
+) {}
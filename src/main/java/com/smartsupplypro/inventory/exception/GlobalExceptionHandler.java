@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.smartsupplypro.inventory.bulkhead.PartitionSaturatedException;
 import com.smartsupplypro.inventory.exception.dto.ErrorResponse;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -135,6 +137,19 @@ public class GlobalExceptionHandler {
         return respond(HttpStatus.CONFLICT, "Concurrent update detected - please refresh and retry");
     }
 
+    /** Returns 503 with {@code Retry-After} (whole seconds, rounded up) when a resource is saturated. */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        ResponseEntity<ErrorResponse> response = respond(HttpStatus.SERVICE_UNAVAILABLE, sanitize(ex.getMessage()));
+        if (ex.getRetryAfter() == null) {
+            return response;
+        }
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+            .body(response.getBody());
+    }
+
     /** Handles explicit {@link ResponseStatusException}; preserves the original status. */
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex,
@@ -147,9 +162,18 @@ public class GlobalExceptionHandler {
         return respond(status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR, sanitize(message));
     }
 
-    /** Prevents stack trace exposure for unhandled exceptions. */
+    /**
+     * Prevents stack trace exposure for unhandled exceptions. A saturated CRUD pool partition
+     * (no {@code @PoolPartitioned} service in between to translate it) still answers 503.
+     */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleUnexpected(Exception ex) {
+        PartitionSaturatedException saturated = PartitionSaturatedException.findIn(ex);
+        if (saturated != null) {
+            log.warn("Request refused: {}", saturated.getMessage());
+            return handleServiceUnavailable(new ServiceUnavailableException(
+                    "Too many concurrent requests; retry shortly", saturated.getRetryAfter(), ex));
+        }
         // The client gets a generic envelope; operators get the full stack trace.
         log.error("Unhandled exception while processing request", ex);
         return respond(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected server error");
@@ -0,0 +1,28 @@
+package com.smartsupplypro.inventory.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is refused because a shared resource (e.g. a connection-pool
+ * partition) is saturated. Maps to HTTP 503 with {@code Retry-After} in
+ * {@link GlobalExceptionHandler}.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final transient Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public ServiceUnavailableException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    /** Suggested client back-off; may be null. */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,106 @@
+package com.smartsupplypro.inventory.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.smartsupplypro.inventory.enums.AnalyticsJobStatus;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Background analytics report: its parameters, progress and lifecycle timestamps.
+ *
+ * <p>The result payload lives in {@link AnalyticsJobResult} so that polling the status
+ * never loads it. Both are deleted once {@code expiresAt} has passed.</p>
+ *
+ * <p>{@code ownerId} names the instance running the job and {@code leaseUntil} is renewed
+ * by it while the job is active; a job whose lease has lapsed lost its instance and may be
+ * failed by any other.</p>
+ *
+ * @see AnalyticsJobType
+ * @see AnalyticsJobStatus
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+    name = "ANALYTICS_JOB",
+    indexes = @Index(name = "IX_AJ_EXPIRES", columnList = "EXPIRES_AT") // expiry purge
+)
+public class AnalyticsJob {
+
+    @Id
+    @Column(name = "ID")
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "JOB_TYPE", nullable = false, length = 32)
+    private AnalyticsJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false, length = 16)
+    private AnalyticsJobStatus status;
+
+    @Column(name = "START_DATE", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "END_DATE", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "SUPPLIER_ID")
+    private String supplierId;
+
+    // report filter (employee changes), not the user who submitted the job
+    @Column(name = "CREATED_BY_FILTER")
+    private String createdByFilter;
+
+    @Column(name = "REQUESTED_BY", nullable = false)
+    private String requestedBy;
+
+    @Column(name = "STEPS_DONE", nullable = false)
+    private int stepsDone;
+
+    @Column(name = "STEPS_TOTAL", nullable = false)
+    private int stepsTotal;
+
+    @Column(name = "RESULT_ROWS")
+    private Integer resultRows;
+
+    @Column(name = "ERROR_MESSAGE", length = 500)
+    private String errorMessage;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "STARTED_AT")
+    private LocalDateTime startedAt;
+
+    @Column(name = "FINISHED_AT")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "OWNER_ID", length = 64)
+    private String ownerId;
+
+    @Column(name = "LEASE_UNTIL")
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,33 @@
+package com.smartsupplypro.inventory.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * JSON result of a finished {@link AnalyticsJob}, kept for re-download until the job expires.
+ */
+@Entity
+@Getter
+@Setter
+@ToString(exclude = "payload")
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ANALYTICS_JOB_RESULT")
+public class AnalyticsJobResult {
+
+    @Id
+    @Column(name = "JOB_ID")
+    private String jobId;
+
+    @Lob
+    @Column(name = "PAYLOAD", nullable = false)
+    private String payload;
+}
@@ -0,0 +1,39 @@
+package com.smartsupplypro.inventory.observability;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the point where a controller (or exception handler) has returned and the body
+ * is about to be serialised, splitting service time from serialisation time in the
+ * {@link RequestProfile}. The body itself is passed through unchanged.
+ */
+@ControllerAdvice
+public class ProfilingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return RequestProfile.current() != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.markHandlerReturned(System.nanoTime());
+        }
+        return body;
+    }
+}
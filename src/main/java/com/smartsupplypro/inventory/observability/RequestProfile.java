@@ -0,0 +1,134 @@
+package com.smartsupplypro.inventory.observability;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Per-request timing counters filled in while an {@code /api/**} request is served.
+ *
+ * <p>The profile is bound to the request thread by {@link RequestProfilingFilter}; JDBC
+ * statements report into it from {@code ObservedDataSource}, and
+ * {@link ProfilingResponseBodyAdvice} marks the moment the controller returned so the
+ * remaining time can be attributed to serialisation. {@link #taskDecorator()} carries
+ * the profile onto worker threads (dashboard widgets), which is why the counters are
+ * atomic.</p>
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong dbNanos = new AtomicLong();
+    private final AtomicLong handlerReturnedNanos = new AtomicLong();
+
+    RequestProfile(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /** Starts a profile and binds it to the current thread. */
+    static RequestProfile start() {
+        RequestProfile profile = new RequestProfile(System.nanoTime());
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /** Unbinds the profile from the current thread. */
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /** Profile of the request being served on this thread, or null outside a profiled request. */
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    /** Decorator that runs tasks with the submitting thread's profile bound. */
+    public static TaskDecorator taskDecorator() {
+        return task -> {
+            RequestProfile profile = CURRENT.get();
+            if (profile == null) {
+                return task;
+            }
+            return () -> {
+                RequestProfile previous = CURRENT.get();
+                CURRENT.set(profile);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        CURRENT.remove();
+                    } else {
+                        CURRENT.set(previous);
+                    }
+                }
+            };
+        };
+    }
+
+    /** Adds one executed JDBC statement. */
+    public void recordStatement(long elapsedNanos) {
+        statements.incrementAndGet();
+        dbNanos.addAndGet(elapsedNanos);
+    }
+
+    /** Marks the controller as done; only the first call counts. */
+    void markHandlerReturned(long nanos) {
+        handlerReturnedNanos.compareAndSet(0, nanos);
+    }
+
+    /**
+     * Freezes the counters into a breakdown.
+     *
+     * @param endNanos {@link System#nanoTime()} when the response was complete
+     * @return timing breakdown
+     */
+    Breakdown finish(long endNanos) {
+        long total = endNanos - startNanos;
+        long handlerReturned = handlerReturnedNanos.get();
+        long handler = handlerReturned == 0 ? total : handlerReturned - startNanos;
+        long db = dbNanos.get();
+        // widget threads run statements in parallel, so db time can exceed handler time
+        long service = Math.max(0, handler - db);
+        return new Breakdown(statements.get(), db, service, total - handler, total);
+    }
+
+    /**
+     * Where one request spent its time.
+     *
+     * @param statements         JDBC statements executed
+     * @param dbNanos            time inside the JDBC driver, summed over all threads
+     * @param serviceNanos       controller and service time outside JDBC
+     * @param serializationNanos time from controller return to response complete
+     * @param totalNanos         wall time inside the profiling filter
+     */
+    public record Breakdown(int statements, long dbNanos, long serviceNanos, long serializationNanos, long totalNanos) {
+
+        /** Value for the {@code Server-Timing} header, durations in milliseconds. */
+        public String toServerTiming() {
+            return "db;dur=" + millis(dbNanos) + ";desc=\"" + statements + " statements\", "
+                    + "app;dur=" + millis(serviceNanos) + ", "
+                    + "ser;dur=" + millis(serializationNanos) + ", "
+                    + "total;dur=" + millis(totalNanos);
+        }
+
+        /** Compact single-line form for logs. */
+        @Override
+        public String toString() {
+            return "total=" + millis(totalNanos) + "ms db=" + millis(dbNanos) + "ms (" + statements
+                    + " statements) service=" + millis(serviceNanos) + "ms serialization="
+                    + millis(serializationNanos) + "ms";
+        }
+
+        public long totalMillis() {
+            return totalNanos / 1_000_000;
+        }
+
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.smartsupplypro.inventory.observability;
+
+import java.io.IOException;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.controller.AnalyticsStreamController;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Profiles {@code /api/**} requests and reports the breakdown in a {@code Server-Timing}
+ * header and, above a threshold, in a warning log line.
+ *
+ * <p>When the header is emitted the response body is buffered so it can include
+ * serialisation time, which is only known once the body has been written; otherwise the
+ * response is written straight through and only the slow-request log sees the breakdown.
+ * The event stream is passed through unprofiled because buffering would hold its events
+ * back; it is matched by path, so an {@code Accept} header cannot opt a request out.</p>
+ *
+ * <p>Runs after the Spring Security chain so the admin check sees the authenticated
+ * principal; time spent in security filters is therefore not included.</p>
+ */
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestProfilingFilter.class);
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final AppProperties.Profiling cfg;
+
+    public RequestProfilingFilter(AppProperties.Profiling cfg) {
+        this.cfg = cfg;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return AnalyticsStreamController.STREAM_PATH.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        // the security chain has already run, so the admin check can be made up front
+        ContentCachingResponseWrapper buffered = shouldEmitHeader() ? new ContentCachingResponseWrapper(response) : null;
+        RequestProfile profile = RequestProfile.start();
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            RequestProfile.clear();
+            RequestProfile.Breakdown breakdown = profile.finish(System.nanoTime());
+            if (buffered != null) {
+                buffered.setHeader(SERVER_TIMING, breakdown.toServerTiming());
+            }
+            if (breakdown.totalMillis() >= cfg.getSlowRequestThreshold().toMillis()) {
+                log.warn("Slow request {} {} -> {}: {}", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), breakdown);
+            }
+            if (buffered != null) {
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private boolean shouldEmitHeader() {
+        return switch (cfg.getServerTiming()) {
+            case ALL -> true;
+            case OFF -> false;
+            case ADMINS -> {
+                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+                yield auth != null && auth.getAuthorities().stream()
+                        .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+            }
+        };
+    }
+}
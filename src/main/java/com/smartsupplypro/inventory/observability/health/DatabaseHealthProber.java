@@ -0,0 +1,268 @@
+package com.smartsupplypro.inventory.observability.health;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.smartsupplypro.inventory.bulkhead.PartitionedDataSource;
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Probes the database on a background thread so health checks never wait for a pool connection.
+ *
+ * <p>Every {@code app.health.probe-interval} a dedicated daemon thread borrows a connection and
+ * checks it with {@link Connection#isValid(int)}, which the driver answers with its own ping, so
+ * the probe needs no vendor SQL and works on every supported dialect. The outcome is published
+ * as an immutable {@link Snapshot};
+ * {@code /api/health} only reads that snapshot. The probe borrows from the Hikari pool
+ * underneath the {@link PartitionedDataSource}, so it takes no bulkhead permit and never
+ * waits in a partition's queue. When the pool is saturated (no idle connection, and callers
+ * already waiting in the pool or on a partition, or every connection in use) and the
+ * database answered recently, the probe skips its borrow and reports
+ * {@link Status#SATURATED} instead of queueing behind real traffic. A Hikari connection timeout that carries no connect failure is reported the
+ * same way: the pool is busy, the database is not necessarily down. A snapshot that has not been refreshed within
+ * {@code stale-after} is reported as down, which covers a stuck prober thread.</p>
+ */
+@Component
+public class DatabaseHealthProber {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseHealthProber.class);
+
+    /** Database state as last observed by the prober. */
+    public enum Status { UNKNOWN, UP, SATURATED, DOWN }
+
+    /**
+     * Result of the last probe.
+     *
+     * @param status              database state
+     * @param latencyNanos        duration of the last probe that reached the database, 0 if none yet
+     * @param lastProbe           when the last probe finished (null before the first)
+     * @param lastSuccess         when the database last answered (null if never)
+     * @param consecutiveFailures probes failed since the last success
+     * @param databaseProduct     JDBC product name, null until the first success
+     * @param error               failure message of the last probe, null when healthy
+     */
+    public record Snapshot(Status status, long latencyNanos, Instant lastProbe, Instant lastSuccess,
+                           int consecutiveFailures, String databaseProduct, String error) {
+
+        /** True when the database answered recently, including while the pool is saturated. */
+        public boolean databaseUp() {
+            return status == Status.UP || status == Status.SATURATED;
+        }
+    }
+
+    /**
+     * Pool occupancy read from Hikari at the time of the call. {@code pending} counts threads
+     * waiting for a connection inside Hikari plus those waiting for a bulkhead permit.
+     */
+    public record PoolStats(int active, int idle, int total, int max, int pending) {}
+
+    /** Nearest-rank percentiles over the retained probe latencies, in milliseconds. */
+    public record LatencyPercentiles(int samples, double p50, double p95, double p99, double max) {}
+
+    private final DataSource dataSource;
+    private final AppProperties.Health cfg;
+    private final Clock clock;
+    private final long[] latencies;
+    private int latencyCount;
+    private int latencyNext;
+    private ScheduledExecutorService scheduler;
+
+    private volatile Snapshot snapshot = new Snapshot(Status.UNKNOWN, 0, null, null, 0, null, null);
+
+    @Autowired
+    public DatabaseHealthProber(DataSource dataSource, AppProperties props) {
+        this(dataSource, props.getHealth(), Clock.systemUTC());
+        if (cfg.isProbeEnabled()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("db-health-probe").daemon(true).factory());
+            scheduler.scheduleWithFixedDelay(this::probe, 0,
+                    cfg.getProbeInterval().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Test seam: no background thread; tests call {@link #probe()} directly. */
+    DatabaseHealthProber(DataSource dataSource, AppProperties.Health cfg, Clock clock) {
+        this.dataSource = dataSource;
+        this.cfg = cfg;
+        this.clock = clock;
+        this.latencies = new long[Math.max(1, cfg.getLatencySamples())];
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Latest probe result. A snapshot older than {@code stale-after} is returned as
+     * {@link Status#DOWN} so a wedged prober cannot keep reporting a healthy database.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current.lastProbe() != null && isOlderThan(current.lastProbe(), cfg.getStaleAfter())) {
+            return new Snapshot(Status.DOWN, current.latencyNanos(), current.lastProbe(), current.lastSuccess(),
+                    current.consecutiveFailures(), current.databaseProduct(), "health probe is stale");
+        }
+        return current;
+    }
+
+    /** Current pool occupancy, or null when the DataSource is not a started Hikari pool. */
+    public PoolStats poolStats() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return null;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool == null) {
+                return null;
+            }
+            return new PoolStats(pool.getActiveConnections(), pool.getIdleConnections(),
+                    pool.getTotalConnections(), hikari.getMaximumPoolSize(),
+                    pool.getThreadsAwaitingConnection() + partitionWaiting());
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    /** Percentiles over the last {@code latency-samples} probes that reached the database. */
+    public synchronized LatencyPercentiles latencyPercentiles() {
+        if (latencyCount == 0) {
+            return new LatencyPercentiles(0, 0, 0, 0, 0);
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return new LatencyPercentiles(latencyCount, percentile(sorted, 50), percentile(sorted, 95),
+                percentile(sorted, 99), sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    /** Runs one probe and publishes its snapshot; never throws. */
+    void probe() {
+        try {
+            Snapshot previous = snapshot;
+            PoolStats pool = poolStats();
+            if (pool != null && pool.idle() == 0 && (pool.pending() > 0 || pool.total() >= pool.max())
+                    && recentlyUp(previous)) {
+                publish(Status.SATURATED, previous.latencyNanos(), previous.lastSuccess(),
+                        previous.consecutiveFailures(), previous.databaseProduct(), null);
+                return;
+            }
+            ping(previous);
+        } catch (RuntimeException ex) {
+            log.warn("Database health probe failed unexpectedly", ex);
+        }
+    }
+
+    private void ping(Snapshot previous) {
+        long start = System.nanoTime();
+        try (Connection conn = probeDataSource().getConnection()) {
+            if (!conn.isValid((int) Math.max(1, cfg.getProbeTimeout().toSeconds()))) {
+                fail(previous, "connection validation failed");
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            recordLatency(elapsed);
+            String product = previous.databaseProduct() != null ? previous.databaseProduct() : productName(conn);
+            publish(Status.UP, elapsed, clock.instant(), 0, product, null);
+        } catch (SQLTransientConnectionException ex) {
+            // Hikari connection-timeout without a connect failure as cause: every connection is
+            // in use, which is not a database outage as long as the database answered recently
+            if (ex.getCause() == null && recentlyUp(previous)) {
+                publish(Status.SATURATED, previous.latencyNanos(), previous.lastSuccess(),
+                        previous.consecutiveFailures(), previous.databaseProduct(), ex.getMessage());
+            } else {
+                fail(previous, ex.getMessage());
+            }
+        } catch (SQLException ex) {
+            fail(previous, ex.getMessage());
+        }
+    }
+
+    /**
+     * The Hikari pool itself when it can be unwrapped: the probe is not a CRUD request and
+     * must not take a bulkhead permit or wait in the partition queue behind real traffic.
+     */
+    private DataSource probeDataSource() throws SQLException {
+        return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : dataSource;
+    }
+
+    /** Threads queued for a bulkhead permit, across partitions; 0 without the bulkhead. */
+    private int partitionWaiting() {
+        PartitionedDataSource partitioned = PartitionedDataSource.unwrap(dataSource);
+        if (partitioned == null) {
+            return 0;
+        }
+        int waiting = 0;
+        for (PoolPartition partition : PoolPartition.values()) {
+            waiting += partitioned.partition(partition).waiting();
+        }
+        return waiting;
+    }
+
+    private void fail(Snapshot previous, String error) {
+        if (previous.status() != Status.DOWN) {
+            log.warn("Database health probe failed: {}", error);
+        }
+        publish(Status.DOWN, previous.latencyNanos(), previous.lastSuccess(),
+                previous.consecutiveFailures() + 1, previous.databaseProduct(), error);
+    }
+
+    private void publish(Status status, long latencyNanos, Instant lastSuccess, int failures,
+                         String product, String error) {
+        snapshot = new Snapshot(status, latencyNanos, clock.instant(), lastSuccess, failures, product, error);
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        latencies[latencyNext] = nanos;
+        latencyNext = (latencyNext + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+    }
+
+    private boolean recentlyUp(Snapshot previous) {
+        return previous.lastSuccess() != null && !isOlderThan(previous.lastSuccess(), cfg.getStaleAfter());
+    }
+
+    private boolean isOlderThan(Instant instant, Duration age) {
+        return instant.plus(age).isBefore(clock.instant());
+    }
+
+    /**
+     * Product name from connection metadata. Failures are swallowed (and not cached)
+     * so a metadata hiccup never fails the probe; the next probe retries.
+     */
+    private static String productName(Connection conn) {
+        try {
+            String name = conn.getMetaData().getDatabaseProductName();
+            return (name == null || name.isBlank()) ? null : name;
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    private static double percentile(long[] sorted, int pct) {
+        int rank = (int) Math.ceil(pct / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
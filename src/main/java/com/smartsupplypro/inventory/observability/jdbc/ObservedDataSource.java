@@ -0,0 +1,266 @@
+package com.smartsupplypro.inventory.observability.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource decorator that times every statement execution and reports it to
+ * {@link StatementListener}s.
+ *
+ * <p>Connections, statements and result sets are wrapped in JDK proxies. Execute calls
+ * and {@code ResultSet.next()} are timed, parameter setters are watched for NULL binds,
+ * and everything else is forwarded untouched. A query is reported once its result set
+ * or statement is closed (or the statement is re-executed). {@code unwrap} still reaches
+ * the pool (Hikari), so pool metrics and health checks keep working against the
+ * decorated bean, and {@link #close()} shuts the pool down with the context.</p>
+ */
+public class ObservedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final List<StatementListener> listeners;
+
+    public ObservedDataSource(DataSource target, List<StatementListener> listeners) {
+        super(target);
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return proxy(type, new StatementHandler(statement, sql, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Times executions, tracks which parameters are currently bound to NULL and defers
+     * the report of a query until its rows have been fetched.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Connection connection;
+        private final BitSet nullBinds = new BitSet();
+        private Execution pending;
+
+        private StatementHandler(Statement target, String preparedSql, Connection connection) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("getConnection".equals(name)) {
+                return connection;
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                nullBinds.set(index, "setNull".equals(name) || args[1] == null);
+            } else if ("clearParameters".equals(name)) {
+                nullBinds.clear();
+            } else if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            } else if ("getResultSet".equals(name)) {
+                Object rs = forward(target, method, args);
+                return rs instanceof ResultSet resultSet && pending != null ? wrap(resultSet, pending, proxy) : rs;
+            } else if ("close".equals(name)) {
+                try {
+                    return forward(target, method, args);
+                } finally {
+                    complete();
+                }
+            }
+            return forward(target, method, args);
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            complete();
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            Execution execution = new Execution(sql, nullBinds.stream().boxed().toList());
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = forward(target, method, args);
+            } catch (Throwable ex) {
+                execution.nanos = System.nanoTime() - start;
+                execution.failed = true;
+                execution.report();
+                throw ex;
+            }
+            execution.nanos = System.nanoTime() - start;
+            if (result instanceof ResultSet rs) {
+                pending = execution;
+                return wrap(rs, execution, proxy);
+            }
+            if (Boolean.TRUE.equals(result)) {
+                // result set follows through getResultSet()
+                pending = execution;
+                return result;
+            }
+            execution.rows = affectedRows(result);
+            execution.report();
+            return result;
+        }
+
+        private void complete() {
+            if (pending != null) {
+                pending.report();
+                pending = null;
+            }
+        }
+
+        private ResultSet wrap(ResultSet rs, Execution execution, Object statement) {
+            execution.rows = 0;
+            return proxy(ResultSet.class, new ResultSetHandler(rs, execution, statement));
+        }
+    }
+
+    /** Counts fetched rows and adds fetch time to the owning execution. */
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Execution execution;
+        private final Object statement;
+
+        private ResultSetHandler(ResultSet target, Execution execution, Object statement) {
+            this.target = target;
+            this.execution = execution;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next" -> {
+                    long start = System.nanoTime();
+                    try {
+                        Object more = forward(target, method, args);
+                        if (Boolean.TRUE.equals(more)) {
+                            execution.rows++;
+                        }
+                        return more;
+                    } finally {
+                        execution.nanos += System.nanoTime() - start;
+                    }
+                }
+                case "close" -> {
+                    try {
+                        return forward(target, method, args);
+                    } finally {
+                        execution.report();
+                    }
+                }
+                case "getStatement" -> {
+                    return statement;
+                }
+                default -> {
+                    return forward(target, method, args);
+                }
+            }
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Number n) {
+            return n.longValue();
+        }
+        if (result instanceof int[] counts) {
+            return Arrays.stream(counts).filter(c -> c >= 0).asLongStream().sum();
+        }
+        if (result instanceof long[] counts) {
+            return Arrays.stream(counts).filter(c -> c >= 0).sum();
+        }
+        return -1;
+    }
+
+    /** Mutable state of one execution until it is reported; confined to the statement's thread. */
+    private final class Execution {
+
+        private final String sql;
+        private final List<Integer> nullBinds;
+        private long nanos;
+        private long rows = -1;
+        private boolean failed;
+        private boolean reported;
+
+        private Execution(String sql, List<Integer> nullBinds) {
+            this.sql = sql;
+            this.nullBinds = nullBinds;
+        }
+
+        private void report() {
+            if (reported) {
+                return;
+            }
+            reported = true;
+            StatementExecution execution = new StatementExecution(sql, nanos, rows, nullBinds, failed);
+            for (StatementListener listener : listeners) {
+                listener.statementExecuted(execution);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.smartsupplypro.inventory.observability.jdbc;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.SqlStatementStatsDTO;
+
+/**
+ * Aggregates JDBC executions per {@link SqlFingerprint} and logs slow statements.
+ *
+ * <p>The table is bounded by {@code maxFingerprints}: when a new fingerprint arrives at
+ * capacity, the entry executed least recently is evicted. Evicting by least total time
+ * would let a statement that was expensive once keep its slot forever while new shapes
+ * churn through the last one. Only the fingerprint is kept, never raw SQL, so literals
+ * do not reach the admin endpoint. Per-fingerprint counters are updated under the
+ * entry's own lock; the table itself is concurrent.</p>
+ */
+public class SlowStatementStats implements StatementListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowStatementStats.class);
+
+    /** Distinct NULL-bind patterns tracked per fingerprint before folding into "other". */
+    static final int MAX_NULL_BIND_PATTERNS = 16;
+    private static final int MAX_CACHED_SQL = 2_000;
+
+    /** Orderings offered by the admin endpoint. */
+    public enum Sort { TOTAL, MAX, MEAN, ROWS }
+
+    private final AppProperties.Profiling.Statements cfg;
+    private final Clock clock;
+    private final Map<String, Entry> byFingerprint = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+    /** Execution sequence; a finer recency order than {@code lastSeen}, which may tie. */
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowStatementStats(AppProperties.Profiling.Statements cfg, Clock clock) {
+        this.cfg = cfg;
+        this.clock = clock;
+    }
+
+    @Override
+    public void statementExecuted(StatementExecution execution) {
+        if (!cfg.isEnabled()) {
+            return;
+        }
+        String fingerprint = fingerprint(execution.sql());
+        Entry entry = byFingerprint.get(fingerprint);
+        if (entry == null) {
+            evictIfFull();
+            entry = byFingerprint.computeIfAbsent(fingerprint, Entry::new);
+        }
+        String pattern = execution.nullBinds().stream().map(String::valueOf).collect(Collectors.joining(","));
+        entry.record(execution, pattern, execution.elapsedNanos() >= cfg.getSlowThreshold().toNanos(),
+                clock.instant(), sequence.incrementAndGet());
+
+        if (execution.elapsedNanos() >= cfg.getSlowThreshold().toNanos()) {
+            log.warn("Slow statement {} ms, rows={}, nullBinds=[{}]{}: {}",
+                    execution.elapsedNanos() / 1_000_000, execution.rows(), pattern,
+                    execution.failed() ? ", failed" : "", fingerprint);
+        }
+    }
+
+    /**
+     * Worst fingerprints by the given ordering.
+     *
+     * @param sort  ordering key
+     * @param limit maximum number of entries
+     * @return snapshots, worst first
+     */
+    public List<SqlStatementStatsDTO> top(Sort sort, int limit) {
+        Comparator<SqlStatementStatsDTO> order = switch (sort) {
+            case TOTAL -> Comparator.comparingDouble(SqlStatementStatsDTO::totalMillis);
+            case MAX -> Comparator.comparingDouble(SqlStatementStatsDTO::maxMillis);
+            case MEAN -> Comparator.comparingDouble(SqlStatementStatsDTO::meanMillis);
+            case ROWS -> Comparator.comparingDouble(SqlStatementStatsDTO::meanRows);
+        };
+        return byFingerprint.values().stream()
+                .map(Entry::snapshot)
+                .sorted(order.reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /** Drops all collected statistics, e.g. before reproducing a regression. */
+    public void reset() {
+        byFingerprint.clear();
+    }
+
+    private String fingerprint(String sql) {
+        if (sql == null) {
+            return SqlFingerprint.of(null);
+        }
+        String cached = fingerprintCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        if (fingerprintCache.size() < MAX_CACHED_SQL) {
+            fingerprintCache.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private void evictIfFull() {
+        if (byFingerprint.size() < cfg.getMaxFingerprints()) {
+            return;
+        }
+        byFingerprint.values().stream()
+                .min(Comparator.comparingLong(Entry::lastSequence))
+                .ifPresent(victim -> byFingerprint.remove(victim.fingerprint, victim));
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private long executions;
+        private long failures;
+        private long totalNanos;
+        private long maxNanos;
+        private long slowExecutions;
+        private long totalRows;
+        private long maxRows;
+        private final Map<String, Long> nullBindPatterns = new LinkedHashMap<>();
+        private Instant lastSeen;
+        private long lastSequence;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private synchronized void record(StatementExecution execution, String pattern, boolean slow,
+                                         Instant now, long seq) {
+            executions++;
+            if (execution.failed()) {
+                failures++;
+            }
+            totalNanos += execution.elapsedNanos();
+            maxNanos = Math.max(maxNanos, execution.elapsedNanos());
+            if (slow) {
+                slowExecutions++;
+            }
+            long rows = Math.max(0, execution.rows());
+            totalRows += rows;
+            maxRows = Math.max(maxRows, rows);
+            String key = nullBindPatterns.containsKey(pattern) || nullBindPatterns.size() < MAX_NULL_BIND_PATTERNS
+                    ? pattern : "other";
+            nullBindPatterns.merge(key, 1L, Long::sum);
+            lastSeen = now;
+            lastSequence = Math.max(lastSequence, seq);
+        }
+
+        private synchronized long lastSequence() {
+            return lastSequence;
+        }
+
+        private synchronized SqlStatementStatsDTO snapshot() {
+            return new SqlStatementStatsDTO(fingerprint, executions, failures,
+                    totalNanos / 1e6, executions == 0 ? 0 : totalNanos / 1e6 / executions, maxNanos / 1e6,
+                    slowExecutions, executions == 0 ? 0 : (double) totalRows / executions, maxRows,
+                    Map.copyOf(nullBindPatterns), lastSeen);
+        }
+    }
+}
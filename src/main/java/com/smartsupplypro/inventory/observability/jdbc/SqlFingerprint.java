@@ -0,0 +1,39 @@
+package com.smartsupplypro.inventory.observability.jdbc;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalises SQL text so executions that differ only in literals share one fingerprint.
+ *
+ * <p>String, numeric and timestamp literals become {@code ?}, {@code IN} lists of
+ * placeholders collapse to {@code IN (?+)}, and whitespace and keyword case are
+ * normalised. Bind placeholders are already literal-free, so prepared statements map
+ * to a stable fingerprint per builder branch.</p>
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern TYPED_LITERAL = Pattern.compile("\\b(?:timestamp|date)\\s+\\?");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * @param sql raw SQL text, may be null
+     * @return normalised fingerprint; {@code "<batch>"} for null SQL
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "<batch>";
+        }
+        String out = STRING_LITERAL.matcher(sql).replaceAll("?");
+        out = WHITESPACE.matcher(out).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        out = NUMBER_LITERAL.matcher(out).replaceAll("?");
+        out = TYPED_LITERAL.matcher(out).replaceAll("?");
+        return IN_LIST.matcher(out).replaceAll("in (?+)");
+    }
+}
@@ -0,0 +1,19 @@
+package com.smartsupplypro.inventory.observability.jdbc;
+
+import java.util.List;
+
+/**
+ * One completed JDBC statement execution as reported by {@link ObservedDataSource}.
+ *
+ * @param sql          SQL text as prepared or passed to {@code execute}, may be null for batches
+ * @param elapsedNanos time inside the driver: the execute call plus every {@code ResultSet.next()}
+ * @param rows         rows fetched for queries, affected rows for updates, -1 when unknown
+ * @param nullBinds    1-based positions of parameters bound to SQL NULL, ascending
+ * @param failed       true when the driver threw
+ */
+public record StatementExecution(String sql, long elapsedNanos, long rows, List<Integer> nullBinds, boolean failed) {
+
+    public StatementExecution {
+        nullBinds = List.copyOf(nullBinds);
+    }
+}
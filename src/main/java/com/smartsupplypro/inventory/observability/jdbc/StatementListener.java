@@ -0,0 +1,17 @@
+package com.smartsupplypro.inventory.observability.jdbc;
+
+/**
+ * Callback notified by {@link ObservedDataSource} once per JDBC statement execution.
+ *
+ * <p>Queries are reported when their result set (or statement) is closed, so fetched
+ * rows and fetch time are included. Invoked on the thread that ran the statement;
+ * implementations must be cheap and must not throw.</p>
+ */
+@FunctionalInterface
+public interface StatementListener {
+
+    /**
+     * @param execution the completed execution
+     */
+    void statementExecuted(StatementExecution execution);
+}
@@ -0,0 +1,30 @@
+package com.smartsupplypro.inventory.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One analytics projection query, including reading its rows into DTOs.
+ *
+ * <p>Rows are mapped while the result set is read, so the event duration covers
+ * execution and mapping together.</p>
+ */
+@Name(AnalyticsQueryEvent.NAME)
+@Label("Analytics Query")
+@Category({"SmartSupplyPro", "Analytics"})
+@Description("Analytics native query including row mapping")
+@StackTrace(false)
+public class AnalyticsQueryEvent extends Event {
+
+    public static final String NAME = "com.smartsupplypro.AnalyticsQuery";
+
+    @Label("Query")
+    public String query;
+
+    @Label("Rows")
+    public int rows;
+}
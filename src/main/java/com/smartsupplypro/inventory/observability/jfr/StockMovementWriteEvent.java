@@ -0,0 +1,108 @@
+package com.smartsupplypro.inventory.observability.jfr;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A stock movement written against an existing inventory item.
+ *
+ * <p>The event spans from the start of the service call to the end of its transaction.
+ * {@link #itemLoad} is the time spent loading and validating the item before it is
+ * modified; that read takes no lock. {@link #commitTime} runs from before-commit to completion, so it includes the
+ * Hibernate flush (where the row-level lock of the {@code UPDATE} is taken) and the
+ * database commit itself.</p>
+ */
+@Name(StockMovementWriteEvent.NAME)
+@Label("Stock Movement Write")
+@Category({"SmartSupplyPro", "Inventory"})
+@Description("Stock movement persisted for an inventory item")
+@StackTrace(false)
+public class StockMovementWriteEvent extends Event {
+
+    public static final String NAME = "com.smartsupplypro.StockMovementWrite";
+
+    @Label("Item")
+    public String itemId;
+
+    @Label("Reason")
+    public String reason;
+
+    @Label("Quantity Change")
+    public int quantityChange;
+
+    @Label("Item Load")
+    @Description("Loading and validating the item before the movement is applied (no lock is taken)")
+    @Timespan
+    public long itemLoad;
+
+    @Label("Commit Time")
+    @Description("Flush and commit of the surrounding transaction")
+    @Timespan
+    public long commitTime;
+
+    @Label("Committed")
+    public boolean committed;
+
+    private transient long loadStartNanos;
+
+    /** Begins the event and the item-load measurement. */
+    public void beginItemLoad() {
+        begin();
+        if (isEnabled()) {
+            loadStartNanos = System.nanoTime();
+        }
+    }
+
+    /** Ends the item-load measurement once the item has been read and validated. */
+    public void itemLoaded() {
+        if (isEnabled()) {
+            itemLoad = System.nanoTime() - loadStartNanos;
+        }
+    }
+
+    /**
+     * Commits the event once the surrounding transaction completes, or immediately when
+     * no transaction synchronization is active. Does nothing while the event is disabled.
+     */
+    public void commitAfterTransaction(String itemId, String reason, int quantityChange) {
+        if (!isEnabled()) {
+            return;
+        }
+        this.itemId = itemId;
+        this.reason = reason;
+        this.quantityChange = quantityChange;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed = true;
+            commit();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStart;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStart = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (commitStart != 0) {
+                    commitTime = System.nanoTime() - commitStart;
+                }
+                committed = status == STATUS_COMMITTED;
+                end();
+                if (shouldCommit()) {
+                    commit();
+                }
+            }
+        });
+    }
+}
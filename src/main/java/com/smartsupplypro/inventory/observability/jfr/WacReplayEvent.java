@@ -0,0 +1,60 @@
+package com.smartsupplypro.inventory.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One WAC financial-summary replay in {@code FinancialAnalyticsService}.
+ *
+ * <p>The event duration covers the whole computation; the phase fields split it into
+ * loading the event stream and the three replay phases. Fields are only filled in when
+ * the event will be committed, so a disabled event costs an allocation the JIT removes.</p>
+ */
+@Name(WacReplayEvent.NAME)
+@Label("WAC Replay")
+@Category({"SmartSupplyPro", "Analytics"})
+@Description("Weighted-average-cost replay behind the financial summary")
+@StackTrace(false)
+public class WacReplayEvent extends Event {
+
+    public static final String NAME = "com.smartsupplypro.WacReplay";
+
+    @Label("Events Processed")
+    public int events;
+
+    @Label("Items")
+    public int items;
+
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+
+    @Label("Supplier")
+    public String supplierId;
+
+    @Label("Load Time")
+    @Description("Fetching the stock event stream")
+    @Timespan
+    public long loadTime;
+
+    @Label("Opening Replay Time")
+    @Description("Replaying events before the period to build the opening WAC")
+    @Timespan
+    public long openingTime;
+
+    @Label("Period Replay Time")
+    @Description("Bucketing events inside the period")
+    @Timespan
+    public long periodTime;
+
+    @Label("Ending Sum Time")
+    @Timespan
+    public long endingTime;
+}
@@ -0,0 +1,60 @@
+package com.smartsupplypro.inventory.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smartsupplypro.inventory.model.AnalyticsJob;
+
+/**
+ * Repository for {@link AnalyticsJob} metadata.
+ *
+ * <p>Bulk statements cover the housekeeping passes: purging expired jobs, renewing the
+ * leases of the jobs an instance runs, and failing active jobs whose instance is gone.</p>
+ *
+ * @see AnalyticsJobResultRepository
+ */
+public interface AnalyticsJobRepository extends JpaRepository<AnalyticsJob, String> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AnalyticsJob j WHERE j.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /** Extends the lease of every queued or running job owned by {@code owner}. */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE AnalyticsJob j
+           SET j.leaseUntil = :until
+         WHERE j.ownerId = :owner
+           AND j.status IN (com.smartsupplypro.inventory.enums.AnalyticsJobStatus.QUEUED,
+                            com.smartsupplypro.inventory.enums.AnalyticsJobStatus.RUNNING)
+        """)
+    int renewLeases(@Param("owner") String owner, @Param("until") LocalDateTime until);
+
+    /**
+     * Fails queued or running jobs that no instance is working on: those {@code owner}
+     * created before {@code ownerStartedAt} (a previous process with the same instance id),
+     * and those of any instance whose lease has lapsed. Jobs of live instances are untouched.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE AnalyticsJob j
+           SET j.status = com.smartsupplypro.inventory.enums.AnalyticsJobStatus.FAILED,
+               j.errorMessage = :reason,
+               j.finishedAt = :now
+         WHERE j.status IN (com.smartsupplypro.inventory.enums.AnalyticsJobStatus.QUEUED,
+                            com.smartsupplypro.inventory.enums.AnalyticsJobStatus.RUNNING)
+           AND ((j.ownerId = :owner AND j.createdAt < :ownerStartedAt)
+                OR j.leaseUntil IS NULL
+                OR j.leaseUntil < :now)
+        """)
+    int failOrphaned(@Param("reason") String reason, @Param("owner") String owner,
+                     @Param("ownerStartedAt") LocalDateTime ownerStartedAt, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,26 @@
+package com.smartsupplypro.inventory.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smartsupplypro.inventory.model.AnalyticsJobResult;
+
+/**
+ * Repository for {@link AnalyticsJobResult} payloads.
+ *
+ * @see AnalyticsJobRepository
+ */
+public interface AnalyticsJobResultRepository extends JpaRepository<AnalyticsJobResult, String> {
+
+    /** Deletes the payloads of expired jobs; run before the jobs themselves are purged. */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AnalyticsJobResult r WHERE r.jobId IN "
+            + "(SELECT j.id FROM AnalyticsJob j WHERE j.expiresAt < :now)")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
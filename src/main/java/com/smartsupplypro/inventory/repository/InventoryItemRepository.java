@@ -1,22 +1,29 @@
 package com.smartsupplypro.inventory.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.jspecify.annotations.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.smartsupplypro.inventory.dto.InventoryItemDTO;
+import com.smartsupplypro.inventory.dto.LowStockItemDTO;
 import com.smartsupplypro.inventory.model.InventoryItem;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for {@link InventoryItem} persistence operations.
  *
- * <p>Uses {@code @EntityGraph} on {@link #findAll()} and {@link #searchActiveItems}
- * to prevent N+1 queries on supplier joins. Native SQL is used for below-minimum stock
+ * <p>Uses {@code @EntityGraph} on {@link #findAll()}, {@link #findById} and
+ * {@link #searchActiveItems} to prevent N+1 queries on supplier joins. Native SQL is used for below-minimum stock
  * queries where optional supplier filtering is required.</p>
  *
  * @see InventoryItem
@@ -30,9 +37,36 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, St
     @NonNull
     List<InventoryItem> findAll();
 
-    /** Fetches all ACTIVE items (soft-deleted items excluded) with supplier eagerly loaded. */
+    /**
+     * Fetches one item with its supplier in the same select. Every DTO mapping reads the
+     * supplier name, so a lazy proxy would cost a second query inside a request and fail
+     * outside one (no open session).
+     */
+    @Override
     @EntityGraph(attributePaths = {"supplier"})
-    List<InventoryItem> findByActiveTrue();
+    @NonNull
+    Optional<InventoryItem> findById(@NonNull String id);
+
+    /**
+     * Projects all ACTIVE items (soft-deleted items excluded) straight into response DTOs.
+     *
+     * <p>Selects only the DTO's columns plus the supplier name, with {@code totalValue}
+     * computed in SQL, so no managed entities (or dirty-checking snapshots) are created.
+     * The fetch-size hint lets the Oracle driver stream the catalogue in few round trips
+     * instead of ten rows at a time.</p>
+     */
+    @Query("""
+        SELECT new com.smartsupplypro.inventory.dto.InventoryItemDTO(
+            i.id, i.name, i.sku, i.quantity, i.price, i.price * i.quantity,
+            i.supplierId, i.createdBy, i.createdAt, s.name, i.minimumQuantity)
+        FROM InventoryItem i LEFT JOIN i.supplier s
+        WHERE i.active = true
+        """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    })
+    List<InventoryItemDTO> findAllActiveAsDTO();
 
     /** Counts ACTIVE items (soft-deleted items excluded). */
     long countByActiveTrue();
@@ -55,27 +89,37 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, St
     List<InventoryItem> findBySkuIgnoreCase(String sku);
 
     /**
-     * Finds items below minimum stock with optional supplier filter.
-     * Returns: [name, quantity, minimum_quantity], ordered by quantity ascending.
+     * Finds items below minimum stock with optional supplier filter,
+     * ordered by quantity ascending.
      *
      * @param supplierId optional supplier filter (null returns all suppliers)
-     * @return Object arrays with low-stock item data
+     * @return low-stock items projected straight into their DTO
      */
-    @Query("SELECT i.name, i.quantity, i.minimumQuantity FROM InventoryItem i "
+    @Query("SELECT new com.smartsupplypro.inventory.dto.LowStockItemDTO(i.name, i.quantity, i.minimumQuantity) "
+        + "FROM InventoryItem i "
         + "WHERE i.quantity < i.minimumQuantity "
         + "AND i.active = true "
         + "AND (:supplierId IS NULL OR i.supplierId = :supplierId) "
         + "ORDER BY i.quantity ASC")
-    List<Object[]> findItemsBelowMinimumStockFiltered(@Param("supplierId") String supplierId);
+    List<LowStockItemDTO> findItemsBelowMinimumStockFiltered(@Param("supplierId") String supplierId);
+
+    /**
+     * Counts active items below their own minimum quantity; same rule as
+     * {@link #findItemsBelowMinimumStockFiltered}.
+     *
+     * @return count of low-stock items across all suppliers
+     */
+    @Query("SELECT COUNT(i) FROM InventoryItem i WHERE i.active = true AND i.quantity < i.minimumQuantity")
+    long countBelowMinimumStock();
 
     /**
-     * Counts items with quantity below a fixed KPI threshold (null quantity treated as 0).
+     * Loads every active item below its minimum quantity. Used to rebuild the
+     * in-memory low-stock index at startup.
      *
-     * @param threshold quantity threshold
-     * @return count of items strictly below the threshold
+     * @return low-stock items in no particular order
      */
-    @Query("SELECT COUNT(i) FROM InventoryItem i WHERE i.active = true AND COALESCE(i.quantity, 0) < :threshold")
-    long countWithQuantityBelow(@Param("threshold") int threshold);
+    @Query("SELECT i FROM InventoryItem i WHERE i.active = true AND i.quantity < i.minimumQuantity")
+    List<InventoryItem> findAllBelowMinimumStock();
 
     /**
      * Searches ACTIVE items by partial name or SKU (case-insensitive), with optional
@@ -3,20 +3,25 @@ package com.smartsupplypro.inventory.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.smartsupplypro.inventory.dto.PriceTrendDTO;
+import com.smartsupplypro.inventory.dto.StockHistoryDTO;
 import com.smartsupplypro.inventory.enums.StockChangeReason;
 import com.smartsupplypro.inventory.model.StockHistory;
 import com.smartsupplypro.inventory.repository.custom.StockDetailQueryRepository;
 import com.smartsupplypro.inventory.repository.custom.StockMetricsRepository;
 import com.smartsupplypro.inventory.repository.custom.StockTrendAnalyticsRepository;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for {@link StockHistory} audit data with analytics support.
  *
@@ -76,83 +81,45 @@ public interface StockHistoryRepository
         Pageable pageable
     );
 
+    List<StockHistory> findByItemIdOrderByTimestampDesc(String itemId);
+
     /**
-     * Aggregates stock movement per reason inside a time window, sign-split into
-     * increase (positive changes) and decrease (absolute value of negative changes).
-     *
-     * <p>All filters besides the window are optional; pass {@code null} to omit.
-     * String concatenation uses {@code ||} (portable across Oracle and H2).
+     * Projects every stock movement straight into its DTO. Only the DTO's columns are read
+     * and no managed entities (or dirty-checking snapshots) are created; the fetch-size hint
+     * lets the Oracle driver stream large histories in few round trips instead of ten rows
+     * at a time.
      *
-     * @param start      inclusive lower bound
-     * @param end        inclusive upper bound
-     * @param supplierId optional supplier filter
-     * @param itemName   optional partial item name (case-insensitive)
-     * @return rows of [reason, increase, decrease] ordered by reason ascending
+     * @return all movements in no particular order
      */
-    @NativeQuery("""
-            SELECT sh.reason,
-                   SUM(CASE WHEN sh.quantity_change > 0 THEN sh.quantity_change ELSE 0 END) AS increase_qty,
-                   SUM(CASE WHEN sh.quantity_change < 0 THEN ABS(sh.quantity_change) ELSE 0 END) AS decrease_qty
-            FROM stock_history sh
-            JOIN inventory_item i ON sh.item_id = i.id
-            WHERE sh.created_at BETWEEN :start AND :end
-              AND (:supplierId IS NULL OR sh.supplier_id = :supplierId)
-              AND (:itemName IS NULL OR LOWER(i.name) LIKE LOWER('%' || :itemName || '%'))
-            GROUP BY sh.reason
-            ORDER BY sh.reason
+    @Query("""
+        SELECT new com.smartsupplypro.inventory.dto.StockHistoryDTO(
+            sh.id, sh.itemId, sh.change, CAST(sh.reason AS String), sh.createdBy, sh.timestamp, sh.priceAtChange)
+        FROM StockHistory sh
         """)
-    List<Object[]> getReasonBreakdown(
-        @Param("start") LocalDateTime start,
-        @Param("end") LocalDateTime end,
-        @Param("supplierId") String supplierId,
-        @Param("itemName") String itemName
-    );
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    })
+    List<StockHistoryDTO> findAllAsDTO();
 
     /**
-     * Paginated per-employee change list joined with item and supplier names.
+     * Projects one item's movements into DTOs, newest first; see {@link #findAllAsDTO()}.
      *
-     * <p>{@code createdBy} matches case-insensitively; pass {@code null} for all
-     * employees. Ordering is fixed to newest first; callers pass an UNSORTED
-     * {@link Pageable} (page/size only) because the ORDER BY is part of the SQL.
-     *
-     * @param start     inclusive lower bound
-     * @param end       inclusive upper bound
-     * @param createdBy optional creator (email) filter
-     * @param pageable  page/size (unsorted)
-     * @return rows of [itemName, supplierName, quantityChange, reason, createdBy, createdAt]
+     * @param itemId item ID
+     * @return the item's movements ordered by timestamp descending
      */
-    @NativeQuery(
-        value = """
-            SELECT i.name AS item_name,
-                   s.name AS supplier_name,
-                   sh.quantity_change,
-                   sh.reason,
-                   sh.created_by,
-                   sh.created_at
-            FROM stock_history sh
-            JOIN inventory_item i ON sh.item_id = i.id
-            LEFT JOIN supplier s ON sh.supplier_id = s.id
-            WHERE sh.created_at BETWEEN :start AND :end
-              AND (:createdBy IS NULL OR LOWER(sh.created_by) = LOWER(:createdBy))
-              AND (:supplierId IS NULL OR sh.supplier_id = :supplierId)
-            ORDER BY sh.created_at DESC
-        """,
-        countQuery = """
-            SELECT COUNT(*)
-            FROM stock_history sh
-            WHERE sh.created_at BETWEEN :start AND :end
-              AND (:createdBy IS NULL OR LOWER(sh.created_by) = LOWER(:createdBy))
-              AND (:supplierId IS NULL OR sh.supplier_id = :supplierId)
+    @Query("""
+        SELECT new com.smartsupplypro.inventory.dto.StockHistoryDTO(
+            sh.id, sh.itemId, sh.change, CAST(sh.reason AS String), sh.createdBy, sh.timestamp, sh.priceAtChange)
+        FROM StockHistory sh
+        WHERE sh.itemId = :itemId
+        ORDER BY sh.timestamp DESC
         """)
-    Page<Object[]> findEmployeeChanges(
-        @Param("start") LocalDateTime start,
-        @Param("end") LocalDateTime end,
-        @Param("createdBy") String createdBy,
-        @Param("supplierId") String supplierId,
-        Pageable pageable
-    );
-
-    List<StockHistory> findByItemIdOrderByTimestampDesc(String itemId);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    })
+    List<StockHistoryDTO> findByItemIdAsDTO(@Param("itemId") String itemId);
 
     List<StockHistory> findByReasonOrderByTimestampDesc(StockChangeReason reason);
 
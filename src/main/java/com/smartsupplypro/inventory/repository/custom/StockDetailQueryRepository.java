@@ -3,7 +3,11 @@ package com.smartsupplypro.inventory.repository.custom;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import com.smartsupplypro.inventory.dto.StockEventRowDTO;
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
 
 /**
  * Custom repository for granular stock history searches and WAC event streaming.
@@ -19,7 +23,6 @@ public interface StockDetailQueryRepository {
      * Returns filtered stock update records with all criteria optional.
      *
      * <p>All parameters are nullable; pass {@code null} to omit a filter.
-     * Result format: [item_name, supplier_name, quantity_change, reason, created_by, created_at].
      *
      * @param startDate  optional minimum creation timestamp
      * @param endDate    optional maximum creation timestamp
@@ -30,7 +33,7 @@ public interface StockDetailQueryRepository {
      * @param maxChange  optional maximum quantity change
      * @return filtered records ordered by creation time descending
      */
-    List<Object[]> searchStockUpdates(
+    List<StockUpdateResultDTO> searchStockUpdates(
         LocalDateTime startDate,
         LocalDateTime endDate,
         String itemName,
@@ -51,4 +54,21 @@ public interface StockDetailQueryRepository {
      * @return events projected to {@link StockEventRowDTO}, ordered by itemId then timestamp
      */
     List<StockEventRowDTO> streamEventsForWAC(LocalDateTime end, String supplierId);
+
+    /**
+     * Paginated per-employee change list joined with item and supplier names.
+     *
+     * <p>{@code createdBy} matches case-insensitively; pass {@code null} for all
+     * employees. Ordering is fixed to newest first; only page number and size of
+     * {@code pageable} are used.
+     *
+     * @param start      inclusive lower bound
+     * @param end        inclusive upper bound
+     * @param createdBy  optional creator (email) filter
+     * @param supplierId optional supplier filter, applied to the history row's supplier
+     * @param pageable   page/size
+     * @return page of change rows
+     */
+    Page<StockUpdateResultDTO> findEmployeeChanges(LocalDateTime start, LocalDateTime end,
+                                                   String createdBy, String supplierId, Pageable pageable);
 }
@@ -1,23 +1,31 @@
 package com.smartsupplypro.inventory.repository.custom;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
 import com.smartsupplypro.inventory.dto.StockEventRowDTO;
-import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsRowMappers;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.StockDetailSqlBuilder;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
 
 /**
  * Custom repository implementation for granular stock history searches and WAC event streaming.
  *
- * <p>Delegates SQL generation to {@link StockDetailSqlBuilder} and selects the correct
- * dialect variant at runtime via {@link DatabaseDialectDetector}.</p>
+ * <p>SQL comes from {@link StockDetailSqlBuilder} through the {@link AnalyticsSqlCatalog},
+ * which holds the variant for the connected database's dialect. Native searches run
+ * through {@link JdbcClient} (joining the caller's transaction) and rows are read by
+ * {@link AnalyticsRowMappers}; the WAC event stream stays a JPQL projection.</p>
  *
  * @see StockDetailQueryRepository
  */
@@ -27,10 +35,16 @@ public class StockDetailQueryRepositoryImpl implements StockDetailQueryRepositor
     @PersistenceContext
     private EntityManager em;
 
-    private final DatabaseDialectDetector dialectDetector;
+    private final JdbcClient jdbc;
+    private final String filteredSearchSql;
+    private final String employeeChangesSql;
+    private final String employeeChangesCountSql;
 
-    public StockDetailQueryRepositoryImpl(DatabaseDialectDetector dialectDetector) {
-        this.dialectDetector = dialectDetector;
+    public StockDetailQueryRepositoryImpl(JdbcClient jdbc, AnalyticsSqlCatalog sqlCatalog) {
+        this.jdbc = jdbc;
+        this.filteredSearchSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.FILTERED_STOCK_SEARCH);
+        this.employeeChangesSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.EMPLOYEE_CHANGES);
+        this.employeeChangesCountSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.EMPLOYEE_CHANGES_COUNT);
     }
 
     /**
@@ -49,9 +63,8 @@ public class StockDetailQueryRepositoryImpl implements StockDetailQueryRepositor
      * @param maxChange  optional maximum quantity change
      * @return filtered records ordered by creation time descending
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> searchStockUpdates(
+    public List<StockUpdateResultDTO> searchStockUpdates(
         LocalDateTime startDate,
         LocalDateTime endDate,
         String itemName,
@@ -60,31 +73,22 @@ public class StockDetailQueryRepositoryImpl implements StockDetailQueryRepositor
         Integer minChange,
         Integer maxChange
     ) {
-        final String sql = dialectDetector.isH2()
-            ? StockDetailSqlBuilder.buildH2FilteredSearchSql()
-            : StockDetailSqlBuilder.buildOracleFilteredSearchSql();
-
         // Normalize optional parameters so the SQL's :param IS NULL guards work correctly
         final String itemPattern = (itemName == null || itemName.isBlank())
             ? null : "%" + itemName.toLowerCase() + "%";
-        final String normalizedSupplier = normalizeOptionalParam(supplierId);
         final String normalizedCreator = (createdBy == null || createdBy.isBlank())
             ? null : createdBy.toLowerCase();
 
-        final Query query = em.createNativeQuery(sql);
-        // Use java.sql.Timestamp for JDBC/native query compatibility with LocalDateTime parameters
-        final java.sql.Timestamp startTs = (startDate == null) ? null : java.sql.Timestamp.valueOf(startDate);
-        final java.sql.Timestamp endTs = (endDate == null) ? null : java.sql.Timestamp.valueOf(endDate);
-
-        query.setParameter("startDate", startTs);
-        query.setParameter("endDate", endTs);
-        query.setParameter("itemPattern", itemPattern);
-        query.setParameter("supplierId", normalizedSupplier);
-        query.setParameter("createdByNorm", normalizedCreator);
-        query.setParameter("minChange", minChange);
-        query.setParameter("maxChange", maxChange);
-
-        return query.getResultList();
+        return jdbc.sql(filteredSearchSql)
+                .param("startDate", startDate == null ? null : Timestamp.valueOf(startDate))
+                .param("endDate", endDate == null ? null : Timestamp.valueOf(endDate))
+                .param("itemPattern", itemPattern)
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .param("createdByNorm", normalizedCreator)
+                .param("minChange", minChange)
+                .param("maxChange", maxChange)
+                .query(AnalyticsRowMappers.STOCK_UPDATE_RESULT)
+                .list();
     }
 
     /**
@@ -125,6 +129,45 @@ public class StockDetailQueryRepositoryImpl implements StockDetailQueryRepositor
                 .getResultList();
     }
 
+    /**
+     * Executes the per-employee change page and, when the page does not reveal the total,
+     * the matching count query.
+     *
+     * @param start      inclusive lower bound
+     * @param end        inclusive upper bound
+     * @param createdBy  optional creator filter
+     * @param supplierId optional supplier filter
+     * @param pageable   page/size
+     * @return page of change rows, newest first
+     */
+    @Override
+    public Page<StockUpdateResultDTO> findEmployeeChanges(LocalDateTime start, LocalDateTime end,
+                                                          String createdBy, String supplierId, Pageable pageable) {
+        final Timestamp startTs = Timestamp.valueOf(start);
+        final Timestamp endTs = Timestamp.valueOf(end);
+        final String creator = normalizeOptionalParam(createdBy);
+        final String supplier = normalizeOptionalParam(supplierId);
+
+        List<StockUpdateResultDTO> content = jdbc.sql(employeeChangesSql)
+                .param("start", startTs)
+                .param("end", endTs)
+                .param("createdBy", creator)
+                .param("supplierId", supplier)
+                .param("offset", pageable.isPaged() ? pageable.getOffset() : 0L)
+                .param("pageSize", pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE)
+                .query(AnalyticsRowMappers.STOCK_UPDATE_RESULT)
+                .list();
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbc.sql(employeeChangesCountSql)
+                        .param("start", startTs)
+                        .param("end", endTs)
+                        .param("createdBy", creator)
+                        .param("supplierId", supplier)
+                        .query(Long.class)
+                        .single());
+    }
+
     private String normalizeOptionalParam(String param) {
         return (param == null || param.isBlank()) ? null : param.trim();
     }
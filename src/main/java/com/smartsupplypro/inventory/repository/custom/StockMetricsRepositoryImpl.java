@@ -2,32 +2,39 @@ package com.smartsupplypro.inventory.repository.custom;
 
 import java.util.List;
 
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
-import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+import com.smartsupplypro.inventory.dto.ItemUpdateFrequencyDTO;
+import com.smartsupplypro.inventory.dto.LowStockItemDTO;
+import com.smartsupplypro.inventory.dto.StockPerSupplierDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsRowMappers;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.StockMetricsSqlBuilder;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-
 /**
  * Custom repository implementation for aggregated stock KPI metrics.
  *
- * <p>Delegates SQL generation to {@link StockMetricsSqlBuilder} and selects the correct
- * dialect variant at runtime via {@link DatabaseDialectDetector}.</p>
+ * <p>SQL comes from {@link StockMetricsSqlBuilder} through the {@link AnalyticsSqlCatalog},
+ * which holds the variant for the connected database's dialect. Queries run through
+ * {@link JdbcClient} (joining the caller's transaction) and rows are read by
+ * {@link AnalyticsRowMappers}.</p>
  *
  * @see StockMetricsRepository
  */
 @Repository
 public class StockMetricsRepositoryImpl implements StockMetricsRepository {
 
-    @PersistenceContext
-    private EntityManager em;
-
-    private final DatabaseDialectDetector dialectDetector;
+    private final JdbcClient jdbc;
+    private final String supplierTotalsSql;
+    private final String updateCountSql;
+    private final String belowMinimumSql;
 
-    public StockMetricsRepositoryImpl(DatabaseDialectDetector dialectDetector) {
-        this.dialectDetector = dialectDetector;
+    public StockMetricsRepositoryImpl(JdbcClient jdbc, AnalyticsSqlCatalog sqlCatalog) {
+        this.jdbc = jdbc;
+        this.supplierTotalsSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.SUPPLIER_TOTALS);
+        this.updateCountSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.UPDATE_COUNT_BY_ITEM);
+        this.belowMinimumSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.ITEMS_BELOW_MINIMUM);
     }
 
     /**
@@ -35,13 +42,11 @@ public class StockMetricsRepositoryImpl implements StockMetricsRepository {
      *
      * @return per-supplier totals ordered by quantity descending
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> getTotalStockBySupplier() {
-        final String sql = dialectDetector.isH2()
-            ? StockMetricsSqlBuilder.buildH2SupplierTotalsSql()
-            : StockMetricsSqlBuilder.buildOracleSupplierTotalsSql();
-        return em.createNativeQuery(sql).getResultList();
+    public List<StockPerSupplierDTO> getTotalStockBySupplier() {
+        return jdbc.sql(supplierTotalsSql)
+                .query(AnalyticsRowMappers.STOCK_PER_SUPPLIER)
+                .list();
     }
 
     /**
@@ -50,15 +55,12 @@ public class StockMetricsRepositoryImpl implements StockMetricsRepository {
      * @param supplierId optional supplier filter (null returns all suppliers)
      * @return per-item counts ordered by update_count descending
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> getUpdateCountByItem(String supplierId) {
-        final String sql = dialectDetector.isH2()
-            ? StockMetricsSqlBuilder.buildH2UpdateCountSql()
-            : StockMetricsSqlBuilder.buildOracleUpdateCountSql();
-        return em.createNativeQuery(sql)
-                .setParameter("supplierId", normalizeOptionalParam(supplierId))
-                .getResultList();
+    public List<ItemUpdateFrequencyDTO> getUpdateCountByItem(String supplierId) {
+        return jdbc.sql(updateCountSql)
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .query(AnalyticsRowMappers.ITEM_UPDATE_FREQUENCY)
+                .list();
     }
 
     /**
@@ -67,15 +69,12 @@ public class StockMetricsRepositoryImpl implements StockMetricsRepository {
      * @param supplierId optional supplier filter (null returns all suppliers)
      * @return items below minimum ordered by quantity ascending
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> findItemsBelowMinimumStock(String supplierId) {
-        final String sql = dialectDetector.isH2()
-            ? StockMetricsSqlBuilder.buildH2BelowMinimumSql()
-            : StockMetricsSqlBuilder.buildOracleBelowMinimumSql();
-        return em.createNativeQuery(sql)
-                .setParameter("supplierId", normalizeOptionalParam(supplierId))
-                .getResultList();
+    public List<LowStockItemDTO> findItemsBelowMinimumStock(String supplierId) {
+        return jdbc.sql(belowMinimumSql)
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .query(AnalyticsRowMappers.LOW_STOCK_ITEM)
+                .list();
     }
 
     private String normalizeOptionalParam(String param) {
@@ -3,7 +3,12 @@ package com.smartsupplypro.inventory.repository.custom;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
 import com.smartsupplypro.inventory.dto.PriceTrendDTO;
+import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
+import com.smartsupplypro.inventory.dto.StockValueOverTimeDTO;
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
 
 /**
  * Custom repository for time-series stock and price trend analytics.
@@ -19,39 +24,34 @@ public interface StockTrendAnalyticsRepository {
     /**
      * Returns monthly stock-in/stock-out aggregations over a time window.
      *
-     * <p>Result format: [month (YYYY-MM String), stockIn (Number), stockOut (Number)].
-     *
      * @param start inclusive lower bound
      * @param end   inclusive upper bound
-     * @return monthly aggregations ordered by month ascending
+     * @return monthly aggregations (month as YYYY-MM) ordered by month ascending
      */
-    List<Object[]> getMonthlyStockMovement(LocalDateTime start, LocalDateTime end);
+    List<MonthlyStockMovementDTO> getMonthlyStockMovement(LocalDateTime start, LocalDateTime end);
 
     /**
      * Returns monthly stock-in/stock-out aggregations filtered by supplier.
      *
-     * <p>Result format: [month (YYYY-MM String), stockIn (Number), stockOut (Number)].
-     *
      * @param start      inclusive lower bound
      * @param end        inclusive upper bound
      * @param supplierId optional supplier filter
-     * @return monthly aggregations ordered by month ascending
+     * @return monthly aggregations (month as YYYY-MM) ordered by month ascending
      */
-    List<Object[]> getMonthlyStockMovementBySupplier(LocalDateTime start, LocalDateTime end, String supplierId);
+    List<MonthlyStockMovementDTO> getMonthlyStockMovementBySupplier(LocalDateTime start, LocalDateTime end, String supplierId);
 
     /**
      * Returns daily total inventory value (closing quantity × price) over a time window.
      *
      * <p>Computes the closing quantity per item per day using cumulative window sums,
      * then multiplies by the price at that point and aggregates across all items.
-     * Result format: [day_date (DATE), total_value (Number)].
      *
      * @param start      inclusive lower bound
      * @param end        inclusive upper bound
      * @param supplierId optional supplier filter
      * @return daily valuations ordered by day ascending
      */
-    List<Object[]> getDailyStockValuation(LocalDateTime start, LocalDateTime end, String supplierId);
+    List<StockValueOverTimeDTO> getDailyStockValuation(LocalDateTime start, LocalDateTime end, String supplierId);
 
     /**
      * Returns the daily average price trend for a specific item.
@@ -66,16 +66,41 @@ public interface StockTrendAnalyticsRepository {
      */
     List<PriceTrendDTO> getItemPriceTrend(String itemId, String supplierId, LocalDateTime start, LocalDateTime end);
 
+    /**
+     * Returns sign-split movement totals per reason inside a time window.
+     *
+     * @param start      inclusive lower bound
+     * @param end        inclusive upper bound
+     * @param supplierId optional supplier filter, applied to the history row's supplier
+     * @param itemName   optional partial item name (case-insensitive)
+     * @return per-reason increase/decrease totals ordered by reason ascending
+     */
+    List<ReasonBreakdownDTO> getReasonBreakdown(LocalDateTime start, LocalDateTime end,
+                                                String supplierId, String itemName);
+
     /**
      * Returns per-employee daily change counts inside a time window.
      *
-     * <p>Result rows: [createdBy, day (YYYY-MM-DD string), changeCount],
-     * ordered by day ascending then creator. Weekly/monthly rollups are a
+     * <p>Rows are ordered by day ascending then creator. Weekly/monthly rollups are a
      * service-layer concern.
      *
      * @param start inclusive lower bound
      * @param end   inclusive upper bound
-     * @return raw aggregation rows
+     * @return per-creator, per-day counts
+     */
+    List<DailyEmployeeActivityRowDTO> getDailyEmployeeActivity(LocalDateTime start, LocalDateTime end, String supplierId);
+
+    /**
+     * Returns one grouped pass over the window that several movement widgets can share.
+     *
+     * <p>Rows are ordered by day, reason, then creator. With a supplier filter, rows match
+     * it through either the history row's supplier or the item's current supplier; the
+     * flags on {@link WindowDigestRowDTO} say which.
+     *
+     * @param start      inclusive lower bound
+     * @param end        inclusive upper bound
+     * @param supplierId optional supplier filter
+     * @return digest rows
      */
-    List<Object[]> getDailyEmployeeActivity(LocalDateTime start, LocalDateTime end, String supplierId);
+    List<WindowDigestRowDTO> getWindowDigest(LocalDateTime start, LocalDateTime end, String supplierId);
 }
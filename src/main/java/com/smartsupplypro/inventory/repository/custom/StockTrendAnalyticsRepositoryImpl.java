@@ -1,37 +1,56 @@
 package com.smartsupplypro.inventory.repository.custom;
 
-import com.smartsupplypro.inventory.dto.PriceTrendDTO;
-import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
-import com.smartsupplypro.inventory.repository.custom.util.StockTrendSqlBuilder;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
+import com.smartsupplypro.inventory.dto.PriceTrendDTO;
+import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
+import com.smartsupplypro.inventory.dto.StockValueOverTimeDTO;
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsRowMappers;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.StockTrendSqlBuilder;
 
 /**
  * Custom repository implementation for time-series stock and price trend analytics.
  *
- * <p>Delegates SQL generation to {@link StockTrendSqlBuilder} and selects the correct
- * dialect variant at runtime via {@link DatabaseDialectDetector}.</p>
+ * <p>SQL comes from {@link StockTrendSqlBuilder} through the {@link AnalyticsSqlCatalog},
+ * which holds the variant for the connected database's dialect. Queries run through
+ * {@link JdbcClient} (joining the caller's transaction) and rows are read by
+ * {@link AnalyticsRowMappers}.</p>
+ *
+ * <p>Time bounds are bound as {@code java.sql.Timestamp} because some JDBC drivers do not
+ * coerce {@code LocalDateTime} for native query parameters automatically.</p>
  *
  * @see StockTrendAnalyticsRepository
  */
 @Repository
 public class StockTrendAnalyticsRepositoryImpl implements StockTrendAnalyticsRepository {
 
-    @PersistenceContext
-    private EntityManager em;
-
-    private final DatabaseDialectDetector dialectDetector;
-
-    public StockTrendAnalyticsRepositoryImpl(DatabaseDialectDetector dialectDetector) {
-        this.dialectDetector = dialectDetector;
+    private final JdbcClient jdbc;
+    private final String monthlyMovementSql;
+    private final String monthlyMovementBySupplierSql;
+    private final String dailyValuationSql;
+    private final String priceTrendSql;
+    private final String reasonBreakdownSql;
+    private final String dailyEmployeeActivitySql;
+    private final String windowDigestSql;
+
+    public StockTrendAnalyticsRepositoryImpl(JdbcClient jdbc, AnalyticsSqlCatalog sqlCatalog) {
+        this.jdbc = jdbc;
+        this.monthlyMovementSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.MONTHLY_MOVEMENT);
+        this.monthlyMovementBySupplierSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.MONTHLY_MOVEMENT_BY_SUPPLIER);
+        this.dailyValuationSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.DAILY_VALUATION);
+        this.priceTrendSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.ITEM_PRICE_TREND);
+        this.reasonBreakdownSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.REASON_BREAKDOWN);
+        this.dailyEmployeeActivitySql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.DAILY_EMPLOYEE_ACTIVITY);
+        this.windowDigestSql = sqlCatalog.sql(AnalyticsSqlCatalog.Key.WINDOW_DIGEST);
     }
 
     /**
@@ -41,16 +60,13 @@ public class StockTrendAnalyticsRepositoryImpl implements StockTrendAnalyticsRep
      * @param end   inclusive upper bound
      * @return monthly aggregations ordered by month ascending
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> getMonthlyStockMovement(LocalDateTime start, LocalDateTime end) {
-        final String sql = dialectDetector.isH2()
-            ? StockTrendSqlBuilder.buildH2MonthlyMovementSql(false)
-            : StockTrendSqlBuilder.buildOracleMonthlyMovementSql(false);
-        return em.createNativeQuery(sql)
-                .setParameter("start", start)
-                .setParameter("end", end)
-                .getResultList();
+    public List<MonthlyStockMovementDTO> getMonthlyStockMovement(LocalDateTime start, LocalDateTime end) {
+        return jdbc.sql(monthlyMovementSql)
+                .param("start", Timestamp.valueOf(start))
+                .param("end", Timestamp.valueOf(end))
+                .query(AnalyticsRowMappers.MONTHLY_MOVEMENT)
+                .list();
     }
 
     /**
@@ -61,103 +77,111 @@ public class StockTrendAnalyticsRepositoryImpl implements StockTrendAnalyticsRep
      * @param supplierId optional supplier filter
      * @return monthly aggregations ordered by month ascending
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> getMonthlyStockMovementBySupplier(LocalDateTime start, LocalDateTime end, String supplierId) {
-        final String sql = dialectDetector.isH2()
-            ? StockTrendSqlBuilder.buildH2MonthlyMovementSql(true)
-            : StockTrendSqlBuilder.buildOracleMonthlyMovementSql(true);
-        return em.createNativeQuery(sql)
-                .setParameter("start", start)
-                .setParameter("end", end)
-                .setParameter("supplierId", normalizeOptionalParam(supplierId))
-                .getResultList();
+    public List<MonthlyStockMovementDTO> getMonthlyStockMovementBySupplier(LocalDateTime start, LocalDateTime end,
+                                                                           String supplierId) {
+        return jdbc.sql(monthlyMovementBySupplierSql)
+                .param("start", Timestamp.valueOf(start))
+                .param("end", Timestamp.valueOf(end))
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .query(AnalyticsRowMappers.MONTHLY_MOVEMENT)
+                .list();
     }
 
     /**
      * Executes dialect-specific native SQL for daily inventory valuation.
      *
-     * <p>Passes {@code start}/{@code end} as {@code java.sql.Timestamp} because some JDBC
-     * drivers do not coerce {@code LocalDateTime} for native query parameters automatically.
-     *
      * @param start      inclusive lower bound
      * @param end        inclusive upper bound
      * @param supplierId optional supplier filter
      * @return daily valuations ordered by day ascending
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> getDailyStockValuation(LocalDateTime start, LocalDateTime end, String supplierId) {
-        final String sql = dialectDetector.isH2()
-            ? StockTrendSqlBuilder.buildH2DailyValuationSql()
-            : StockTrendSqlBuilder.buildOracleDailyValuationSql();
-
-        // Convert LocalDateTime to java.sql.Timestamp for JDBC compatibility
-        final java.sql.Timestamp startTs = java.sql.Timestamp.valueOf(start);
-        final java.sql.Timestamp endTs = java.sql.Timestamp.valueOf(end);
-
-        return em.createNativeQuery(sql)
-                .setParameter("start", startTs)
-                .setParameter("end", endTs)
-                .setParameter("supplierId", normalizeOptionalParam(supplierId))
-                .getResultList();
+    public List<StockValueOverTimeDTO> getDailyStockValuation(LocalDateTime start, LocalDateTime end,
+                                                              String supplierId) {
+        return jdbc.sql(dailyValuationSql)
+                .param("start", Timestamp.valueOf(start))
+                .param("end", Timestamp.valueOf(end))
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .query(AnalyticsRowMappers.STOCK_VALUE_OVER_TIME)
+                .list();
     }
 
     /**
      * Executes dialect-specific native SQL for daily average price trend of a specific item.
      *
-     * <p>Maps raw Object[] rows to {@link PriceTrendDTO} projections after query execution.
-     *
      * @param itemId     required item identifier
      * @param supplierId optional supplier filter
      * @param start      inclusive lower bound
      * @param end        inclusive upper bound
      * @return daily price trend ordered by day ascending
      */
-    @SuppressWarnings("unchecked")
     @Override
     public List<PriceTrendDTO> getItemPriceTrend(String itemId, String supplierId, LocalDateTime start, LocalDateTime end) {
-        final String sql = dialectDetector.isH2()
-            ? StockTrendSqlBuilder.buildH2PriceTrendSql()
-            : StockTrendSqlBuilder.buildOraclePriceTrendSql();
-
-        final Query query = em.createNativeQuery(sql);
-        query.setParameter("start", start);
-        query.setParameter("end", end);
-        query.setParameter("itemId", itemId);
-        query.setParameter("supplierId", normalizeOptionalParam(supplierId));
+        return jdbc.sql(priceTrendSql)
+                .param("start", Timestamp.valueOf(start))
+                .param("end", Timestamp.valueOf(end))
+                .param("itemId", itemId)
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .query(AnalyticsRowMappers.PRICE_TREND)
+                .list();
+    }
 
-        final List<Object[]> raw = query.getResultList();
-        return raw.stream()
-                .map(r -> new PriceTrendDTO((String) r[0], (BigDecimal) r[1]))
-                .collect(Collectors.toList());
+    /**
+     * Executes the reason breakdown SQL (same text on H2 and Oracle).
+     *
+     * @param start      inclusive lower bound
+     * @param end        inclusive upper bound
+     * @param supplierId optional supplier filter
+     * @param itemName   optional partial item name
+     * @return per-reason totals ordered by reason ascending
+     */
+    @Override
+    public List<ReasonBreakdownDTO> getReasonBreakdown(LocalDateTime start, LocalDateTime end,
+                                                       String supplierId, String itemName) {
+        return jdbc.sql(reasonBreakdownSql)
+                .param("start", Timestamp.valueOf(start))
+                .param("end", Timestamp.valueOf(end))
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .param("itemName", normalizeOptionalParam(itemName))
+                .query(AnalyticsRowMappers.REASON_BREAKDOWN)
+                .list();
     }
 
     /**
      * Executes dialect-specific native SQL for per-employee daily change counts.
      *
-     * <p>Passes bounds as {@code java.sql.Timestamp} for JDBC driver compatibility,
-     * mirroring the daily valuation query.
-     *
      * @param start inclusive lower bound
      * @param end   inclusive upper bound
-     * @return rows of [createdBy, dayString, changeCount] ordered by day then creator
+     * @return per-creator, per-day counts ordered by day then creator
      */
-    @SuppressWarnings("unchecked")
     @Override
-    public List<Object[]> getDailyEmployeeActivity(LocalDateTime start, LocalDateTime end, String supplierId) {
-        final String sql = dialectDetector.isH2()
-            ? StockTrendSqlBuilder.buildH2DailyEmployeeActivitySql()
-            : StockTrendSqlBuilder.buildOracleDailyEmployeeActivitySql();
-
-        final java.sql.Timestamp startTs = java.sql.Timestamp.valueOf(start);
-        final java.sql.Timestamp endTs = java.sql.Timestamp.valueOf(end);
+    public List<DailyEmployeeActivityRowDTO> getDailyEmployeeActivity(LocalDateTime start, LocalDateTime end,
+                                                                      String supplierId) {
+        return jdbc.sql(dailyEmployeeActivitySql)
+                .param("start", Timestamp.valueOf(start))
+                .param("end", Timestamp.valueOf(end))
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .query(AnalyticsRowMappers.DAILY_EMPLOYEE_ACTIVITY)
+                .list();
+    }
 
-        return em.createNativeQuery(sql)
-                .setParameter("start", startTs)
-                .setParameter("end", endTs)
-                .setParameter("supplierId", normalizeOptionalParam(supplierId))
-                .getResultList();
+    /**
+     * Executes dialect-specific native SQL for the shared window digest.
+     *
+     * @param start      inclusive lower bound
+     * @param end        inclusive upper bound
+     * @param supplierId optional supplier filter
+     * @return digest rows ordered by day, reason, creator
+     */
+    @Override
+    public List<WindowDigestRowDTO> getWindowDigest(LocalDateTime start, LocalDateTime end, String supplierId) {
+        return jdbc.sql(windowDigestSql)
+                .param("start", Timestamp.valueOf(start))
+                .param("end", Timestamp.valueOf(end))
+                .param("supplierId", normalizeOptionalParam(supplierId))
+                .query(AnalyticsRowMappers.WINDOW_DIGEST)
+                .list();
     }
 
     private String normalizeOptionalParam(String param) {
@@ -0,0 +1,146 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Repository advice that records one timer and one row-count distribution per logical
+ * analytics query.
+ *
+ * <p>Instrumented methods are those declared by the custom analytics fragments in
+ * {@code repository.custom} and native {@code @Query}/{@code @NativeQuery} methods. Meters:</p>
+ * <ul>
+ *   <li>{@code analytics.query} timer tagged {@code query}, {@code dialect},
+ *       {@code supplier.filter} and {@code outcome}</li>
+ *   <li>{@code analytics.query.rows} summary of rows returned, tagged {@code query} and
+ *       {@code dialect}</li>
+ * </ul>
+ * <p>Both publish percentile histograms so latency and result-size quantiles can be
+ * aggregated across instances. Derived finders and JPQL queries pass through untouched.</p>
+ */
+public class AnalyticsQueryMetrics implements MethodInterceptor {
+
+    static final String TIMER = "analytics.query";
+    static final String ROWS = "analytics.query.rows";
+
+    private static final String CUSTOM_FRAGMENT_PACKAGE = "com.smartsupplypro.inventory.repository.custom";
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final ObjectProvider<DatabaseDialectDetector> dialectDetector;
+    private final Map<Method, Optional<QueryMeta>> metaCache = new ConcurrentHashMap<>();
+
+    public AnalyticsQueryMetrics(ObjectProvider<MeterRegistry> registry,
+                                 ObjectProvider<DatabaseDialectDetector> dialectDetector) {
+        this.registry = registry;
+        this.dialectDetector = dialectDetector;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        Optional<QueryMeta> meta = metaCache.computeIfAbsent(invocation.getMethod(), AnalyticsQueryMetrics::describe);
+        MeterRegistry meters = registry.getIfAvailable();
+        if (meta.isEmpty() || meters == null) {
+            return invocation.proceed();
+        }
+
+        QueryMeta query = meta.get();
+        String dialect = dialect();
+        boolean supplierFilter = query.hasSupplierFilter(invocation.getArguments());
+        String outcome = "error";
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            outcome = "success";
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                DistributionSummary.builder(ROWS)
+                        .description("Rows returned per analytics query")
+                        .baseUnit("rows")
+                        .tags("query", query.name(), "dialect", dialect)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(100_000.0)
+                        .register(meters)
+                        .record(rows);
+            }
+            return result;
+        } finally {
+            Timer.builder(TIMER)
+                    .description("Execution time of analytics repository queries")
+                    .tags("query", query.name(), "dialect", dialect,
+                          "supplier.filter", Boolean.toString(supplierFilter), "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meters)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String dialect() {
+        DatabaseDialectDetector detector = dialectDetector.getIfAvailable();
+        if (detector == null) {
+            return "unknown";
+        }
+        return detector.dialect().id();
+    }
+
+    /**
+     * Resolves whether a repository method is an analytics query and, if so, which
+     * argument carries the supplier filter.
+     */
+    static Optional<QueryMeta> describe(Method method) {
+        Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+        boolean nativeQuery = query != null && query.nativeQuery();
+        boolean customFragment = CUSTOM_FRAGMENT_PACKAGE.equals(method.getDeclaringClass().getPackageName());
+        if (!nativeQuery && !customFragment) {
+            return Optional.empty();
+        }
+        int supplierIndex = -1;
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            Param param = parameters[i].getAnnotation(Param.class);
+            String name = param != null ? param.value() : parameters[i].getName();
+            if ("supplierId".equals(name)) {
+                supplierIndex = i;
+                break;
+            }
+        }
+        return Optional.of(new QueryMeta(method.getName(), supplierIndex));
+    }
+
+    /** Rows in a list/page result; -1 for scalars and other shapes. */
+    static long rowCount(Object result) {
+        if (result instanceof Collection<?> c) {
+            return c.size();
+        }
+        if (result instanceof Slice<?> s) {
+            return s.getNumberOfElements();
+        }
+        return -1;
+    }
+
+    record QueryMeta(String name, int supplierIndex) {
+
+        boolean hasSupplierFilter(Object[] args) {
+            return supplierIndex >= 0
+                    && args[supplierIndex] instanceof String s
+                    && !s.isBlank();
+        }
+    }
+}
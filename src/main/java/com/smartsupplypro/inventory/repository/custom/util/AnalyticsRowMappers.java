@@ -0,0 +1,88 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.dto.ItemUpdateFrequencyDTO;
+import com.smartsupplypro.inventory.dto.LowStockItemDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
+import com.smartsupplypro.inventory.dto.PriceTrendDTO;
+import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
+import com.smartsupplypro.inventory.dto.StockPerSupplierDTO;
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.dto.StockValueOverTimeDTO;
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
+
+/**
+ * Typed row mappers for the analytics native queries, one per result shape.
+ *
+ * <p>Columns are read by position with the JDBC getter for their SQL type: counts and sums
+ * as primitives, {@code DATE}/{@code TIMESTAMP} columns through
+ * {@code getObject(i, LocalDate.class)}/{@code getObject(i, LocalDateTime.class)}. H2 and
+ * Oracle therefore produce identical DTOs without per-cell type checks. SQL {@code NULL}
+ * in a numeric column reads as zero, which is what empty aggregates mean here.</p>
+ *
+ * <p>Column order is the SELECT order of the matching {@code *SqlBuilder} query.</p>
+ */
+public final class AnalyticsRowMappers {
+
+    /** [supplier_name, total_quantity] */
+    public static final RowMapper<StockPerSupplierDTO> STOCK_PER_SUPPLIER =
+            (rs, n) -> new StockPerSupplierDTO(rs.getString(1), rs.getLong(2));
+
+    /** [item_name, update_count] */
+    public static final RowMapper<ItemUpdateFrequencyDTO> ITEM_UPDATE_FREQUENCY =
+            (rs, n) -> new ItemUpdateFrequencyDTO(rs.getString(1), rs.getLong(2));
+
+    /** [name, quantity, minimum_quantity] */
+    public static final RowMapper<LowStockItemDTO> LOW_STOCK_ITEM =
+            (rs, n) -> new LowStockItemDTO(rs.getString(1), rs.getInt(2), rs.getInt(3));
+
+    /** [month (YYYY-MM), stock_in, stock_out] */
+    public static final RowMapper<MonthlyStockMovementDTO> MONTHLY_MOVEMENT =
+            (rs, n) -> new MonthlyStockMovementDTO(rs.getString(1), rs.getLong(2), rs.getLong(3));
+
+    /** [day (DATE), total_value] */
+    public static final RowMapper<StockValueOverTimeDTO> STOCK_VALUE_OVER_TIME =
+            (rs, n) -> new StockValueOverTimeDTO(rs.getObject(1, LocalDate.class), rs.getDouble(2));
+
+    /** [day (YYYY-MM-DD), average price] */
+    public static final RowMapper<PriceTrendDTO> PRICE_TREND =
+            (rs, n) -> new PriceTrendDTO(rs.getString(1), rs.getBigDecimal(2));
+
+    /** [reason, increase, decrease] */
+    public static final RowMapper<ReasonBreakdownDTO> REASON_BREAKDOWN =
+            (rs, n) -> new ReasonBreakdownDTO(rs.getString(1), rs.getLong(2), rs.getLong(3));
+
+    /** [created_by, day (DATE), change_count] */
+    public static final RowMapper<DailyEmployeeActivityRowDTO> DAILY_EMPLOYEE_ACTIVITY =
+            (rs, n) -> new DailyEmployeeActivityRowDTO(
+                    rs.getString(1), rs.getObject(2, LocalDate.class), rs.getLong(3));
+
+    /** [day (DATE), reason, created_by, increase, decrease, change_count, history_match, item_match] */
+    public static final RowMapper<WindowDigestRowDTO> WINDOW_DIGEST =
+            (rs, n) -> new WindowDigestRowDTO(
+                    rs.getObject(1, LocalDate.class),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getLong(4),
+                    rs.getLong(5),
+                    rs.getLong(6),
+                    rs.getInt(7) == 1,
+                    rs.getInt(8) == 1);
+
+    /** [item_name, supplier_name, quantity_change, reason, created_by, created_at] */
+    public static final RowMapper<StockUpdateResultDTO> STOCK_UPDATE_RESULT =
+            (rs, n) -> new StockUpdateResultDTO(
+                    rs.getString(1),
+                    rs.getString(2),
+                    rs.getInt(3),
+                    rs.getString(4),
+                    rs.getString(5),
+                    rs.getObject(6, LocalDateTime.class));
+
+    private AnalyticsRowMappers() {}
+}
@@ -0,0 +1,153 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Immutable catalogue of every analytics native statement, built once for the connected
+ * database's dialect.
+ *
+ * <p>Each {@link Key} resolves to the text produced by {@link StockMetricsSqlBuilder},
+ * {@link StockTrendSqlBuilder} or {@link StockDetailSqlBuilder} for that dialect. The
+ * custom repository implementations look their SQL up here instead of choosing a builder
+ * variant themselves, and {@link AnalyticsSqlValidator} prepares every entry at startup.</p>
+ */
+@Component
+public class AnalyticsSqlCatalog {
+
+    /** One analytics native statement. */
+    public enum Key {
+        SUPPLIER_TOTALS,
+        UPDATE_COUNT_BY_ITEM,
+        ITEMS_BELOW_MINIMUM,
+        MONTHLY_MOVEMENT,
+        MONTHLY_MOVEMENT_BY_SUPPLIER,
+        DAILY_VALUATION,
+        ITEM_PRICE_TREND,
+        REASON_BREAKDOWN,
+        DAILY_EMPLOYEE_ACTIVITY,
+        WINDOW_DIGEST,
+        FILTERED_STOCK_SEARCH,
+        EMPLOYEE_CHANGES,
+        EMPLOYEE_CHANGES_COUNT
+    }
+
+    private final DatabaseDialect dialect;
+    private final Map<Key, String> statements;
+
+    @Autowired
+    public AnalyticsSqlCatalog(DatabaseDialectDetector dialectDetector) {
+        this(dialectDetector.dialect(), build(dialectDetector.dialect()));
+    }
+
+    /** Test seam: arbitrary statements. */
+    AnalyticsSqlCatalog(DatabaseDialect dialect, Map<Key, String> statements) {
+        this.dialect = dialect;
+        this.statements = Collections.unmodifiableMap(new EnumMap<>(statements));
+    }
+
+    /**
+     * Builds the catalogue for a dialect without a database connection.
+     *
+     * @param dialect target dialect
+     * @return catalogue holding every {@link Key}
+     */
+    public static AnalyticsSqlCatalog forDialect(DatabaseDialect dialect) {
+        return new AnalyticsSqlCatalog(dialect, build(dialect));
+    }
+
+    /** Dialect the statements were built for. */
+    public DatabaseDialect dialect() {
+        return dialect;
+    }
+
+    /**
+     * Returns the SQL for a statement.
+     *
+     * @param key statement
+     * @return SQL text with named parameters
+     */
+    public String sql(Key key) {
+        return statements.get(key);
+    }
+
+    /** All statements, in {@link Key} order; unmodifiable. */
+    public Map<Key, String> statements() {
+        return statements;
+    }
+
+    private static Map<Key, String> build(DatabaseDialect dialect) {
+        Map<Key, String> sql = new EnumMap<>(Key.class);
+
+        sql.put(Key.SUPPLIER_TOTALS, switch (dialect) {
+            case H2 -> StockMetricsSqlBuilder.buildH2SupplierTotalsSql();
+            case ORACLE -> StockMetricsSqlBuilder.buildOracleSupplierTotalsSql();
+            case POSTGRESQL -> StockMetricsSqlBuilder.buildPostgresSupplierTotalsSql();
+        });
+        sql.put(Key.UPDATE_COUNT_BY_ITEM, switch (dialect) {
+            case H2 -> StockMetricsSqlBuilder.buildH2UpdateCountSql();
+            case ORACLE -> StockMetricsSqlBuilder.buildOracleUpdateCountSql();
+            case POSTGRESQL -> StockMetricsSqlBuilder.buildPostgresUpdateCountSql();
+        });
+        sql.put(Key.ITEMS_BELOW_MINIMUM, switch (dialect) {
+            case H2 -> StockMetricsSqlBuilder.buildH2BelowMinimumSql();
+            case ORACLE -> StockMetricsSqlBuilder.buildOracleBelowMinimumSql();
+            case POSTGRESQL -> StockMetricsSqlBuilder.buildPostgresBelowMinimumSql();
+        });
+
+        sql.put(Key.MONTHLY_MOVEMENT, switch (dialect) {
+            case H2 -> StockTrendSqlBuilder.buildH2MonthlyMovementSql(false);
+            case ORACLE -> StockTrendSqlBuilder.buildOracleMonthlyMovementSql(false);
+            case POSTGRESQL -> StockTrendSqlBuilder.buildPostgresMonthlyMovementSql(false);
+        });
+        sql.put(Key.MONTHLY_MOVEMENT_BY_SUPPLIER, switch (dialect) {
+            case H2 -> StockTrendSqlBuilder.buildH2MonthlyMovementSql(true);
+            case ORACLE -> StockTrendSqlBuilder.buildOracleMonthlyMovementSql(true);
+            case POSTGRESQL -> StockTrendSqlBuilder.buildPostgresMonthlyMovementSql(true);
+        });
+        sql.put(Key.DAILY_VALUATION, switch (dialect) {
+            case H2 -> StockTrendSqlBuilder.buildH2DailyValuationSql();
+            case ORACLE -> StockTrendSqlBuilder.buildOracleDailyValuationSql();
+            case POSTGRESQL -> StockTrendSqlBuilder.buildPostgresDailyValuationSql();
+        });
+        sql.put(Key.ITEM_PRICE_TREND, switch (dialect) {
+            case H2 -> StockTrendSqlBuilder.buildH2PriceTrendSql();
+            case ORACLE -> StockTrendSqlBuilder.buildOraclePriceTrendSql();
+            case POSTGRESQL -> StockTrendSqlBuilder.buildPostgresPriceTrendSql();
+        });
+        sql.put(Key.REASON_BREAKDOWN, switch (dialect) {
+            case H2, ORACLE -> StockTrendSqlBuilder.buildReasonBreakdownSql();
+            case POSTGRESQL -> StockTrendSqlBuilder.buildPostgresReasonBreakdownSql();
+        });
+        sql.put(Key.DAILY_EMPLOYEE_ACTIVITY, switch (dialect) {
+            case H2 -> StockTrendSqlBuilder.buildH2DailyEmployeeActivitySql();
+            case ORACLE -> StockTrendSqlBuilder.buildOracleDailyEmployeeActivitySql();
+            case POSTGRESQL -> StockTrendSqlBuilder.buildPostgresDailyEmployeeActivitySql();
+        });
+        sql.put(Key.WINDOW_DIGEST, switch (dialect) {
+            case H2 -> StockTrendSqlBuilder.buildH2WindowDigestSql();
+            case ORACLE -> StockTrendSqlBuilder.buildOracleWindowDigestSql();
+            case POSTGRESQL -> StockTrendSqlBuilder.buildPostgresWindowDigestSql();
+        });
+
+        sql.put(Key.FILTERED_STOCK_SEARCH, switch (dialect) {
+            case H2 -> StockDetailSqlBuilder.buildH2FilteredSearchSql();
+            case ORACLE -> StockDetailSqlBuilder.buildOracleFilteredSearchSql();
+            case POSTGRESQL -> StockDetailSqlBuilder.buildPostgresFilteredSearchSql();
+        });
+        sql.put(Key.EMPLOYEE_CHANGES, switch (dialect) {
+            case H2, ORACLE -> StockDetailSqlBuilder.buildEmployeeChangesSql();
+            case POSTGRESQL -> StockDetailSqlBuilder.buildPostgresEmployeeChangesSql();
+        });
+        sql.put(Key.EMPLOYEE_CHANGES_COUNT, switch (dialect) {
+            case H2, ORACLE -> StockDetailSqlBuilder.buildEmployeeChangesCountSql();
+            case POSTGRESQL -> StockDetailSqlBuilder.buildPostgresEmployeeChangesCountSql();
+        });
+
+        return sql;
+    }
+}
@@ -0,0 +1,104 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prepares every statement of the {@link AnalyticsSqlCatalog} against the live database
+ * once all singletons exist, so broken SQL is reported at startup instead of on the first
+ * request.
+ *
+ * <p>Runs after the persistence unit and migrations have created the schema. Each statement
+ * is prepared with its named parameters replaced by {@code ?} and its result metadata is
+ * requested, which makes drivers that defer parsing (Oracle) describe it on the server.
+ * Nothing is executed. All failures are collected and reported together.</p>
+ *
+ * <p>{@value #VALIDATION_PROPERTY} decides what rejected statements do: {@code fail} (the
+ * default) stops startup, {@code warn} only logs them. An unreachable database is always
+ * just logged. Hikari connects lazily and the health prober reports the outage, so the
+ * application comes up and serves again once the database is back.</p>
+ *
+ * <p>Refresh-only starts ({@code spring.context.exit=onRefresh}, the image's training run)
+ * have no database and skip validation, as they skip Flyway.</p>
+ */
+@Component
+public class AnalyticsSqlValidator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsSqlValidator.class);
+
+    /** {@code fail} (default) or {@code warn}: what rejected statements do at startup. */
+    public static final String VALIDATION_PROPERTY = "app.analytics.sql-validation";
+
+    private final AnalyticsSqlCatalog catalog;
+    private final DataSource dataSource;
+    private final boolean trainingRun;
+    private final boolean failOnInvalid;
+
+    public AnalyticsSqlValidator(AnalyticsSqlCatalog catalog, DataSource dataSource, Environment environment) {
+        this.catalog = catalog;
+        this.dataSource = dataSource;
+        this.trainingRun = "onRefresh".equalsIgnoreCase(environment.getProperty("spring.context.exit"));
+        this.failOnInvalid = !"warn".equalsIgnoreCase(environment.getProperty(VALIDATION_PROPERTY, "fail").trim());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (trainingRun) {
+            log.info("Refresh-only start (spring.context.exit=onRefresh): skipping analytics SQL validation");
+            return;
+        }
+        try {
+            validate();
+        } catch (DataAccessResourceFailureException ex) {
+            log.warn("Analytics SQL not validated: {}", ex.getMessage());
+        } catch (IllegalStateException ex) {
+            if (failOnInvalid) {
+                throw ex;
+            }
+            log.warn("{} ({}=warn, starting anyway)", ex.getMessage(), VALIDATION_PROPERTY);
+        }
+    }
+
+    /**
+     * Prepares every catalogue statement on one connection.
+     *
+     * @throws IllegalStateException              listing each statement the database rejected
+     * @throws DataAccessResourceFailureException if no connection can be opened
+     */
+    public void validate() {
+        long start = System.nanoTime();
+        List<String> failures = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (Map.Entry<AnalyticsSqlCatalog.Key, String> entry : catalog.statements().entrySet()) {
+                String jdbcSql = NamedParameterUtils.parseSqlStatementIntoString(entry.getValue());
+                try (PreparedStatement ps = connection.prepareStatement(jdbcSql)) {
+                    ps.getMetaData();
+                } catch (SQLException ex) {
+                    failures.add(entry.getKey() + ": " + ex.getMessage());
+                }
+            }
+        } catch (SQLException ex) {
+            throw new DataAccessResourceFailureException("Cannot open a connection to validate analytics SQL", ex);
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Invalid analytics SQL for dialect " + catalog.dialect().id()
+                    + ": " + String.join("; ", failures));
+        }
+        log.info("Validated {} analytics statements for {} in {} ms", catalog.statements().size(),
+                catalog.dialect().id(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,57 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.util.Locale;
+
+/**
+ * Database products the analytics SQL builders have a variant for.
+ */
+public enum DatabaseDialect {
+
+    H2,
+    ORACLE,
+    POSTGRESQL;
+
+    /**
+     * Maps a JDBC {@code DatabaseMetaData#getDatabaseProductName()} value to a dialect.
+     * Every {@link #id()} maps back to its own dialect.
+     *
+     * @param productName product name reported by the driver
+     * @return the matching dialect
+     * @throws IllegalStateException if the product has no SQL variant
+     */
+    public static DatabaseDialect fromProductName(String productName) {
+        String name = productName == null ? "" : productName.trim().toLowerCase(Locale.ROOT);
+        if (name.equals("h2")) {
+            return H2;
+        }
+        if (name.startsWith("oracle")) {
+            return ORACLE;
+        }
+        if (name.equals("postgresql")) {
+            return POSTGRESQL;
+        }
+        throw new IllegalStateException("Unsupported database product for analytics SQL: " + productName);
+    }
+
+    /**
+     * Maps a JDBC URL to a dialect by its subprotocol, e.g. {@code jdbc:oracle:thin:@...}.
+     *
+     * @param jdbcUrl datasource URL
+     * @return the matching dialect
+     * @throws IllegalStateException if the URL names no supported database
+     */
+    public static DatabaseDialect fromJdbcUrl(String jdbcUrl) {
+        String url = jdbcUrl == null ? "" : jdbcUrl.trim().toLowerCase(Locale.ROOT);
+        for (DatabaseDialect dialect : values()) {
+            if (url.startsWith("jdbc:" + dialect.id() + ":")) {
+                return dialect;
+            }
+        }
+        throw new IllegalStateException("Unsupported JDBC URL for analytics SQL: " + jdbcUrl);
+    }
+
+    /** Lower-case name used in metric tags and log lines, e.g. {@code "oracle"}. */
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
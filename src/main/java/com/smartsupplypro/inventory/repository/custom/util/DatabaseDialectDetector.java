@@ -1,38 +1,65 @@
 package com.smartsupplypro.inventory.repository.custom.util;
 
-import java.util.Arrays;
+import java.sql.Connection;
+import java.sql.SQLException;
 
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 /**
- * Spring profile–based detector that signals whether the active database is H2 or Oracle.
+ * Resolves the SQL dialect of the connected database once, from JDBC metadata.
+ *
+ * <p>The product name is read from {@link java.sql.DatabaseMetaData} when the bean is
+ * created, so the analytics SQL always matches the database actually behind the
+ * {@link DataSource}, whatever profiles are active. An unsupported product fails startup.
+ * When the database is unreachable at startup the dialect is taken from the subprotocol of
+ * {@code spring.datasource.url} instead, so an outage does not keep the application down;
+ * the health prober reports the database until it is back.</p>
+ *
+ * <p>Setting {@value #DIALECT_PROPERTY} (a {@link DatabaseDialect#id()}) skips the lookup. The
+ * image's class-data-sharing training run uses it, because no database is reachable there.</p>
  */
 @Component
 public class DatabaseDialectDetector {
 
-    private final Environment environment;
+    private static final Logger log = LoggerFactory.getLogger(DatabaseDialectDetector.class);
+
+    /** Optional dialect override; when set, no connection is opened. */
+    public static final String DIALECT_PROPERTY = "app.analytics.sql-dialect";
+
+    private final DatabaseDialect dialect;
 
-    public DatabaseDialectDetector(Environment environment) {
-        this.environment = environment;
+    public DatabaseDialectDetector(DataSource dataSource, Environment environment) {
+        String configured = environment.getProperty(DIALECT_PROPERTY);
+        this.dialect = (configured == null || configured.isBlank())
+                ? resolve(dataSource, environment.getProperty("spring.datasource.url"))
+                : DatabaseDialect.fromProductName(configured);
     }
 
     /**
-     * Returns {@code true} when the {@code test} or {@code h2} Spring profile is active.
+     * Returns the dialect resolved at startup.
      *
-     * @return true if H2 dialect should be used, false for Oracle
+     * @return dialect of the connected database
      */
-    public boolean isH2() {
-        return Arrays.stream(environment.getActiveProfiles())
-                .anyMatch(p -> p.equalsIgnoreCase("test") || p.equalsIgnoreCase("h2"));
+    public DatabaseDialect dialect() {
+        return dialect;
     }
 
-    /**
-     * Returns {@code true} when Oracle dialect should be used (inverse of {@link #isH2()}).
-     *
-     * @return true if Oracle dialect should be used
-     */
-    public boolean isOracle() {
-        return !isH2();
+    private static DatabaseDialect resolve(DataSource dataSource, String jdbcUrl) {
+        try (Connection connection = dataSource.getConnection()) {
+            return DatabaseDialect.fromProductName(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException ex) {
+            if (jdbcUrl == null || jdbcUrl.isBlank()) {
+                throw new IllegalStateException("Cannot read database product name to select the SQL dialect", ex);
+            }
+            DatabaseDialect fromUrl = DatabaseDialect.fromJdbcUrl(jdbcUrl);
+            log.warn("Database unreachable at startup ({}); using the {} SQL dialect from spring.datasource.url",
+                    ex.getMessage(), fromUrl.id());
+            return fromUrl;
+        }
     }
 }
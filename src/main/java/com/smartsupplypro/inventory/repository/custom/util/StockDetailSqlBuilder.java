@@ -1,7 +1,10 @@
 package com.smartsupplypro.inventory.repository.custom.util;
 
 /**
- * SQL factory for {@code StockDetailQueryRepositoryImpl} — produces filtered search queries for H2 and Oracle.
+ * SQL factory for {@code StockDetailQueryRepositoryImpl} — produces filtered search and per-employee change queries for H2, Oracle and PostgreSQL.
+ *
+ * <p>PostgreSQL variants cast optional bind variables before their {@code IS NULL} test so the
+ * server can infer each parameter's type at parse time.
  */
 public final class StockDetailSqlBuilder {
 
@@ -65,4 +68,119 @@ public final class StockDetailSqlBuilder {
             ORDER BY sh.created_at DESC
         """;
     }
+
+    /**
+     * Returns the PostgreSQL SQL for multi-criteria filtered stock history search.
+     *
+     * <p>Matches the supplier exactly, as on Oracle.
+     *
+     * @return parameterised SQL string with named parameters
+     */
+    public static String buildPostgresFilteredSearchSql() {
+        return """
+            SELECT i.name AS item_name,
+                   s.name AS supplier_name,
+                   sh.quantity_change,
+                   sh.reason,
+                   sh.created_by,
+                   sh.created_at
+            FROM stock_history sh
+            JOIN inventory_item i ON sh.item_id = i.id
+            JOIN supplier s ON i.supplier_id = s.id
+            WHERE (CAST(:startDate AS TIMESTAMP) IS NULL OR sh.created_at >= :startDate)
+              AND (CAST(:endDate AS TIMESTAMP) IS NULL OR sh.created_at <= :endDate)
+              AND (CAST(:itemPattern AS VARCHAR) IS NULL OR LOWER(i.name) LIKE :itemPattern)
+              AND (CAST(:supplierId AS VARCHAR) IS NULL OR i.supplier_id = :supplierId)
+              AND (CAST(:createdByNorm AS VARCHAR) IS NULL OR LOWER(sh.created_by) = :createdByNorm)
+              AND (CAST(:minChange AS INTEGER) IS NULL OR sh.quantity_change >= :minChange)
+              AND (CAST(:maxChange AS INTEGER) IS NULL OR sh.quantity_change <= :maxChange)
+            ORDER BY sh.created_at DESC
+        """;
+    }
+
+    /**
+     * Returns the SQL for one page of per-employee changes; identical on H2 and Oracle.
+     *
+     * <p>{@code createdBy} matches case-insensitively. The order is fixed to newest first,
+     * and the page is cut with {@code OFFSET ... FETCH NEXT}.
+     *
+     * @return SQL accepting {@code :start}, {@code :end}, {@code :createdBy}, {@code :supplierId},
+     *         {@code :offset}, {@code :pageSize}
+     */
+    public static String buildEmployeeChangesSql() {
+        return """
+            SELECT i.name AS item_name,
+                   s.name AS supplier_name,
+                   sh.quantity_change,
+                   sh.reason,
+                   sh.created_by,
+                   sh.created_at
+            FROM stock_history sh
+            JOIN inventory_item i ON sh.item_id = i.id
+            LEFT JOIN supplier s ON sh.supplier_id = s.id
+            WHERE sh.created_at BETWEEN :start AND :end
+              AND (:createdBy IS NULL OR LOWER(sh.created_by) = LOWER(:createdBy))
+              AND (:supplierId IS NULL OR sh.supplier_id = :supplierId)
+            ORDER BY sh.created_at DESC
+            OFFSET :offset ROWS FETCH NEXT :pageSize ROWS ONLY
+        """;
+    }
+
+    /**
+     * Returns the total-count SQL matching {@link #buildEmployeeChangesSql()}; skips the joins.
+     *
+     * @return SQL accepting {@code :start}, {@code :end}, {@code :createdBy}, {@code :supplierId}
+     */
+    public static String buildEmployeeChangesCountSql() {
+        return """
+            SELECT COUNT(*)
+            FROM stock_history sh
+            WHERE sh.created_at BETWEEN :start AND :end
+              AND (:createdBy IS NULL OR LOWER(sh.created_by) = LOWER(:createdBy))
+              AND (:supplierId IS NULL OR sh.supplier_id = :supplierId)
+        """;
+    }
+
+    /**
+     * Returns the PostgreSQL SQL for one page of per-employee changes.
+     *
+     * <p>Same shape as {@link #buildEmployeeChangesSql()}; PostgreSQL also accepts
+     * {@code OFFSET ... FETCH NEXT}.
+     *
+     * @return SQL accepting {@code :start}, {@code :end}, {@code :createdBy}, {@code :supplierId},
+     *         {@code :offset}, {@code :pageSize}
+     */
+    public static String buildPostgresEmployeeChangesSql() {
+        return """
+            SELECT i.name AS item_name,
+                   s.name AS supplier_name,
+                   sh.quantity_change,
+                   sh.reason,
+                   sh.created_by,
+                   sh.created_at
+            FROM stock_history sh
+            JOIN inventory_item i ON sh.item_id = i.id
+            LEFT JOIN supplier s ON sh.supplier_id = s.id
+            WHERE sh.created_at BETWEEN :start AND :end
+              AND (CAST(:createdBy AS VARCHAR) IS NULL OR LOWER(sh.created_by) = LOWER(CAST(:createdBy AS VARCHAR)))
+              AND (CAST(:supplierId AS VARCHAR) IS NULL OR sh.supplier_id = :supplierId)
+            ORDER BY sh.created_at DESC
+            OFFSET :offset ROWS FETCH NEXT :pageSize ROWS ONLY
+        """;
+    }
+
+    /**
+     * Returns the total-count SQL matching {@link #buildPostgresEmployeeChangesSql()}; skips the joins.
+     *
+     * @return SQL accepting {@code :start}, {@code :end}, {@code :createdBy}, {@code :supplierId}
+     */
+    public static String buildPostgresEmployeeChangesCountSql() {
+        return """
+            SELECT COUNT(*)
+            FROM stock_history sh
+            WHERE sh.created_at BETWEEN :start AND :end
+              AND (CAST(:createdBy AS VARCHAR) IS NULL OR LOWER(sh.created_by) = LOWER(CAST(:createdBy AS VARCHAR)))
+              AND (CAST(:supplierId AS VARCHAR) IS NULL OR sh.supplier_id = :supplierId)
+        """;
+    }
 }
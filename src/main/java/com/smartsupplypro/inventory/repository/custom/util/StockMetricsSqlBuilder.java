@@ -1,7 +1,11 @@
 package com.smartsupplypro.inventory.repository.custom.util;
 
 /**
- * SQL factory for {@code StockMetricsRepositoryImpl} — produces KPI and threshold queries for H2 and Oracle.
+ * SQL factory for {@code StockMetricsRepositoryImpl} — produces KPI and threshold queries for H2, Oracle and PostgreSQL.
+ *
+ * <p>PostgreSQL variants cast an optional bind variable before its {@code IS NULL} test:
+ * the server must know every parameter's type when it parses the statement, and a bare
+ * {@code ? IS NULL} gives it nothing to infer from.
  */
 public final class StockMetricsSqlBuilder {
 
@@ -39,6 +43,18 @@ public final class StockMetricsSqlBuilder {
         """;
     }
 
+    /**
+     * Returns the PostgreSQL SQL for total stock quantity per supplier.
+     *
+     * <p>Same text as the Oracle variant: no bind variables and unquoted identifiers, which
+     * PostgreSQL folds to the lower-case names of its schema.
+     *
+     * @return SQL ordered by total_quantity descending
+     */
+    public static String buildPostgresSupplierTotalsSql() {
+        return buildOracleSupplierTotalsSql();
+    }
+
     /**
      * Returns the H2 SQL for update event count per item with optional supplier filter.
      *
@@ -71,6 +87,22 @@ public final class StockMetricsSqlBuilder {
         """;
     }
 
+    /**
+     * Returns the PostgreSQL SQL for update event count per item with optional supplier filter.
+     *
+     * @return SQL ordered by update_count descending; accepts named parameter {@code :supplierId}
+     */
+    public static String buildPostgresUpdateCountSql() {
+        return """
+            SELECT i.name AS item_name, COUNT(sh.id) AS update_count
+            FROM stock_history sh
+            JOIN inventory_item i ON sh.item_id = i.id
+            WHERE (CAST(:supplierId AS VARCHAR) IS NULL OR UPPER(i.supplier_id) = UPPER(:supplierId))
+            GROUP BY i.name
+            ORDER BY update_count DESC
+        """;
+    }
+
     /**
      * Returns the H2 SQL for items currently below their minimum stock threshold.
      *
@@ -102,4 +134,20 @@ public final class StockMetricsSqlBuilder {
             ORDER BY i.quantity ASC
         """;
     }
+
+    /**
+     * Returns the PostgreSQL SQL for items currently below their minimum stock threshold.
+     *
+     * @return SQL ordered by quantity ascending; accepts named parameter {@code :supplierId}
+     */
+    public static String buildPostgresBelowMinimumSql() {
+        return """
+            SELECT i.name, i.quantity, i.minimum_quantity
+            FROM inventory_item i
+            WHERE i.active = 1
+              AND i.quantity < i.minimum_quantity
+              AND (CAST(:supplierId AS VARCHAR) IS NULL OR UPPER(i.supplier_id) = UPPER(:supplierId))
+            ORDER BY i.quantity ASC
+        """;
+    }
 }
@@ -1,10 +1,17 @@
 package com.smartsupplypro.inventory.repository.custom.util;
 
 /**
- * SQL factory for {@code StockTrendAnalyticsRepositoryImpl} — produces time-series analytics queries for H2 and Oracle.
+ * SQL factory for {@code StockTrendAnalyticsRepositoryImpl} — produces time-series analytics queries for H2, Oracle and PostgreSQL.
+ *
+ * <p>PostgreSQL variants cast optional bind variables before their {@code IS NULL} test so the
+ * server can infer each parameter's type at parse time.
  */
 public final class StockTrendSqlBuilder {
 
+    /** Operand of the optional-supplier {@code IS NULL} test in the shared templates. */
+    private static final String SUPPLIER_PARAM = ":supplierId";
+    private static final String POSTGRES_SUPPLIER_PARAM = "CAST(:supplierId AS VARCHAR)";
+
     private StockTrendSqlBuilder() {}
 
     /**
@@ -62,6 +69,32 @@ public final class StockTrendSqlBuilder {
         return String.format(baseQuery, join, filter);
     }
 
+    /**
+     * Returns the PostgreSQL SQL for monthly stock-in/stock-out aggregations.
+     *
+     * <p>Uses {@code TO_CHAR(..., 'YYYY-MM')} for month formatting, as on Oracle.
+     *
+     * @param withSupplierFilter when true, adds a JOIN and {@code :supplierId} filter
+     * @return SQL ordered by month ascending; always accepts {@code :start} and {@code :end}
+     */
+    public static String buildPostgresMonthlyMovementSql(boolean withSupplierFilter) {
+        final String baseQuery = """
+            SELECT TO_CHAR(sh.created_at, 'YYYY-MM') AS month_str,
+                   SUM(CASE WHEN sh.quantity_change > 0 THEN sh.quantity_change ELSE 0 END) AS stock_in,
+                   SUM(CASE WHEN sh.quantity_change < 0 THEN ABS(sh.quantity_change) ELSE 0 END) AS stock_out
+            FROM stock_history sh
+            %s
+            WHERE sh.created_at BETWEEN :start AND :end
+            %s
+            GROUP BY TO_CHAR(sh.created_at, 'YYYY-MM')
+            ORDER BY 1
+        """;
+        final String join = withSupplierFilter ? "JOIN inventory_item i ON sh.item_id = i.id" : "";
+        final String filter = withSupplierFilter
+            ? "AND (CAST(:supplierId AS VARCHAR) IS NULL OR i.supplier_id = :supplierId)" : "";
+        return String.format(baseQuery, join, filter);
+    }
+
     /**
      * Returns the H2 SQL for daily inventory valuation (quantity × price per day).
      *
@@ -144,6 +177,48 @@ public final class StockTrendSqlBuilder {
         """;
     }
 
+    /**
+     * Returns the PostgreSQL SQL for daily inventory valuation (quantity × price per day).
+     *
+     * <p>Casts to {@code DATE} for day truncation and uses an explicit {@code ROWS} frame so
+     * events sharing a timestamp still get distinct running quantities.
+     *
+     * @return SQL ordered by day ascending; accepts {@code :start}, {@code :end}, {@code :supplierId}
+     */
+    public static String buildPostgresDailyValuationSql() {
+        return """
+            WITH events AS (
+                SELECT
+                    CAST(sh.created_at AS DATE) AS day_date,
+                    sh.item_id,
+                    sh.created_at,
+                    sh.quantity_change,
+                    sh.price_at_change,
+                    SUM(sh.quantity_change) OVER (
+                        PARTITION BY sh.item_id
+                        ORDER BY sh.created_at
+                        ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW
+                    ) AS qty_after,
+                    ROW_NUMBER() OVER (
+                        PARTITION BY CAST(sh.created_at AS DATE), sh.item_id
+                        ORDER BY sh.created_at DESC
+                    ) AS rn
+                FROM stock_history sh
+                JOIN inventory_item i ON i.id = sh.item_id
+                WHERE sh.created_at BETWEEN :start AND :end
+                  AND (CAST(:supplierId AS VARCHAR) IS NULL OR i.supplier_id = :supplierId)
+            )
+            SELECT
+                e.day_date,
+                SUM(COALESCE(e.qty_after, 0) * COALESCE(e.price_at_change, i.price, 0)) AS total_value
+            FROM events e
+            JOIN inventory_item i ON i.id = e.item_id
+            WHERE e.rn = 1
+            GROUP BY e.day_date
+            ORDER BY e.day_date
+        """;
+    }
+
     /**
      * Returns the H2 SQL for daily average price trend of a specific item.
      *
@@ -195,50 +270,184 @@ public final class StockTrendSqlBuilder {
     }
 
     /**
-     * Returns the H2 SQL for per-employee daily change counts.
+     * Returns the PostgreSQL SQL for daily average price trend of a specific item.
      *
-     * <p>Groups by creator and calendar day using YEAR/MONTH/DAY_OF_MONTH string
-     * assembly (same technique as the monthly movement variant). Weekly and
-     * monthly rollups happen in the service layer to avoid dialect-specific
-     * week functions.
+     * <p>Uses {@code TO_CHAR(..., 'YYYY-MM-DD')} for day formatting, as on Oracle.
      *
-     * @return SQL ordered by day then creator; accepts {@code :start} and {@code :end}
+     * @return SQL ordered by day ascending; accepts {@code :start}, {@code :end}, {@code :itemId}, {@code :supplierId}
      */
-    public static String buildH2DailyEmployeeActivitySql() {
+    public static String buildPostgresPriceTrendSql() {
         return """
-            SELECT sh.created_by,
-                   CONCAT(CAST(YEAR(sh.created_at) AS VARCHAR), '-',
-                          LPAD(CAST(MONTH(sh.created_at) AS VARCHAR), 2, '0'), '-',
-                          LPAD(CAST(DAY_OF_MONTH(sh.created_at) AS VARCHAR), 2, '0')) AS day_str,
-                   COUNT(*) AS change_count
+            SELECT TO_CHAR(sh.created_at, 'YYYY-MM-DD') AS day_str,
+                   AVG(sh.price_at_change) AS price
             FROM stock_history sh
+            JOIN inventory_item i ON sh.item_id = i.id
+            WHERE sh.created_at BETWEEN :start AND :end
+              AND sh.item_id = :itemId
+              AND (CAST(:supplierId AS VARCHAR) IS NULL OR i.supplier_id = :supplierId)
+            GROUP BY TO_CHAR(sh.created_at, 'YYYY-MM-DD')
+            ORDER BY 1
+        """;
+    }
+
+    /**
+     * Returns the SQL for sign-split movement totals per reason; identical on H2 and Oracle.
+     *
+     * @return SQL ordered by reason ascending; accepts {@code :start}, {@code :end},
+     *         {@code :supplierId}, {@code :itemName}
+     */
+    public static String buildReasonBreakdownSql() {
+        return """
+            SELECT sh.reason,
+                   SUM(CASE WHEN sh.quantity_change > 0 THEN sh.quantity_change ELSE 0 END) AS increase_qty,
+                   SUM(CASE WHEN sh.quantity_change < 0 THEN ABS(sh.quantity_change) ELSE 0 END) AS decrease_qty
+            FROM stock_history sh
+            JOIN inventory_item i ON sh.item_id = i.id
             WHERE sh.created_at BETWEEN :start AND :end
               AND (:supplierId IS NULL OR sh.supplier_id = :supplierId)
-            GROUP BY sh.created_by,
-                     CONCAT(CAST(YEAR(sh.created_at) AS VARCHAR), '-',
-                            LPAD(CAST(MONTH(sh.created_at) AS VARCHAR), 2, '0'), '-',
-                            LPAD(CAST(DAY_OF_MONTH(sh.created_at) AS VARCHAR), 2, '0'))
-            ORDER BY 2, 1
+              AND (:itemName IS NULL OR LOWER(i.name) LIKE LOWER('%' || :itemName || '%'))
+            GROUP BY sh.reason
+            ORDER BY sh.reason
         """;
     }
 
+    /**
+     * Returns the PostgreSQL SQL for sign-split movement totals per reason.
+     *
+     * <p>Also casts {@code :itemName} inside the concatenation, where an untyped parameter
+     * would be ambiguous.
+     *
+     * @return SQL ordered by reason ascending; accepts {@code :start}, {@code :end},
+     *         {@code :supplierId}, {@code :itemName}
+     */
+    public static String buildPostgresReasonBreakdownSql() {
+        return """
+            SELECT sh.reason,
+                   SUM(CASE WHEN sh.quantity_change > 0 THEN sh.quantity_change ELSE 0 END) AS increase_qty,
+                   SUM(CASE WHEN sh.quantity_change < 0 THEN ABS(sh.quantity_change) ELSE 0 END) AS decrease_qty
+            FROM stock_history sh
+            JOIN inventory_item i ON sh.item_id = i.id
+            WHERE sh.created_at BETWEEN :start AND :end
+              AND (CAST(:supplierId AS VARCHAR) IS NULL OR sh.supplier_id = :supplierId)
+              AND (CAST(:itemName AS VARCHAR) IS NULL
+                   OR LOWER(i.name) LIKE LOWER('%' || CAST(:itemName AS VARCHAR) || '%'))
+            GROUP BY sh.reason
+            ORDER BY sh.reason
+        """;
+    }
+
+    /**
+     * Returns the H2 SQL for per-employee daily change counts.
+     *
+     * <p>Groups by creator and calendar day ({@code CAST(... AS DATE)}). Weekly and
+     * monthly rollups happen in the service layer to avoid dialect-specific
+     * week functions.
+     *
+     * @return SQL ordered by day then creator; accepts {@code :start}, {@code :end}, {@code :supplierId}
+     */
+    public static String buildH2DailyEmployeeActivitySql() {
+        return buildDailyEmployeeActivitySql("CAST(sh.created_at AS DATE)", SUPPLIER_PARAM);
+    }
+
     /**
      * Returns the Oracle SQL for per-employee daily change counts.
      *
-     * <p>Uses {@code TO_CHAR(..., 'YYYY-MM-DD')} for day formatting.
+     * <p>Uses {@code TRUNC()} for day truncation.
      *
-     * @return SQL ordered by day then creator; accepts {@code :start} and {@code :end}
+     * @return SQL ordered by day then creator; accepts {@code :start}, {@code :end}, {@code :supplierId}
      */
     public static String buildOracleDailyEmployeeActivitySql() {
-        return """
+        return buildDailyEmployeeActivitySql("TRUNC(sh.created_at)", SUPPLIER_PARAM);
+    }
+
+    /**
+     * Returns the PostgreSQL SQL for per-employee daily change counts.
+     *
+     * <p>Casts to {@code DATE} for day truncation.
+     *
+     * @return SQL ordered by day then creator; accepts {@code :start}, {@code :end}, {@code :supplierId}
+     */
+    public static String buildPostgresDailyEmployeeActivitySql() {
+        return buildDailyEmployeeActivitySql("CAST(sh.created_at AS DATE)", POSTGRES_SUPPLIER_PARAM);
+    }
+
+    private static String buildDailyEmployeeActivitySql(String dayExpr, String supplierParam) {
+        final String query = """
             SELECT sh.created_by,
-                   TO_CHAR(sh.created_at, 'YYYY-MM-DD') AS day_str,
+                   %1$s AS day_date,
                    COUNT(*) AS change_count
             FROM stock_history sh
             WHERE sh.created_at BETWEEN :start AND :end
-              AND (:supplierId IS NULL OR sh.supplier_id = :supplierId)
-            GROUP BY sh.created_by, TO_CHAR(sh.created_at, 'YYYY-MM-DD')
+              AND (%2$s IS NULL OR sh.supplier_id = :supplierId)
+            GROUP BY sh.created_by, %1$s
             ORDER BY 2, 1
         """;
+        return String.format(query, dayExpr, supplierParam);
+    }
+
+    /**
+     * Returns the H2 SQL for the shared window digest used by batched analytics.
+     *
+     * <p>One pass over {@code stock_history} grouped by day, reason and creator, with the
+     * sign-split sums and change count every movement widget derives from. Rows carry two
+     * supplier flags because the single-widget queries scope suppliers differently:
+     * {@code history_match} tests the denormalised {@code sh.supplier_id} (reason breakdown,
+     * employee activity), {@code item_match} the item's current supplier (monthly movement).
+     * Flags are computed in a derived table so the outer GROUP BY never repeats bind variables.
+     *
+     * @return SQL ordered by day, reason, creator; accepts {@code :start}, {@code :end}, {@code :supplierId}
+     */
+    public static String buildH2WindowDigestSql() {
+        return buildWindowDigestSql("CAST(sh.created_at AS DATE)", "UPPER(i.supplier_id) = UPPER(:supplierId)",
+                SUPPLIER_PARAM);
+    }
+
+    /**
+     * Returns the Oracle SQL for the shared window digest used by batched analytics.
+     *
+     * <p>Uses {@code TRUNC()} for day truncation.
+     *
+     * @return SQL ordered by day, reason, creator; accepts {@code :start}, {@code :end}, {@code :supplierId}
+     */
+    public static String buildOracleWindowDigestSql() {
+        return buildWindowDigestSql("TRUNC(sh.created_at)", "i.supplier_id = :supplierId", SUPPLIER_PARAM);
+    }
+
+    /**
+     * Returns the PostgreSQL SQL for the shared window digest used by batched analytics.
+     *
+     * <p>Casts to {@code DATE} for day truncation.
+     *
+     * @return SQL ordered by day, reason, creator; accepts {@code :start}, {@code :end}, {@code :supplierId}
+     */
+    public static String buildPostgresWindowDigestSql() {
+        return buildWindowDigestSql("CAST(sh.created_at AS DATE)", "i.supplier_id = :supplierId",
+                POSTGRES_SUPPLIER_PARAM);
+    }
+
+    private static String buildWindowDigestSql(String dayExpr, String itemSupplierMatch, String supplierParam) {
+        final String query = """
+            SELECT d.day_date, d.reason, d.created_by,
+                   SUM(d.increase_qty) AS increase_qty,
+                   SUM(d.decrease_qty) AS decrease_qty,
+                   COUNT(*) AS change_count,
+                   d.history_match, d.item_match
+            FROM (
+                SELECT %1$s AS day_date,
+                       sh.reason,
+                       sh.created_by,
+                       CASE WHEN sh.quantity_change > 0 THEN sh.quantity_change ELSE 0 END AS increase_qty,
+                       CASE WHEN sh.quantity_change < 0 THEN ABS(sh.quantity_change) ELSE 0 END AS decrease_qty,
+                       CASE WHEN %3$s IS NULL OR sh.supplier_id = :supplierId THEN 1 ELSE 0 END AS history_match,
+                       CASE WHEN %3$s IS NULL OR %2$s THEN 1 ELSE 0 END AS item_match
+                FROM stock_history sh
+                JOIN inventory_item i ON sh.item_id = i.id
+                WHERE sh.created_at BETWEEN :start AND :end
+                  AND (%3$s IS NULL OR sh.supplier_id = :supplierId OR %2$s)
+            ) d
+            GROUP BY d.day_date, d.reason, d.created_by, d.history_match, d.item_match
+            ORDER BY 1, 2, 3
+        """;
+        return String.format(query, dayExpr, itemSupplierMatch, supplierParam);
     }
 }
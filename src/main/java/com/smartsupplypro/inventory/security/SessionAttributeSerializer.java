@@ -0,0 +1,423 @@
+package com.smartsupplypro.inventory.security;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.FactorGrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.OidcUserInfo;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Serializes HTTP session attributes for the JDBC session store.
+ *
+ * <p>The one attribute every signed-in request reads is the {@link SecurityContext} holding
+ * the OAuth2 login. Java serialization writes it with full class descriptors for the token,
+ * the user, each authority and every claim value, and writes the OIDC ID token twice (once
+ * in the user, once in its {@link OidcUserAuthority}). This serializer writes only the
+ * fields needed to rebuild it: registration id, ID token and user-info claims (or the OAuth2
+ * attributes), authorities and request details, as a tagged binary record that is a
+ * fraction of the size.</p>
+ *
+ * <p>Anything else (saved requests, a context holding another principal type, claim values
+ * of unexpected types) falls back to Java serialization. Records are told apart by their
+ * first byte, since a Java stream always starts with {@code 0xACED}.</p>
+ */
+public final class SessionAttributeSerializer implements Serializer<Object>, Deserializer<Object> {
+
+    private static final int COMPACT_FORMAT = 0x01;
+    private static final int VERSION = 1;
+
+    private static final byte OIDC_USER = 1;
+    private static final byte OAUTH2_USER = 2;
+
+    private static final byte SIMPLE_AUTHORITY = 1;
+    private static final byte FACTOR_AUTHORITY = 2;
+    private static final byte OIDC_USER_AUTHORITY = 3;
+    private static final byte OAUTH2_USER_AUTHORITY = 4;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte INSTANT = 6;
+    private static final byte URL_VALUE = 7;
+    private static final byte LIST = 8;
+    private static final byte MAP = 9;
+
+    private final DefaultSerializer javaSerializer = new DefaultSerializer();
+    private final DefaultDeserializer javaDeserializer;
+
+    public SessionAttributeSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DefaultDeserializer(classLoader);
+    }
+
+    @Override
+    public void serialize(Object value, OutputStream out) throws IOException {
+        byte[] compact = compact(value);
+        if (compact != null) {
+            out.write(compact);
+        } else {
+            javaSerializer.serialize(value, out);
+        }
+    }
+
+    @Override
+    public Object deserialize(InputStream in) throws IOException {
+        PushbackInputStream stream = new PushbackInputStream(in, 1);
+        int first = stream.read();
+        if (first != COMPACT_FORMAT) {
+            if (first != -1) {
+                stream.unread(first);
+            }
+            return javaDeserializer.deserialize(stream);
+        }
+        DataInputStream data = new DataInputStream(stream);
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported session attribute format version " + version);
+        }
+        return readSecurityContext(data);
+    }
+
+    /** The compact record, or null when the value needs Java serialization. */
+    private static byte[] compact(Object value) throws IOException {
+        if (value == null || value.getClass() != SecurityContextImpl.class
+                || !(((SecurityContext) value).getAuthentication() instanceof OAuth2AuthenticationToken token)
+                || token.getClass() != OAuth2AuthenticationToken.class) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(COMPACT_FORMAT);
+        out.writeByte(VERSION);
+        try {
+            writeToken(out, token);
+        } catch (UnsupportedValueException ex) {
+            return null;
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    // ---------------------------------------------------------------------
+    // Security context
+    // ---------------------------------------------------------------------
+
+    private static void writeToken(DataOutputStream out, OAuth2AuthenticationToken token) throws IOException {
+        OAuth2User principal = token.getPrincipal();
+        writeString(out, token.getAuthorizedClientRegistrationId());
+        if (principal.getClass() == DefaultOidcUser.class) {
+            DefaultOidcUser oidc = (DefaultOidcUser) principal;
+            out.writeByte(OIDC_USER);
+            writeIdToken(out, oidc.getIdToken());
+            writeMap(out, oidc.getUserInfo() != null ? oidc.getUserInfo().getClaims() : null);
+        } else if (principal.getClass() == DefaultOAuth2User.class) {
+            out.writeByte(OAUTH2_USER);
+            writeMap(out, principal.getAttributes());
+        } else {
+            throw new UnsupportedValueException();
+        }
+        writeString(out, nameAttributeKey(principal));
+        writeAuthorities(out, principal, principal.getAuthorities());
+        writeAuthorities(out, principal, token.getAuthorities());
+        writeDetails(out, token.getDetails());
+    }
+
+    private static SecurityContext readSecurityContext(DataInputStream in) throws IOException {
+        String registrationId = readString(in);
+        byte kind = in.readByte();
+        OidcIdToken idToken = null;
+        OidcUserInfo userInfo = null;
+        Map<String, Object> attributes = null;
+        if (kind == OIDC_USER) {
+            idToken = readIdToken(in);
+            Map<String, Object> userInfoClaims = readMap(in);
+            userInfo = userInfoClaims != null ? new OidcUserInfo(userInfoClaims) : null;
+        } else if (kind == OAUTH2_USER) {
+            attributes = readMap(in);
+        } else {
+            throw new IOException("Unknown principal kind " + kind);
+        }
+        String nameAttributeKey = readString(in);
+        List<GrantedAuthority> userAuthorities = readAuthorities(in, idToken, userInfo);
+        List<GrantedAuthority> tokenAuthorities = readAuthorities(in, idToken, userInfo);
+
+        OAuth2User principal = kind == OIDC_USER
+                ? new DefaultOidcUser(userAuthorities, idToken, userInfo, nameAttributeKey)
+                : new DefaultOAuth2User(userAuthorities, attributes, nameAttributeKey);
+        OAuth2AuthenticationToken token = new OAuth2AuthenticationToken(principal, tokenAuthorities, registrationId);
+        token.setDetails(readDetails(in));
+        return new SecurityContextImpl(token);
+    }
+
+    /**
+     * {@code DefaultOAuth2User} keeps its name attribute key private, so the key is recovered as
+     * the attribute whose value is the principal's name. Any such key rebuilds the same name.
+     */
+    private static String nameAttributeKey(OAuth2User principal) {
+        Map<String, Object> attributes = principal.getAttributes();
+        String name = principal.getName();
+        for (String preferred : List.of("email", "sub")) {
+            if (attributes.get(preferred) != null && name.equals(attributes.get(preferred).toString())) {
+                return preferred;
+            }
+        }
+        for (Map.Entry<String, Object> e : attributes.entrySet()) {
+            if (e.getValue() != null && name.equals(e.getValue().toString())) {
+                return e.getKey();
+            }
+        }
+        throw new UnsupportedValueException();
+    }
+
+    private static void writeIdToken(DataOutputStream out, OidcIdToken idToken) throws IOException {
+        writeString(out, idToken.getTokenValue());
+        writeValue(out, idToken.getIssuedAt());
+        writeValue(out, idToken.getExpiresAt());
+        writeMap(out, idToken.getClaims());
+    }
+
+    private static OidcIdToken readIdToken(DataInputStream in) throws IOException {
+        String tokenValue = readString(in);
+        Instant issuedAt = (Instant) readValue(in);
+        Instant expiresAt = (Instant) readValue(in);
+        return new OidcIdToken(tokenValue, issuedAt, expiresAt, readMap(in));
+    }
+
+    /** Authorities carrying the user's ID token or attributes point back at the principal instead of repeating them. */
+    private static void writeAuthorities(DataOutputStream out, OAuth2User principal,
+                                         Collection<? extends GrantedAuthority> authorities) throws IOException {
+        out.writeInt(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            Class<?> type = authority.getClass();
+            if (type == SimpleGrantedAuthority.class) {
+                out.writeByte(SIMPLE_AUTHORITY);
+                writeString(out, authority.getAuthority());
+            } else if (type == FactorGrantedAuthority.class) {
+                out.writeByte(FACTOR_AUTHORITY);
+                writeString(out, authority.getAuthority());
+                writeValue(out, ((FactorGrantedAuthority) authority).getIssuedAt());
+            } else if (type == OidcUserAuthority.class && principal instanceof DefaultOidcUser oidc
+                    && sameOidcUser((OidcUserAuthority) authority, oidc)) {
+                out.writeByte(OIDC_USER_AUTHORITY);
+                writeString(out, authority.getAuthority());
+                writeString(out, ((OidcUserAuthority) authority).getUserNameAttributeName());
+            } else if (type == OAuth2UserAuthority.class) {
+                OAuth2UserAuthority userAuthority = (OAuth2UserAuthority) authority;
+                out.writeByte(OAUTH2_USER_AUTHORITY);
+                writeString(out, authority.getAuthority());
+                writeMap(out, userAuthority.getAttributes());
+                writeString(out, userAuthority.getUserNameAttributeName());
+            } else {
+                throw new UnsupportedValueException();
+            }
+        }
+    }
+
+    private static boolean sameOidcUser(OidcUserAuthority authority, DefaultOidcUser user) {
+        return authority.getIdToken().equals(user.getIdToken())
+                && Objects.equals(authority.getUserInfo(), user.getUserInfo());
+    }
+
+    private static List<GrantedAuthority> readAuthorities(DataInputStream in, OidcIdToken idToken,
+                                                          OidcUserInfo userInfo) throws IOException {
+        int count = in.readInt();
+        List<GrantedAuthority> authorities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte kind = in.readByte();
+            String authority = readString(in);
+            switch (kind) {
+                case SIMPLE_AUTHORITY -> authorities.add(new SimpleGrantedAuthority(authority));
+                case FACTOR_AUTHORITY -> authorities.add(FactorGrantedAuthority.withAuthority(authority)
+                        .issuedAt((Instant) readValue(in)).build());
+                case OIDC_USER_AUTHORITY -> authorities.add(
+                        new OidcUserAuthority(authority, idToken, userInfo, readString(in)));
+                case OAUTH2_USER_AUTHORITY -> {
+                    Map<String, Object> attributes = readMap(in);
+                    authorities.add(new OAuth2UserAuthority(authority, attributes, readString(in)));
+                }
+                default -> throw new IOException("Unknown authority kind " + kind);
+            }
+        }
+        return authorities;
+    }
+
+    private static void writeDetails(DataOutputStream out, Object details) throws IOException {
+        if (details == null) {
+            out.writeBoolean(false);
+        } else if (details.getClass() == WebAuthenticationDetails.class) {
+            WebAuthenticationDetails web = (WebAuthenticationDetails) details;
+            out.writeBoolean(true);
+            writeString(out, web.getRemoteAddress());
+            writeString(out, web.getSessionId());
+        } else {
+            throw new UnsupportedValueException();
+        }
+    }
+
+    private static WebAuthenticationDetails readDetails(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new WebAuthenticationDetails(readString(in), readString(in)) : null;
+    }
+
+    // ---------------------------------------------------------------------
+    // Claim values
+    // ---------------------------------------------------------------------
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, Object> e : map.entrySet()) {
+            writeString(out, e.getKey());
+            writeValue(out, e.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readValue(in));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case null -> out.writeByte(NULL);
+            case String s -> {
+                out.writeByte(STRING);
+                writeString(out, s);
+            }
+            case Boolean b -> {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(b);
+            }
+            case Integer i -> {
+                out.writeByte(INTEGER);
+                out.writeInt(i);
+            }
+            case Long l -> {
+                out.writeByte(LONG);
+                out.writeLong(l);
+            }
+            case Double d -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble(d);
+            }
+            case Instant t -> {
+                out.writeByte(INSTANT);
+                out.writeLong(t.getEpochSecond());
+                out.writeInt(t.getNano());
+            }
+            case URL u -> {
+                out.writeByte(URL_VALUE);
+                writeString(out, u.toExternalForm());
+            }
+            case List<?> list -> {
+                out.writeByte(LIST);
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(out, element);
+                }
+            }
+            case Map<?, ?> map when map.keySet().stream().allMatch(String.class::isInstance) -> {
+                out.writeByte(MAP);
+                writeMap(out, (Map<String, Object>) map);
+            }
+            default -> throw new UnsupportedValueException();
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> readString(in);
+            case BOOLEAN -> in.readBoolean();
+            case INTEGER -> in.readInt();
+            case LONG -> in.readLong();
+            case DOUBLE -> in.readDouble();
+            case INSTANT -> Instant.ofEpochSecond(in.readLong(), in.readInt());
+            case URL_VALUE -> URI.create(readString(in)).toURL();
+            case LIST -> {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                yield list;
+            }
+            case MAP -> readMap(in);
+            default -> throw new IOException("Unknown value tag " + tag);
+        };
+    }
+
+    /** Length-prefixed UTF-8; unlike {@code writeUTF} not capped at 64 KB, and null-safe. */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** A value the compact record cannot carry; the attribute is Java-serialized instead. */
+    private static final class UnsupportedValueException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedValueException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -11,9 +12,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.smartsupplypro.inventory.dto.InventoryItemDTO;
 import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent;
 import com.smartsupplypro.inventory.exception.DuplicateResourceException;
 import com.smartsupplypro.inventory.mapper.InventoryItemMapper;
 import com.smartsupplypro.inventory.model.InventoryItem;
+import com.smartsupplypro.inventory.observability.jfr.StockMovementWriteEvent;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
 import com.smartsupplypro.inventory.service.InventoryItemService;
 import com.smartsupplypro.inventory.service.impl.inventory.InventoryItemAuditHelper;
@@ -28,7 +31,10 @@ import lombok.RequiredArgsConstructor;
  * with validation and audit trail delegated to helper components.
  *
  * <p>{@link InventoryItemValidationHelper} covers field validation, supplier checks,
- * and server-field population. {@link InventoryItemAuditHelper} covers stock history logging.</p>
+ * and server-field population. {@link InventoryItemAuditHelper} covers stock history logging.
+ * Every write publishes an {@link InventoryItemChangedEvent} with before/after state for
+ * after-commit listeners (live analytics stream, analytics cache). Quantity movements on
+ * existing items are also reported as a JFR {@link StockMovementWriteEvent}.</p>
  *
  * @see InventoryItemValidationHelper
  * @see InventoryItemAuditHelper
@@ -41,11 +47,12 @@ public class InventoryItemServiceImpl implements InventoryItemService {
     private final InventoryItemValidationHelper validationHelper;
     private final InventoryItemAuditHelper auditHelper;
     private final InventoryItemMapper inventoryItemMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** {@inheritDoc} */
     @Override
     public List<InventoryItemDTO> getAll() {
-        return repository.findByActiveTrue().stream().map(inventoryItemMapper::toDTO).toList();
+        return repository.findAllActiveAsDTO();
     }
 
     /** {@inheritDoc} */
@@ -83,6 +90,7 @@ public class InventoryItemServiceImpl implements InventoryItemService {
         validationHelper.populateServerFields(entity);
         InventoryItem saved = repository.save(entity);
         auditHelper.logInitialStock(saved);
+        publishChange(null, saved);
         return inventoryItemMapper.toDTO(saved);
     }
 
@@ -95,9 +103,13 @@ public class InventoryItemServiceImpl implements InventoryItemService {
     @Override
     @Transactional
     public Optional<InventoryItemDTO> update(String id, InventoryItemDTO dto) {
+        StockMovementWriteEvent movement = new StockMovementWriteEvent();
+        movement.beginItemLoad();
         InventoryItem existing = validationHelper.validateForUpdate(id, dto);
+        movement.itemLoaded();
         validationHelper.validateUniquenessOnUpdate(id, existing, dto);
 
+        var before = InventoryItemChangedEvent.Snapshot.of(existing);
         int quantityDiff = dto.getQuantity() - existing.getQuantity();
 
         existing.setName(dto.getName());
@@ -117,6 +129,10 @@ public class InventoryItemServiceImpl implements InventoryItemService {
 
         InventoryItem updated = repository.save(existing);
         auditHelper.logQuantityChange(updated, quantityDiff);
+        if (quantityDiff != 0) {
+            movement.commitAfterTransaction(id, StockChangeReason.MANUAL_UPDATE.name(), quantityDiff);
+        }
+        publishChange(before, updated);
         return Optional.of(inventoryItemMapper.toDTO(updated));
     }
 
@@ -135,20 +151,28 @@ public class InventoryItemServiceImpl implements InventoryItemService {
     public void delete(String id) {
         validationHelper.validateForDeletion(id);
         InventoryItem item = validationHelper.validateExists(id);
+        var before = InventoryItemChangedEvent.Snapshot.of(item);
         item.setActive(false);
         repository.save(item);
+        publishChange(before, item);
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional
     public InventoryItemDTO adjustQuantity(String id, int delta, StockChangeReason reason) {
+        StockMovementWriteEvent movement = new StockMovementWriteEvent();
+        movement.beginItemLoad();
         InventoryItem item = validationHelper.validateExists(id);
+        movement.itemLoaded();
+        var before = InventoryItemChangedEvent.Snapshot.of(item);
         int newQty = item.getQuantity() + delta;
         assertFinalQuantityNonNegative(newQty);
         item.setQuantity(newQty);
         InventoryItem saved = repository.save(item);
         auditHelper.logQuantityAdjustment(saved, delta, reason);
+        movement.commitAfterTransaction(id, String.valueOf(reason), delta);
+        publishChange(before, saved);
         return inventoryItemMapper.toDTO(saved);
     }
 
@@ -158,9 +182,11 @@ public class InventoryItemServiceImpl implements InventoryItemService {
     public InventoryItemDTO updatePrice(String id, BigDecimal newPrice) {
         assertPriceValid(newPrice);
         InventoryItem item = validationHelper.validateExists(id);
+        var before = InventoryItemChangedEvent.Snapshot.of(item);
         item.setPrice(newPrice);
         InventoryItem saved = repository.save(item);
         auditHelper.logPriceChange(id, newPrice);
+        publishChange(before, saved);
         return inventoryItemMapper.toDTO(saved);
     }
 
@@ -186,8 +212,16 @@ public class InventoryItemServiceImpl implements InventoryItemService {
             }
         }
 
+        var before = InventoryItemChangedEvent.Snapshot.of(existing);
         existing.setName(newName.trim());
         InventoryItem saved = repository.save(existing);
+        publishChange(before, saved);
         return inventoryItemMapper.toDTO(saved);
     }
+
+    /** Announces the write to after-commit listeners; {@code before} is null for creations. */
+    private void publishChange(InventoryItemChangedEvent.Snapshot before, InventoryItem after) {
+        eventPublisher.publishEvent(new InventoryItemChangedEvent(
+                after.getId(), before, InventoryItemChangedEvent.Snapshot.of(after)));
+    }
 }
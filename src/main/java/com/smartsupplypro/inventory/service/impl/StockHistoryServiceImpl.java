@@ -3,14 +3,15 @@ package com.smartsupplypro.inventory.service.impl;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.smartsupplypro.inventory.dto.StockHistoryDTO;
 import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.event.StockMovementRecordedEvent;
 import com.smartsupplypro.inventory.mapper.StockHistoryMapper;
 import com.smartsupplypro.inventory.model.StockHistory;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
@@ -24,7 +25,9 @@ import lombok.RequiredArgsConstructor;
  * Default implementation of {@link StockHistoryService} using Spring Data JPA.
  *
  * <p>Denormalizes supplier ID onto each history record so analytics queries
- * can filter by supplier without joining back to inventory_item.</p>
+ * can filter by supplier without joining back to inventory_item. Every persisted
+ * movement is announced as a {@link StockMovementRecordedEvent} so derived read
+ * models (analytics cache) can drop affected entries after commit.</p>
  *
  * @see StockHistoryService
  * @see StockHistoryValidator
@@ -37,6 +40,7 @@ public class StockHistoryServiceImpl implements StockHistoryService {
     private final StockHistoryRepository repository;
     private final InventoryItemRepository itemRepository;
     private final StockHistoryMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Resolves the supplier ID for denormalization on stock history records.
@@ -48,19 +52,24 @@ public class StockHistoryServiceImpl implements StockHistoryService {
                 .orElse(null);
     }
 
+    /** Persists the movement and announces it to in-process listeners. */
+    private void persist(StockHistory history) {
+        repository.save(history);
+        eventPublisher.publishEvent(new StockMovementRecordedEvent(
+                history.getItemId(), history.getSupplierId(), history.getReason(),
+                history.getChange(), history.getPriceAtChange(), history.getTimestamp()));
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<StockHistoryDTO> getAll() {
-        return repository.findAll().stream()
-                .map(mapper::toDTO)
-                .collect(Collectors.toList());
+        return repository.findAllAsDTO();
     }
 
     /** {@inheritDoc} */
     @Override
     public List<StockHistoryDTO> getByItemId(String itemId) {
-        return repository.findByItemIdOrderByTimestampDesc(itemId)
-                .stream().map(mapper::toDTO).toList();
+        return repository.findByItemIdAsDTO(itemId);
     }
 
     /** {@inheritDoc} */
@@ -127,7 +136,7 @@ public class StockHistoryServiceImpl implements StockHistoryService {
                 .priceAtChange(priceAtChange)
                 .build();
 
-        repository.save(history);
+        persist(history);
     }
 
     /**
@@ -153,7 +162,7 @@ public class StockHistoryServiceImpl implements StockHistoryService {
                 .priceAtChange(dto.priceAtChange())
                 .build();
 
-        repository.save(history);
+        persist(history);
     }
 
     /** {@inheritDoc} */
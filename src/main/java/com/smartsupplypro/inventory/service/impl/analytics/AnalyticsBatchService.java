@@ -0,0 +1,167 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.bulkhead.PoolPartitioned;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchRequestDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchResponseDTO;
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
+import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsWidget;
+import com.smartsupplypro.inventory.exception.InvalidRequestException;
+import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.blankToNull;
+import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.defaultAndValidateDateWindow;
+import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.endOfDay;
+import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.requireNonBlank;
+import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.startOfDay;
+
+/**
+ * Computes several analytics widgets for one window and supplier filter in a single call.
+ *
+ * <p>Monthly movement, reason breakdown and employee activity all aggregate
+ * {@code stock_history} over the same window. When two or more of them are requested
+ * they are derived from one grouped pass ({@code getWindowDigest}) instead of one scan
+ * each; a lone movement widget, and every other widget, goes through its regular
+ * (cached) service method. All widgets run in one read-only transaction and return
+ * the same payload as their single-widget endpoints.</p>
+ */
+@Service
+@PoolPartitioned(PoolPartition.ANALYTICS)
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnalyticsBatchService {
+
+    private static final Set<AnalyticsWidget> DIGEST_WIDGETS = EnumSet.of(
+            AnalyticsWidget.MONTHLY_MOVEMENT,
+            AnalyticsWidget.REASON_BREAKDOWN,
+            AnalyticsWidget.EMPLOYEE_ACTIVITY);
+
+    private final StockHistoryRepository stockHistoryRepository;
+    private final StockAnalyticsService stockAnalyticsService;
+    private final EmployeeAnalyticsService employeeAnalyticsService;
+    private final FinancialAnalyticsService financialAnalyticsService;
+
+    /**
+     * Computes every requested widget over the shared window.
+     * Defaults to the last 30 days when bounds are null.
+     *
+     * @param request widgets plus shared window, supplier filter and widget-specific options
+     * @return per-widget results keyed by widget, in declaration order
+     * @throws InvalidRequestException on an inverted window, unknown granularity, or
+     *                                 {@code PRICE_TREND} without {@code itemId}
+     */
+    public AnalyticsBatchResponseDTO execute(AnalyticsBatchRequestDTO request) {
+        if (request.widgets() == null || request.widgets().isEmpty()) {
+            throw new InvalidRequestException("At least one widget is required");
+        }
+        LocalDate[] window = defaultAndValidateDateWindow(request.startDate(), request.endDate());
+        LocalDate from = window[0];
+        LocalDate to = window[1];
+        String supplierId = blankToNull(request.supplierId());
+        String itemName = blankToNull(request.itemName());
+        Set<AnalyticsWidget> widgets = EnumSet.copyOf(request.widgets());
+
+        // fail fast before any query runs
+        String granularity = widgets.contains(AnalyticsWidget.EMPLOYEE_ACTIVITY)
+                ? EmployeeAnalyticsService.normalizeGranularity(request.granularity()) : null;
+        String itemId = widgets.contains(AnalyticsWidget.PRICE_TREND)
+                ? requireNonBlank(request.itemId(), "itemId") : null;
+
+        Set<AnalyticsWidget> shared = EnumSet.copyOf(widgets);
+        shared.retainAll(DIGEST_WIDGETS);
+        if (itemName != null) {
+            // the digest is not split by item, so a name-filtered breakdown needs its own query
+            shared.remove(AnalyticsWidget.REASON_BREAKDOWN);
+        }
+        List<WindowDigestRowDTO> digest = shared.size() >= 2
+                ? stockHistoryRepository.getWindowDigest(startOfDay(from), endOfDay(to), supplierId)
+                : null;
+
+        Map<AnalyticsWidget, Object> results = new EnumMap<>(AnalyticsWidget.class);
+        for (AnalyticsWidget widget : widgets) {
+            boolean fromDigest = digest != null && shared.contains(widget);
+            results.put(widget, switch (widget) {
+                case STOCK_VALUE -> stockAnalyticsService.getTotalStockValueOverTime(from, to, supplierId);
+                case MONTHLY_MOVEMENT -> fromDigest
+                        ? monthlyMovement(digest)
+                        : stockAnalyticsService.getMonthlyStockMovement(from, to, supplierId);
+                case REASON_BREAKDOWN -> fromDigest
+                        ? reasonBreakdown(digest)
+                        : stockAnalyticsService.getReasonBreakdown(from, to, supplierId, itemName);
+                case EMPLOYEE_ACTIVITY -> fromDigest
+                        ? employeeAnalyticsService.rollUpDailyActivity(dailyEmployeeActivity(digest), granularity)
+                        : employeeAnalyticsService.getEmployeeActivity(granularity, from, to, supplierId);
+                case PRICE_TREND -> stockAnalyticsService.getPriceTrend(itemId, supplierId, from, to);
+                case LOW_STOCK_ITEMS -> supplierId == null
+                        ? stockAnalyticsService.getItemsBelowMinimumStock()
+                        : stockAnalyticsService.getItemsBelowMinimumStock(supplierId);
+                case FINANCIAL_SUMMARY -> financialAnalyticsService.getFinancialSummaryWAC(from, to, supplierId);
+            });
+        }
+        return new AnalyticsBatchResponseDTO(from, to, supplierId, results);
+    }
+
+    /** Monthly movement scopes the supplier through the item, like its single-widget query. */
+    private List<MonthlyStockMovementDTO> monthlyMovement(List<WindowDigestRowDTO> digest) {
+        Map<YearMonth, long[]> byMonth = new TreeMap<>();
+        for (WindowDigestRowDTO r : digest) {
+            if (r.itemSupplierMatch()) {
+                long[] totals = byMonth.computeIfAbsent(YearMonth.from(r.day()), k -> new long[2]);
+                totals[0] += r.increase();
+                totals[1] += r.decrease();
+            }
+        }
+        List<MonthlyStockMovementDTO> out = new ArrayList<>(byMonth.size());
+        byMonth.forEach((month, t) -> out.add(new MonthlyStockMovementDTO(month.toString(), t[0], t[1])));
+        return out;
+    }
+
+    /** Reason breakdown scopes the supplier through the history row. */
+    private List<ReasonBreakdownDTO> reasonBreakdown(List<WindowDigestRowDTO> digest) {
+        Map<String, long[]> byReason = new TreeMap<>();
+        for (WindowDigestRowDTO r : digest) {
+            if (r.historySupplierMatch()) {
+                long[] totals = byReason.computeIfAbsent(r.reason(), k -> new long[2]);
+                totals[0] += r.increase();
+                totals[1] += r.decrease();
+            }
+        }
+        List<ReasonBreakdownDTO> out = new ArrayList<>(byReason.size());
+        byReason.forEach((reason, t) -> out.add(new ReasonBreakdownDTO(reason, t[0], t[1])));
+        return out;
+    }
+
+    /** Collapses reasons into the per-creator, per-day rows the employee rollup expects. */
+    private List<DailyEmployeeActivityRowDTO> dailyEmployeeActivity(List<WindowDigestRowDTO> digest) {
+        Map<DailyKey, Long> counts = new LinkedHashMap<>();
+        for (WindowDigestRowDTO r : digest) {
+            if (r.historySupplierMatch()) {
+                counts.merge(new DailyKey(r.createdBy(), r.day()), r.changeCount(), Long::sum);
+            }
+        }
+        List<DailyEmployeeActivityRowDTO> out = new ArrayList<>(counts.size());
+        counts.forEach((k, count) -> out.add(new DailyEmployeeActivityRowDTO(k.createdBy(), k.day(), count)));
+        return out;
+    }
+
+    private record DailyKey(String createdBy, LocalDate day) {}
+}
@@ -1,79 +1,49 @@
 package com.smartsupplypro.inventory.service.impl.analytics;
 
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
+import com.smartsupplypro.inventory.observability.jfr.AnalyticsQueryEvent;
 
 /**
- * Type-conversion utilities for analytics native SQL projections.
+ * Shared helpers for the analytics services: date-window defaults, parameter
+ * normalisation, and the JFR-instrumented query runner.
  *
- * <p>Handles vendor differences between H2 (test) and Oracle (prod) by
- * accepting multiple date/numeric types from {@code Object[]} projections
- * and coercing them to standard Java types.</p>
+ * <p>Rows arrive already typed: the repositories read each column with its JDBC getter
+ * (see {@code AnalyticsRowMappers}), so no per-cell H2/Oracle coercion happens here.
+ * {@link #queryRows} runs a projection query under an {@link AnalyticsQueryEvent}, so it is
+ * visible in a JFR recording.</p>
  */
 final class AnalyticsConverterHelper {
 
     private AnalyticsConverterHelper() {}
 
-    // ── Date/Time conversions ─────────────────────────────────────────────────
+    // ── Query events ──────────────────────────────────────────────────────────
 
     /**
-     * Converts a date-like projection value to {@link LocalDate}.
-     * Accepts {@code LocalDate}, {@code java.sql.Date}, {@code java.sql.Timestamp},
-     * and {@code CharSequence} values starting with {@code yyyy-MM-dd}.
+     * Runs an analytics projection query under an {@link AnalyticsQueryEvent} (query name
+     * and row count) when that event is enabled.
      *
-     * @param o raw value from a native projection
-     * @return corresponding {@link LocalDate}
-     * @throws IllegalStateException if the value cannot be interpreted as a date
+     * @param query repository method name reported on the event
+     * @param fetch executes the query; rows are already typed by the repository's row mapper
+     * @return the rows in query order, unmodifiable
      */
-    static LocalDate asLocalDate(Object o) {
-        if (o instanceof LocalDate ld) return ld;
-        if (o instanceof java.sql.Date d) return d.toLocalDate();
-        if (o instanceof java.sql.Timestamp ts) return ts.toLocalDateTime().toLocalDate();
-
-        if (o instanceof CharSequence cs) {
-            String s = cs.toString();
-            if (s.length() >= 10) return LocalDate.parse(s.substring(0, 10));
-        }
-
-        // Last resort: toString() on timestamp literals from H2 (e.g. "2025-03-15 00:00:00.0")
-        String s = String.valueOf(o);
-        if (s.length() >= 10 && s.charAt(4) == '-' && s.charAt(7) == '-') {
-            return LocalDate.parse(s.substring(0, 10));
+    static <T> List<T> queryRows(String query, Supplier<List<T>> fetch) {
+        AnalyticsQueryEvent event = new AnalyticsQueryEvent();
+        event.begin();
+        List<T> rows = fetch.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.query = query;
+            event.rows = rows.size();
+            event.commit();
         }
-
-        throw new IllegalStateException("Expected LocalDate/Date/Timestamp/String but got: " +
-                (o == null ? "null" : o.getClass().getName() + " -> " + o));
-    }
-
-    /**
-     * Converts a timestamp-like projection value to {@link LocalDateTime}.
-     *
-     * @param o timestamp value ({@code LocalDateTime} or {@code java.sql.Timestamp})
-     * @return corresponding {@link LocalDateTime}
-     * @throws IllegalStateException if the object type is unsupported
-     */
-    static LocalDateTime asLocalDateTime(Object o) {
-        if (o instanceof LocalDateTime ldt) return ldt;
-        if (o instanceof Timestamp ts) return ts.toLocalDateTime();
-        throw new IllegalStateException("Expected LocalDateTime or java.sql.Timestamp but got: " + o);
-    }
-
-    /**
-     * Safely unboxes any numeric projection value via {@link Number}.
-     * Null is treated as zero to avoid NPEs in aggregation results.
-     *
-     * @param o numeric value (null, {@link Number}, or {@link java.math.BigDecimal})
-     * @return corresponding {@link Number}
-     */
-    static Number asNumber(Object o) {
-        if (o == null) return java.math.BigDecimal.ZERO;
-        if (o instanceof Number n) return n;
-        if (o instanceof java.math.BigDecimal bd) return bd;
-        throw new IllegalStateException("Expected numeric type but got: " + o);
+        return Collections.unmodifiableList(rows);
     }
 
     // ── Date window utilities ─────────────────────────────────────────────────
@@ -0,0 +1,415 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smartsupplypro.inventory.config.AnalyticsExecutorConfig;
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.AnalyticsJobDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsJobRequestDTO;
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsJobStatus;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+import com.smartsupplypro.inventory.exception.InvalidRequestException;
+import com.smartsupplypro.inventory.exception.ServiceUnavailableException;
+import com.smartsupplypro.inventory.model.AnalyticsJob;
+import com.smartsupplypro.inventory.model.AnalyticsJobResult;
+import com.smartsupplypro.inventory.repository.AnalyticsJobRepository;
+import com.smartsupplypro.inventory.repository.AnalyticsJobResultRepository;
+
+import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.blankToNull;
+import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.defaultAndValidateDateWindow;
+
+import jakarta.annotation.PreDestroy;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs long analytics reports in the background and keeps their JSON results for re-download.
+ *
+ * <p>{@link #submit} stores a {@code QUEUED} job and hands it to the bounded
+ * {@link AnalyticsExecutorConfig#JOB_EXECUTOR}. A request with the same type, window and
+ * filters as a job still queued or running in this process joins that job instead of
+ * starting another. Queries go through the regular analytics services and therefore the
+ * analytics pool partition; a saturated partition is waited out and retried rather than
+ * failing the job.</p>
+ *
+ * <p>Results are kept for {@code app.analytics.jobs.result-ttl}. Expired jobs read as not
+ * found and are purged on the next submission. Jobs run in the submitting process only.
+ * Each active job records the instance that owns it and a lease this instance renews
+ * every third of {@code app.analytics.jobs.lease}. At startup, and on every renewal, active
+ * jobs are marked failed when their lease has lapsed, or when a previous process with
+ * the same instance id created them. Jobs running on other live instances are left alone.</p>
+ */
+@Service
+public class AnalyticsJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsJobService.class);
+
+    /** Attempts per query while the analytics partition rejects with 503. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    static final String INTERRUPTED = "Interrupted by a restart; submit the report again";
+
+    private final AnalyticsJobRepository jobs;
+    private final AnalyticsJobResultRepository results;
+    private final FinancialAnalyticsService financialAnalyticsService;
+    private final StockAnalyticsService stockAnalyticsService;
+    private final EmployeeAnalyticsService employeeAnalyticsService;
+    private final Executor executor;
+    private final JsonMapper jsonMapper;
+    private final AppProperties.Analytics.Jobs cfg;
+    private final Clock clock;
+    private final String instanceId;
+    private final LocalDateTime startedAt;
+    private ScheduledExecutorService leaseKeeper;
+
+    /** Request key of every queued or running job, to its job id. */
+    private final Map<String, String> active = new ConcurrentHashMap<>();
+    // lookup and insert must be atomic; a lock rather than synchronized keeps virtual threads unpinned
+    private final ReentrantLock submitLock = new ReentrantLock();
+
+    @Autowired
+    public AnalyticsJobService(AnalyticsJobRepository jobs,
+                               AnalyticsJobResultRepository results,
+                               FinancialAnalyticsService financialAnalyticsService,
+                               StockAnalyticsService stockAnalyticsService,
+                               EmployeeAnalyticsService employeeAnalyticsService,
+                               @Qualifier(AnalyticsExecutorConfig.JOB_EXECUTOR) Executor executor,
+                               JsonMapper jsonMapper,
+                               AppProperties props) {
+        this(jobs, results, financialAnalyticsService, stockAnalyticsService, employeeAnalyticsService,
+                executor, jsonMapper, props, Clock.systemDefaultZone());
+        long period = Math.max(1_000, cfg.getLease().toMillis() / 3);
+        leaseKeeper = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("analytics-job-lease").daemon(true).factory());
+        leaseKeeper.scheduleWithFixedDelay(this::renewLeases, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /** Test seam: lets tests run jobs inline and move the clock past the result TTL. */
+    AnalyticsJobService(AnalyticsJobRepository jobs,
+                        AnalyticsJobResultRepository results,
+                        FinancialAnalyticsService financialAnalyticsService,
+                        StockAnalyticsService stockAnalyticsService,
+                        EmployeeAnalyticsService employeeAnalyticsService,
+                        Executor executor,
+                        JsonMapper jsonMapper,
+                        AppProperties props,
+                        Clock clock) {
+        this.jobs = jobs;
+        this.results = results;
+        this.financialAnalyticsService = financialAnalyticsService;
+        this.stockAnalyticsService = stockAnalyticsService;
+        this.employeeAnalyticsService = employeeAnalyticsService;
+        this.executor = executor;
+        this.jsonMapper = jsonMapper;
+        this.cfg = props.getAnalytics().getJobs();
+        this.clock = clock;
+        this.instanceId = cfg.getInstanceId() == null || cfg.getInstanceId().isBlank()
+                ? UUID.randomUUID().toString() : cfg.getInstanceId();
+        this.startedAt = now();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (leaseKeeper != null) {
+            leaseKeeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts a report, or joins the identical one that is still queued or running.
+     *
+     * @param request     report type, window and filters
+     * @param requestedBy principal name recorded on the job
+     * @return the new or joined job
+     * @throws InvalidRequestException     on an inverted window
+     * @throws ServiceUnavailableException when the job queue is full
+     */
+    public AnalyticsJobDTO submit(AnalyticsJobRequestDTO request, String requestedBy) {
+        LocalDate[] window = defaultAndValidateDateWindow(request.startDate(), request.endDate());
+        String supplierId = blankToNull(request.supplierId());
+        String createdBy = request.type() == AnalyticsJobType.EMPLOYEE_CHANGES ? blankToNull(request.createdBy()) : null;
+        String key = requestKey(request.type(), window[0], window[1], supplierId, createdBy);
+
+        purgeExpired();
+        submitLock.lock();
+        try {
+            String runningId = active.get(key);
+            Optional<AnalyticsJob> running = runningId != null ? jobs.findById(runningId) : Optional.empty();
+            if (running.isPresent()) {
+                log.debug("Analytics job request {} joined running job {}", key, runningId);
+                return toDto(running.get());
+            }
+
+            LocalDateTime now = now();
+            AnalyticsJob job = jobs.save(AnalyticsJob.builder()
+                    .id(UUID.randomUUID().toString())
+                    .type(request.type())
+                    .status(AnalyticsJobStatus.QUEUED)
+                    .startDate(window[0])
+                    .endDate(window[1])
+                    .supplierId(supplierId)
+                    .createdByFilter(createdBy)
+                    .requestedBy(requestedBy)
+                    .stepsDone(0)
+                    .stepsTotal(1)
+                    .createdAt(now)
+                    .expiresAt(now.plus(cfg.getResultTtl()))
+                    .ownerId(instanceId)
+                    .leaseUntil(now.plus(cfg.getLease()))
+                    .build());
+            active.put(key, job.getId());
+            try {
+                executor.execute(() -> run(job.getId(), key));
+            } catch (RejectedExecutionException ex) {
+                active.remove(key);
+                jobs.deleteById(job.getId());
+                throw new ServiceUnavailableException(
+                        "Too many analytics reports in progress; retry later", cfg.getRetryAfter(), ex);
+            }
+            return toDto(job);
+        } finally {
+            submitLock.unlock();
+        }
+    }
+
+    /**
+     * Current status and progress of a job.
+     *
+     * @throws NoSuchElementException if the job does not exist or has expired
+     */
+    public AnalyticsJobDTO find(String id) {
+        return toDto(load(id));
+    }
+
+    /**
+     * Stored JSON result of a succeeded job, in the payload shape of its synchronous endpoint.
+     *
+     * @throws NoSuchElementException if the job does not exist or has expired
+     * @throws IllegalStateException  if the job has not succeeded
+     */
+    @Transactional(readOnly = true)
+    public String result(String id) {
+        AnalyticsJob job = load(id);
+        if (job.getStatus() != AnalyticsJobStatus.SUCCEEDED) {
+            throw new IllegalStateException("Analytics job " + id + " is " + job.getStatus() + "; it has no result");
+        }
+        return results.findById(id)
+                .map(AnalyticsJobResult::getPayload)
+                .orElseThrow(() -> new NoSuchElementException("Analytics job result not found: " + id));
+    }
+
+    /** Marks jobs left queued or running by a previous process, or by a lost instance, as failed. */
+    @EventListener(ApplicationReadyEvent.class)
+    void failInterruptedJobs() {
+        int failed = jobs.failOrphaned(INTERRUPTED, instanceId, startedAt, now());
+        if (failed > 0) {
+            log.warn("Marked {} analytics job(s) interrupted by a shutdown as failed", failed);
+        }
+    }
+
+    /** Keeps this instance's jobs leased and fails those whose instance stopped renewing. */
+    void renewLeases() {
+        try {
+            LocalDateTime now = now();
+            if (!active.isEmpty()) {
+                jobs.renewLeases(instanceId, now.plus(cfg.getLease()));
+            }
+            failInterruptedJobs();
+        } catch (RuntimeException ex) {
+            log.warn("Could not renew analytics job leases", ex);
+        }
+    }
+
+    /** Runs one job on the job executor; never throws. */
+    void run(String id, String key) {
+        try {
+            AnalyticsJob job = jobs.findById(id).orElseThrow();
+            job.setStatus(AnalyticsJobStatus.RUNNING);
+            job.setStartedAt(now());
+            job.setLeaseUntil(now().plus(cfg.getLease()));
+            jobs.save(job);
+
+            Object result = compute(job);
+            results.save(new AnalyticsJobResult(id, jsonMapper.writeValueAsString(result)));
+
+            LocalDateTime finished = now();
+            job.setStatus(AnalyticsJobStatus.SUCCEEDED);
+            job.setStepsDone(job.getStepsTotal());
+            job.setResultRows(result instanceof List<?> rows ? rows.size() : 1);
+            job.setFinishedAt(finished);
+            job.setExpiresAt(finished.plus(cfg.getResultTtl()));
+            jobs.save(job);
+            log.info("Analytics job {} ({}) succeeded with {} row(s) in {} ms", id, job.getType(),
+                    job.getResultRows(), Duration.between(job.getStartedAt(), finished).toMillis());
+        } catch (RuntimeException ex) {
+            fail(id, ex);
+        } finally {
+            active.remove(key, id);
+        }
+    }
+
+    private Object compute(AnalyticsJob job) {
+        return switch (job.getType()) {
+            case FINANCIAL_SUMMARY -> withRetry(() -> financialAnalyticsService.getFinancialSummaryWAC(
+                    job.getStartDate(), job.getEndDate(), job.getSupplierId()));
+            // one query: the running valuation cannot be split into independent sub-windows
+            case STOCK_VALUE -> withRetry(() -> stockAnalyticsService.getTotalStockValueOverTime(
+                    job.getStartDate(), job.getEndDate(), job.getSupplierId()));
+            case EMPLOYEE_CHANGES -> employeeChanges(job);
+        };
+    }
+
+    /**
+     * Reads every change row one page per step. Rows recorded while a window that includes
+     * today is being read shift later pages, so such a report may repeat a few rows.
+     */
+    private List<StockUpdateResultDTO> employeeChanges(AnalyticsJob job) {
+        List<StockUpdateResultDTO> rows = new ArrayList<>();
+        int pages = 1;
+        for (int page = 0; page < pages; page++) {
+            Pageable pageable = PageRequest.of(page, cfg.getPageSize());
+            Page<StockUpdateResultDTO> chunk = withRetry(() -> employeeAnalyticsService.scanEmployeeChanges(
+                    job.getCreatedByFilter(), job.getStartDate(), job.getEndDate(), job.getSupplierId(), pageable));
+            if (page == 0) {
+                if (chunk.getTotalElements() > cfg.getMaxResultRows()) {
+                    throw new InvalidRequestException("Report has " + chunk.getTotalElements()
+                            + " rows, more than the limit of " + cfg.getMaxResultRows() + "; narrow the window");
+                }
+                pages = Math.max(chunk.getTotalPages(), 1);
+                job.setStepsTotal(pages);
+            }
+            rows.addAll(chunk.getContent());
+            job.setStepsDone(page + 1);
+            // the entity is saved whole, so carry a fresh lease rather than the one loaded
+            job.setLeaseUntil(now().plus(cfg.getLease()));
+            jobs.save(job);
+        }
+        return rows;
+    }
+
+    /** A background job can wait out a busy dashboard instead of failing on the first 503. */
+    private static <T> T withRetry(Supplier<T> query) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return query.get();
+            } catch (ServiceUnavailableException ex) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw ex;
+                }
+                pause(ex.getRetryAfter());
+            }
+        }
+    }
+
+    private static void pause(Duration retryAfter) {
+        try {
+            Thread.sleep(retryAfter != null ? retryAfter.toMillis() : 1_000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for analytics capacity", ex);
+        }
+    }
+
+    private void fail(String id, RuntimeException ex) {
+        // validation and capacity messages are meant for clients; anything else stays in the log
+        boolean expected = ex instanceof InvalidRequestException || ex instanceof ServiceUnavailableException;
+        String reason = expected ? ex.getMessage() : "Report failed; see server logs";
+        if (expected) {
+            log.warn("Analytics job {} failed: {}", id, reason);
+        } else {
+            log.error("Analytics job {} failed", id, ex);
+        }
+        try {
+            jobs.findById(id).ifPresent(job -> {
+                LocalDateTime finished = now();
+                job.setStatus(AnalyticsJobStatus.FAILED);
+                job.setErrorMessage(reason);
+                job.setFinishedAt(finished);
+                job.setExpiresAt(finished.plus(cfg.getResultTtl()));
+                jobs.save(job);
+            });
+        } catch (RuntimeException saveEx) {
+            log.error("Could not record the failure of analytics job {}", id, saveEx);
+        }
+    }
+
+    private void purgeExpired() {
+        LocalDateTime now = now();
+        results.deleteExpired(now);
+        int purged = jobs.deleteExpired(now);
+        if (purged > 0) {
+            log.debug("Purged {} expired analytics job(s)", purged);
+        }
+    }
+
+    private AnalyticsJob load(String id) {
+        return jobs.findById(id)
+                .filter(job -> job.getExpiresAt().isAfter(now()))
+                .orElseThrow(() -> new NoSuchElementException("Analytics job not found: " + id));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /** Identity of a report request; the creator filter is case-insensitive. */
+    static String requestKey(AnalyticsJobType type, LocalDate from, LocalDate to,
+                             String supplierId, String createdBy) {
+        return String.join("|", type.name(), from.toString(), to.toString(),
+                Objects.toString(supplierId, ""),
+                createdBy != null ? createdBy.toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static AnalyticsJobDTO toDto(AnalyticsJob job) {
+        int progress = job.getStatus() == AnalyticsJobStatus.SUCCEEDED ? 100
+                : job.getStepsTotal() > 0 ? job.getStepsDone() * 100 / job.getStepsTotal() : 0;
+        return new AnalyticsJobDTO(
+                job.getId(),
+                job.getType(),
+                job.getStatus(),
+                progress,
+                job.getStepsDone(),
+                job.getStepsTotal(),
+                job.getStartDate(),
+                job.getEndDate(),
+                job.getSupplierId(),
+                job.getCreatedByFilter(),
+                job.getResultRows(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getExpiresAt());
+    }
+}
@@ -1,7 +1,6 @@
 package com.smartsupplypro.inventory.service.impl.analytics;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.IsoFields;
 import java.util.ArrayList;
@@ -16,20 +15,24 @@ import java.util.TreeMap;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.bulkhead.PoolPartitioned;
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
 import com.smartsupplypro.inventory.dto.EmployeeActivityDTO;
 import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
 import com.smartsupplypro.inventory.model.AppUser;
 import com.smartsupplypro.inventory.repository.AppUserRepository;
 import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.cache.AnalyticsCaches;
 
 import lombok.RequiredArgsConstructor;
 
-import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.asLocalDateTime;
-import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.asNumber;
 import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.blankToNull;
 import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.defaultAndValidateDateWindow;
 import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.endOfDay;
@@ -44,8 +47,10 @@ import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConve
  * audit identity when no user row exists (e.g. system-generated changes).</p>
  */
 @Service
+@PoolPartitioned(PoolPartition.ANALYTICS)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = AnalyticsCaches.NAME, keyGenerator = AnalyticsCaches.KEY_GENERATOR)
 public class EmployeeAnalyticsService {
 
     private static final Set<String> GRANULARITIES = Set.of("daily", "weekly", "monthly");
@@ -63,28 +68,39 @@ public class EmployeeAnalyticsService {
      * @return activity rows ordered by period ascending, then creator
      * @throws InvalidRequestException on unknown granularity or inverted window
      */
+    @Cacheable
     public List<EmployeeActivityDTO> getEmployeeActivity(String granularity,
                                                          LocalDate startDate,
                                                          LocalDate endDate,
                                                          String supplierId) {
-        final String g = granularity == null ? "monthly" : granularity.toLowerCase(Locale.ROOT);
-        if (!GRANULARITIES.contains(g)) {
-            throw new InvalidRequestException("granularity must be one of: daily, weekly, monthly");
-        }
+        final String g = normalizeGranularity(granularity);
         LocalDate[] window = defaultAndValidateDateWindow(startDate, endDate);
 
-        List<Object[]> rows = stockHistoryRepository.getDailyEmployeeActivity(
+        List<DailyEmployeeActivityRowDTO> rows = stockHistoryRepository.getDailyEmployeeActivity(
                 startOfDay(window[0]), endOfDay(window[1]), blankToNull(supplierId));
+        return rollUpDailyActivity(rows, g);
+    }
+
+    /**
+     * Rolls daily per-creator counts up to the requested granularity and resolves display names.
+     *
+     * <p>Shared with batched analytics, which derives the daily rows from its window digest
+     * instead of running {@code getDailyEmployeeActivity}.</p>
+     *
+     * @param rows        per-creator, per-day counts in any order
+     * @param granularity {@code daily}, {@code weekly}, or {@code monthly} (null = monthly)
+     * @return activity rows ordered by period ascending, then creator
+     * @throws InvalidRequestException on unknown granularity
+     */
+    public List<EmployeeActivityDTO> rollUpDailyActivity(List<DailyEmployeeActivityRowDTO> rows, String granularity) {
+        final String g = normalizeGranularity(granularity);
         Map<String, String> displayNames = loadDisplayNames();
 
         // creator -> (period -> count); TreeMap keeps periods sorted per creator
         Map<String, Map<String, Long>> byEmployee = new LinkedHashMap<>();
-        for (Object[] r : rows) {
-            String createdBy = (String) r[0];
-            LocalDate day = LocalDate.parse((String) r[1]);
-            long count = asNumber(r[2]).longValue();
-            byEmployee.computeIfAbsent(createdBy, k -> new TreeMap<>())
-                      .merge(toPeriodKey(day, g), count, Long::sum);
+        for (DailyEmployeeActivityRowDTO r : rows) {
+            byEmployee.computeIfAbsent(r.createdBy(), k -> new TreeMap<>())
+                      .merge(toPeriodKey(r.day(), g), r.changeCount(), Long::sum);
         }
 
         List<EmployeeActivityDTO> out = new ArrayList<>();
@@ -111,24 +127,41 @@ public class EmployeeAnalyticsService {
      * @return page of change rows with resolved item and supplier names
      * @throws InvalidRequestException on inverted window
      */
+    @Cacheable
     public Page<StockUpdateResultDTO> getEmployeeChanges(String createdBy,
                                                          LocalDate startDate,
                                                          LocalDate endDate,
                                                          String supplierId,
                                                          Pageable pageable) {
+        return scanEmployeeChanges(createdBy, startDate, endDate, supplierId, pageable);
+    }
+
+    /**
+     * Uncached {@link #getEmployeeChanges}: report jobs page through whole multi-year windows,
+     * which would otherwise evict every dashboard entry from the bounded analytics cache.
+     */
+    public Page<StockUpdateResultDTO> scanEmployeeChanges(String createdBy,
+                                                          LocalDate startDate,
+                                                          LocalDate endDate,
+                                                          String supplierId,
+                                                          Pageable pageable) {
         LocalDate[] window = defaultAndValidateDateWindow(startDate, endDate);
-        Page<Object[]> page = stockHistoryRepository.findEmployeeChanges(
+        return stockHistoryRepository.findEmployeeChanges(
                 startOfDay(window[0]), endOfDay(window[1]), blankToNull(createdBy),
                 blankToNull(supplierId), pageable);
+    }
 
-        return page.map(r -> new StockUpdateResultDTO(
-                (String) r[0],
-                (String) r[1],
-                asNumber(r[2]).intValue(),
-                (String) r[3],
-                (String) r[4],
-                asLocalDateTime(r[5])
-        ));
+    /**
+     * Lower-cases and validates a granularity; null means monthly.
+     *
+     * @throws InvalidRequestException on unknown granularity
+     */
+    static String normalizeGranularity(String granularity) {
+        final String g = granularity == null ? "monthly" : granularity.toLowerCase(Locale.ROOT);
+        if (!GRANULARITIES.contains(g)) {
+            throw new InvalidRequestException("granularity must be one of: daily, weekly, monthly");
+        }
+        return g;
     }
 
     private String toPeriodKey(LocalDate day, String granularity) {
@@ -10,14 +10,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.bulkhead.PoolPartitioned;
 import com.smartsupplypro.inventory.dto.FinancialSummaryDTO;
 import com.smartsupplypro.inventory.dto.StockEventRowDTO;
 import com.smartsupplypro.inventory.enums.StockChangeReason;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
+import com.smartsupplypro.inventory.observability.jfr.WacReplayEvent;
 import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.cache.AnalyticsCaches;
 import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConverterHelper.blankToNull;
 
 import lombok.RequiredArgsConstructor;
@@ -33,6 +39,9 @@ import lombok.RequiredArgsConstructor;
  * <p><strong>WAC formula</strong>:
  * {@code newWAC = (oldQty × oldWAC + inboundQty × unitCost) / (oldQty + inboundQty)}</p>
  *
+ * <p>Each replay is reported as a {@link WacReplayEvent} with per-phase timings when
+ * the JFR event is enabled; phase timestamps are not taken otherwise.</p>
+ *
  * <p>Exceeds the 200-line guideline due to private WAC calculation helpers
  * ({@code applyInbound}, {@code issueAt}, phase helpers) that must remain
  * co-located for algorithmic coherence.</p>
@@ -40,8 +49,10 @@ import lombok.RequiredArgsConstructor;
  * @see AnalyticsConverterHelper
  */
 @Service
+@PoolPartitioned(PoolPartition.ANALYTICS)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = AnalyticsCaches.NAME, keyGenerator = AnalyticsCaches.KEY_GENERATOR)
 public class FinancialAnalyticsService {
 
     private final StockHistoryRepository stockHistoryRepository;
@@ -71,6 +82,7 @@ public class FinancialAnalyticsService {
      * @return WAC-based financial summary
      * @throws InvalidRequestException if dates are null or {@code from > to}
      */
+    @Cacheable
     public FinancialSummaryDTO getFinancialSummaryWAC(LocalDate from, LocalDate to, String supplierId) {
         if (from == null || to == null) throw new InvalidRequestException("from/to must be provided");
         if (from.isAfter(to))          throw new InvalidRequestException("from must be on or before to");
@@ -78,17 +90,39 @@ public class FinancialAnalyticsService {
         // LocalTime.MIN/MAX give full-day inclusive boundaries at TIMESTAMP precision
         LocalDateTime start = LocalDateTime.of(from, LocalTime.MIN);
 
+        WacReplayEvent replay = new WacReplayEvent();
+        replay.begin();
+        long t0 = replay.isEnabled() ? System.nanoTime() : 0L;
+
         List<StockEventRowDTO> events =
                 stockHistoryRepository.streamEventsForWAC(
                         LocalDateTime.of(to, LocalTime.MAX), blankToNull(supplierId));
+        long t1 = replay.isEnabled() ? System.nanoTime() : 0L;
 
         Map<String, WacState> state = new HashMap<>();
         FinancialBuckets b = new FinancialBuckets();
 
         processOpeningInventory(events, start, state);
         sumOpeningInventory(state, b);
+        long t2 = replay.isEnabled() ? System.nanoTime() : 0L;
         processPeriodEvents(events, start, state, b);
+        long t3 = replay.isEnabled() ? System.nanoTime() : 0L;
         sumEndingInventory(state, b);
+        long t4 = replay.isEnabled() ? System.nanoTime() : 0L;
+
+        replay.end();
+        if (replay.shouldCommit()) {
+            replay.events      = events.size();
+            replay.items       = state.size();
+            replay.from        = from.toString();
+            replay.to          = to.toString();
+            replay.supplierId  = blankToNull(supplierId);
+            replay.loadTime    = t1 - t0;
+            replay.openingTime = t2 - t1;
+            replay.periodTime  = t3 - t2;
+            replay.endingTime  = t4 - t3;
+            replay.commit();
+        }
 
         return buildSummary(from, to, b);
     }
@@ -4,9 +4,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.bulkhead.PoolPartitioned;
 import com.smartsupplypro.inventory.dto.ItemUpdateFrequencyDTO;
 import com.smartsupplypro.inventory.dto.LowStockItemDTO;
 import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
@@ -19,6 +23,8 @@ import com.smartsupplypro.inventory.dto.StockValueOverTimeDTO;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
 import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.cache.AnalyticsCaches;
+import com.smartsupplypro.inventory.service.impl.analytics.lowstock.LowStockIndex;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,8 +34,11 @@ import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConve
  * Stock analytics service for inventory metrics and reporting.
  *
  * <p>All operations are read-only. Date windows default to the last 30 days
- * when not specified. Type coercion from native SQL projections is handled
- * by {@link AnalyticsConverterHelper} to bridge H2 (test) and Oracle (prod) differences.</p>
+ * when not specified. The repositories return typed DTOs read column by column from
+ * the result set, identical on H2 (test) and Oracle (prod).
+ * Projection queries go through {@code queryRows}, which reports each one as a JFR
+ * {@code AnalyticsQuery} event. Low-stock queries are served from the {@link LowStockIndex}
+ * once it is ready and are not cached; they fall back to SQL while the index is (re)building.</p>
  *
  * <p>Exceeds the 200-line guideline due to private helper methods and per-method
  * inline documentation that must remain co-located for analytical coherence.</p>
@@ -37,12 +46,15 @@ import static com.smartsupplypro.inventory.service.impl.analytics.AnalyticsConve
  * @see AnalyticsConverterHelper
  */
 @Service
+@PoolPartitioned(PoolPartition.ANALYTICS)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = AnalyticsCaches.NAME, keyGenerator = AnalyticsCaches.KEY_GENERATOR)
 public class StockAnalyticsService {
 
     private final StockHistoryRepository stockHistoryRepository;
     private final InventoryItemRepository inventoryItemRepository;
+    private final LowStockIndex lowStockIndex;
 
     /**
      * Retrieves daily inventory value (quantity × price) over a date range.
@@ -54,6 +66,7 @@ public class StockAnalyticsService {
      * @return daily stock values ordered by date ascending
      * @throws InvalidRequestException if {@code startDate > endDate}
      */
+    @Cacheable
     public List<StockValueOverTimeDTO> getTotalStockValueOverTime(LocalDate startDate,
                                                                    LocalDate endDate,
                                                                    String supplierId) {
@@ -62,29 +75,17 @@ public class StockAnalyticsService {
         LocalDateTime from = startOfDay(window[0]);
         LocalDateTime to   = endOfDay(window[1]);
 
-        List<Object[]> rows = stockHistoryRepository.getDailyStockValuation(from, to, blankToNull(supplierId));
-
-        return rows.stream()
-                .map(r -> new StockValueOverTimeDTO(
-                        asLocalDate(r[0]),
-                        asNumber(r[1]).doubleValue()
-                ))
-                .toList();
+        return queryRows("getDailyStockValuation",
+                () -> stockHistoryRepository.getDailyStockValuation(from, to, blankToNull(supplierId)));
     }
 
     /**
      * Retrieves current stock quantities grouped by supplier.
      * @return suppliers with total quantities ordered by quantity descending
      */
+    @Cacheable
     public List<StockPerSupplierDTO> getTotalStockPerSupplier() {
-        List<Object[]> rows = stockHistoryRepository.getTotalStockBySupplier();
-
-        return rows.stream()
-                .map(r -> new StockPerSupplierDTO(
-                        (String) r[0],
-                        asNumber(r[1]).longValue()
-                ))
-                .toList();
+        return queryRows("getTotalStockBySupplier", stockHistoryRepository::getTotalStockBySupplier);
     }
 
     /**
@@ -95,16 +96,10 @@ public class StockAnalyticsService {
      * @return items with update counts ordered by count descending
      * @throws InvalidRequestException if {@code supplierId} is blank
      */
+    @Cacheable
     public List<ItemUpdateFrequencyDTO> getItemUpdateFrequency(String supplierId) {
         String sid = requireNonBlank(supplierId, "supplierId");
-        List<Object[]> rows = stockHistoryRepository.getUpdateCountByItem(sid);
-
-        return rows.stream()
-                .map(r -> new ItemUpdateFrequencyDTO(
-                        (String) r[0],
-                        asNumber(r[1]).longValue()
-                ))
-                .toList();
+        return queryRows("getUpdateCountByItem", () -> stockHistoryRepository.getUpdateCountByItem(sid));
     }
 
     /**
@@ -116,16 +111,7 @@ public class StockAnalyticsService {
      * @throws InvalidRequestException if {@code supplierId} is blank
      */
     public List<LowStockItemDTO> getItemsBelowMinimumStock(String supplierId) {
-        String sid = requireNonBlank(supplierId, "supplierId");
-        List<Object[]> rows = inventoryItemRepository.findItemsBelowMinimumStockFiltered(sid);
-
-        return rows.stream()
-                .map(r -> new LowStockItemDTO(
-                        (String) r[0],
-                        asNumber(r[1]).intValue(),
-                        asNumber(r[2]).intValue()
-                ))
-                .toList();
+        return lowStockItems(requireNonBlank(supplierId, "supplierId"), Integer.MAX_VALUE);
     }
 
     /**
@@ -139,15 +125,18 @@ public class StockAnalyticsService {
      * @return low-stock items ordered by quantity ascending (most critical first)
      */
     public List<LowStockItemDTO> getItemsBelowMinimumStock() {
-        List<Object[]> rows = inventoryItemRepository.findItemsBelowMinimumStockFiltered(null);
+        return lowStockItems(null, Integer.MAX_VALUE);
+    }
 
-        return rows.stream()
-                .map(r -> new LowStockItemDTO(
-                        (String) r[0],
-                        asNumber(r[1]).intValue(),
-                        asNumber(r[2]).intValue()
-                ))
-                .toList();
+    /**
+     * Returns the most critical low-stock items, optionally scoped to one supplier.
+     *
+     * @param supplierId optional supplier filter (null/blank = all suppliers)
+     * @param limit      maximum number of items to return
+     * @return at most {@code limit} low-stock items ordered by quantity ascending
+     */
+    public List<LowStockItemDTO> getTopLowStockItems(String supplierId, int limit) {
+        return lowStockItems(blankToNull(supplierId), limit);
     }
 
     /**
@@ -160,6 +149,7 @@ public class StockAnalyticsService {
      * @return monthly movements in YYYY-MM format ordered by month ascending
      * @throws InvalidRequestException if {@code startDate > endDate}
      */
+    @Cacheable
     public List<MonthlyStockMovementDTO> getMonthlyStockMovement(LocalDate startDate,
                                                                   LocalDate endDate,
                                                                   String supplierId) {
@@ -168,15 +158,8 @@ public class StockAnalyticsService {
         LocalDateTime from = startOfDay(window[0]);
         LocalDateTime to   = endOfDay(window[1]);
 
-        List<Object[]> rows = stockHistoryRepository.getMonthlyStockMovementBySupplier(from, to, blankToNull(supplierId));
-
-        return rows.stream()
-                .map(r -> new MonthlyStockMovementDTO(
-                        (String) r[0],
-                        asNumber(r[1]).longValue(),
-                        asNumber(r[2]).longValue()
-                ))
-                .toList();
+        return queryRows("getMonthlyStockMovementBySupplier",
+                () -> stockHistoryRepository.getMonthlyStockMovementBySupplier(from, to, blankToNull(supplierId)));
     }
 
     /**
@@ -190,6 +173,7 @@ public class StockAnalyticsService {
      * @return per-reason increase/decrease totals ordered by reason ascending
      * @throws InvalidRequestException if {@code startDate > endDate}
      */
+    @Cacheable
     public List<ReasonBreakdownDTO> getReasonBreakdown(LocalDate startDate,
                                                        LocalDate endDate,
                                                        String supplierId,
@@ -199,24 +183,18 @@ public class StockAnalyticsService {
         LocalDateTime from = startOfDay(window[0]);
         LocalDateTime to   = endOfDay(window[1]);
 
-        List<Object[]> rows = stockHistoryRepository.getReasonBreakdown(
-                from, to, blankToNull(supplierId), blankToNull(itemName));
-
-        return rows.stream()
-                .map(r -> new ReasonBreakdownDTO(
-                        (String) r[0],
-                        asNumber(r[1]).longValue(),
-                        asNumber(r[2]).longValue()
-                ))
-                .toList();
+        return queryRows("getReasonBreakdown",
+                () -> stockHistoryRepository.getReasonBreakdown(
+                        from, to, blankToNull(supplierId), blankToNull(itemName)));
     }
 
     /**
-     * Total items currently below minimum stock threshold (global KPI, no supplier filter).
+     * Total items currently below their minimum quantity (global KPI, no supplier filter).
+     * Uses the same {@code quantity < minimumQuantity} rule as the low-stock lists.
      * @return count of low-stock items
      */
     public long lowStockCount() {
-        return inventoryItemRepository.countWithQuantityBelow(5);
+        return lowStockIndex.count(null).orElseGet(inventoryItemRepository::countBelowMinimumStock);
     }
 
     /**
@@ -238,24 +216,13 @@ public class StockAnalyticsService {
             throw new InvalidRequestException("minChange must be <= maxChange");
         }
 
-        List<Object[]> rows = stockHistoryRepository.searchStockUpdates(
-                start, end,
-                blankToNull(filter.getItemName()),
-                blankToNull(filter.getSupplierId()),
-                blankToNull(filter.getCreatedBy()),
-                min, max
-        );
-
-        return rows.stream()
-                .map(r -> new StockUpdateResultDTO(
-                        (String) r[0],
-                        (String) r[1],
-                        asNumber(r[2]).intValue(),
-                        (String) r[3],
-                        (String) r[4],
-                        asLocalDateTime(r[5])
-                ))
-                .toList();
+        return queryRows("searchStockUpdates",
+                () -> stockHistoryRepository.searchStockUpdates(
+                        start, end,
+                        blankToNull(filter.getItemName()),
+                        blankToNull(filter.getSupplierId()),
+                        blankToNull(filter.getCreatedBy()),
+                        min, max));
     }
 
     /**
@@ -295,6 +262,7 @@ public class StockAnalyticsService {
      * @return day/price pairs ordered by date ascending
      * @throws InvalidRequestException if {@code itemId} is blank or {@code start > end}
      */
+    @Cacheable
     public List<PriceTrendDTO> getPriceTrend(String itemId, String supplierId, LocalDate start, LocalDate end) {
         String iid = requireNonBlank(itemId, "itemId");
         LocalDate s = requireNonNull(start, "start");
@@ -305,6 +273,15 @@ public class StockAnalyticsService {
         }
 
         // startOfDay/endOfDay so start and end dates are fully inclusive at TIMESTAMP precision
-        return stockHistoryRepository.getItemPriceTrend(iid, supplierId, startOfDay(s), endOfDay(e));
+        // blankToNull matches the cache key, which already folds a blank supplier into null
+        return queryRows("getItemPriceTrend",
+                () -> stockHistoryRepository.getItemPriceTrend(iid, blankToNull(supplierId), startOfDay(s), endOfDay(e)));
+    }
+
+    private List<LowStockItemDTO> lowStockItems(String supplierId, int limit) {
+        return lowStockIndex.top(supplierId, limit).orElseGet(() ->
+                inventoryItemRepository.findItemsBelowMinimumStockFiltered(supplierId).stream()
+                        .limit(limit)
+                        .toList());
     }
 }
@@ -0,0 +1,43 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Per-entry expiry policy for the analytics cache.
+ *
+ * <p>Windows that ended before today are immutable history and keep the long
+ * {@code pastWindowTtl}; everything else (current-state queries, windows that
+ * include today) keeps the short {@code ttl} as a safety net behind event-driven
+ * invalidation. Reads never extend an entry's lifetime.</p>
+ */
+public class AnalyticsCacheExpiry implements Expiry<Object, Object> {
+
+    private final long ttlNanos;
+    private final long pastWindowTtlNanos;
+
+    public AnalyticsCacheExpiry(Duration ttl, Duration pastWindowTtl) {
+        this.ttlNanos = ttl.toNanos();
+        this.pastWindowTtlNanos = pastWindowTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        if (key instanceof AnalyticsCacheKey k && k.isFullyPast(LocalDate.now())) {
+            return pastWindowTtlNanos;
+        }
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
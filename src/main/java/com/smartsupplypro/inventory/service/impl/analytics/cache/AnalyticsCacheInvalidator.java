@@ -0,0 +1,81 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent;
+import com.smartsupplypro.inventory.event.StockMovementRecordedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts analytics results that a committed write may have changed.
+ *
+ * <p>For stock movements only entries whose supplier filter, item filter and
+ * window can observe the movement are removed (see {@link AnalyticsCacheKey#isTouchedBy});
+ * fully past windows and other suppliers' results stay warm. Item writes without a
+ * movement (rename, supplier move, deactivation, threshold edit) are handled via
+ * {@link InventoryItemChangedEvent}. Runs after commit so a rolled back write never
+ * evicts, and falls back to immediate execution when the event is published outside
+ * a transaction.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsCacheInvalidator.class);
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Removes every cached analytics result the movement can affect.
+     *
+     * @param event committed stock movement
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockMovement(StockMovementRecordedEvent event) {
+        var day = event.timestamp().toLocalDate();
+        evictIf("movement on item " + event.itemId(),
+                k -> k.isTouchedBy(event.supplierId(), event.itemId(), day));
+    }
+
+    /**
+     * Removes results that an item write changed without recording a movement.
+     *
+     * <p>Name, supplier and active-flag changes relabel or rescope history, so every
+     * entry that may list the item is dropped regardless of window. A threshold-only
+     * edit affects current low-stock views, i.e. windowless entries.</p>
+     *
+     * @param event committed item change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(InventoryItemChangedEvent event) {
+        if (event.descriptiveChange()) {
+            evictIf("item " + event.itemId() + " changed",
+                    k -> k.itemId() == null || k.itemId().equals(event.itemId()));
+        } else if (event.before().minimumQuantity() != event.after().minimumQuantity()) {
+            evictIf("minimum of item " + event.itemId() + " changed",
+                    k -> k.to() == null && k.isTouchedBy(event.after().supplierId(), event.itemId(), null));
+        }
+    }
+
+    private void evictIf(String cause, Predicate<AnalyticsCacheKey> touched) {
+        Cache cache = cacheManager.getCache(AnalyticsCaches.NAME);
+        if (cache == null
+                || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return;
+        }
+
+        int before = nativeCache.asMap().size();
+        nativeCache.asMap().keySet().removeIf(key ->
+                !(key instanceof AnalyticsCacheKey k) || touched.test(k));
+        log.debug("Analytics cache: {} evicted {} of {} entries",
+                cause, before - nativeCache.asMap().size(), before);
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Normalised cache key for one analytics invocation.
+ *
+ * <p>The supplier, item and date-window dimensions are lifted out of the raw
+ * argument list so the invalidator can decide whether a newly written stock
+ * movement can affect the cached result. Everything else (granularity, item
+ * name filter, paging) stays in {@code args} and only participates in equality.</p>
+ *
+ * @param query      declaring class and method name, e.g. {@code StockAnalyticsService.getReasonBreakdown}
+ * @param supplierId trimmed supplier filter, or null for "all suppliers"
+ * @param itemId     trimmed item filter, or null when the query is not item-scoped
+ * @param from       effective inclusive window start, or null for current-state queries
+ * @param to         effective inclusive window end, or null for current-state queries
+ * @param args       remaining normalised arguments in declaration order
+ */
+public record AnalyticsCacheKey(
+        String query,
+        String supplierId,
+        String itemId,
+        LocalDate from,
+        LocalDate to,
+        List<Object> args
+) {
+
+    /**
+     * Returns true when the window ended before {@code today}.
+     *
+     * <p>Movements are always stamped with the server clock, so no future write
+     * can land inside such a window; these results may be cached for much longer.</p>
+     */
+    public boolean isFullyPast(LocalDate today) {
+        return to != null && to.isBefore(today);
+    }
+
+    /**
+     * Decides whether a movement written on {@code day} for the given supplier and
+     * item may change this cached result.
+     *
+     * <p>Only the window end is compared: a movement before a window's start still
+     * shifts opening balances (WAC summary, running valuations), so any window that
+     * has not ended yet is considered touched. Current-state queries (no window)
+     * are touched by every movement of a matching supplier.</p>
+     */
+    public boolean isTouchedBy(String movementSupplierId, String movementItemId, LocalDate day) {
+        if (supplierId != null && movementSupplierId != null && !supplierId.equalsIgnoreCase(movementSupplierId)) {
+            return false;
+        }
+        if (itemId != null && !itemId.equals(movementItemId)) {
+            return false;
+        }
+        return to == null || !to.isBefore(day);
+    }
+}
@@ -0,0 +1,82 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+/**
+ * Builds {@link AnalyticsCacheKey}s from analytics service invocations.
+ *
+ * <p>Arguments are classified by parameter name (the build compiles with
+ * {@code -parameters}): {@code supplierId}, {@code itemId}, and the window
+ * bounds ({@code start/startDate/from}, {@code end/endDate/to}). Strings are
+ * trimmed and blank values collapse to null, and absent window bounds resolve
+ * to the same 30-day default the services apply, so {@code ?startDate=} and an
+ * explicit last-30-days request share one entry.</p>
+ */
+public class AnalyticsCacheKeyGenerator implements KeyGenerator {
+
+    private static final Set<String> FROM_NAMES = Set.of("start", "startDate", "from");
+    private static final Set<String> TO_NAMES   = Set.of("end", "endDate", "to");
+
+    /** Mirrors the default window in {@code AnalyticsConverterHelper.defaultAndValidateDateWindow}. */
+    private static final int DEFAULT_WINDOW_DAYS = 30;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String supplierId = null;
+        String itemId = null;
+        LocalDate from = null;
+        LocalDate to = null;
+        boolean windowed = false;
+        List<Object> args = new ArrayList<>();
+
+        Parameter[] declared = method.getParameters();
+        for (int i = 0; i < params.length; i++) {
+            String name = i < declared.length ? declared[i].getName() : "";
+            Object value = normalize(params[i]);
+            if ("supplierId".equals(name)) {
+                supplierId = (String) value;
+            } else if ("itemId".equals(name)) {
+                itemId = (String) value;
+            } else if (FROM_NAMES.contains(name)) {
+                windowed = true;
+                from = asDate(value);
+            } else if (TO_NAMES.contains(name)) {
+                windowed = true;
+                to = asDate(value);
+            } else {
+                args.add(value);
+            }
+        }
+
+        if (windowed) {
+            LocalDate today = LocalDate.now();
+            if (to == null) to = today;
+            if (from == null) from = today.minusDays(DEFAULT_WINDOW_DAYS);
+        }
+
+        String query = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new AnalyticsCacheKey(query, supplierId, itemId, from, to, Collections.unmodifiableList(args));
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof String s) {
+            String trimmed = s.trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+        return value;
+    }
+
+    private static LocalDate asDate(Object value) {
+        if (value instanceof LocalDateTime ldt) return ldt.toLocalDate();
+        return (LocalDate) value;
+    }
+}
@@ -0,0 +1,15 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+/**
+ * Names shared between the analytics services, the cache configuration and the invalidator.
+ */
+public final class AnalyticsCaches {
+
+    /** Single bounded cache holding every analytics result, keyed by {@link AnalyticsCacheKey}. */
+    public static final String NAME = "analytics";
+
+    /** Bean name of the {@link AnalyticsCacheKeyGenerator} referenced from {@code @CacheConfig}. */
+    public static final String KEY_GENERATOR = "analyticsKeyGenerator";
+
+    private AnalyticsCaches() {}
+}
@@ -0,0 +1,305 @@
+package com.smartsupplypro.inventory.service.impl.analytics.lowstock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.LowStockItemDTO;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent;
+import com.smartsupplypro.inventory.model.InventoryItem;
+import com.smartsupplypro.inventory.repository.InventoryItemRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory index of active items below their minimum quantity.
+ *
+ * <p>Loaded once when the application is ready and then maintained from the
+ * {@link InventoryItemChangedEvent} every item write publishes, so low-stock counts
+ * and top-N lists are answered without SQL. Entries are kept in criticality order
+ * (lowest on-hand quantity first, as the low-stock queries sort) in one global
+ * partition and one partition per supplier, each with its own size counter.</p>
+ *
+ * <p>Events only cover writes made through this instance. Writes from other instances
+ * or straight to the database are picked up by a full reload every
+ * {@code app.analytics.low-stock.reconcile-interval}, which bounds how long counts
+ * can drift.</p>
+ *
+ * <p>All partitions hang off one {@link State} published through a volatile field. A reload
+ * queries the database without any lock, fills a fresh {@code State}, replays the writes
+ * applied meanwhile and swaps it in, so readers see either the old or the new content,
+ * never a half-built one, and writes never wait for the query. Writes are serialized by a
+ * {@link ReentrantLock} rather than {@code synchronized}, since on JDK 21 a virtual thread
+ * that blocks on a monitor pins its carrier thread. Reads never lock, read the state once
+ * per call and may briefly miss an item that is being moved between positions. Until the
+ * first load succeeds, and after a failed one, the index is not ready and callers fall back
+ * to SQL.</p>
+ */
+@Component
+public class LowStockIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(LowStockIndex.class);
+
+    /** Most critical first; name and id keep the order total and stable. */
+    static final Comparator<Entry> CRITICALITY = Comparator.comparingInt(Entry::quantity)
+            .thenComparing(Entry::name, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Entry::itemId);
+
+    private final InventoryItemRepository repository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private ScheduledExecutorService reconciler;
+    /** Current content; null while not ready. Replaced whole, mutated only under {@link #writeLock}. */
+    private volatile State state;
+    /** Writes applied while a reload query runs, replayed onto the loaded state; guarded by {@link #writeLock}. */
+    private List<Change> pending;
+
+    @Autowired
+    public LowStockIndex(InventoryItemRepository repository, AppProperties props) {
+        this(repository);
+        long interval = props.getAnalytics().getLowStock().getReconcileInterval().toMillis();
+        if (interval > 0) {
+            reconciler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("low-stock-reconcile").daemon(true).factory());
+            // the first load is the ApplicationReadyEvent rebuild
+            reconciler.scheduleWithFixedDelay(this::reconcile, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Test seam: no background reload; tests call {@link #reconcile()} directly. */
+    LowStockIndex(InventoryItemRepository repository) {
+        this.repository = repository;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    /**
+     * Replaces the index content with the current low-stock items from the database.
+     * The previous content keeps answering while the query runs. A failed load leaves
+     * the index not ready so queries use SQL until the next load succeeds.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            startRecording();
+            State loaded = load();
+            writeLock.lock();
+            try {
+                if (loaded != null) {
+                    for (Change change : pending) {
+                        loaded.apply(change.itemId(), change.after());
+                    }
+                }
+                pending = null;
+                state = loaded;
+            } finally {
+                writeLock.unlock();
+            }
+            if (loaded != null) {
+                log.info("Low-stock index rebuilt with {} items", loaded.all().size());
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Periodic reload that replaces the incrementally maintained state with the database
+     * content, correcting drift from writes that published no event here.
+     */
+    void reconcile() {
+        rebuild();
+    }
+
+    /**
+     * Applies a committed item write. Runs after commit so rolled back writes never
+     * reach the index, and immediately when published outside a transaction.
+     *
+     * @param event committed item change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(InventoryItemChangedEvent event) {
+        apply(event.itemId(), event.after());
+    }
+
+    /**
+     * Moves, adds or removes one item according to its state after a write.
+     *
+     * @param itemId item identifier
+     * @param after  item state after the write
+     */
+    public void apply(String itemId, InventoryItemChangedEvent.Snapshot after) {
+        writeLock.lock();
+        try {
+            State current = state;
+            if (current != null) {
+                current.apply(itemId, after);
+            }
+            if (pending != null) {
+                pending.add(new Change(itemId, after));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** True once the index reflects the database; false before startup or after a failed rebuild. */
+    public boolean isReady() {
+        return state != null;
+    }
+
+    /**
+     * Number of low-stock items, in O(1).
+     *
+     * @param supplierId supplier to count, or null for all suppliers
+     * @return low-stock item count, empty while the index is not ready
+     */
+    public OptionalLong count(String supplierId) {
+        State current = state;
+        if (current == null) {
+            return OptionalLong.empty();
+        }
+        Partition partition = current.partition(supplierId);
+        return OptionalLong.of(partition == null ? 0 : partition.size());
+    }
+
+    /**
+     * Most critical low-stock items, lowest quantity first.
+     *
+     * @param supplierId supplier to list, or null for all suppliers
+     * @param limit      maximum number of items to return
+     * @return at most {@code limit} items in criticality order, empty while the index is not ready
+     */
+    public Optional<List<LowStockItemDTO>> top(String supplierId, int limit) {
+        State current = state;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Partition partition = current.partition(supplierId);
+        if (partition == null || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        List<LowStockItemDTO> out = new ArrayList<>(Math.min(limit, partition.size()));
+        for (Entry e : partition.entries) {
+            if (out.size() == limit) {
+                break;
+            }
+            out.add(new LowStockItemDTO(e.name(), e.quantity(), e.minimumQuantity()));
+        }
+        return Optional.of(out);
+    }
+
+    private void startRecording() {
+        writeLock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Reads the low-stock rows into a new state outside any lock; null when the query fails. */
+    private State load() {
+        try {
+            State loaded = new State();
+            for (InventoryItem item : repository.findAllBelowMinimumStock()) {
+                loaded.put(new Entry(item.getId(), item.getName(), item.getSupplierId(),
+                        item.getQuantity(), item.getMinimumQuantity()));
+            }
+            return loaded;
+        } catch (RuntimeException ex) {
+            log.warn("Low-stock index rebuild failed; low-stock queries fall back to SQL", ex);
+            return null;
+        }
+    }
+
+    /** Indexed state of one low-stock item. */
+    record Entry(String itemId, String name, String supplierId, int quantity, int minimumQuantity) {}
+
+    /** Item write recorded during a reload. */
+    private record Change(String itemId, InventoryItemChangedEvent.Snapshot after) {}
+
+    /**
+     * One generation of index content. Its fields never change; the collections are
+     * mutated only under the write lock and read concurrently without it.
+     */
+    private record State(Map<String, Entry> byItem, Partition all, Map<String, Partition> bySupplier) {
+
+        private State() {
+            this(new HashMap<>(), new Partition(), new ConcurrentHashMap<>());
+        }
+
+        private Partition partition(String supplierId) {
+            return supplierId == null ? all : bySupplier.get(supplierId);
+        }
+
+        private void apply(String itemId, InventoryItemChangedEvent.Snapshot after) {
+            Entry previous = byItem.remove(itemId);
+            if (previous != null) {
+                all.remove(previous);
+                if (previous.supplierId() != null) {
+                    bySupplier.get(previous.supplierId()).remove(previous);
+                }
+            }
+            if (after.isLowStock()) {
+                put(new Entry(itemId, after.name(), after.supplierId(), after.quantity(), after.minimumQuantity()));
+            }
+        }
+
+        private void put(Entry entry) {
+            byItem.put(entry.itemId(), entry);
+            all.add(entry);
+            if (entry.supplierId() != null) {
+                bySupplier.computeIfAbsent(entry.supplierId(), k -> new Partition()).add(entry);
+            }
+        }
+    }
+
+    private static final class Partition {
+        private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(CRITICALITY);
+        private final AtomicInteger size = new AtomicInteger();
+
+        private void add(Entry entry) {
+            if (entries.add(entry)) {
+                size.incrementAndGet();
+            }
+        }
+
+        private void remove(Entry entry) {
+            if (entries.remove(entry)) {
+                size.decrementAndGet();
+            }
+        }
+
+        private int size() {
+            return size.get();
+        }
+    }
+}
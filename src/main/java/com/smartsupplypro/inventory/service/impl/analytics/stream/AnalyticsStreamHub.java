@@ -0,0 +1,170 @@
+package com.smartsupplypro.inventory.service.impl.analytics.stream;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.AnalyticsStreamEventDTO;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fan-out hub for live analytics Server-Sent Events.
+ *
+ * <p>{@link #broadcast} never blocks on a client socket: it only offers the event to
+ * each subscriber's bounded queue and schedules a drain on a virtual thread. A
+ * subscriber whose queue is full is a slow consumer and is disconnected; browsers'
+ * {@code EventSource} reconnects and clients refetch their widgets on {@code ready}.
+ * A periodic comment frame keeps idle connections open through proxies.</p>
+ */
+@Component
+public class AnalyticsStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsStreamHub.class);
+
+    /** First event on every connection; also tells the browser how long to wait before reconnecting. */
+    static final String READY = "ready";
+    private static final long RECONNECT_MILLIS = 5_000;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AppProperties.Analytics.Stream cfg;
+    private final Executor senders;
+    private final ScheduledExecutorService heartbeat;
+
+    @Autowired
+    public AnalyticsStreamHub(AppProperties props) {
+        this(props, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("analytics-sse-", 0).factory()));
+        long period = cfg.getHeartbeat().toMillis();
+        heartbeat.scheduleAtFixedRate(() -> fanOut(SseEmitter.event().comment("keepalive").build()),
+                period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /** Test seam: lets tests control when subscriber queues are drained. */
+    AnalyticsStreamHub(AppProperties props, Executor senders) {
+        this.cfg = props.getAnalytics().getStream();
+        this.senders = senders;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("analytics-sse-heartbeat").daemon(true).factory());
+    }
+
+    /**
+     * Registers a new subscriber.
+     *
+     * @return emitter to return from the controller
+     * @throws ResponseStatusException 503 when {@code max-subscribers} connections are already open
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= cfg.getMaxSubscribers()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live analytics subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(cfg.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, cfg.getBufferSize());
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> evict(subscriber, "timeout"));
+        emitter.onError(ex -> evict(subscriber, "error"));
+
+        enqueue(subscriber, SseEmitter.event().name(READY).reconnectTime(RECONNECT_MILLIS).data("").build());
+        return emitter;
+    }
+
+    /**
+     * Publishes a delta event to every subscriber without blocking the caller.
+     *
+     * @param event delta to push; its {@code type} becomes the SSE event name
+     */
+    public void broadcast(AnalyticsStreamEventDTO event) {
+        fanOut(SseEmitter.event().name(event.type()).data(event).build());
+    }
+
+    /** Number of currently connected subscribers. */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+        subscribers.clear();
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Frames are built once and shared; builders themselves are not reusable. */
+    private void fanOut(Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (!subscriber.queue.offer(event)) {
+            evict(subscriber, "slow consumer");
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /** Sends queued events until the queue is empty; only one drain runs per subscriber at a time. */
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Set<DataWithMediaType> next = subscriber.queue.poll();
+            if (next == null) {
+                subscriber.draining.set(false);
+                // an event may have been enqueued after poll() but before the flag was cleared
+                if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                subscriber.emitter.send(next);
+            } catch (IOException | IllegalStateException ex) {
+                evict(subscriber, "send failed");
+                return;
+            }
+        }
+    }
+
+    private void evict(Subscriber subscriber, String why) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Analytics stream subscriber disconnected: {}", why);
+            subscriber.queue.clear();
+            // completing synchronizes on the emitter, which a stalled send may hold; never block the publisher
+            senders.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.smartsupplypro.inventory.service.impl.analytics.stream;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.smartsupplypro.inventory.dto.AnalyticsStreamEventDTO;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent;
+import com.smartsupplypro.inventory.event.StockMovementRecordedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Translates committed domain events into live analytics deltas.
+ *
+ * <p>Runs after commit so subscribers never see a change that was rolled back.
+ * Quantity changes produce {@code item-quantity}; crossing the item's
+ * {@code minimumQuantity} (in either direction, including via a threshold edit,
+ * creation or deactivation) adds {@code low-stock-entered}/{@code low-stock-left};
+ * every audit-trail row produces {@code movement}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsStreamPublisher {
+
+    private final AnalyticsStreamHub hub;
+
+    /**
+     * Pushes quantity and low-stock transition deltas for an item write.
+     *
+     * @param event committed item change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(InventoryItemChangedEvent event) {
+        if (hub.subscriberCount() == 0) {
+            return;
+        }
+        InventoryItemChangedEvent.Snapshot after = event.after();
+        LocalDateTime now = LocalDateTime.now();
+        if (event.quantityChanged()) {
+            hub.broadcast(itemDelta(AnalyticsStreamEventDTO.ITEM_QUANTITY, event.itemId(), after, now));
+        }
+        if (!event.wasLowStock() && event.isLowStock()) {
+            hub.broadcast(itemDelta(AnalyticsStreamEventDTO.LOW_STOCK_ENTERED, event.itemId(), after, now));
+        } else if (event.wasLowStock() && !event.isLowStock()) {
+            hub.broadcast(itemDelta(AnalyticsStreamEventDTO.LOW_STOCK_LEFT, event.itemId(), after, now));
+        }
+    }
+
+    /**
+     * Pushes a {@code movement} delta for a new audit-trail row.
+     *
+     * @param event committed stock movement
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockMovement(StockMovementRecordedEvent event) {
+        if (hub.subscriberCount() == 0) {
+            return;
+        }
+        hub.broadcast(new AnalyticsStreamEventDTO(AnalyticsStreamEventDTO.MOVEMENT, event.itemId(), null,
+                event.supplierId(), null, null, event.change(), event.reason().name(), event.timestamp()));
+    }
+
+    private static AnalyticsStreamEventDTO itemDelta(String type, String itemId,
+                                                     InventoryItemChangedEvent.Snapshot after,
+                                                     LocalDateTime now) {
+        return new AnalyticsStreamEventDTO(type, itemId, after.name(), after.supplierId(),
+                after.quantity(), after.minimumQuantity(), null, null, now);
+    }
+}
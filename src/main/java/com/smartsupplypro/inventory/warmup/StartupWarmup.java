@@ -0,0 +1,278 @@
+package com.smartsupplypro.inventory.warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.smartsupplypro.inventory.bulkhead.PartitionedDataSource;
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.controller.analytics.AnalyticsDashboardHelper;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchRequestDTO;
+import com.smartsupplypro.inventory.dto.InventoryItemDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsWidget;
+import com.smartsupplypro.inventory.service.InventoryItemService;
+import com.smartsupplypro.inventory.service.StockHistoryService;
+import com.smartsupplypro.inventory.service.SupplierService;
+import com.smartsupplypro.inventory.service.impl.analytics.AnalyticsBatchService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs representative read-only queries once the context is up and before the application
+ * reports ready.
+ *
+ * <p>Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC} only after every
+ * {@link ApplicationRunner} has returned, so while this runner works the actuator readiness
+ * group and {@code /api/health} answer 503 and the platform keeps traffic away. The warm-up
+ * opens the pool's idle connections, then repeats the catalogue reads for
+ * {@code app.warmup.rounds} rounds so their mapping code is compiled, and computes the
+ * default dashboard and analytics batch once so the analytics caches hold the windows the
+ * first users ask for.</p>
+ *
+ * <p>Steps run on a daemon thread and never write. A failing step is logged and counted;
+ * it does not stop the others and never fails startup. When {@code app.warmup.budget}
+ * elapses the remaining steps are skipped and the application becomes ready anyway.</p>
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    /** Progress of the warm-up. */
+    public enum State { PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED }
+
+    /**
+     * Outcome of the warm-up, exposed on {@code /api/health/ready}.
+     *
+     * @param state         progress
+     * @param elapsedMillis time spent, 0 until finished
+     * @param rounds        catalogue rounds started
+     * @param succeeded     step executions that completed
+     * @param failed        step executions that threw
+     */
+    public record Result(State state, long elapsedMillis, int rounds, int succeeded, int failed) {}
+
+    /**
+     * One warm-up action.
+     *
+     * @param name   label for the log
+     * @param repeat true to run in every round, false to run in the first round only
+     */
+    record Step(String name, boolean repeat, Runnable action) {}
+
+    private static final int CATALOGUE_PAGE_SIZE = 20;
+    private static final int HISTORY_PAGE_SIZE = 50;
+    private static final int ANALYTICS_WINDOW_DAYS = 30;
+
+    private final AppProperties.Warmup cfg;
+    private final List<Step> steps;
+
+    private volatile Result result = new Result(State.PENDING, 0, 0, 0, 0);
+    private volatile boolean stopped;
+
+    // Filled by the catalogue step for the scoped analytics step.
+    private volatile InventoryItemDTO sampleItem;
+
+    @Autowired
+    public StartupWarmup(AppProperties props,
+                         DataSource dataSource,
+                         InventoryItemService items,
+                         SupplierService suppliers,
+                         StockHistoryService history,
+                         AnalyticsDashboardHelper dashboard,
+                         AnalyticsBatchService batch) {
+        this.cfg = props.getWarmup();
+        this.steps = List.of(
+                new Step("connection-pool", false, () -> openIdleConnections(dataSource, props)),
+                new Step("catalogue", true, () -> readCatalogue(items, suppliers, history)),
+                new Step("catalogue-full", true, items::getAll),
+                new Step("dashboard", false, () -> {
+                    LocalDateTime end = LocalDateTime.now();
+                    dashboard.buildDashboardSummary(null, end.minusDays(ANALYTICS_WINDOW_DAYS), end);
+                }),
+                new Step("analytics-batch", false, () -> batch.execute(defaultBatch())),
+                new Step("supplier-scoped", false, () -> readSupplierScoped(dashboard, batch)));
+    }
+
+    /** Test seam: arbitrary steps. */
+    StartupWarmup(AppProperties.Warmup cfg, List<Step> steps) {
+        this.cfg = cfg;
+        this.steps = List.copyOf(steps);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    /** Latest outcome; {@link State#RUNNING} while the warm-up is in progress. */
+    public Result result() {
+        return result;
+    }
+
+    /** Runs the steps within the budget and returns the outcome. */
+    Result warmUp() {
+        if (!cfg.isEnabled()) {
+            result = new Result(State.DISABLED, 0, 0, 0, 0);
+            return result;
+        }
+        AtomicInteger rounds = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        result = new Result(State.RUNNING, 0, 0, 0, 0);
+        long start = System.nanoTime();
+
+        ExecutorService worker = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+                .name("startup-warmup").daemon(true).factory());
+        State state;
+        try {
+            Future<?> done = worker.submit(() -> runRounds(rounds, succeeded, failed));
+            try {
+                done.get(cfg.getBudget().toMillis(), TimeUnit.MILLISECONDS);
+                state = State.COMPLETED;
+            } catch (TimeoutException ex) {
+                // Let the running query finish on its own; interrupting JDBC calls can close connections.
+                stopped = true;
+                state = State.TIMED_OUT;
+            } catch (ExecutionException ex) {
+                log.warn("Startup warm-up aborted: {}", ex.getCause().toString());
+                state = State.COMPLETED;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+                state = State.TIMED_OUT;
+            }
+        } finally {
+            worker.shutdown();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        result = new Result(state, elapsedMillis, rounds.get(), succeeded.get(), failed.get());
+        log.info("Startup warm-up {} in {} ms: {} round(s), {} step(s) succeeded, {} failed",
+                state == State.COMPLETED ? "completed" : "stopped at budget",
+                elapsedMillis, rounds.get(), succeeded.get(), failed.get());
+        return result;
+    }
+
+    private void runRounds(AtomicInteger rounds, AtomicInteger succeeded, AtomicInteger failed) {
+        for (int round = 1; round <= Math.max(1, cfg.getRounds()); round++) {
+            rounds.incrementAndGet();
+            for (Step step : steps) {
+                if (stopped) {
+                    return;
+                }
+                if (round > 1 && !step.repeat()) {
+                    continue;
+                }
+                long stepStart = System.nanoTime();
+                try {
+                    step.action().run();
+                    succeeded.incrementAndGet();
+                    log.debug("Warm-up step {} (round {}) took {} ms", step.name(), round,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stepStart));
+                } catch (RuntimeException ex) {
+                    failed.incrementAndGet();
+                    log.warn("Warm-up step {} (round {}) failed: {}", step.name(), round, ex.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds Hikari's {@code minimum-idle} connections at once so they are all opened now rather
+     * than by the first requests, never more than the CRUD partition admits.
+     */
+    private static void openIdleConnections(DataSource dataSource, AppProperties props) {
+        int target = 1;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                target = Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle());
+            }
+        } catch (SQLException ex) {
+            // not a Hikari pool: one connection still exercises the driver
+        }
+        PartitionedDataSource partitioned = PartitionedDataSource.unwrap(dataSource);
+        if (partitioned != null) {
+            target = Math.min(target, partitioned.partition(PoolPartition.CRUD).maxConcurrent());
+        } else if (props.getBulkhead().isEnabled()) {
+            target = Math.min(target, props.getBulkhead().getCrud().getMaxConcurrent());
+        }
+
+        List<Connection> held = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                held.add(dataSource.getConnection());
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not open connection " + (held.size() + 1) + " of " + target, ex);
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (SQLException ex) {
+                    log.debug("Closing warm-up connection failed: {}", ex.toString());
+                }
+            }
+        }
+    }
+
+    /** First catalogue page as the UI requests it, counts, suppliers and a history page. */
+    private void readCatalogue(InventoryItemService items, SupplierService suppliers, StockHistoryService history) {
+        Page<InventoryItemDTO> page = items.searchItems("", null, false,
+                PageRequest.of(0, CATALOGUE_PAGE_SIZE, Sort.by("price")));
+        if (sampleItem == null && !page.isEmpty()) {
+            sampleItem = page.getContent().get(0);
+        }
+        items.countItems();
+        suppliers.findAll();
+        LocalDateTime end = LocalDateTime.now();
+        history.findFiltered(end.minusDays(ANALYTICS_WINDOW_DAYS), end, null, null,
+                PageRequest.of(0, HISTORY_PAGE_SIZE));
+    }
+
+    /** Supplier-filtered dashboard and the price trend of one item, the next views users open. */
+    private void readSupplierScoped(AnalyticsDashboardHelper dashboard, AnalyticsBatchService batch) {
+        InventoryItemDTO item = sampleItem;
+        if (item == null) {
+            return; // empty catalogue: nothing to scope to
+        }
+        LocalDateTime end = LocalDateTime.now();
+        if (item.getSupplierId() != null) {
+            dashboard.buildDashboardSummary(item.getSupplierId(), end.minusDays(ANALYTICS_WINDOW_DAYS), end);
+        }
+        LocalDate today = end.toLocalDate();
+        batch.execute(new AnalyticsBatchRequestDTO(List.of(AnalyticsWidget.PRICE_TREND),
+                today.minusDays(ANALYTICS_WINDOW_DAYS), today, null, item.getId(), null, null));
+    }
+
+    /** Every widget that needs no item, over the default window. */
+    private static AnalyticsBatchRequestDTO defaultBatch() {
+        List<AnalyticsWidget> widgets = new ArrayList<>(List.of(AnalyticsWidget.values()));
+        widgets.remove(AnalyticsWidget.PRICE_TREND);
+        LocalDate today = LocalDate.now();
+        return new AnalyticsBatchRequestDTO(widgets, today.minusDays(ANALYTICS_WINDOW_DAYS), today,
+                null, null, null, null);
+    }
+}
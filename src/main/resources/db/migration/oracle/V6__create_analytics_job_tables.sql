@@ -0,0 +1,44 @@
+-- ============================================================================
+-- V6__create_analytics_job_tables.sql
+-- ----------------------------------------------------------------------------
+-- Purpose : Background analytics report jobs (POST /api/analytics/jobs).
+--           ANALYTICS_JOB holds parameters, progress and lifecycle timestamps;
+--           ANALYTICS_JOB_RESULT holds the JSON payload separately so status
+--           polling never reads the CLOB.
+-- Strategy: Rows are short-lived. The application purges jobs whose
+--           EXPIRES_AT has passed (result first, then job).
+-- Rollback: Not automated. Reverse manually with
+--           DROP TABLE ANALYTICS_JOB_RESULT; DROP TABLE ANALYTICS_JOB;
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+CREATE TABLE ANALYTICS_JOB (
+    ID                VARCHAR2(36)   NOT NULL,
+    JOB_TYPE          VARCHAR2(32)   NOT NULL,
+    STATUS            VARCHAR2(16)   NOT NULL,
+    START_DATE        DATE           NOT NULL,
+    END_DATE          DATE           NOT NULL,
+    SUPPLIER_ID       VARCHAR2(255),
+    CREATED_BY_FILTER VARCHAR2(255),
+    REQUESTED_BY      VARCHAR2(255)  NOT NULL,
+    STEPS_DONE        NUMBER(10)     DEFAULT 0 NOT NULL,
+    STEPS_TOTAL       NUMBER(10)     DEFAULT 1 NOT NULL,
+    RESULT_ROWS       NUMBER(10),
+    ERROR_MESSAGE     VARCHAR2(500),
+    CREATED_AT        TIMESTAMP      NOT NULL,
+    STARTED_AT        TIMESTAMP,
+    FINISHED_AT       TIMESTAMP,
+    EXPIRES_AT        TIMESTAMP      NOT NULL,
+    CONSTRAINT PK_ANALYTICS_JOB PRIMARY KEY (ID),
+    CONSTRAINT CHK_ANALYTICS_JOB_STATUS CHECK (STATUS IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED'))
+);
+
+CREATE INDEX IX_AJ_EXPIRES ON ANALYTICS_JOB (EXPIRES_AT);
+
+CREATE TABLE ANALYTICS_JOB_RESULT (
+    JOB_ID  VARCHAR2(36) NOT NULL,
+    PAYLOAD CLOB         NOT NULL,
+    CONSTRAINT PK_ANALYTICS_JOB_RESULT PRIMARY KEY (JOB_ID),
+    CONSTRAINT FK_AJR_JOB FOREIGN KEY (JOB_ID) REFERENCES ANALYTICS_JOB (ID)
+);
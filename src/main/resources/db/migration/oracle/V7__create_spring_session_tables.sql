@@ -0,0 +1,41 @@
+-- ============================================================================
+-- V7__create_spring_session_tables.sql
+-- ----------------------------------------------------------------------------
+-- Purpose : HTTP sessions in the database (Spring Session JDBC) so every
+--           instance behind the load balancer sees the same login.
+--           SPRING_SESSION holds one row per session; SPRING_SESSION_ATTRIBUTES
+--           holds the serialized attributes (the security context among them).
+-- Strategy: Layout of Spring Session's schema-oracle.sql. SPRING_SESSION_IX2
+--           backs the scheduled "delete where EXPIRY_TIME < now" cleanup;
+--           attributes go with their session through ON DELETE CASCADE.
+--           SPRING_SESSION_IX3 serves lookups of a user's sessions.
+-- Rollback: Not automated. Reverse manually with
+--           DROP TABLE SPRING_SESSION_ATTRIBUTES; DROP TABLE SPRING_SESSION;
+--           Dropping the tables signs every user out.
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+CREATE TABLE SPRING_SESSION (
+    PRIMARY_ID            CHAR(36)           NOT NULL,
+    SESSION_ID            CHAR(36)           NOT NULL,
+    CREATION_TIME         NUMBER(19,0)       NOT NULL,
+    LAST_ACCESS_TIME      NUMBER(19,0)       NOT NULL,
+    MAX_INACTIVE_INTERVAL NUMBER(10,0)       NOT NULL,
+    EXPIRY_TIME           NUMBER(19,0)       NOT NULL,
+    PRINCIPAL_NAME        VARCHAR2(100 CHAR),
+    CONSTRAINT SPRING_SESSION_PK PRIMARY KEY (PRIMARY_ID)
+);
+
+CREATE UNIQUE INDEX SPRING_SESSION_IX1 ON SPRING_SESSION (SESSION_ID);
+CREATE INDEX SPRING_SESSION_IX2 ON SPRING_SESSION (EXPIRY_TIME);
+CREATE INDEX SPRING_SESSION_IX3 ON SPRING_SESSION (PRINCIPAL_NAME);
+
+CREATE TABLE SPRING_SESSION_ATTRIBUTES (
+    SESSION_PRIMARY_ID CHAR(36)           NOT NULL,
+    ATTRIBUTE_NAME     VARCHAR2(200 CHAR) NOT NULL,
+    ATTRIBUTE_BYTES    BLOB               NOT NULL,
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_PK PRIMARY KEY (SESSION_PRIMARY_ID, ATTRIBUTE_NAME),
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_FK FOREIGN KEY (SESSION_PRIMARY_ID)
+        REFERENCES SPRING_SESSION (PRIMARY_ID) ON DELETE CASCADE
+);
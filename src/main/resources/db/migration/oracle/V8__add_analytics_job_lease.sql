@@ -0,0 +1,19 @@
+-- ============================================================================
+-- V8__add_analytics_job_lease.sql
+-- ----------------------------------------------------------------------------
+-- Purpose : Owner and lease of background analytics jobs, so an instance that
+--           starts up only fails the jobs of a previous process of its own or
+--           of an instance that stopped renewing, not jobs still running on
+--           other instances.
+-- Strategy: Both columns are nullable. Rows written before this migration
+--           have no lease and are treated as orphaned when still active.
+-- Rollback: Not automated. Reverse manually with
+--           ALTER TABLE ANALYTICS_JOB DROP (OWNER_ID, LEASE_UNTIL);
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+ALTER TABLE ANALYTICS_JOB ADD (
+    OWNER_ID    VARCHAR2(64),
+    LEASE_UNTIL TIMESTAMP
+);
@@ -0,0 +1,68 @@
+-- ============================================================================
+-- V1__create_base_schema.sql  (PostgreSQL)
+-- ----------------------------------------------------------------------------
+-- Purpose : Create the schema that Oracle production adopted as its Flyway
+--           baseline (version 1), so a fresh PostgreSQL database replays the
+--           same V2..V7 history as Oracle. Oracle never runs this file.
+-- Strategy: Unquoted identifiers; PostgreSQL folds them to lower case, which
+--           Hibernate's default naming and the unquoted analytics SQL expect.
+--           SKU and ACTIVE are absent on purpose: V2 and V5 add them.
+--           The STOCK_HISTORY indexes match the entity's @Index list; the
+--           analytics queries range-scan CREATED_AT through them.
+-- Rollback: Not automated. Reverse manually by dropping the four tables,
+--           children first.
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+CREATE TABLE users_app (
+    id         VARCHAR(36)  NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    role       VARCHAR(16)  NOT NULL,
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_users_app PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE supplier (
+    id           VARCHAR(255) NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    contact_name VARCHAR(255),
+    phone        VARCHAR(255),
+    email        VARCHAR(255),
+    created_by   VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_supplier PRIMARY KEY (id)
+);
+
+CREATE TABLE inventory_item (
+    id               VARCHAR(36)    NOT NULL,
+    name             VARCHAR(255)   NOT NULL,
+    quantity         INTEGER        NOT NULL,
+    price            NUMERIC(38, 2) NOT NULL,
+    supplier_id      VARCHAR(255)   NOT NULL,
+    created_by       VARCHAR(255)   NOT NULL,
+    minimum_quantity INTEGER        NOT NULL,
+    created_at       TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_inventory_item PRIMARY KEY (id),
+    CONSTRAINT fk_item_supplier FOREIGN KEY (supplier_id) REFERENCES supplier (id)
+);
+
+CREATE TABLE stock_history (
+    id              VARCHAR(255)   NOT NULL,
+    item_id         VARCHAR(255)   NOT NULL,
+    supplier_id     VARCHAR(255),
+    quantity_change INTEGER        NOT NULL,
+    reason          VARCHAR(255)   NOT NULL,
+    created_by      VARCHAR(255)   NOT NULL,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    price_at_change NUMERIC(12, 2),
+    CONSTRAINT pk_stock_history PRIMARY KEY (id),
+    CONSTRAINT fk_sh_item FOREIGN KEY (item_id) REFERENCES inventory_item (id),
+    CONSTRAINT fk_sh_supplier FOREIGN KEY (supplier_id) REFERENCES supplier (id)
+);
+
+CREATE INDEX ix_sh_item_ts ON stock_history (item_id, created_at);
+CREATE INDEX ix_sh_ts ON stock_history (created_at);
+CREATE INDEX ix_sh_supplier_ts ON stock_history (supplier_id, created_at);
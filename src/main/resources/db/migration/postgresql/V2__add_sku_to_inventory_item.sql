@@ -0,0 +1,16 @@
+-- ============================================================================
+-- V2__add_sku_to_inventory_item.sql  (PostgreSQL)
+-- ----------------------------------------------------------------------------
+-- Purpose : Introduce the SKU (Stock Keeping Unit) column on INVENTORY_ITEM.
+--           PostgreSQL counterpart of oracle/V2; same add / populate (V3) /
+--           constrain (V4) sequence so both histories stay version-aligned.
+-- Rollback: Not automated. Reverse manually with
+--           ALTER TABLE inventory_item DROP COLUMN sku;
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+ALTER TABLE inventory_item ADD COLUMN sku VARCHAR(32);
+
+COMMENT ON COLUMN inventory_item.sku IS
+  'Stock Keeping Unit - unique, human-readable item code (category prefix + type code). Required for all items since schema V4.';
@@ -0,0 +1,285 @@
+-- ============================================================================
+-- V3__reseed_demo_data.sql  (PostgreSQL)
+-- ----------------------------------------------------------------------------
+-- Purpose : Replace the entire fictional demo dataset with a curated, coherent
+--           one. The new dataset guarantees:
+--             * every item carries an industry-style SKU (see V2),
+--             * STOCK_HISTORY covers all 11 StockChangeReason values,
+--             * changes are attributed to three creators (the ADMIN account
+--               plus two fictional USER rows) so per-employee analytics have
+--               meaningful data,
+--             * per-item history reconciles: the running quantity never goes
+--               negative and the final sum equals INVENTORY_ITEM.QUANTITY.
+--           PostgreSQL counterpart of oracle/V3: the rows are identical
+--           (TO_TIMESTAMP takes the same format there); only Section 6 differs.
+-- Scope   : Deletes all rows from STOCK_HISTORY, INVENTORY_ITEM and SUPPLIER,
+--           and all users_app rows except ADMIN accounts. The ADMIN account is
+--           preserved by ROLE, never by hardcoded identity.
+-- Safety  : Runs inside one Flyway transaction (DML only) - a mid-flight
+--           failure rolls back completely. A fresh local database has no
+--           ADMIN row yet, so Section 6 falls back to 'system'.
+-- Data    : All company names, contact persons, e-mail addresses, users and
+--           SKUs are fictional. E-mail domains use example.com, reserved for
+--           documentation by RFC 2606 - they can never reach a real mailbox.
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+--           Future data changes go into a NEW migration (V5, V6, ...).
+-- ============================================================================
+
+-- ----------------------------------------------------------------------------
+-- Section 1: Wipe existing demo data (children before parents; FK safety).
+--            users_app: keep every ADMIN row, remove all others.
+-- ----------------------------------------------------------------------------
+DELETE FROM STOCK_HISTORY;
+DELETE FROM INVENTORY_ITEM;
+DELETE FROM SUPPLIER;
+DELETE FROM users_app WHERE ROLE <> 'ADMIN';
+
+-- ----------------------------------------------------------------------------
+-- Section 2: Suppliers - six fictional companies across DE/UK/ES/BR.
+-- ----------------------------------------------------------------------------
+INSERT INTO SUPPLIER (ID, NAME, CONTACT_NAME, PHONE, EMAIL, CREATED_BY, CREATED_AT) VALUES ('seed-sup-001', 'Nordbay Industriebedarf GmbH', 'Petra Lindner', '+49 911 5550101', 'p.lindner@example.com', 'system', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO SUPPLIER (ID, NAME, CONTACT_NAME, PHONE, EMAIL, CREATED_BY, CREATED_AT) VALUES ('seed-sup-002', 'Steelcraft Components Ltd.', 'James Whitfield', '+44 121 5550102', 'j.whitfield@example.com', 'system', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO SUPPLIER (ID, NAME, CONTACT_NAME, PHONE, EMAIL, CREATED_BY, CREATED_AT) VALUES ('seed-sup-003', 'Verpackung Huber und Sohn KG', 'Markus Huber', '+49 89 5550103', 'm.huber@example.com', 'system', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO SUPPLIER (ID, NAME, CONTACT_NAME, PHONE, EMAIL, CREATED_BY, CREATED_AT) VALUES ('seed-sup-004', 'Iberia Logistics Supplies S.L.', 'Carmen Ruiz', '+34 91 5550104', 'c.ruiz@example.com', 'system', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO SUPPLIER (ID, NAME, CONTACT_NAME, PHONE, EMAIL, CREATED_BY, CREATED_AT) VALUES ('seed-sup-005', 'TechSeal Dichtungen GmbH', 'Sabine Krueger', '+49 711 5550105', 's.krueger@example.com', 'system', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO SUPPLIER (ID, NAME, CONTACT_NAME, PHONE, EMAIL, CREATED_BY, CREATED_AT) VALUES ('seed-sup-006', 'Atlantico Ferramentas Ltda.', 'Paulo Nascimento', '+55 11 5550106', 'p.nascimento@example.com', 'system', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+
+-- ----------------------------------------------------------------------------
+-- Section 3: Seed users - fictional USER accounts. They can never log in
+--            (login is Google OAuth2; these addresses are RFC 2606 reserved).
+--            They exist purely as attribution targets for stock changes.
+-- ----------------------------------------------------------------------------
+INSERT INTO users_app (ID, EMAIL, NAME, ROLE, CREATED_AT) VALUES ('seed-user-001', 'jonas.weber@example.com', 'Jonas Weber', 'USER', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO users_app (ID, EMAIL, NAME, ROLE, CREATED_AT) VALUES ('seed-user-002', 'ana.ferreira@example.com', 'Ana Ferreira', 'USER', TO_TIMESTAMP('2024-12-01 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+
+-- ----------------------------------------------------------------------------
+-- Section 4: Inventory items - 18 items, 3 per supplier. SKUs follow the
+--            common industry convention CATEGORY-TYPE(-VARIANT), e.g.
+--            BRG-6204-2RS = bearing, ISO designation 6204, 2RS sealing.
+--            QUANTITY equals the reconciled sum of this item's history rows.
+--            CREATED_BY uses the ADMIN_SEED placeholder resolved in Section 6.
+-- ----------------------------------------------------------------------------
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-001', 'BRG-6204-2RS', 'Deep Groove Ball Bearing 6204-2RS', 9, 4.10, 'seed-sup-001', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-002', 'BRG-6305-ZZ', 'Deep Groove Ball Bearing 6305-ZZ', 282, 5.40, 'seed-sup-001', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-003', 'FST-M8X30-88', 'Hex Bolt M8x30 Grade 8.8 (Box 100)', 21, 9.90, 'seed-sup-001', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-004', 'STL-SHT-2MM', 'Cold Rolled Steel Sheet 2mm 1x2m', 169, 38.50, 'seed-sup-002', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-005', 'STL-ROD-D12', 'Steel Round Bar D12 3m', 215, 14.20, 'seed-sup-002', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-006', 'WLD-ER70S-1KG', 'MIG Welding Wire ER70S-6 1kg', 306, 7.60, 'seed-sup-002', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-007', 'PKG-FILM-0450', 'Stretch Film Roll 450mm x 300m', 230, 7.10, 'seed-sup-003', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-008', 'PKG-BOX-6040', 'Cardboard Box 600x400x400 (Pack 20)', 49, 18.30, 'seed-sup-003', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-009', 'PKG-TAPE-50', 'Packing Tape 50mm x 66m (Pack 36)', 278, 21.90, 'seed-sup-003', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-010', 'LOG-PAL-EUR1', 'EUR-1 Wooden Pallet', 367, 11.50, 'seed-sup-004', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-011', 'LOG-STRAP-16', 'PET Strapping Band 16mm x 2000m', 217, 42.00, 'seed-sup-004', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-012', 'PPE-GLV-L009', 'Cut Resistant Gloves Level C Size L', 125, 4.25, 'seed-sup-004', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-013', 'SEA-ORING-N70', 'O-Ring Kit NBR 70 (419 pcs)', 320, 26.50, 'seed-sup-005', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-014', 'SEA-GSKT-DN50', 'Flange Gasket DN50 PN16 (Pack 10)', 535, 16.40, 'seed-sup-005', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-015', 'SEA-SHAFT-35', 'Radial Shaft Seal 35x52x7', 378, 2.95, 'seed-sup-005', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-016', 'TLS-DRL-HSS10', 'HSS Drill Bit Set 1-10mm', 67, 19.60, 'seed-sup-006', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-017', 'TLS-WRN-CMB22', 'Combination Wrench Set 6-22mm', 306, 36.80, 'seed-sup-006', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT) VALUES ('seed-item-018', 'TLS-HMR-0500', 'Engineer Hammer 500g Fiberglass', 190, 12.70, 'seed-sup-006', 'ADMIN_SEED', 25, TO_TIMESTAMP('2025-01-02 08:00:00','YYYY-MM-DD HH24:MI:SS'));
+
+-- ----------------------------------------------------------------------------
+-- Section 5: Stock history - 182 movements, Jan 2025 to Jun 2026.
+--            Covers all 11 StockChangeReason values. PRICE_CHANGE rows carry
+--            QUANTITY_CHANGE = 0 and the new price in PRICE_AT_CHANGE,
+--            mirroring InventoryItemAuditHelper.logPriceChange behavior.
+-- ----------------------------------------------------------------------------
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0001', 'seed-item-001', 'seed-sup-001', 125, 'INITIAL_STOCK', 'jonas.weber@example.com', TO_TIMESTAMP('2025-01-03 09:17:00','YYYY-MM-DD HH24:MI:SS'), 3.85);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0002', 'seed-item-001', 'seed-sup-001', 10, 'RETURNED_BY_CUSTOMER', 'jonas.weber@example.com', TO_TIMESTAMP('2025-02-03 10:41:00','YYYY-MM-DD HH24:MI:SS'), 3.85);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0003', 'seed-item-001', 'seed-sup-001', -27, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-03-16 14:11:00','YYYY-MM-DD HH24:MI:SS'), 3.85);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0004', 'seed-item-001', 'seed-sup-001', -26, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-05-08 08:29:00','YYYY-MM-DD HH24:MI:SS'), 3.85);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0005', 'seed-item-001', 'seed-sup-001', 7, 'RETURNED_BY_CUSTOMER', 'jonas.weber@example.com', TO_TIMESTAMP('2025-06-10 09:03:00','YYYY-MM-DD HH24:MI:SS'), 3.85);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0006', 'seed-item-001', 'seed-sup-001', -11, 'SCRAPPED', 'ADMIN_SEED', TO_TIMESTAMP('2025-08-05 09:02:00','YYYY-MM-DD HH24:MI:SS'), 3.85);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0007', 'seed-item-001', 'seed-sup-001', -14, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-09-09 11:53:00','YYYY-MM-DD HH24:MI:SS'), 3.85);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0008', 'seed-item-001', 'seed-sup-001', 0, 'PRICE_CHANGE', 'ADMIN_SEED', TO_TIMESTAMP('2025-09-28 10:00:00','YYYY-MM-DD HH24:MI:SS'), 4.10);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0009', 'seed-item-001', 'seed-sup-001', -1, 'DESTROYED', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-03 14:37:00','YYYY-MM-DD HH24:MI:SS'), 4.10);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0010', 'seed-item-001', 'seed-sup-001', -19, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-11-24 12:30:00','YYYY-MM-DD HH24:MI:SS'), 4.10);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0011', 'seed-item-001', 'seed-sup-001', -5, 'SCRAPPED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-12-13 15:44:00','YYYY-MM-DD HH24:MI:SS'), 4.10);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0012', 'seed-item-001', 'seed-sup-001', -25, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-05-06 15:28:00','YYYY-MM-DD HH24:MI:SS'), 4.10);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0013', 'seed-item-001', 'seed-sup-001', -5, 'DESTROYED', 'ADMIN_SEED', TO_TIMESTAMP('2026-06-16 11:12:00','YYYY-MM-DD HH24:MI:SS'), 4.10);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0014', 'seed-item-002', 'seed-sup-001', 224, 'INITIAL_STOCK', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-02-06 09:18:00','YYYY-MM-DD HH24:MI:SS'), 5.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0015', 'seed-item-002', 'seed-sup-001', -10, 'SCRAPPED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-15 11:25:00','YYYY-MM-DD HH24:MI:SS'), 5.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0016', 'seed-item-002', 'seed-sup-001', 53, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-06-21 15:15:00','YYYY-MM-DD HH24:MI:SS'), 5.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0017', 'seed-item-002', 'seed-sup-001', -1, 'DESTROYED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-13 15:25:00','YYYY-MM-DD HH24:MI:SS'), 5.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0018', 'seed-item-002', 'seed-sup-001', -37, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-12-05 16:52:00','YYYY-MM-DD HH24:MI:SS'), 5.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0019', 'seed-item-002', 'seed-sup-001', -5, 'DESTROYED', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-03-15 13:05:00','YYYY-MM-DD HH24:MI:SS'), 5.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0020', 'seed-item-002', 'seed-sup-001', 58, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2026-04-18 16:37:00','YYYY-MM-DD HH24:MI:SS'), 5.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0021', 'seed-item-003', 'seed-sup-001', 134, 'INITIAL_STOCK', 'ADMIN_SEED', TO_TIMESTAMP('2025-03-02 09:23:00','YYYY-MM-DD HH24:MI:SS'), 9.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0022', 'seed-item-003', 'seed-sup-001', 10, 'RETURNED_BY_CUSTOMER', 'jonas.weber@example.com', TO_TIMESTAMP('2025-06-17 16:29:00','YYYY-MM-DD HH24:MI:SS'), 9.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0023', 'seed-item-003', 'seed-sup-001', -6, 'EXPIRED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-09-11 15:34:00','YYYY-MM-DD HH24:MI:SS'), 9.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0024', 'seed-item-003', 'seed-sup-001', -25, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-10-13 17:12:00','YYYY-MM-DD HH24:MI:SS'), 9.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0025', 'seed-item-003', 'seed-sup-001', -31, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-11-17 14:11:00','YYYY-MM-DD HH24:MI:SS'), 9.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0026', 'seed-item-003', 'seed-sup-001', -12, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-12-04 13:45:00','YYYY-MM-DD HH24:MI:SS'), 9.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0027', 'seed-item-003', 'seed-sup-001', -49, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2026-06-13 15:52:00','YYYY-MM-DD HH24:MI:SS'), 9.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0028', 'seed-item-004', 'seed-sup-002', 142, 'INITIAL_STOCK', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-05 09:38:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0029', 'seed-item-004', 'seed-sup-002', 117, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-05-17 12:52:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0030', 'seed-item-004', 'seed-sup-002', -12, 'SCRAPPED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-06-20 12:18:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0031', 'seed-item-004', 'seed-sup-002', -44, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-07-08 16:58:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0032', 'seed-item-004', 'seed-sup-002', -24, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-08-20 16:23:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0033', 'seed-item-004', 'seed-sup-002', -1, 'LOST', 'jonas.weber@example.com', TO_TIMESTAMP('2025-11-18 11:32:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0034', 'seed-item-004', 'seed-sup-002', 36, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-12-06 11:22:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0035', 'seed-item-004', 'seed-sup-002', -12, 'SCRAPPED', 'ADMIN_SEED', TO_TIMESTAMP('2026-01-05 14:24:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0036', 'seed-item-004', 'seed-sup-002', -21, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-02-17 12:35:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0037', 'seed-item-004', 'seed-sup-002', -12, 'DAMAGED', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-05-08 09:57:00','YYYY-MM-DD HH24:MI:SS'), 38.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0038', 'seed-item-005', 'seed-sup-002', 190, 'INITIAL_STOCK', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-01-02 09:30:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0039', 'seed-item-005', 'seed-sup-002', -4, 'LOST', 'jonas.weber@example.com', TO_TIMESTAMP('2025-03-04 11:38:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0040', 'seed-item-005', 'seed-sup-002', -48, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-26 16:13:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0041', 'seed-item-005', 'seed-sup-002', 3, 'RETURNED_BY_CUSTOMER', 'ADMIN_SEED', TO_TIMESTAMP('2025-05-21 09:32:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0042', 'seed-item-005', 'seed-sup-002', -5, 'RETURNED_TO_SUPPLIER', 'ADMIN_SEED', TO_TIMESTAMP('2025-06-23 10:39:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0043', 'seed-item-005', 'seed-sup-002', 70, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-07-04 17:10:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0044', 'seed-item-005', 'seed-sup-002', 58, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-08-12 10:31:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0045', 'seed-item-005', 'seed-sup-002', 9, 'RETURNED_BY_CUSTOMER', 'jonas.weber@example.com', TO_TIMESTAMP('2025-09-03 11:21:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0046', 'seed-item-005', 'seed-sup-002', -41, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-23 12:40:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0047', 'seed-item-005', 'seed-sup-002', -10, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2026-02-12 14:28:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0048', 'seed-item-005', 'seed-sup-002', -11, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-04-27 14:36:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0049', 'seed-item-005', 'seed-sup-002', 4, 'RETURNED_BY_CUSTOMER', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-05-23 15:41:00','YYYY-MM-DD HH24:MI:SS'), 14.20);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0050', 'seed-item-006', 'seed-sup-002', 138, 'INITIAL_STOCK', 'ADMIN_SEED', TO_TIMESTAMP('2025-02-06 09:12:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0051', 'seed-item-006', 'seed-sup-002', 60, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-04-23 16:45:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0052', 'seed-item-006', 'seed-sup-002', 52, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-05-03 11:44:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0053', 'seed-item-006', 'seed-sup-002', 102, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-06-15 10:33:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0054', 'seed-item-006', 'seed-sup-002', -12, 'DAMAGED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-08-24 10:13:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0055', 'seed-item-006', 'seed-sup-002', -31, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-19 08:46:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0056', 'seed-item-006', 'seed-sup-002', -23, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-11-07 08:34:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0057', 'seed-item-006', 'seed-sup-002', 60, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-12-16 17:30:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0058', 'seed-item-006', 'seed-sup-002', -29, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-03-14 08:54:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0059', 'seed-item-006', 'seed-sup-002', -11, 'RETURNED_TO_SUPPLIER', 'jonas.weber@example.com', TO_TIMESTAMP('2026-04-11 17:39:00','YYYY-MM-DD HH24:MI:SS'), 7.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0060', 'seed-item-007', 'seed-sup-003', 248, 'INITIAL_STOCK', 'jonas.weber@example.com', TO_TIMESTAMP('2025-03-08 09:20:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0061', 'seed-item-007', 'seed-sup-003', 51, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-26 15:56:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0062', 'seed-item-007', 'seed-sup-003', -46, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-05-13 11:23:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0063', 'seed-item-007', 'seed-sup-003', -33, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-07-12 16:20:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0064', 'seed-item-007', 'seed-sup-003', -5, 'SCRAPPED', 'ADMIN_SEED', TO_TIMESTAMP('2025-08-15 16:02:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0065', 'seed-item-007', 'seed-sup-003', -24, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-07 16:19:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0066', 'seed-item-007', 'seed-sup-003', -22, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-11-08 15:35:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0067', 'seed-item-007', 'seed-sup-003', -40, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-12-06 17:56:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0068', 'seed-item-007', 'seed-sup-003', 101, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2026-02-17 14:45:00','YYYY-MM-DD HH24:MI:SS'), 6.75);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0069', 'seed-item-007', 'seed-sup-003', 0, 'PRICE_CHANGE', 'ADMIN_SEED', TO_TIMESTAMP('2026-02-28 10:00:00','YYYY-MM-DD HH24:MI:SS'), 7.10);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0070', 'seed-item-008', 'seed-sup-003', 194, 'INITIAL_STOCK', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-04-04 09:53:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0071', 'seed-item-008', 'seed-sup-003', -39, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-05-07 11:41:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0072', 'seed-item-008', 'seed-sup-003', -11, 'DAMAGED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-08-04 10:21:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0073', 'seed-item-008', 'seed-sup-003', -10, 'DESTROYED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-08 16:59:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0074', 'seed-item-008', 'seed-sup-003', 7, 'RETURNED_BY_CUSTOMER', 'ADMIN_SEED', TO_TIMESTAMP('2025-11-15 09:49:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0075', 'seed-item-008', 'seed-sup-003', -1, 'EXPIRED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-12-23 12:54:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0076', 'seed-item-008', 'seed-sup-003', -45, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-01-06 12:24:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0077', 'seed-item-008', 'seed-sup-003', -27, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-02-20 13:43:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0078', 'seed-item-008', 'seed-sup-003', -12, 'DAMAGED', 'jonas.weber@example.com', TO_TIMESTAMP('2026-03-10 08:39:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0079', 'seed-item-008', 'seed-sup-003', 7, 'RETURNED_BY_CUSTOMER', 'ADMIN_SEED', TO_TIMESTAMP('2026-04-19 17:17:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0080', 'seed-item-008', 'seed-sup-003', -14, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2026-06-24 10:34:00','YYYY-MM-DD HH24:MI:SS'), 18.30);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0081', 'seed-item-009', 'seed-sup-003', 229, 'INITIAL_STOCK', 'ADMIN_SEED', TO_TIMESTAMP('2025-01-08 09:29:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0082', 'seed-item-009', 'seed-sup-003', -21, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-03-07 13:19:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0083', 'seed-item-009', 'seed-sup-003', -4, 'SCRAPPED', 'ADMIN_SEED', TO_TIMESTAMP('2025-04-16 13:05:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0084', 'seed-item-009', 'seed-sup-003', 7, 'RETURNED_BY_CUSTOMER', 'jonas.weber@example.com', TO_TIMESTAMP('2025-05-24 13:20:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0085', 'seed-item-009', 'seed-sup-003', -3, 'EXPIRED', 'ADMIN_SEED', TO_TIMESTAMP('2025-06-17 08:52:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0086', 'seed-item-009', 'seed-sup-003', -28, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-05 12:20:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0087', 'seed-item-009', 'seed-sup-003', -10, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-11-19 15:23:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0088', 'seed-item-009', 'seed-sup-003', 39, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-12-25 12:30:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0089', 'seed-item-009', 'seed-sup-003', -22, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-01-21 14:42:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0090', 'seed-item-009', 'seed-sup-003', 83, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-02-09 13:46:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0091', 'seed-item-009', 'seed-sup-003', 8, 'RETURNED_BY_CUSTOMER', 'jonas.weber@example.com', TO_TIMESTAMP('2026-03-16 10:59:00','YYYY-MM-DD HH24:MI:SS'), 21.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0092', 'seed-item-010', 'seed-sup-004', 185, 'INITIAL_STOCK', 'jonas.weber@example.com', TO_TIMESTAMP('2025-02-09 09:28:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0093', 'seed-item-010', 'seed-sup-004', 57, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-03-14 15:27:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0094', 'seed-item-010', 'seed-sup-004', -37, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-13 08:07:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0095', 'seed-item-010', 'seed-sup-004', 110, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-06-04 08:59:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0096', 'seed-item-010', 'seed-sup-004', -3, 'LOST', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-10-12 17:13:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0097', 'seed-item-010', 'seed-sup-004', 96, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-11-07 15:23:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0098', 'seed-item-010', 'seed-sup-004', -27, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-12-11 08:09:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0099', 'seed-item-010', 'seed-sup-004', -31, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2026-02-08 08:32:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0100', 'seed-item-010', 'seed-sup-004', -21, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-04-22 10:33:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0101', 'seed-item-010', 'seed-sup-004', 38, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-06-17 10:29:00','YYYY-MM-DD HH24:MI:SS'), 11.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0102', 'seed-item-011', 'seed-sup-004', 278, 'INITIAL_STOCK', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-03-07 09:25:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0103', 'seed-item-011', 'seed-sup-004', 64, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-20 12:43:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0104', 'seed-item-011', 'seed-sup-004', -11, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-05-15 17:52:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0105', 'seed-item-011', 'seed-sup-004', -26, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-07-21 09:08:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0106', 'seed-item-011', 'seed-sup-004', -8, 'RETURNED_TO_SUPPLIER', 'jonas.weber@example.com', TO_TIMESTAMP('2025-08-19 09:27:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0107', 'seed-item-011', 'seed-sup-004', -43, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-21 17:49:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0108', 'seed-item-011', 'seed-sup-004', -1, 'EXPIRED', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-21 14:36:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0109', 'seed-item-011', 'seed-sup-004', -5, 'DAMAGED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-12-24 14:32:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0110', 'seed-item-011', 'seed-sup-004', -2, 'EXPIRED', 'ADMIN_SEED', TO_TIMESTAMP('2026-01-12 15:02:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0111', 'seed-item-011', 'seed-sup-004', 8, 'RETURNED_BY_CUSTOMER', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-02-23 13:12:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0112', 'seed-item-011', 'seed-sup-004', -33, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-03-07 09:31:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0113', 'seed-item-011', 'seed-sup-004', -1, 'DAMAGED', 'jonas.weber@example.com', TO_TIMESTAMP('2026-05-26 12:53:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0114', 'seed-item-011', 'seed-sup-004', -3, 'SCRAPPED', 'jonas.weber@example.com', TO_TIMESTAMP('2026-06-21 14:17:00','YYYY-MM-DD HH24:MI:SS'), 42.00);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0115', 'seed-item-012', 'seed-sup-004', 121, 'INITIAL_STOCK', 'ADMIN_SEED', TO_TIMESTAMP('2025-04-08 09:39:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0116', 'seed-item-012', 'seed-sup-004', -19, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-06-11 13:12:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0117', 'seed-item-012', 'seed-sup-004', -2, 'RETURNED_TO_SUPPLIER', 'ADMIN_SEED', TO_TIMESTAMP('2025-07-07 11:02:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0118', 'seed-item-012', 'seed-sup-004', -10, 'DAMAGED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-09-21 11:44:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0119', 'seed-item-012', 'seed-sup-004', -44, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-12-17 15:02:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0120', 'seed-item-012', 'seed-sup-004', 58, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2026-02-23 12:10:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0121', 'seed-item-012', 'seed-sup-004', -11, 'RETURNED_TO_SUPPLIER', 'jonas.weber@example.com', TO_TIMESTAMP('2026-03-19 12:53:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0122', 'seed-item-012', 'seed-sup-004', 32, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2026-04-16 12:19:00','YYYY-MM-DD HH24:MI:SS'), 4.25);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0123', 'seed-item-013', 'seed-sup-005', 220, 'INITIAL_STOCK', 'jonas.weber@example.com', TO_TIMESTAMP('2025-01-06 09:16:00','YYYY-MM-DD HH24:MI:SS'), 24.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0124', 'seed-item-013', 'seed-sup-005', -39, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-03-13 10:28:00','YYYY-MM-DD HH24:MI:SS'), 24.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0125', 'seed-item-013', 'seed-sup-005', 100, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-07-15 17:29:00','YYYY-MM-DD HH24:MI:SS'), 24.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0126', 'seed-item-013', 'seed-sup-005', -3, 'SCRAPPED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-08-16 15:28:00','YYYY-MM-DD HH24:MI:SS'), 24.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0127', 'seed-item-013', 'seed-sup-005', 10, 'RETURNED_BY_CUSTOMER', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-21 08:41:00','YYYY-MM-DD HH24:MI:SS'), 24.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0128', 'seed-item-013', 'seed-sup-005', -4, 'EXPIRED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-11-23 15:43:00','YYYY-MM-DD HH24:MI:SS'), 24.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0129', 'seed-item-013', 'seed-sup-005', 0, 'PRICE_CHANGE', 'ADMIN_SEED', TO_TIMESTAMP('2025-11-28 10:00:00','YYYY-MM-DD HH24:MI:SS'), 26.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0130', 'seed-item-013', 'seed-sup-005', -36, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-12-17 10:10:00','YYYY-MM-DD HH24:MI:SS'), 26.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0131', 'seed-item-013', 'seed-sup-005', 74, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2026-01-24 12:36:00','YYYY-MM-DD HH24:MI:SS'), 26.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0132', 'seed-item-013', 'seed-sup-005', -2, 'LOST', 'ADMIN_SEED', TO_TIMESTAMP('2026-04-12 14:38:00','YYYY-MM-DD HH24:MI:SS'), 26.50);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0133', 'seed-item-014', 'seed-sup-005', 299, 'INITIAL_STOCK', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-02-08 09:19:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0134', 'seed-item-014', 'seed-sup-005', 112, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-18 16:46:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0135', 'seed-item-014', 'seed-sup-005', -2, 'DESTROYED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-08-22 13:31:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0136', 'seed-item-014', 'seed-sup-005', 68, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-11-26 15:59:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0137', 'seed-item-014', 'seed-sup-005', 3, 'RETURNED_BY_CUSTOMER', 'ADMIN_SEED', TO_TIMESTAMP('2025-12-24 12:30:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0138', 'seed-item-014', 'seed-sup-005', -11, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-01-22 15:18:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0139', 'seed-item-014', 'seed-sup-005', 71, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-02-13 17:36:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0140', 'seed-item-014', 'seed-sup-005', 45, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2026-04-07 14:34:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0141', 'seed-item-014', 'seed-sup-005', -50, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2026-05-06 16:22:00','YYYY-MM-DD HH24:MI:SS'), 16.40);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0142', 'seed-item-015', 'seed-sup-005', 180, 'INITIAL_STOCK', 'ADMIN_SEED', TO_TIMESTAMP('2025-03-03 09:58:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0143', 'seed-item-015', 'seed-sup-005', 4, 'RETURNED_BY_CUSTOMER', 'ADMIN_SEED', TO_TIMESTAMP('2025-04-17 10:29:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0144', 'seed-item-015', 'seed-sup-005', 65, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-06-06 11:43:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0145', 'seed-item-015', 'seed-sup-005', -5, 'EXPIRED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-11 12:55:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0146', 'seed-item-015', 'seed-sup-005', 117, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-21 11:23:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0147', 'seed-item-015', 'seed-sup-005', 7, 'RETURNED_BY_CUSTOMER', 'jonas.weber@example.com', TO_TIMESTAMP('2025-11-19 12:07:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0148', 'seed-item-015', 'seed-sup-005', -23, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-01-05 16:03:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0149', 'seed-item-015', 'seed-sup-005', -25, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-02-23 14:43:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0150', 'seed-item-015', 'seed-sup-005', -33, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-03-18 13:33:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0151', 'seed-item-015', 'seed-sup-005', 119, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-04-16 15:20:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0152', 'seed-item-015', 'seed-sup-005', -28, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2026-06-09 17:50:00','YYYY-MM-DD HH24:MI:SS'), 2.95);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0153', 'seed-item-016', 'seed-sup-006', 206, 'INITIAL_STOCK', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-03 09:00:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0154', 'seed-item-016', 'seed-sup-006', -11, 'RETURNED_TO_SUPPLIER', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-05-19 08:40:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0155', 'seed-item-016', 'seed-sup-006', 9, 'RETURNED_BY_CUSTOMER', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-06-06 12:48:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0156', 'seed-item-016', 'seed-sup-006', -9, 'LOST', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-05 17:09:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0157', 'seed-item-016', 'seed-sup-006', -29, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-13 13:23:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0158', 'seed-item-016', 'seed-sup-006', -29, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-12-24 13:08:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0159', 'seed-item-016', 'seed-sup-006', -16, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-01-07 16:01:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0160', 'seed-item-016', 'seed-sup-006', -43, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2026-03-14 12:45:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0161', 'seed-item-016', 'seed-sup-006', -11, 'SOLD', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-04-26 13:15:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0162', 'seed-item-016', 'seed-sup-006', -10, 'DAMAGED', 'jonas.weber@example.com', TO_TIMESTAMP('2026-05-27 12:53:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0163', 'seed-item-016', 'seed-sup-006', 10, 'RETURNED_BY_CUSTOMER', 'ADMIN_SEED', TO_TIMESTAMP('2026-06-14 08:54:00','YYYY-MM-DD HH24:MI:SS'), 19.60);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0164', 'seed-item-017', 'seed-sup-006', 242, 'INITIAL_STOCK', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-01-07 09:19:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0165', 'seed-item-017', 'seed-sup-006', -22, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-02-19 15:47:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0166', 'seed-item-017', 'seed-sup-006', -8, 'EXPIRED', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-03-22 09:29:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0167', 'seed-item-017', 'seed-sup-006', -1, 'DAMAGED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-04-12 17:03:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0168', 'seed-item-017', 'seed-sup-006', -4, 'EXPIRED', 'jonas.weber@example.com', TO_TIMESTAMP('2025-05-08 16:18:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0169', 'seed-item-017', 'seed-sup-006', 112, 'MANUAL_UPDATE', 'jonas.weber@example.com', TO_TIMESTAMP('2025-08-05 16:09:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0170', 'seed-item-017', 'seed-sup-006', -8, 'RETURNED_TO_SUPPLIER', 'ADMIN_SEED', TO_TIMESTAMP('2025-09-19 15:59:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0171', 'seed-item-017', 'seed-sup-006', -36, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-11-10 08:09:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0172', 'seed-item-017', 'seed-sup-006', -12, 'DAMAGED', 'ana.ferreira@example.com', TO_TIMESTAMP('2026-01-08 17:30:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0173', 'seed-item-017', 'seed-sup-006', -35, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-04-24 13:21:00','YYYY-MM-DD HH24:MI:SS'), 34.90);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0174', 'seed-item-017', 'seed-sup-006', 0, 'PRICE_CHANGE', 'ADMIN_SEED', TO_TIMESTAMP('2026-04-28 10:00:00','YYYY-MM-DD HH24:MI:SS'), 36.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0175', 'seed-item-017', 'seed-sup-006', 78, 'MANUAL_UPDATE', 'ADMIN_SEED', TO_TIMESTAMP('2026-06-21 08:35:00','YYYY-MM-DD HH24:MI:SS'), 36.80);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0176', 'seed-item-018', 'seed-sup-006', 145, 'INITIAL_STOCK', 'ADMIN_SEED', TO_TIMESTAMP('2025-02-09 09:42:00','YYYY-MM-DD HH24:MI:SS'), 12.70);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0177', 'seed-item-018', 'seed-sup-006', 38, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-04-12 11:17:00','YYYY-MM-DD HH24:MI:SS'), 12.70);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0178', 'seed-item-018', 'seed-sup-006', -38, 'SOLD', 'jonas.weber@example.com', TO_TIMESTAMP('2025-05-08 09:50:00','YYYY-MM-DD HH24:MI:SS'), 12.70);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0179', 'seed-item-018', 'seed-sup-006', 65, 'MANUAL_UPDATE', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-06-11 15:48:00','YYYY-MM-DD HH24:MI:SS'), 12.70);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0180', 'seed-item-018', 'seed-sup-006', 6, 'RETURNED_BY_CUSTOMER', 'ana.ferreira@example.com', TO_TIMESTAMP('2025-09-27 11:34:00','YYYY-MM-DD HH24:MI:SS'), 12.70);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0181', 'seed-item-018', 'seed-sup-006', -12, 'DAMAGED', 'ADMIN_SEED', TO_TIMESTAMP('2025-10-22 12:29:00','YYYY-MM-DD HH24:MI:SS'), 12.70);
+INSERT INTO STOCK_HISTORY (ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) VALUES ('seed-sh-0182', 'seed-item-018', 'seed-sup-006', -14, 'SOLD', 'ADMIN_SEED', TO_TIMESTAMP('2026-06-09 12:40:00','YYYY-MM-DD HH24:MI:SS'), 12.70);
+
+-- ----------------------------------------------------------------------------
+-- Section 6: Resolve the ADMIN_SEED placeholder to the real ADMIN account,
+--            or to 'system' when none exists (LIMIT 1 replaces ROWNUM = 1).
+--            The admin is addressed by ROLE (single-admin system); the seed
+--            never hardcodes a real person's identity. STOCK_HISTORY.CREATED_BY
+--            stores the OAuth2 principal name, which this backend maps to the
+--            user's e-mail (CustomOAuth2UserService, nameAttributeKey = email).
+-- ----------------------------------------------------------------------------
+UPDATE STOCK_HISTORY
+   SET CREATED_BY = COALESCE((SELECT EMAIL FROM users_app WHERE ROLE = 'ADMIN' ORDER BY CREATED_AT LIMIT 1), 'system')
+ WHERE CREATED_BY = 'ADMIN_SEED';
+
+UPDATE INVENTORY_ITEM
+   SET CREATED_BY = COALESCE((SELECT EMAIL FROM users_app WHERE ROLE = 'ADMIN' ORDER BY CREATED_AT LIMIT 1), 'system')
+ WHERE CREATED_BY = 'ADMIN_SEED';
@@ -0,0 +1,15 @@
+-- ============================================================================
+-- V4__enforce_sku_constraints.sql  (PostgreSQL)
+-- ----------------------------------------------------------------------------
+-- Purpose : Enforce SKU integrity after V3 populated every row.
+--           PostgreSQL counterpart of oracle/V4 (ALTER COLUMN instead of MODIFY).
+-- Rollback: Not automated. Reverse manually with
+--           ALTER TABLE inventory_item DROP CONSTRAINT uk_inventory_item_sku;
+--           ALTER TABLE inventory_item ALTER COLUMN sku DROP NOT NULL;
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+ALTER TABLE inventory_item ALTER COLUMN sku SET NOT NULL;
+
+ALTER TABLE inventory_item ADD CONSTRAINT uk_inventory_item_sku UNIQUE (sku);
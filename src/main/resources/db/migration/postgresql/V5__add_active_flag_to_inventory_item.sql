@@ -0,0 +1,8 @@
+-- V5: Soft-delete support for inventory items (PostgreSQL counterpart of oracle/V5).
+-- INTEGER rather than BOOLEAN: the entity stores the flag through
+-- NumericBooleanConverter and the analytics SQL compares it with 1.
+-- Existing rows are active by default.
+
+ALTER TABLE inventory_item ADD COLUMN active INTEGER DEFAULT 1 NOT NULL;
+
+ALTER TABLE inventory_item ADD CONSTRAINT chk_inventory_item_active CHECK (active IN (0, 1));
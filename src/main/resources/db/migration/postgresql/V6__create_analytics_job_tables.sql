@@ -0,0 +1,43 @@
+-- ============================================================================
+-- V6__create_analytics_job_tables.sql  (PostgreSQL)
+-- ----------------------------------------------------------------------------
+-- Purpose : Background analytics report jobs; PostgreSQL counterpart of
+--           oracle/V6 with the same tables, keys and index.
+-- Strategy: PAYLOAD is OID because Hibernate maps the @Lob String to a large
+--           object on PostgreSQL. Purged results leave their large objects
+--           behind; run vacuumlo on long-lived benchmark databases.
+-- Rollback: Not automated. Reverse manually with
+--           DROP TABLE analytics_job_result; DROP TABLE analytics_job;
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+CREATE TABLE analytics_job (
+    id                VARCHAR(36)   NOT NULL,
+    job_type          VARCHAR(32)   NOT NULL,
+    status            VARCHAR(16)   NOT NULL,
+    start_date        DATE          NOT NULL,
+    end_date          DATE          NOT NULL,
+    supplier_id       VARCHAR(255),
+    created_by_filter VARCHAR(255),
+    requested_by      VARCHAR(255)  NOT NULL,
+    steps_done        INTEGER       DEFAULT 0 NOT NULL,
+    steps_total       INTEGER       DEFAULT 1 NOT NULL,
+    result_rows       INTEGER,
+    error_message     VARCHAR(500),
+    created_at        TIMESTAMP(6)  NOT NULL,
+    started_at        TIMESTAMP(6),
+    finished_at       TIMESTAMP(6),
+    expires_at        TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_analytics_job PRIMARY KEY (id),
+    CONSTRAINT chk_analytics_job_status CHECK (status IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED'))
+);
+
+CREATE INDEX ix_aj_expires ON analytics_job (expires_at);
+
+CREATE TABLE analytics_job_result (
+    job_id  VARCHAR(36) NOT NULL,
+    payload OID         NOT NULL,
+    CONSTRAINT pk_analytics_job_result PRIMARY KEY (job_id),
+    CONSTRAINT fk_ajr_job FOREIGN KEY (job_id) REFERENCES analytics_job (id)
+);
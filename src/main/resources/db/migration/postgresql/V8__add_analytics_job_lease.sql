@@ -0,0 +1,16 @@
+-- ============================================================================
+-- V8__add_analytics_job_lease.sql  (PostgreSQL)
+-- ----------------------------------------------------------------------------
+-- Purpose : Owner and lease of background analytics jobs; PostgreSQL
+--           counterpart of oracle/V8 with the same columns.
+-- Strategy: Both columns are nullable. Rows written before this migration
+--           have no lease and are treated as orphaned when still active.
+-- Rollback: Not automated. Reverse manually with
+--           ALTER TABLE analytics_job DROP COLUMN owner_id, DROP COLUMN lease_until;
+-- WARNING : Never edit this file after it has been applied to any environment.
+--           Flyway validates file checksums; historic files are immutable.
+-- ============================================================================
+
+ALTER TABLE analytics_job
+    ADD COLUMN owner_id    VARCHAR(64),
+    ADD COLUMN lease_until TIMESTAMP(6);
@@ -0,0 +1,118 @@
+package com.smartsupplypro.inventory.admission;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+
+/**
+ * Unit tests for {@link AdmissionControlFilter}: refused requests never reach the chain
+ * and carry {@code Retry-After}; clients are keyed by principal, else by an address a
+ * forged {@code X-Forwarded-For} cannot change.
+ */
+class AdmissionControlFilterTest {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest request(String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    @Test
+    void exhaustedBucket_returns429_withoutInvokingTheChain() throws Exception {
+        AppProperties.Admission cfg = new AppProperties.Admission();
+        cfg.getHeavy().setBurst(1);
+        cfg.getHeavy().setRefillPeriod(Duration.ofMillis(2500));
+        AdmissionControlFilter filter = new AdmissionControlFilter(new AdmissionController(cfg, null), 0);
+
+        MockFilterChain first = new MockFilterChain();
+        filter.doFilter(request("/api/analytics/financial/summary", "10.0.0.1"), new MockHttpServletResponse(), first);
+        assertTrue(first.getRequest() != null);
+
+        MockFilterChain second = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/api/analytics/financial/summary", "10.0.0.1"), response, second);
+
+        assertNull(second.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("3", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"error\":\"too_many_requests\""));
+    }
+
+    @Test
+    void clientKey_prefersAuthenticatedPrincipal() {
+        MockHttpServletRequest request = request("/api/analytics/stock-value", "10.0.0.2");
+        assertEquals("ip:10.0.0.2", AdmissionControlFilter.clientKey(request, 0));
+
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "alice@example.com", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        assertEquals("principal:alice@example.com", AdmissionControlFilter.clientKey(request, 0));
+    }
+
+    @Test
+    void spoofedForwardedFor_doesNotGetANewBucket() throws Exception {
+        AppProperties.Admission cfg = new AppProperties.Admission();
+        cfg.getHeavy().setBurst(1);
+        AdmissionControlFilter admission = new AdmissionControlFilter(new AdmissionController(cfg, null), 0);
+        ForwardedHeaderFilter forwarded = new ForwardedHeaderFilter();
+
+        // same TCP peer, a different forged X-Forwarded-For on every request
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletRequest firstRequest = request("/api/analytics/financial/summary", "10.0.0.4");
+        firstRequest.addHeader("X-Forwarded-For", "198.51.100.1");
+        forwarded.doFilter(firstRequest, first, (req, res) -> admission.doFilter(req, res, new MockFilterChain()));
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockHttpServletRequest secondRequest = request("/api/analytics/financial/summary", "10.0.0.4");
+        secondRequest.addHeader("X-Forwarded-For", "198.51.100.2");
+        forwarded.doFilter(secondRequest, second, (req, res) -> admission.doFilter(req, res, new MockFilterChain()));
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+    }
+
+    @Test
+    void clientAddress_behindTrustedProxies_ignoresEntriesTheClientSent() {
+        MockHttpServletRequest viaProxies = request("/api/analytics/stock-value", "10.0.0.5");
+        viaProxies.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 192.0.2.10");
+        MockHttpServletRequest forged = request("/api/analytics/stock-value", "10.0.0.5");
+        forged.addHeader("X-Forwarded-For", "198.51.100.99");
+        forged.addHeader("X-Forwarded-For", "203.0.113.7, 192.0.2.10");
+
+        assertEquals("203.0.113.7", AdmissionControlFilter.clientAddress(viaProxies, 2));
+        assertEquals("203.0.113.7", AdmissionControlFilter.clientAddress(forged, 2));
+        assertEquals("10.0.0.5", AdmissionControlFilter.clientAddress(viaProxies, 0));
+        assertEquals("10.0.0.5", AdmissionControlFilter.clientAddress(request("/api/analytics/stock-value", "10.0.0.5"), 2));
+    }
+
+    @Test
+    void eventStream_isExemptByPathOnly() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                new AdmissionController(new AppProperties.Admission(), null), 0);
+        MockHttpServletRequest stream = request("/ssp/api/analytics/stream", "10.0.0.3");
+        stream.setContextPath("/ssp");
+        MockHttpServletRequest heavy = request("/api/analytics/summary", "10.0.0.3");
+        heavy.addHeader("Accept", "text/event-stream");
+
+        assertTrue(filter.shouldNotFilter(stream));
+        assertFalse(filter.shouldNotFilter(heavy));
+    }
+}
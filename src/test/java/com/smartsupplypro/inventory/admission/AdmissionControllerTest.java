@@ -0,0 +1,124 @@
+package com.smartsupplypro.inventory.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartsupplypro.inventory.admission.AdmissionController.Decision;
+import com.smartsupplypro.inventory.admission.AdmissionController.Outcome;
+import com.smartsupplypro.inventory.bulkhead.PartitionedDataSource;
+import com.smartsupplypro.inventory.config.AppProperties;
+
+/**
+ * Unit tests for {@link AdmissionController}: path classification, per-client and
+ * per-class token buckets, and the adaptive limit driven by latency and pool wait.
+ */
+class AdmissionControllerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000 * MS);
+    private final AppProperties.Admission cfg = new AppProperties.Admission();
+    private AdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdmissionController(cfg, null, now::get);
+    }
+
+    @Test
+    void classify_usesConfiguredPaths() {
+        assertEquals(CostClass.HEAVY, controller.classify("/api/analytics/financial/summary"));
+        assertEquals(CostClass.LIGHT, controller.classify("/api/analytics/low-stock/count"));
+        assertEquals(CostClass.STANDARD, controller.classify("/api/analytics/stock-value"));
+    }
+
+    @Test
+    void emptyBucket_isRateLimited_untilTheNextToken() {
+        for (int i = 0; i < cfg.getHeavy().getBurst(); i++) {
+            complete(controller.admit("ip:1", CostClass.HEAVY), 10);
+        }
+
+        Decision refused = controller.admit("ip:1", CostClass.HEAVY);
+        assertEquals(Outcome.RATE_LIMITED, refused.outcome());
+        assertEquals(cfg.getHeavy().getRefillPeriod(), refused.retryAfter());
+        assertEquals(12, AdmissionController.retryAfterSeconds(refused.retryAfter()));
+
+        now.addAndGet(cfg.getHeavy().getRefillPeriod().toNanos());
+        assertTrue(controller.admit("ip:1", CostClass.HEAVY).admitted());
+        assertEquals(1, controller.decisions(CostClass.HEAVY, Outcome.RATE_LIMITED));
+    }
+
+    @Test
+    void buckets_areSeparatePerClientAndCostClass() {
+        cfg.getHeavy().setBurst(1);
+        controller = new AdmissionController(cfg, null, now::get);
+
+        complete(controller.admit("ip:1", CostClass.HEAVY), 10);
+
+        assertEquals(Outcome.RATE_LIMITED, controller.admit("ip:1", CostClass.HEAVY).outcome());
+        assertTrue(controller.admit("ip:2", CostClass.HEAVY).admitted());
+        assertTrue(controller.admit("ip:1", CostClass.LIGHT).admitted());
+    }
+
+    @Test
+    void slowRequests_shrinkTheLimit_andShedWithRetryAfter() {
+        cfg.getHeavy().setBurst(100);
+        controller = new AdmissionController(cfg, null, now::get);
+        long slow = cfg.getHeavy().getTargetLatency().toNanos() + MS;
+
+        for (int i = 0; i < 5; i++) {
+            controller.complete(controller.admit("ip:" + i, CostClass.HEAVY), slow);
+        }
+        assertEquals(1, controller.limit(CostClass.HEAVY));
+
+        Decision running = controller.admit("ip:1", CostClass.HEAVY);
+        Decision shed = controller.admit("ip:2", CostClass.HEAVY);
+        assertTrue(running.admitted());
+        assertEquals(Outcome.SHED, shed.outcome());
+        assertEquals(cfg.getShedRetryAfter(), shed.retryAfter());
+
+        controller.complete(running, MS);
+        assertEquals(2, controller.limit(CostClass.HEAVY));
+    }
+
+    @Test
+    void lightRequests_areNeverShed() {
+        assertEquals(-1, controller.limit(CostClass.LIGHT));
+        for (int i = 0; i < cfg.getLight().getBurst(); i++) {
+            assertTrue(controller.admit("ip:1", CostClass.LIGHT).admitted());
+        }
+    }
+
+    @Test
+    void analyticsPoolWait_shrinksTheLimit_evenForFastRequests() {
+        PartitionedDataSource.Partition partition = mock(PartitionedDataSource.Partition.class);
+        controller = new AdmissionController(cfg, partition, now::get);
+        int before = controller.limit(CostClass.STANDARD);
+
+        when(partition.acquired()).thenReturn(4L);
+        when(partition.acquireNanos()).thenReturn(4 * (cfg.getMaxPoolWait().toNanos() + MS));
+        controller.complete(controller.admit("ip:1", CostClass.STANDARD), MS);
+
+        assertTrue(controller.limit(CostClass.STANDARD) < before);
+    }
+
+    @Test
+    void stuckPartition_withQueuedThreads_countsAsUnboundedWait() {
+        PartitionedDataSource.Partition partition = mock(PartitionedDataSource.Partition.class);
+        controller = new AdmissionController(cfg, partition, now::get);
+        when(partition.waiting()).thenReturn(3);
+
+        assertEquals(Long.MAX_VALUE, controller.recentPoolWaitNanos());
+    }
+
+    private void complete(Decision decision, long latencyMillis) {
+        controller.complete(decision, latencyMillis * MS);
+    }
+}
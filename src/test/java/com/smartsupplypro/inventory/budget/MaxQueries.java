@@ -0,0 +1,41 @@
+package com.smartsupplypro.inventory.budget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the annotated test when its body runs more JDBC statements than the budget.
+ *
+ * <p>Counts every statement reaching the observed DataSource while the test method runs
+ * ({@code @BeforeEach} setup excluded), whichever thread executes it, so lazy loads, N+1
+ * selects and redundant lookups all count. The test context must {@code @Import}
+ * {@link StatementCounter}. On a class, the budget applies to each test method without its
+ * own annotation.</p>
+ *
+ * <pre>
+ * &#64;Test
+ * &#64;MaxQueries(3)
+ * void update_changesQuantity() { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@ExtendWith(QueryBudgetExtension.class)
+public @interface MaxQueries {
+
+    /** Maximum JDBC statements (queries, updates and batches) the test body may execute. */
+    int value();
+
+    /**
+     * Maximum bytes the test thread may allocate while the test body runs; negative (the
+     * default) disables the check. Work on other threads, such as parallel dashboard
+     * widgets, is not included.
+     */
+    long allocatedBytes() default -1;
+}
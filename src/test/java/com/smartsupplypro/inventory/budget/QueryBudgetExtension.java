@@ -0,0 +1,120 @@
+package com.smartsupplypro.inventory.budget;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Enforces {@link MaxQueries} budgets around the test body.
+ *
+ * <p>Before the test method runs it resets the {@link StatementCounter}, clears Hibernate
+ * statistics (enabling them if needed) and, when an allocation budget is set, snapshots
+ * the test thread's allocated bytes. Afterwards the measured values are published as
+ * report entries ({@code jdbc.statements}, {@code hibernate.*}, {@code allocated.bytes})
+ * and compared against the budget. A failure lists the statements that ran, which is
+ * usually enough to spot the N+1 or the repeated lookup.</p>
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final String ALLOCATED_AT_START = "allocatedAtStart";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        ApplicationContext spring = SpringExtension.getApplicationContext(context);
+        counter(spring).reset();
+        statistics(spring).ifPresent(stats -> {
+            stats.setStatisticsEnabled(true);
+            stats.clear();
+        });
+        if (budget(context).allocatedBytes() >= 0) {
+            context.getStore(NAMESPACE).put(ALLOCATED_AT_START, allocatedBytes());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        MaxQueries budget = budget(context);
+        ApplicationContext spring = SpringExtension.getApplicationContext(context);
+        StatementCounter counter = counter(spring);
+        long statements = counter.count();
+        context.publishReportEntry("jdbc.statements", String.valueOf(statements));
+
+        String hibernate = statistics(spring).map(stats -> {
+            context.publishReportEntry("hibernate.prepared", String.valueOf(stats.getPrepareStatementCount()));
+            context.publishReportEntry("hibernate.entity.loads", String.valueOf(stats.getEntityLoadCount()));
+            context.publishReportEntry("hibernate.collection.fetches", String.valueOf(stats.getCollectionFetchCount()));
+            return String.format(" (Hibernate: %d prepared, %d entity loads, %d entity fetches, %d collection fetches)",
+                    stats.getPrepareStatementCount(), stats.getEntityLoadCount(), stats.getEntityFetchCount(),
+                    stats.getCollectionFetchCount());
+        }).orElse("");
+
+        if (statements > budget.value()) {
+            fail(String.format("Expected at most %d JDBC statements but %d ran%s:%n%s",
+                    budget.value(), statements, hibernate, numbered(counter.statements(), statements)));
+        }
+
+        if (budget.allocatedBytes() >= 0) {
+            long allocated = allocatedBytes() - context.getStore(NAMESPACE).get(ALLOCATED_AT_START, Long.class);
+            context.publishReportEntry("allocated.bytes", String.valueOf(allocated));
+            if (allocated > budget.allocatedBytes()) {
+                fail(String.format("Expected the test thread to allocate at most %,d bytes but it allocated %,d",
+                        budget.allocatedBytes(), allocated));
+            }
+        }
+    }
+
+    private static MaxQueries budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxQueries.class))
+                .orElseThrow(() -> new IllegalStateException("QueryBudgetExtension requires @MaxQueries"));
+    }
+
+    private static StatementCounter counter(ApplicationContext spring) {
+        return spring.getBeanProvider(StatementCounter.class).getIfAvailable(() -> {
+            throw new IllegalStateException("@MaxQueries needs a StatementCounter bean: add @Import(StatementCounter.class)"
+                    + " to a test that runs the application's DataSource");
+        });
+    }
+
+    private static Optional<Statistics> statistics(ApplicationContext spring) {
+        return spring.getBeanProvider(EntityManagerFactory.class).stream()
+                .findFirst()
+                .map(emf -> emf.unwrap(SessionFactory.class).getStatistics());
+    }
+
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Per-thread allocation accounting is not supported by this JVM");
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private static String numbered(List<String> statements, long total) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            sb.append(String.format("  %2d. %s%n", i + 1, statements.get(i)));
+        }
+        if (total > statements.size()) {
+            sb.append(String.format("  ... %d more%n", total - statements.size()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.smartsupplypro.inventory.budget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.smartsupplypro.inventory.observability.jdbc.StatementExecution;
+import com.smartsupplypro.inventory.observability.jdbc.StatementListener;
+
+/**
+ * Counts JDBC statements reported by the application's observed DataSource.
+ *
+ * <p>Registered as a {@link StatementListener} bean, so {@code ProfilingConfig} attaches it
+ * when the DataSource is created; import it into the test context. Counts statements from
+ * every thread, so background jobs that touch the database (the health prober) should be
+ * disabled in contexts that enforce budgets. The first {@value #MAX_SQL} statements after a
+ * reset are kept for failure messages.</p>
+ */
+public class StatementCounter implements StatementListener {
+
+    static final int MAX_SQL = 50;
+
+    private final AtomicLong count = new AtomicLong();
+    private final List<String> sql = new ArrayList<>();
+
+    @Override
+    public void statementExecuted(StatementExecution execution) {
+        long n = count.incrementAndGet();
+        if (n <= MAX_SQL) {
+            synchronized (sql) {
+                sql.add(execution.sql() == null ? "<batch>" : execution.sql().replaceAll("\\s+", " ").trim());
+            }
+        }
+    }
+
+    /** Statements executed since the last {@link #reset()}. */
+    public long count() {
+        return count.get();
+    }
+
+    /** The first statements executed since the last {@link #reset()}, in execution order. */
+    public List<String> statements() {
+        synchronized (sql) {
+            return List.copyOf(sql);
+        }
+    }
+
+    public void reset() {
+        synchronized (sql) {
+            count.set(0);
+            sql.clear();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.smartsupplypro.inventory.bulkhead;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+
+/**
+ * Unit tests for {@link PartitionedDataSource}: permits per partition, fail-fast
+ * saturation without borrowing, the waiting-queue cap, and permit release on connection close.
+ */
+class PartitionedDataSourceTest {
+
+    private JdbcDataSource h2;
+    private PartitionedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1");
+        AppProperties.Bulkhead cfg = new AppProperties.Bulkhead();
+        cfg.getAnalytics().setMaxConcurrent(1);
+        cfg.getAnalytics().setAcquireTimeout(Duration.ofMillis(20));
+        cfg.getAnalytics().setRetryAfter(Duration.ofSeconds(7));
+        dataSource = new PartitionedDataSource(h2, cfg);
+    }
+
+    @Test
+    void saturatedAnalyticsPartition_failsFast_andLeavesCrudAvailable() throws Exception {
+        PoolPartition previous = PoolPartition.enter(PoolPartition.ANALYTICS);
+        try (Connection held = dataSource.getConnection()) {
+            PartitionSaturatedException ex = assertThrows(PartitionSaturatedException.class, dataSource::getConnection);
+            assertEquals(PoolPartition.ANALYTICS, ex.getPartition());
+            assertEquals(Duration.ofSeconds(7), ex.getRetryAfter());
+
+            PoolPartition.restore(previous);
+            try (Connection crud = dataSource.getConnection()) {
+                assertEquals(1, dataSource.partition(PoolPartition.CRUD).active());
+            }
+        } finally {
+            PoolPartition.restore(previous);
+        }
+
+        PartitionedDataSource.Partition analytics = dataSource.partition(PoolPartition.ANALYTICS);
+        assertEquals(1, analytics.rejected());
+        assertEquals(1, analytics.acquired());
+        assertEquals(0, analytics.active());
+    }
+
+    @Test
+    void fullWaitingQueue_refusesAtOnce_whileQueuedBorrowerIsServedInTurn() throws Exception {
+        AppProperties.Bulkhead cfg = new AppProperties.Bulkhead();
+        cfg.getCrud().setMaxConcurrent(1);
+        cfg.getCrud().setMaxWaiting(1);
+        cfg.getCrud().setAcquireTimeout(Duration.ofSeconds(10));
+        PartitionedDataSource capped = new PartitionedDataSource(h2, cfg);
+        PartitionedDataSource.Partition crud = capped.partition(PoolPartition.CRUD);
+
+        Connection held = capped.getConnection();
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> {
+            try (Connection next = capped.getConnection()) {
+                next.isValid(1);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }, runnable -> Thread.ofVirtual().start(runnable));
+        while (crud.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        long start = System.nanoTime();
+        assertThrows(PartitionSaturatedException.class, capped::getConnection);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5), "must not wait for the timeout");
+
+        held.close();
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(1, crud.rejected());
+        assertEquals(2, crud.acquired());
+    }
+
+    @Test
+    void permit_isReleasedOnce_evenWhenClosedTwice() throws Exception {
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.partition(PoolPartition.CRUD).active());
+
+        connection.close();
+        connection.close();
+
+        assertEquals(0, dataSource.partition(PoolPartition.CRUD).active());
+        assertEquals(3, dataSource.partition(PoolPartition.CRUD).maxConcurrent());
+    }
+
+    @Test
+    void unwrap_reachesThePartitionedDataSource() throws Exception {
+        assertEquals(dataSource, dataSource.unwrap(PartitionedDataSource.class));
+    }
+}
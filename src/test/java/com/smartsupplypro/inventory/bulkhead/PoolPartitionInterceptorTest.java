@@ -0,0 +1,50 @@
+package com.smartsupplypro.inventory.bulkhead;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.smartsupplypro.inventory.exception.ServiceUnavailableException;
+
+/**
+ * Unit tests for {@link PoolPartitionInterceptor}: partition binding per annotated class
+ * and translation of pool saturation into {@link ServiceUnavailableException}.
+ */
+class PoolPartitionInterceptorTest {
+
+    @PoolPartitioned(PoolPartition.ANALYTICS)
+    static class AnalyticsService {
+        PoolPartition observed() {
+            return PoolPartition.current();
+        }
+
+        void saturated() {
+            throw new DataAccessResourceFailureException("Could not open JPA EntityManager",
+                    new PartitionSaturatedException(PoolPartition.ANALYTICS, Duration.ofSeconds(5)));
+        }
+    }
+
+    private static AnalyticsService proxy() {
+        ProxyFactory factory = new ProxyFactory(new AnalyticsService());
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new PoolPartitionInterceptor());
+        return (AnalyticsService) factory.getProxy();
+    }
+
+    @Test
+    void bindsPartitionForTheCall_andRestoresAfterwards() {
+        assertEquals(PoolPartition.ANALYTICS, proxy().observed());
+        assertEquals(PoolPartition.CRUD, PoolPartition.current());
+    }
+
+    @Test
+    void saturationInCauseChain_becomesServiceUnavailable() {
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class, () -> proxy().saturated());
+        assertEquals(Duration.ofSeconds(5), ex.getRetryAfter());
+        assertEquals(PoolPartition.CRUD, PoolPartition.current());
+    }
+}
@@ -0,0 +1,32 @@
+package com.smartsupplypro.inventory.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/** Verifies that {@link FlywayConfig} migrates on every start except a refresh-only training run. */
+class FlywayConfigTest {
+
+    private final FlywayConfig config = new FlywayConfig();
+    private final Flyway flyway = mock(Flyway.class);
+
+    @Test
+    void should_migrate_when_startedNormally() {
+        config.flywayMigrationStrategy(new MockEnvironment()).migrate(flyway);
+
+        verify(flyway).migrate();
+    }
+
+    @Test
+    void should_skipMigration_when_contextExitsOnRefresh() {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.context.exit", "onRefresh");
+
+        config.flywayMigrationStrategy(environment).migrate(flyway);
+
+        verify(flyway, never()).migrate();
+    }
+}
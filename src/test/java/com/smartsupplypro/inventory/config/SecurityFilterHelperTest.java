@@ -2,11 +2,15 @@ package com.smartsupplypro.inventory.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
@@ -34,6 +38,20 @@ class SecurityFilterHelperTest {
         return helper.createApiDetectionFilter();
     }
 
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication scrape(String token, String uri, String authorization) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+        if (authorization != null) {
+            req.addHeader("Authorization", authorization);
+        }
+        helper.createMetricsScrapeTokenFilter(token).doFilter(req, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
     @Test
     @DisplayName("API filter sets IS_API_REQUEST when uri starts with /api/ and Accept contains application/json")
     void apiDetectionFilter_apiJsonRequest_setsAttribute() throws Exception {
@@ -86,4 +104,22 @@ class SecurityFilterHelperTest {
 
         assertNull(req.getAttribute("IS_API_REQUEST"));
     }
+
+    @Test
+    @DisplayName("Scrape filter grants ROLE_METRICS for the matching bearer token on /actuator/prometheus")
+    void scrapeTokenFilter_matchingToken_authenticatesScraper() throws Exception {
+        Authentication auth = scrape("s3cret", "/actuator/prometheus", "Bearer s3cret");
+
+        assertEquals("ROLE_METRICS",
+                auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).findFirst().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Scrape filter ignores wrong tokens, other paths and a blank configured token")
+    void scrapeTokenFilter_otherwise_leavesRequestUnauthenticated() throws Exception {
+        assertNull(scrape("s3cret", "/actuator/prometheus", "Bearer nope"));
+        assertNull(scrape("s3cret", "/actuator/prometheus", null));
+        assertNull(scrape("s3cret", "/api/admin/ping", "Bearer s3cret"));
+        assertNull(scrape("", "/actuator/prometheus", "Bearer "));
+    }
 }
@@ -0,0 +1,44 @@
+package com.smartsupplypro.inventory.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+
+/** Verifies that {@link VirtualThreadConfig} switches Tomcat's executor only when enabled. */
+class VirtualThreadConfigTest {
+
+    private final ProtocolHandler handler = mock(ProtocolHandler.class);
+
+    private static AppProperties props(boolean virtualThreads, boolean bulkhead) {
+        AppProperties props = new AppProperties();
+        props.getVirtualThreads().setEnabled(virtualThreads);
+        props.getBulkhead().setEnabled(bulkhead);
+        return props;
+    }
+
+    @Test
+    void should_keepPlatformWorkerPool_when_disabled() {
+        new VirtualThreadConfig(props(false, true)).virtualThreadProtocolHandlerCustomizer().customize(handler);
+
+        verify(handler, never()).setExecutor(any());
+    }
+
+    @Test
+    void should_runRequestsOnVirtualThreads_when_enabled() {
+        new VirtualThreadConfig(props(true, true)).virtualThreadProtocolHandlerCustomizer().customize(handler);
+
+        verify(handler).setExecutor(isA(VirtualThreadExecutor.class));
+    }
+
+    @Test
+    void should_refuseToStart_when_enabledWithoutBulkhead() {
+        assertThrows(IllegalStateException.class, () -> new VirtualThreadConfig(props(true, false)));
+    }
+}
@@ -0,0 +1,375 @@
+package com.smartsupplypro.inventory.controller;
+
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.smartsupplypro.inventory.budget.MaxQueries;
+import com.smartsupplypro.inventory.budget.StatementCounter;
+import com.smartsupplypro.inventory.testdata.SyntheticDataGenerator;
+import com.smartsupplypro.inventory.testdata.SyntheticDataLoader;
+
+/**
+ * Query budgets for every REST endpoint, exercised through the full stack (security,
+ * filters, services, repositories) against a seeded H2 database.
+ *
+ * <p>Budgets are the statement counts the endpoints need today; a failure means a change
+ * added queries (an N+1, a repeated lookup) and either the change or the budget must be
+ * revisited deliberately. Counts do not depend on data volume, which is the point: a
+ * budget that grows with the number of rows is an N+1.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querybudget;MODE=Oracle;DATABASE_TO_UPPER=true;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "app.health.probe-enabled=false",
+        // oauth2Login() signs every request in afresh, which would insert a new session per request;
+        // the store's fixed per-request cost is covered by SessionStoreMultiNodeIntegrationTest instead
+        "spring.autoconfigure.exclude=org.springframework.boot.session.jdbc.autoconfigure.JdbcSessionAutoConfiguration"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTest {
+
+    private static final SyntheticDataGenerator.Volume VOLUME = new SyntheticDataGenerator.Volume(
+            3, 30, 3, 1_500, LocalDate.of(2025, 7, 1), LocalDate.of(2026, 6, 30), 41);
+    private static final String ITEM = "syn-item-0000001";
+    private static final String SUPPLIER = "syn-sup-0001";
+    private static final String FROM = "2026-01-01";
+    private static final String TO = "2026-06-30";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void seed() throws Exception {
+        SyntheticDataLoader.load(dataSource, VOLUME, SyntheticDataLoader.DEFAULT_BATCH_SIZE, true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO SUPPLIER (ID, NAME, CREATED_BY, CREATED_AT) "
+                + "VALUES ('budget-sup-empty', 'Budget Empty Supplier', 'test', CURRENT_TIMESTAMP)");
+        jdbc.update("INSERT INTO INVENTORY_ITEM (ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, "
+                + "MINIMUM_QUANTITY, CREATED_AT, ACTIVE) VALUES ('budget-item-empty', 'BUDGET-EMPTY', "
+                + "'Budget Empty Item', 0, 1.00, '" + SUPPLIER + "', 'test', 1, CURRENT_TIMESTAMP, 1)");
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.with(SecurityMockMvcRequestPostProcessors.oauth2Login()
+                        .authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                        .attributes(a -> {
+                            a.put("email", "employee1@example.com");
+                            a.put("name", "Employee 1");
+                        })))
+                .andReturn();
+    }
+
+    private void expectOk(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = perform(request);
+        int status = result.getResponse().getStatus();
+        assertTrue(status >= 200 && status < 300, () -> status + " " + result.getResolvedException());
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    // ---- inventory ----
+
+    @Test
+    @MaxQueries(1)
+    void inventory_getAll() throws Exception {
+        expectOk(get("/api/inventory"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void inventory_getById() throws Exception {
+        expectOk(get("/api/inventory/" + ITEM));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void inventory_count() throws Exception {
+        expectOk(get("/api/inventory/count"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void inventory_search() throws Exception {
+        expectOk(get("/api/inventory/search").param("name", "bear").param("size", "20"));
+    }
+
+    @Test
+    @MaxQueries(7)
+    void inventory_create() throws Exception {
+        expectOk(json(post("/api/inventory"), """
+                {"name":"Budget Widget","sku":"BUDGET-NEW","quantity":5,"price":2.50,"supplierId":"%s","minimumQuantity":2}
+                """.formatted(SUPPLIER)));
+    }
+
+    @Test
+    @MaxQueries(6)
+    void inventory_update() throws Exception {
+        expectOk(json(put("/api/inventory/syn-item-0000002"), """
+                {"name":"Bolt Set #2","sku":"SYN-FST-2","quantity":900,"price":3.75,"supplierId":"syn-sup-0002","minimumQuantity":10,"createdBy":"employee1@example.com"}
+                """));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void inventory_delete() throws Exception {
+        expectOk(delete("/api/inventory/budget-item-empty"));
+    }
+
+    @Test
+    @MaxQueries(4)
+    void inventory_patchQuantity() throws Exception {
+        expectOk(patch("/api/inventory/" + ITEM + "/quantity").param("delta", "3").param("reason", "MANUAL_UPDATE"));
+    }
+
+    @Test
+    @MaxQueries(4)
+    void inventory_patchPrice() throws Exception {
+        expectOk(patch("/api/inventory/syn-item-0000003/price").param("price", "12.34"));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void inventory_patchName() throws Exception {
+        expectOk(patch("/api/inventory/syn-item-0000004/name").param("name", "Renamed Budget Item"));
+    }
+
+    // ---- suppliers ----
+
+    @Test
+    @MaxQueries(1)
+    void suppliers_getAll() throws Exception {
+        expectOk(get("/api/suppliers"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void suppliers_count() throws Exception {
+        expectOk(get("/api/suppliers/count"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void suppliers_getById() throws Exception {
+        expectOk(get("/api/suppliers/" + SUPPLIER));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void suppliers_search() throws Exception {
+        expectOk(get("/api/suppliers/search").param("name", "Synthetic"));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void suppliers_create() throws Exception {
+        expectOk(json(post("/api/suppliers"), """
+                {"name":"Budget Supplier New","contactName":"Jane","phone":"+49 1","email":"budget@example.com"}
+                """));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void suppliers_update() throws Exception {
+        expectOk(json(put("/api/suppliers/syn-sup-0003"), """
+                {"name":"Synthetic Supplier 3","contactName":"Changed","phone":"+49 2","email":"s3@example.com"}
+                """));
+    }
+
+    @Test
+    @MaxQueries(4)
+    void suppliers_delete() throws Exception {
+        expectOk(delete("/api/suppliers/budget-sup-empty"));
+    }
+
+    // ---- stock history ----
+
+    @Test
+    @MaxQueries(1)
+    void stockHistory_getAll() throws Exception {
+        expectOk(get("/api/stock-history"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void stockHistory_byItem() throws Exception {
+        expectOk(get("/api/stock-history/item/" + ITEM));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void stockHistory_byReason() throws Exception {
+        expectOk(get("/api/stock-history/reason/PRICE_CHANGE"));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void stockHistory_search() throws Exception {
+        expectOk(get("/api/stock-history/search").param("supplierId", SUPPLIER)
+                .param("startDate", FROM + "T00:00:00").param("endDate", TO + "T23:59:59"));
+    }
+
+    // ---- analytics ----
+
+    @Test
+    @MaxQueries(2)
+    void analytics_summary() throws Exception {
+        expectOk(get("/api/analytics/summary"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_financialSummary() throws Exception {
+        expectOk(get("/api/analytics/financial/summary").param("from", FROM).param("to", TO));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void analytics_batch() throws Exception {
+        expectOk(json(post("/api/analytics/batch"), """
+                {"widgets":["STOCK_VALUE","MONTHLY_MOVEMENT","REASON_BREAKDOWN"],"startDate":"%s","endDate":"%s"}
+                """.formatted(FROM, TO)));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_stockValue() throws Exception {
+        expectOk(get("/api/analytics/stock-value").param("start", FROM).param("end", TO));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_stockPerSupplier() throws Exception {
+        expectOk(get("/api/analytics/stock-per-supplier"));
+    }
+
+    @Test
+    @MaxQueries(0)
+    void analytics_lowStockCount() throws Exception {
+        expectOk(get("/api/analytics/low-stock/count"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_itemUpdateFrequency() throws Exception {
+        expectOk(get("/api/analytics/item-update-frequency").param("supplierId", SUPPLIER));
+    }
+
+    @Test
+    @MaxQueries(0)
+    void analytics_lowStockItems() throws Exception {
+        expectOk(get("/api/analytics/low-stock-items").param("supplierId", SUPPLIER));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_monthlyMovement() throws Exception {
+        expectOk(get("/api/analytics/monthly-stock-movement").param("start", FROM).param("end", TO));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_priceTrend() throws Exception {
+        expectOk(get("/api/analytics/price-trend").param("itemId", ITEM).param("start", FROM).param("end", TO));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_reasonBreakdown() throws Exception {
+        expectOk(get("/api/analytics/reason-breakdown").param("startDate", FROM).param("endDate", TO));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void analytics_byEmployee() throws Exception {
+        expectOk(get("/api/analytics/by-employee").param("granularity", "weekly")
+                .param("startDate", FROM).param("endDate", TO));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void analytics_employeeChanges() throws Exception {
+        expectOk(get("/api/analytics/employee-changes").param("createdBy", "employee1@example.com")
+                .param("startDate", FROM).param("endDate", TO));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_stockUpdates() throws Exception {
+        expectOk(get("/api/analytics/stock-updates").param("supplierId", SUPPLIER)
+                .param("startDate", FROM + "T00:00:00").param("endDate", TO + "T23:59:59"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void analytics_stockUpdatesQuery() throws Exception {
+        expectOk(json(post("/api/analytics/stock-updates/query"), """
+                {"startDate":"%sT00:00:00","endDate":"%sT23:59:59","createdBy":"employee2@example.com"}
+                """.formatted(FROM, TO)));
+    }
+
+    // ---- auth, admin, health ----
+
+    @Test
+    @MaxQueries(1)
+    void auth_me() throws Exception {
+        expectOk(get("/api/me"));
+    }
+
+    @Test
+    @MaxQueries(0)
+    void auth_meAuthorities() throws Exception {
+        expectOk(get("/api/me/authorities"));
+    }
+
+    @Test
+    @MaxQueries(0)
+    void admin_sqlStats() throws Exception {
+        expectOk(get("/api/admin/sql-stats"));
+    }
+
+    /** Health answers from the background prober's snapshot (disabled here), never from the pool. */
+    @Test
+    @MaxQueries(0)
+    void health() throws Exception {
+        perform(get("/api/health"));
+        perform(get("/api/health/ready"));
+    }
+
+    /** The diagnostic endpoint runs its client-IP query on the request, and nothing else. */
+    @Test
+    @MaxQueries(1)
+    void health_db() throws Exception {
+        expectOk(get("/api/health/db"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.smartsupplypro.inventory.controller.admin;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.smartsupplypro.inventory.config.TestSecurityConfig;
+import com.smartsupplypro.inventory.controller.AdminSqlStatsController;
+import com.smartsupplypro.inventory.dto.SqlStatementStatsDTO;
+import com.smartsupplypro.inventory.exception.BusinessExceptionHandler;
+import com.smartsupplypro.inventory.exception.GlobalExceptionHandler;
+import com.smartsupplypro.inventory.observability.jdbc.SlowStatementStats;
+
+/**
+ * Tests {@link AdminSqlStatsController}: admin-only access, parameter validation and reset.
+ */
+@WebMvcTest(AdminSqlStatsController.class)
+@Import({TestSecurityConfig.class, BusinessExceptionHandler.class, GlobalExceptionHandler.class})
+class AdminSqlStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SlowStatementStats slowStatementStats;
+
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void getStats_returnsTopFingerprints_inRequestedOrder() throws Exception {
+        when(slowStatementStats.top(SlowStatementStats.Sort.MAX, 5)).thenReturn(List.of(
+                new SqlStatementStatsDTO("select ? from dual", 3, 0, 30.0, 10.0, 20.0,
+                        0, 1.0, 1, Map.of("", 3L), Instant.parse("2026-03-01T10:00:00Z"))));
+
+        mockMvc.perform(get("/api/admin/sql-stats").param("sort", "max").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].fingerprint").value("select ? from dual"))
+            .andExpect(jsonPath("$[0].executions").value(3));
+    }
+
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void getStats_rejectsUnknownSortAndOutOfRangeLimit() throws Exception {
+        mockMvc.perform(get("/api/admin/sql-stats").param("sort", "fastest"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/admin/sql-stats").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+
+        verify(slowStatementStats, never()).top(any(), anyInt());
+    }
+
+    @WithMockUser(roles = "USER")
+    @Test
+    void nonAdmin_isForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/sql-stats"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/admin/sql-stats"))
+            .andExpect(status().isForbidden());
+
+        verify(slowStatementStats, never()).reset();
+    }
+
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void reset_clearsStatistics() throws Exception {
+        mockMvc.perform(delete("/api/admin/sql-stats"))
+            .andExpect(status().isNoContent());
+
+        verify(slowStatementStats).reset();
+    }
+}
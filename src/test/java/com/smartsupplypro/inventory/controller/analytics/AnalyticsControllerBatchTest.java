@@ -0,0 +1,118 @@
+package com.smartsupplypro.inventory.controller.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.smartsupplypro.inventory.config.TestSecurityConfig;
+import com.smartsupplypro.inventory.controller.AnalyticsController;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchRequestDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchResponseDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
+import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsWidget;
+import com.smartsupplypro.inventory.exception.BusinessExceptionHandler;
+import com.smartsupplypro.inventory.exception.GlobalExceptionHandler;
+import com.smartsupplypro.inventory.exception.InvalidRequestException;
+import com.smartsupplypro.inventory.service.impl.analytics.AnalyticsBatchService;
+import com.smartsupplypro.inventory.service.impl.analytics.FinancialAnalyticsService;
+
+/**
+ * Tests the {@link AnalyticsController} batch endpoint: request binding, validation and
+ * the per-widget response shape.
+ */
+@WebMvcTest(AnalyticsController.class)
+@Import({TestSecurityConfig.class, BusinessExceptionHandler.class, GlobalExceptionHandler.class})
+class AnalyticsControllerBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FinancialAnalyticsService financialAnalyticsService;
+
+    @MockitoBean
+    private AnalyticsControllerValidationHelper validationHelper;
+
+    @MockitoBean
+    private AnalyticsDashboardHelper dashboardHelper;
+
+    @MockitoBean
+    private AnalyticsBatchService batchService;
+
+    @WithMockUser
+    @Test
+    void batch_bindsRequest_andReturnsResultsKeyedByWidget() throws Exception {
+        when(batchService.execute(any())).thenReturn(new AnalyticsBatchResponseDTO(
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28), "sup1",
+                Map.of(AnalyticsWidget.MONTHLY_MOVEMENT, List.of(new MonthlyStockMovementDTO("2026-02", 5, 3)),
+                       AnalyticsWidget.REASON_BREAKDOWN, List.of(new ReasonBreakdownDTO("SOLD", 0, 3)))));
+
+        mockMvc.perform(post("/api/analytics/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"widgets":["MONTHLY_MOVEMENT","REASON_BREAKDOWN"],
+                     "startDate":"2026-02-01","endDate":"2026-02-28","supplierId":"sup1"}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.startDate").value("2026-02-01"))
+            .andExpect(jsonPath("$.supplierId").value("sup1"))
+            .andExpect(jsonPath("$.results.MONTHLY_MOVEMENT[0].month").value("2026-02"))
+            .andExpect(jsonPath("$.results.REASON_BREAKDOWN[0].decrease").value(3));
+
+        ArgumentCaptor<AnalyticsBatchRequestDTO> captor = ArgumentCaptor.forClass(AnalyticsBatchRequestDTO.class);
+        verify(batchService).execute(captor.capture());
+        assertEquals(List.of(AnalyticsWidget.MONTHLY_MOVEMENT, AnalyticsWidget.REASON_BREAKDOWN),
+                captor.getValue().widgets());
+        assertEquals(LocalDate.of(2026, 2, 1), captor.getValue().startDate());
+    }
+
+    @WithMockUser
+    @Test
+    void batch_withoutWidgets_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/analytics/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"widgets\":[]}"))
+            .andExpect(status().isBadRequest());
+
+        verify(batchService, never()).execute(any());
+    }
+
+    @WithMockUser
+    @Test
+    void batch_unknownWidget_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/analytics/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"widgets\":[\"NOPE\"]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser
+    @Test
+    void batch_invalidRequestFromService_returnsBadRequest() throws Exception {
+        when(batchService.execute(any())).thenThrow(new InvalidRequestException("itemId must not be blank"));
+
+        mockMvc.perform(post("/api/analytics/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"widgets\":[\"PRICE_TREND\"]}"))
+            .andExpect(status().isBadRequest());
+    }
+}
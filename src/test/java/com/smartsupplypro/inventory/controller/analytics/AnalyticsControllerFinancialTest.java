@@ -41,6 +41,7 @@ import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
 import com.smartsupplypro.inventory.dto.StockPerSupplierDTO;
 import com.smartsupplypro.inventory.exception.BusinessExceptionHandler;
 import com.smartsupplypro.inventory.exception.GlobalExceptionHandler;
+import com.smartsupplypro.inventory.service.impl.analytics.AnalyticsBatchService;
 import com.smartsupplypro.inventory.service.impl.analytics.FinancialAnalyticsService;
 import com.smartsupplypro.inventory.service.impl.analytics.StockAnalyticsService;
 
@@ -67,6 +68,9 @@ public class AnalyticsControllerFinancialTest {
     @MockitoBean
     private AnalyticsDashboardHelper dashboardHelper;
 
+    @MockitoBean
+    private AnalyticsBatchService batchService;
+
     @BeforeEach
     void setup() {
         // applyDefaultDateWindow must return a non-null array; the controller indexes into it immediately
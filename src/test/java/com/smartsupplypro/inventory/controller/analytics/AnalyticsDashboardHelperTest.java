@@ -1,40 +1,54 @@
 package com.smartsupplypro.inventory.controller.analytics;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.smartsupplypro.inventory.config.AppProperties;
 import com.smartsupplypro.inventory.dto.DashboardSummaryDTO;
 import com.smartsupplypro.inventory.dto.ItemUpdateFrequencyDTO;
 import com.smartsupplypro.inventory.dto.LowStockItemDTO;
 import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
 import com.smartsupplypro.inventory.dto.StockPerSupplierDTO;
+import com.smartsupplypro.inventory.enums.DashboardWidgetStatus;
+import com.smartsupplypro.inventory.exception.ServiceUnavailableException;
 import com.smartsupplypro.inventory.service.impl.analytics.StockAnalyticsService;
 
 /**
  * Unit tests for {@link AnalyticsDashboardHelper} covering supplier-conditional aggregation,
- * top-N limiting, and skipping supplier-specific queries when supplierId is absent.
+ * top-N limiting, skipping supplier-specific queries when supplierId is absent, and
+ * degrading slow, failing or rejected widgets to empty results with a per-widget status.
  */
 class AnalyticsDashboardHelperTest {
 
     @Test
     void buildDashboardSummary_supplierProvided_shouldAggregateAndLimitTopN() {
         StockAnalyticsService stockAnalyticsService = mock(StockAnalyticsService.class);
-        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService);
+        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService, Runnable::run, new AppProperties());
 
         String supplierId = "s1";
         LocalDateTime startDate = LocalDateTime.of(2025, 1, 1, 0, 0);
@@ -60,7 +74,7 @@ class AnalyticsDashboardHelperTest {
         }
 
         when(stockAnalyticsService.getTotalStockPerSupplier()).thenReturn(stockPerSupplier);
-        when(stockAnalyticsService.getItemsBelowMinimumStock(eq(supplierId))).thenReturn(lowStock);
+        when(stockAnalyticsService.getTopLowStockItems(eq(supplierId), eq(3))).thenReturn(lowStock.subList(0, 3));
         when(stockAnalyticsService.getMonthlyStockMovement(eq(startDate.toLocalDate()), eq(endDate.toLocalDate()), eq(supplierId)))
                 .thenReturn(monthly);
         when(stockAnalyticsService.getItemUpdateFrequency(eq(supplierId))).thenReturn(frequencies);
@@ -80,16 +94,128 @@ class AnalyticsDashboardHelperTest {
         assertEquals("Item4", summary.topUpdatedItems().get(4).itemName());
 
         verify(stockAnalyticsService).getTotalStockPerSupplier();
-        verify(stockAnalyticsService).getItemsBelowMinimumStock(eq(supplierId));
+        verify(stockAnalyticsService).getTopLowStockItems(eq(supplierId), eq(3));
         verify(stockAnalyticsService).getMonthlyStockMovement(eq(startDate.toLocalDate()), eq(endDate.toLocalDate()), eq(supplierId));
         verify(stockAnalyticsService).getItemUpdateFrequency(eq(supplierId));
+
+        assertTrue(summary.widgetStatus().values().stream().allMatch(DashboardWidgetStatus.OK::equals));
+    }
+
+    @Test
+    void buildDashboardSummary_failingWidget_shouldReturnPartialResultWithFailedStatus() {
+        StockAnalyticsService stockAnalyticsService = mock(StockAnalyticsService.class);
+        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService, Runnable::run, new AppProperties());
+
+        List<StockPerSupplierDTO> stockPerSupplier = List.of(new StockPerSupplierDTO("Supplier A", 10));
+        when(stockAnalyticsService.getTotalStockPerSupplier()).thenReturn(stockPerSupplier);
+        when(stockAnalyticsService.getTopLowStockItems(null, 5)).thenThrow(new IllegalStateException("db down"));
+        when(stockAnalyticsService.getMonthlyStockMovement(any(), any(), any())).thenReturn(List.of());
+
+        DashboardSummaryDTO summary = helper.buildDashboardSummary(null,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 0, 0));
+
+        assertEquals(stockPerSupplier, summary.stockPerSupplier());
+        assertTrue(summary.lowStockItems().isEmpty());
+        assertEquals(DashboardWidgetStatus.FAILED, summary.widgetStatus().get("lowStockItems"));
+        assertEquals(DashboardWidgetStatus.OK, summary.widgetStatus().get("stockPerSupplier"));
+    }
+
+    @Test
+    void buildDashboardSummary_allWidgetsRefusedByBulkhead_shouldRethrowServiceUnavailable() {
+        StockAnalyticsService stockAnalyticsService = mock(StockAnalyticsService.class);
+        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService, Runnable::run, new AppProperties());
+        ServiceUnavailableException busy = new ServiceUnavailableException("busy", Duration.ofSeconds(5));
+
+        when(stockAnalyticsService.getTotalStockPerSupplier()).thenThrow(busy);
+        when(stockAnalyticsService.getTopLowStockItems(null, 5)).thenThrow(busy);
+        when(stockAnalyticsService.getMonthlyStockMovement(any(), any(), any())).thenThrow(busy);
+
+        ServiceUnavailableException thrown = assertThrows(ServiceUnavailableException.class,
+                () -> helper.buildDashboardSummary(null,
+                        LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 0, 0)));
+        assertEquals(Duration.ofSeconds(5), thrown.getRetryAfter());
+    }
+
+    @Test
+    void buildDashboardSummary_slowWidget_shouldTimeOutWithinBudgetAndKeepOtherWidgets() throws Exception {
+        StockAnalyticsService stockAnalyticsService = mock(StockAnalyticsService.class);
+        AppProperties props = new AppProperties();
+        props.getAnalytics().getDashboard().setBudget(Duration.ofMillis(200));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService, executor, props);
+
+            when(stockAnalyticsService.getTotalStockPerSupplier()).thenReturn(List.of(new StockPerSupplierDTO("A", 1)));
+            when(stockAnalyticsService.getTopLowStockItems(null, 5)).thenReturn(List.of());
+            doAnswer(inv -> {
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(new MonthlyStockMovementDTO("2025-01", 1, 1));
+            }).when(stockAnalyticsService).getMonthlyStockMovement(any(), any(), any());
+
+            long started = System.nanoTime();
+            DashboardSummaryDTO summary = helper.buildDashboardSummary(null,
+                    LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 0, 0));
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            assertTrue(elapsedMs < 2_000, "summary should return near the budget, took " + elapsedMs + " ms");
+            assertEquals(DashboardWidgetStatus.TIMED_OUT, summary.widgetStatus().get("monthlyStockMovement"));
+            assertTrue(summary.monthlyStockMovement().isEmpty());
+            assertEquals(DashboardWidgetStatus.OK, summary.widgetStatus().get("stockPerSupplier"));
+            assertEquals(1, summary.stockPerSupplier().size());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void buildDashboardSummary_saturatedExecutor_shouldReportRejectedWidgetWithoutRunningIt() {
+        StockAnalyticsService stockAnalyticsService = mock(StockAnalyticsService.class);
+        List<Runnable> accepted = new ArrayList<>();
+        // accepts the first two widgets, then behaves like a full AbortPolicy queue
+        Executor saturated = task -> {
+            if (accepted.size() == 2) {
+                throw new RejectedExecutionException("queue full");
+            }
+            accepted.add(task);
+            task.run();
+        };
+        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService, saturated, new AppProperties());
+
+        when(stockAnalyticsService.getTotalStockPerSupplier()).thenReturn(List.of(new StockPerSupplierDTO("A", 1)));
+        when(stockAnalyticsService.getTopLowStockItems(null, 5)).thenReturn(List.of());
+
+        DashboardSummaryDTO summary = helper.buildDashboardSummary(null,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 0, 0));
+
+        assertEquals(DashboardWidgetStatus.REJECTED, summary.widgetStatus().get("monthlyStockMovement"));
+        assertTrue(summary.monthlyStockMovement().isEmpty());
+        assertEquals(DashboardWidgetStatus.OK, summary.widgetStatus().get("stockPerSupplier"));
+        verify(stockAnalyticsService, never()).getMonthlyStockMovement(any(), any(), any());
+    }
+
+    @Test
+    void buildDashboardSummary_executorRejectsEveryWidget_shouldThrowServiceUnavailable() {
+        StockAnalyticsService stockAnalyticsService = mock(StockAnalyticsService.class);
+        Executor full = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        AppProperties props = new AppProperties();
+        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService, full, props);
+
+        ServiceUnavailableException thrown = assertThrows(ServiceUnavailableException.class,
+                () -> helper.buildDashboardSummary(null,
+                        LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 0, 0)));
+        assertEquals(props.getBulkhead().getAnalytics().getRetryAfter(), thrown.getRetryAfter());
+        verify(stockAnalyticsService, never()).getTotalStockPerSupplier();
     }
 
     @ParameterizedTest
     @MethodSource("missingSupplierValues")
     void buildDashboardSummary_missingSupplier_shouldLoadGlobalLowStockAndSkipSupplierScopedLoads(String supplierId) {
         StockAnalyticsService stockAnalyticsService = mock(StockAnalyticsService.class);
-        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService);
+        AnalyticsDashboardHelper helper = new AnalyticsDashboardHelper(stockAnalyticsService, Runnable::run, new AppProperties());
 
         LocalDateTime startDate = LocalDateTime.of(2025, 1, 1, 0, 0);
         LocalDateTime endDate = LocalDateTime.of(2025, 1, 31, 0, 0);
@@ -103,7 +229,7 @@ class AnalyticsDashboardHelperTest {
         }
 
         when(stockAnalyticsService.getTotalStockPerSupplier()).thenReturn(stockPerSupplier);
-        when(stockAnalyticsService.getItemsBelowMinimumStock()).thenReturn(globalLowStock);
+        when(stockAnalyticsService.getTopLowStockItems(null, 5)).thenReturn(globalLowStock.subList(0, 5));
         when(stockAnalyticsService.getMonthlyStockMovement(eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 1, 31)), eq(supplierId)))
                 .thenReturn(monthly);
 
@@ -117,9 +243,11 @@ class AnalyticsDashboardHelperTest {
         assertEquals("Low0", summary.lowStockItems().get(0).itemName());
         assertEquals("Low4", summary.lowStockItems().get(4).itemName());
         assertTrue(summary.topUpdatedItems().isEmpty());
+        assertEquals(DashboardWidgetStatus.SKIPPED, summary.widgetStatus().get("topUpdatedItems"));
+        assertEquals(DashboardWidgetStatus.OK, summary.widgetStatus().get("lowStockItems"));
 
-        verify(stockAnalyticsService).getItemsBelowMinimumStock();
-        verify(stockAnalyticsService, never()).getItemsBelowMinimumStock(org.mockito.ArgumentMatchers.anyString());
+        verify(stockAnalyticsService).getTopLowStockItems(null, 5);
+        verify(stockAnalyticsService, never()).getTopLowStockItems(org.mockito.ArgumentMatchers.anyString(), org.mockito.ArgumentMatchers.anyInt());
         verify(stockAnalyticsService, never()).getItemUpdateFrequency(org.mockito.ArgumentMatchers.anyString());
     }
 
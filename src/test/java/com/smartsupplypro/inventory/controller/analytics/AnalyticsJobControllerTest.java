@@ -0,0 +1,178 @@
+package com.smartsupplypro.inventory.controller.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import static org.springframework.security.config.Customizer.withDefaults;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.controller.AnalyticsJobController;
+import com.smartsupplypro.inventory.dto.AnalyticsJobDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsJobStatus;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+import com.smartsupplypro.inventory.exception.BusinessExceptionHandler;
+import com.smartsupplypro.inventory.exception.GlobalExceptionHandler;
+import com.smartsupplypro.inventory.service.impl.analytics.AnalyticsJobService;
+
+/**
+ * Tests {@link AnalyticsJobController}: 202 with {@code Location} on submit, result download,
+ * and per-report access (employee changes are ADMIN only; submitting needs a signed-in user).
+ * The filter chain lets every request through so method security carries the gating.
+ */
+@WebMvcTest(controllers = AnalyticsJobController.class)
+@AutoConfigureMockMvc(addFilters = true)
+@ActiveProfiles("test")
+@Import({AnalyticsJobControllerTest.TestSupport.class, BusinessExceptionHandler.class, GlobalExceptionHandler.class})
+class AnalyticsJobControllerTest {
+
+    private static final String FINANCIAL_JOB = """
+        {"type":"FINANCIAL_SUMMARY","startDate":"2021-01-01","endDate":"2025-12-31","supplierId":"sup1"}
+        """;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AppProperties appProperties;
+
+    @MockitoBean
+    private AnalyticsJobService jobService;
+
+    @AfterEach
+    void resetDemoFlag() {
+        appProperties.setDemoReadonly(false);
+    }
+
+    private static AnalyticsJobDTO job(AnalyticsJobType type, AnalyticsJobStatus status) {
+        return new AnalyticsJobDTO("job-1", type, status, 0, 0, 1,
+                LocalDate.of(2021, 1, 1), LocalDate.of(2025, 12, 31), "sup1", null, null, null,
+                LocalDateTime.of(2026, 3, 1, 10, 0), null, null, LocalDateTime.of(2026, 3, 2, 10, 0));
+    }
+
+    @Test
+    void submit_returns202_withStatusLocation() throws Exception {
+        when(jobService.submit(any(), eq("u")))
+                .thenReturn(job(AnalyticsJobType.FINANCIAL_SUMMARY, AnalyticsJobStatus.QUEUED));
+
+        mockMvc.perform(post("/api/analytics/jobs").with(user("u").roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON).content(FINANCIAL_JOB))
+               .andExpect(status().isAccepted())
+               .andExpect(header().string("Location", "/api/analytics/jobs/job-1"))
+               .andExpect(jsonPath("$.id").value("job-1"))
+               .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void submit_withoutWindow_is400() throws Exception {
+        mockMvc.perform(post("/api/analytics/jobs").with(user("u").roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"type\":\"STOCK_VALUE\"}"))
+               .andExpect(status().isBadRequest());
+
+        verify(jobService, never()).submit(any(), any());
+    }
+
+    @Test
+    void submit_anonymous_withDemoReadonly_is403() throws Exception {
+        appProperties.setDemoReadonly(true);
+
+        mockMvc.perform(post("/api/analytics/jobs")
+                        .contentType(MediaType.APPLICATION_JSON).content(FINANCIAL_JOB))
+               .andExpect(status().isForbidden());
+
+        verify(jobService, never()).submit(any(), any());
+    }
+
+    @Test
+    void submitEmployeeChanges_regularUser_is403_admin_is202() throws Exception {
+        String body = """
+            {"type":"EMPLOYEE_CHANGES","startDate":"2021-01-01","endDate":"2025-12-31"}
+            """;
+        when(jobService.submit(any(), eq("a")))
+                .thenReturn(job(AnalyticsJobType.EMPLOYEE_CHANGES, AnalyticsJobStatus.QUEUED));
+
+        mockMvc.perform(post("/api/analytics/jobs").with(user("u").roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+               .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/analytics/jobs").with(user("a").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+               .andExpect(status().isAccepted());
+    }
+
+    @Test
+    void statusOfEmployeeChanges_regularUser_is403_anonymousDemo_is200() throws Exception {
+        when(jobService.find("job-1")).thenReturn(job(AnalyticsJobType.EMPLOYEE_CHANGES, AnalyticsJobStatus.RUNNING));
+
+        mockMvc.perform(get("/api/analytics/jobs/job-1").with(user("u").roles("USER")))
+               .andExpect(status().isForbidden());
+
+        appProperties.setDemoReadonly(true);
+        mockMvc.perform(get("/api/analytics/jobs/job-1"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    void result_returnsStoredJson_asAttachment() throws Exception {
+        when(jobService.find("job-1")).thenReturn(job(AnalyticsJobType.FINANCIAL_SUMMARY, AnalyticsJobStatus.SUCCEEDED));
+        when(jobService.result("job-1")).thenReturn("{\"method\":\"WAC\"}");
+
+        mockMvc.perform(get("/api/analytics/jobs/job-1/result").with(user("u").roles("USER")))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Content-Disposition",
+                       "attachment; filename=\"financial_summary-2021-01-01_2025-12-31.json\""))
+               .andExpect(content().json("{\"method\":\"WAC\"}"));
+    }
+
+    @Test
+    void result_whileRunning_is409() throws Exception {
+        when(jobService.find("job-1")).thenReturn(job(AnalyticsJobType.STOCK_VALUE, AnalyticsJobStatus.RUNNING));
+        when(jobService.result("job-1")).thenThrow(new IllegalStateException("Analytics job job-1 is RUNNING"));
+
+        mockMvc.perform(get("/api/analytics/jobs/job-1/result").with(user("u").roles("USER")))
+               .andExpect(status().isConflict());
+    }
+
+    @TestConfiguration
+    @EnableMethodSecurity
+    static class TestSupport {
+
+        @Bean("appProperties")
+        AppProperties appProperties() {
+            return new AppProperties();
+        }
+
+        @Bean
+        SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+            http
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .httpBasic(withDefaults())
+                .formLogin(form -> form.disable());
+            return http.build();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.smartsupplypro.inventory.controller.analytics;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.smartsupplypro.inventory.config.TestSecurityConfig;
+import com.smartsupplypro.inventory.controller.AnalyticsStreamController;
+import com.smartsupplypro.inventory.exception.GlobalExceptionHandler;
+import com.smartsupplypro.inventory.service.impl.analytics.stream.AnalyticsStreamHub;
+
+/**
+ * Tests {@link AnalyticsStreamController} SSE subscription and authentication.
+ */
+@WebMvcTest(AnalyticsStreamController.class)
+@Import({TestSecurityConfig.class, GlobalExceptionHandler.class})
+class AnalyticsStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AnalyticsStreamHub hub;
+
+    @WithMockUser
+    @Test
+    void stream_authenticated_startsAsyncEventStream() throws Exception {
+        when(hub.subscribe()).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/analytics/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void stream_unauthenticated_returns401() throws Exception {
+        mockMvc.perform(get("/api/analytics/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -17,9 +17,14 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.ApplicationAvailability;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import com.smartsupplypro.inventory.controller.HealthCheckController;
+import com.smartsupplypro.inventory.observability.health.DatabaseHealthProber;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+import com.smartsupplypro.inventory.warmup.StartupWarmup;
 
 /**
  * Unit tests for {@link HealthCheckController#checkDatabaseConnection()} covering UP/DOWN
@@ -42,11 +47,24 @@ class HealthCheckControllerDbEndpointTest {
     @Mock
     private ResultSet resultSet;
 
+    @Mock
+    private DatabaseHealthProber prober;
+
+    @Mock
+    private ApplicationAvailability availability;
+
+    @Mock
+    private StartupWarmup warmup;
+
+    @Mock
+    private DatabaseDialectDetector dialectDetector;
+
     private HealthCheckController newController() {
-        return new HealthCheckController(dataSource);
+        return new HealthCheckController(dataSource, prober, availability, warmup, dialectDetector);
     }
 
     private void stubDbQuery() throws Exception {
+        when(dialectDetector.dialect()).thenReturn(DatabaseDialect.ORACLE);
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.prepareStatement(IP_SQL)).thenReturn(statement);
         when(statement.executeQuery()).thenReturn(resultSet);
@@ -79,6 +97,21 @@ class HealthCheckControllerDbEndpointTest {
         assertTrue(body.contains("\"oracleSeesIp\": \"1.2.3.4\""));
     }
 
+    @Test
+    void checkDatabaseConnection_onPostgresql_usesInetClientAddr() throws Exception {
+        when(dialectDetector.dialect()).thenReturn(DatabaseDialect.POSTGRESQL);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT host(inet_client_addr()) AS ip")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString("ip")).thenReturn("10.0.0.7");
+
+        ResponseEntity<String> response = newController().checkDatabaseConnection();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(requireBody(response).contains("\"oracleSeesIp\": \"10.0.0.7\""));
+    }
+
     @Test
     void checkDatabaseConnection_whenNoRow_returnsDown() throws Exception {
         stubDbQuery();
@@ -102,6 +135,7 @@ class HealthCheckControllerDbEndpointTest {
 
     @Test
     void checkDatabaseConnection_whenPrepareStatementThrows_returnsDownWithError() throws Exception {
+        when(dialectDetector.dialect()).thenReturn(DatabaseDialect.ORACLE);
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.prepareStatement(IP_SQL)).thenThrow(new SQLException("prepare failed"));
 
@@ -114,6 +148,7 @@ class HealthCheckControllerDbEndpointTest {
 
     @Test
     void checkDatabaseConnection_whenExecuteQueryThrows_returnsDownWithError() throws Exception {
+        when(dialectDetector.dialect()).thenReturn(DatabaseDialect.ORACLE);
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.prepareStatement(IP_SQL)).thenReturn(statement);
         when(statement.executeQuery()).thenThrow(new SQLException("execute failed"));
@@ -140,6 +175,7 @@ class HealthCheckControllerDbEndpointTest {
 
     @Test
     void checkDatabaseConnection_whenQueryAndCloseThrow_returnsDown() throws Exception {
+        when(dialectDetector.dialect()).thenReturn(DatabaseDialect.ORACLE);
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.prepareStatement(IP_SQL)).thenReturn(statement);
         when(statement.executeQuery()).thenThrow(new SQLException("execute failed"));
@@ -1,54 +1,75 @@
 package com.smartsupplypro.inventory.controller.health;
 
-import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Map;
 
 import javax.sql.DataSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import com.smartsupplypro.inventory.controller.HealthCheckController;
+import com.smartsupplypro.inventory.dto.HealthReadinessDTO;
+import com.smartsupplypro.inventory.observability.health.DatabaseHealthProber;
+import com.smartsupplypro.inventory.observability.health.DatabaseHealthProber.Snapshot;
+import com.smartsupplypro.inventory.observability.health.DatabaseHealthProber.Status;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+import com.smartsupplypro.inventory.warmup.StartupWarmup;
 
 /**
- * Unit tests for {@link HealthCheckController#health()} covering DB-up (200), DB-down (503),
- * and response body contract using mocked JDBC primitives.
+ * Unit tests for {@link HealthCheckController#health()} and {@link HealthCheckController#readiness()}
+ * answering from the {@link DatabaseHealthProber} snapshot without touching the DataSource,
+ * and refusing traffic until the application reports ready.
  */
 @ExtendWith(MockitoExtension.class)
 class HealthCheckControllerHealthEndpointTest {
 
-    private static final String PING_SQL = "SELECT 1 FROM DUAL";
+    private static final Instant PROBED = Instant.parse("2026-03-01T10:00:00Z");
 
     @Mock
     private DataSource dataSource;
 
     @Mock
-    private Connection connection;
+    private DatabaseHealthProber prober;
 
     @Mock
-    private PreparedStatement statement;
+    private StartupWarmup warmup;
 
     @Mock
-    private ResultSet resultSet;
+    private DatabaseDialectDetector dialectDetector;
 
-    @Mock
-    private DatabaseMetaData databaseMetaData;
+    private final ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+
+    @BeforeEach
+    void ready() {
+        setReadiness(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private void setReadiness(ReadinessState state) {
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(this, state));
+    }
 
     private HealthCheckController newController() {
-        return new HealthCheckController(dataSource);
+        return new HealthCheckController(dataSource, prober, availability, warmup, dialectDetector);
+    }
+
+    private static Snapshot snapshot(Status status, String product) {
+        Instant success = status == Status.DOWN || status == Status.UNKNOWN ? null : PROBED;
+        return new Snapshot(status, 1_500_000, status == Status.UNKNOWN ? null : PROBED, success,
+                status == Status.DOWN ? 2 : 0, product, status == Status.DOWN ? "db down" : null);
     }
 
     private static Map<String, Object> requireBody(ResponseEntity<Map<String, Object>> response) {
@@ -58,13 +79,8 @@ class HealthCheckControllerHealthEndpointTest {
     }
 
     @Test
-    void health_whenDbUp_returns200() throws Exception {
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.prepareStatement(PING_SQL)).thenReturn(statement);
-        when(statement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(connection.getMetaData()).thenReturn(databaseMetaData);
-        when(databaseMetaData.getDatabaseProductName()).thenReturn("Oracle");
+    void health_whenDbUp_returns200_withoutBorrowingAConnection() {
+        when(prober.snapshot()).thenReturn(snapshot(Status.UP, "Oracle"));
 
         ResponseEntity<Map<String, Object>> response = newController().health();
 
@@ -74,31 +90,28 @@ class HealthCheckControllerHealthEndpointTest {
         assertEquals("ok", body.get("status"));
         assertEquals("ok", body.get("database"));
         assertEquals("Oracle", body.get("databaseProduct"));
+        assertEquals(PROBED.toString(), body.get("lastSuccess"));
 
         Object timestamp = body.get("timestamp");
         assertNotNull(timestamp);
         assertTrue(timestamp instanceof Number);
         assertTrue(((Number) timestamp).longValue() > 0L);
+        verifyNoInteractions(dataSource);
     }
 
     @Test
-    void health_whenDbDown_returns503() throws Exception {
-        when(dataSource.getConnection()).thenThrow(new SQLException("db down"));
+    void health_whenPoolSaturated_staysUp() {
+        when(prober.snapshot()).thenReturn(snapshot(Status.SATURATED, "Oracle"));
 
         ResponseEntity<Map<String, Object>> response = newController().health();
 
-        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
-
-        Map<String, Object> body = requireBody(response);
-        assertEquals("ok", body.get("status"));
-        assertEquals("down", body.get("database"));
-        assertEquals("unknown", body.get("databaseProduct"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("ok", requireBody(response).get("database"));
     }
 
     @Test
-    void health_whenPrepareStatementThrows_returns503() throws Exception {
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.prepareStatement(PING_SQL)).thenThrow(new SQLException("prepare failed"));
+    void health_whenDbDown_returns503() {
+        when(prober.snapshot()).thenReturn(snapshot(Status.DOWN, null));
 
         ResponseEntity<Map<String, Object>> response = newController().health();
 
@@ -107,80 +120,84 @@ class HealthCheckControllerHealthEndpointTest {
         Map<String, Object> body = requireBody(response);
         assertEquals("ok", body.get("status"));
         assertEquals("down", body.get("database"));
+        assertEquals("unknown", body.get("databaseProduct"));
+        assertNull(body.get("lastSuccess"));
     }
 
     @Test
-    void health_whenExecuteQueryThrows_returns503() throws Exception {
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.prepareStatement(PING_SQL)).thenReturn(statement);
-        when(statement.executeQuery()).thenThrow(new SQLException("execute failed"));
+    void health_beforeFirstProbe_returns503Unknown() {
+        when(prober.snapshot()).thenReturn(snapshot(Status.UNKNOWN, null));
 
         ResponseEntity<Map<String, Object>> response = newController().health();
 
         assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
-
-        Map<String, Object> body = requireBody(response);
-        assertEquals("ok", body.get("status"));
-        assertEquals("down", body.get("database"));
+        assertEquals("unknown", requireBody(response).get("database"));
     }
 
     @Test
-    void health_cachesDatabaseProduct_afterFirstSuccessfulPing() throws Exception {
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.prepareStatement(PING_SQL)).thenReturn(statement);
-        when(statement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(connection.getMetaData()).thenReturn(databaseMetaData);
-        when(databaseMetaData.getDatabaseProductName()).thenReturn("Oracle");
-
-        HealthCheckController controller = newController();
-        controller.health();                                          // first ping resolves and caches "Oracle"
-        Map<String, Object> body = requireBody(controller.health());  // second ping uses the cache
+    void health_whileWarmingUp_returns503Starting() {
+        setReadiness(ReadinessState.REFUSING_TRAFFIC);
+        when(prober.snapshot()).thenReturn(snapshot(Status.UP, "Oracle"));
 
-        assertEquals("Oracle", body.get("databaseProduct"));
-        verify(connection, times(1)).getMetaData();                   // metadata read once, not on every ping
+        ResponseEntity<Map<String, Object>> response = newController().health();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        Map<String, Object> body = requireBody(response);
+        assertEquals("starting", body.get("status"));
+        assertEquals("ok", body.get("database"));
     }
 
     @Test
-    void health_whenProductNameNull_reportsUnknown() throws Exception {
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.prepareStatement(PING_SQL)).thenReturn(statement);
-        when(statement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(connection.getMetaData()).thenReturn(databaseMetaData);
-        when(databaseMetaData.getDatabaseProductName()).thenReturn(null);
+    void readiness_reportsPoolSaturationAndLatencyPercentiles() {
+        when(warmup.result()).thenReturn(new StartupWarmup.Result(StartupWarmup.State.COMPLETED, 4200, 3, 12, 0));
+        when(prober.snapshot()).thenReturn(snapshot(Status.SATURATED, "Oracle"));
+        when(prober.poolStats()).thenReturn(new DatabaseHealthProber.PoolStats(5, 0, 5, 5, 3));
+        when(prober.latencyPercentiles()).thenReturn(new DatabaseHealthProber.LatencyPercentiles(10, 1.0, 4.0, 9.0, 9.5));
 
-        Map<String, Object> body = requireBody(newController().health());
+        ResponseEntity<HealthReadinessDTO> response = newController().readiness();
 
-        assertEquals("ok", body.get("database"));
-        assertEquals("unknown", body.get("databaseProduct"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        HealthReadinessDTO body = response.getBody();
+        assertNotNull(body);
+        assertEquals("SATURATED", body.status());
+        assertEquals(1.5, body.database().lastLatencyMillis());
+        assertEquals(new HealthReadinessDTO.Pool(5, 0, 5, 5, 3), body.pool());
+        assertEquals(new HealthReadinessDTO.ProbeLatency(10, 1.0, 4.0, 9.0, 9.5), body.probeLatency());
+        assertEquals("ACCEPTING_TRAFFIC", body.readiness());
+        assertEquals(new HealthReadinessDTO.Warmup("COMPLETED", 4200, 3, 12, 0), body.warmup());
+        verifyNoInteractions(dataSource);
     }
 
     @Test
-    void health_whenProductNameBlank_reportsUnknown() throws Exception {
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.prepareStatement(PING_SQL)).thenReturn(statement);
-        when(statement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(connection.getMetaData()).thenReturn(databaseMetaData);
-        when(databaseMetaData.getDatabaseProductName()).thenReturn("   ");
+    void readiness_whileWarmingUp_returns503WithProgress() {
+        setReadiness(ReadinessState.REFUSING_TRAFFIC);
+        when(warmup.result()).thenReturn(new StartupWarmup.Result(StartupWarmup.State.RUNNING, 0, 1, 2, 0));
+        when(prober.snapshot()).thenReturn(snapshot(Status.UP, "Oracle"));
+        when(prober.latencyPercentiles()).thenReturn(new DatabaseHealthProber.LatencyPercentiles(1, 1.0, 1.0, 1.0, 1.0));
 
-        Map<String, Object> body = requireBody(newController().health());
+        ResponseEntity<HealthReadinessDTO> response = newController().readiness();
 
-        assertEquals("unknown", body.get("databaseProduct"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        HealthReadinessDTO body = response.getBody();
+        assertNotNull(body);
+        assertEquals("UP", body.status());
+        assertEquals("REFUSING_TRAFFIC", body.readiness());
+        assertEquals("RUNNING", body.warmup().state());
     }
 
     @Test
-    void health_whenMetadataThrows_reportsUnknownButStaysUp() throws Exception {
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.prepareStatement(PING_SQL)).thenReturn(statement);
-        when(statement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(connection.getMetaData()).thenThrow(new SQLException("metadata unavailable"));
+    void readiness_whenDbDown_returns503_andOmitsPoolForNonHikariDataSource() {
+        when(warmup.result()).thenReturn(new StartupWarmup.Result(StartupWarmup.State.DISABLED, 0, 0, 0, 0));
+        when(prober.snapshot()).thenReturn(snapshot(Status.DOWN, null));
+        when(prober.latencyPercentiles()).thenReturn(new DatabaseHealthProber.LatencyPercentiles(0, 0, 0, 0, 0));
 
-        Map<String, Object> body = requireBody(newController().health());
+        ResponseEntity<HealthReadinessDTO> response = newController().readiness();
 
-        assertEquals("ok", body.get("database"));
-        assertEquals("unknown", body.get("databaseProduct"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        HealthReadinessDTO body = response.getBody();
+        assertNotNull(body);
+        assertNull(body.pool());
+        assertEquals("db down", body.database().error());
+        assertEquals(2, body.database().consecutiveFailures());
     }
 }
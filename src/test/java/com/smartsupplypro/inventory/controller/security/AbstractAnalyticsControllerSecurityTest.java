@@ -27,7 +27,9 @@ import com.smartsupplypro.inventory.controller.StockReasonAnalyticsController;
 import com.smartsupplypro.inventory.controller.StockUpdateAnalyticsController;
 import com.smartsupplypro.inventory.controller.analytics.AnalyticsControllerValidationHelper;
 import com.smartsupplypro.inventory.controller.analytics.AnalyticsDashboardHelper;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchResponseDTO;
 import com.smartsupplypro.inventory.dto.StockUpdateFilterDTO;
+import com.smartsupplypro.inventory.service.impl.analytics.AnalyticsBatchService;
 import com.smartsupplypro.inventory.service.impl.analytics.FinancialAnalyticsService;
 import com.smartsupplypro.inventory.service.impl.analytics.StockAnalyticsService;
 
@@ -102,6 +104,14 @@ public abstract class AbstractAnalyticsControllerSecurityTest {
             return mock;
         }
 
+        @Bean
+        AnalyticsBatchService analyticsBatchService() {
+            AnalyticsBatchService mock = Mockito.mock(AnalyticsBatchService.class);
+            when(mock.execute(any()))
+                .thenReturn(new AnalyticsBatchResponseDTO(null, null, null, Collections.emptyMap()));
+            return mock;
+        }
+
         // Admits any authenticated user to /api/analytics/**; challenges anonymous requests.
         // Form login and CSRF are disabled for API testing; HTTP Basic is used to simulate auth in tests.
         @Bean
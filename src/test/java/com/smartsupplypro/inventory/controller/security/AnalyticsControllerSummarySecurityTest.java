@@ -2,12 +2,14 @@ package com.smartsupplypro.inventory.controller.security;
 
 import org.junit.jupiter.api.Test;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.http.MediaType;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Security tests for {@link com.smartsupplypro.inventory.controller.AnalyticsController}
- * summary endpoints (dashboard summary, financial summary) ensuring 401 for anonymous and 200 for USER.
+ * summary endpoints (dashboard summary, financial summary, batch) ensuring 401 for anonymous and 200 for USER.
  */
 class AnalyticsControllerSummarySecurityTest extends AbstractAnalyticsControllerSecurityTest {
 
@@ -40,4 +42,21 @@ class AnalyticsControllerSummarySecurityTest extends AbstractAnalyticsController
                         .with(user("u").roles(USER)))
                .andExpect(status().isOk());
     }
+
+    @Test
+    void batch_unauthenticated_is401() throws Exception {
+        mockMvc.perform(post("/api/analytics/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"widgets\":[\"MONTHLY_MOVEMENT\"]}"))
+               .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void batch_authenticatedUser_is200() throws Exception {
+        mockMvc.perform(post("/api/analytics/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"widgets\":[\"MONTHLY_MOVEMENT\"]}")
+                        .with(user("u").roles(USER)))
+               .andExpect(status().isOk());
+    }
 }
@@ -1,5 +1,6 @@
 package com.smartsupplypro.inventory.exception;
 
+import java.time.Duration;
 import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.Nested;
@@ -11,6 +12,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,9 +21,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.smartsupplypro.inventory.bulkhead.PartitionSaturatedException;
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
 import com.smartsupplypro.inventory.config.TestSecurityConfig;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -46,6 +51,11 @@ class GlobalExceptionHandlerTest {
         @GetMapping("/data")   void data()   { throw new DataIntegrityViolationException("dup"); }
         @GetMapping("/lock")   void lock()   { throw new ObjectOptimisticLockingFailureException(Object.class, 1L); }
         @GetMapping("/rse")    void rse()    { throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Supplier not found"); }
+        @GetMapping("/busy")   void busy()   { throw new ServiceUnavailableException("Too many concurrent analytics requests; retry shortly", Duration.ofMillis(4500)); }
+        @GetMapping("/crud-full") void crudFull() {
+            throw new CannotCreateTransactionException("Could not open JPA EntityManager",
+                    new PartitionSaturatedException(PoolPartition.CRUD, Duration.ofSeconds(1)));
+        }
         @GetMapping("/boom")   void boom()   { throw new RuntimeException("boom"); }
         @GetMapping("/iae-blank") void iaeBlank() { throw new IllegalArgumentException("   "); }
     }
@@ -97,6 +107,22 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    /** 503 Service Unavailable responses. */
+    @Nested class WhenUnavailable {
+        @Test void serviceUnavailable_returns503WithRetryAfter() throws Exception {
+            mockMvc.perform(get("/err/busy"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.message").value("Too many concurrent analytics requests; retry shortly"));
+        }
+        @Test void saturatedPartitionInCauseChain_returns503WithRetryAfter() throws Exception {
+            mockMvc.perform(get("/err/crud-full"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Too many concurrent requests; retry shortly"));
+        }
+    }
+
     /** Pass-through and fallback responses. */
     @Nested class WhenPassThrough {
         @Test void responseStatusException_preservesStatusAndMessage() throws Exception {
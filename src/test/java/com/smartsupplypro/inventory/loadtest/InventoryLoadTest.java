@@ -0,0 +1,158 @@
+package com.smartsupplypro.inventory.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.smartsupplypro.inventory.testdata.SyntheticDataLoader;
+
+/**
+ * Offline load test: boots the application on H2, seeds a {@link LoadTestPlan#volume()} dataset
+ * and drives a mixed workload through real HTTP, failing on any breached SLO.
+ *
+ * <p>Skipped unless {@code -Dloadtest=true}; run it through the {@code loadtest} profile:</p>
+ * <pre>
+ * mvn -Ploadtest test -Dloadtest.concurrency=64 -Dloadtest.duration=300 -Dloadtest.volume=large
+ * </pre>
+ *
+ * <p>The mix approximates the UI: catalogue paging and item detail, search-as-you-type,
+ * quantity adjustments (each +n then -n, so stock never drifts), dashboard tiles and the
+ * heavier analytics charts. p99 targets are per request and can be scaled with
+ * {@code loadtest.slo-scale} for slower machines.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql=WARN",
+        // writes go through the API here, so cache invalidation sees every movement
+        "app.analytics.cache.enabled=true"
+})
+@ActiveProfiles("test")
+@Import(InventoryLoadTest.SessionConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class InventoryLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryLoadTest.class);
+
+    private static final String[] SEARCH_TERMS = { "bearing", "bolt", "steel", "welding", "film", "pallet",
+        "gloves", "gasket", "drill", "cable", "syn-brg", "syn-pkg" };
+
+    @TestConfiguration
+    static class SessionConfig {
+        @Bean
+        FilterRegistrationBean<LoadTestSessionFilter> loadTestSessionFilter() {
+            FilterRegistrationBean<LoadTestSessionFilter> registration =
+                    new FilterRegistrationBean<>(new LoadTestSessionFilter());
+            registration.setOrder(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 1);
+            return registration;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final LoadTestPlan plan = LoadTestPlan.fromSystemProperties();
+    private List<String> itemIds;
+    private List<String> supplierIds;
+
+    @BeforeAll
+    void seed() throws Exception {
+        SyntheticDataLoader.load(dataSource, plan.volume(), SyntheticDataLoader.DEFAULT_BATCH_SIZE, true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        itemIds = jdbc.queryForList("SELECT ID FROM INVENTORY_ITEM WHERE ID LIKE 'syn-%' ORDER BY ID", String.class);
+        supplierIds = jdbc.queryForList("SELECT ID FROM SUPPLIER WHERE ID LIKE 'syn-%' ORDER BY ID", String.class);
+    }
+
+    @Test
+    void mixedWorkload_meetsSlos() throws Exception {
+        LoadTestReport report = new LoadTestHarness(URI.create("http://localhost:" + port), plan, workload()).run();
+        log.info("Load test report ({} movements){}{}", plan.volume().movements(), System.lineSeparator(),
+                report.format());
+
+        List<String> violations = report.violations(plan);
+        assertTrue(violations.isEmpty(), () -> "SLO breached:\n" + String.join("\n", violations)
+                + "\n\n" + report.format());
+    }
+
+    private List<Operation> workload() {
+        LocalDate to = plan.volume().to();
+        List<Operation> ops = new ArrayList<>();
+        ops.add(new Operation("catalogue.page", 20, Duration.ofMillis(250), (base, r) -> List.of(
+                get(base, "/api/inventory/search?page=" + r.nextInt(50) + "&size=20&sort=name"))));
+        ops.add(new Operation("catalogue.item", 15, Duration.ofMillis(100), (base, r) -> List.of(
+                get(base, "/api/inventory/" + item(r)))));
+        ops.add(new Operation("search.keystroke", 20, Duration.ofMillis(250), (base, r) -> {
+            String term = SEARCH_TERMS[r.nextInt(SEARCH_TERMS.length)];
+            List<HttpRequest> keystrokes = new ArrayList<>();
+            for (int len = 2; len <= term.length(); len++) {
+                keystrokes.add(get(base, "/api/inventory/search?name=" + term.substring(0, len) + "&size=10"));
+            }
+            return keystrokes;
+        }));
+        ops.add(new Operation("stock.patch", 10, Duration.ofMillis(300), (base, r) -> {
+            String id = item(r);
+            int delta = 1 + r.nextInt(5);
+            return List.of(
+                    patch(base, "/api/inventory/" + id + "/quantity?delta=" + delta + "&reason=MANUAL_UPDATE"),
+                    patch(base, "/api/inventory/" + id + "/quantity?delta=-" + delta + "&reason=SOLD"));
+        }));
+        ops.add(new Operation("dashboard.summary", 8, Duration.ofMillis(1_500), (base, r) -> List.of(
+                get(base, "/api/analytics/summary"))));
+        ops.add(new Operation("dashboard.low-stock", 7, Duration.ofMillis(250), (base, r) -> List.of(
+                get(base, "/api/analytics/low-stock/count"))));
+        ops.add(new Operation("analytics.movement", 6, Duration.ofMillis(2_000), (base, r) -> List.of(
+                get(base, "/api/analytics/monthly-stock-movement?start=" + to.minusYears(1) + "&end=" + to))));
+        ops.add(new Operation("analytics.price-trend", 6, Duration.ofMillis(1_000), (base, r) -> List.of(
+                get(base, "/api/analytics/price-trend?itemId=" + item(r) + "&start=" + to.minusDays(180)
+                        + "&end=" + to))));
+        ops.add(new Operation("analytics.financial", 4, Duration.ofMillis(3_000), (base, r) -> List.of(
+                get(base, "/api/analytics/financial/summary?from=" + to.minusDays(30) + "&to=" + to
+                        + "&supplierId=" + supplierIds.get(r.nextInt(supplierIds.size()))))));
+        ops.add(new Operation("analytics.by-employee", 4, Duration.ofMillis(2_000), (base, r) -> List.of(
+                get(base, "/api/analytics/by-employee?granularity=weekly&startDate=" + to.minusDays(90)
+                        + "&endDate=" + to))));
+        return ops;
+    }
+
+    /** Zipf-like skew towards the first items, matching the generator's popularity model. */
+    private String item(SplittableRandom r) {
+        double u = r.nextDouble();
+        return itemIds.get((int) (itemIds.size() * u * u * u));
+    }
+
+    private static HttpRequest get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET().build();
+    }
+
+    private static HttpRequest patch(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.smartsupplypro.inventory.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Closed-loop HTTP load generator running on virtual threads.
+ *
+ * <p>Each of {@code concurrency} virtual users owns an {@link HttpClient} with its own cookie
+ * jar (one server session per user) and repeatedly picks a weighted {@link Operation}, sending
+ * its requests back-to-back. Latencies finishing after the warm-up are recorded per operation
+ * in an HdrHistogram at microsecond resolution. Only 2xx answers enter the histogram; 503
+ * counts as shed (overload protection), 429 as throttled (a client over its own rate budget,
+ * which a closed loop without think time provokes by design) and anything else as an error.</p>
+ *
+ * <p>Closed loop means a slow server also slows the offered load, so percentiles understate
+ * what an open-loop arrival rate would see under saturation; the throughput floor in
+ * {@link LoadTestPlan} catches that case.</p>
+ */
+public final class LoadTestHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    /** Header the test-only session filter reads to pick the principal of a new session. */
+    public static final String USER_HEADER = "X-Load-Test-User";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long HIGHEST_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final URI base;
+    private final LoadTestPlan plan;
+    private final List<Operation> operations;
+    private final List<Stats> stats = new ArrayList<>();
+    private final int totalWeight;
+
+    public LoadTestHarness(URI base, LoadTestPlan plan, List<Operation> operations) {
+        this.base = base;
+        this.plan = plan;
+        this.operations = List.copyOf(operations);
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        operations.forEach(op -> stats.add(new Stats()));
+    }
+
+    /** Runs warm-up and measurement, blocking until every virtual user has finished. */
+    public LoadTestReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + plan.warmup().toNanos();
+        long end = measureFrom + plan.duration().toNanos();
+        log.info("Load test: {} virtual users, warm-up {}, measuring {}", plan.concurrency(), plan.warmup(),
+                plan.duration());
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService io = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < plan.concurrency(); u++) {
+                int user = u;
+                users.submit(() -> runUser(user, io, measureFrom, end));
+            }
+            users.shutdown();
+            if (!users.awaitTermination(plan.warmup().plus(plan.duration()).plus(REQUEST_TIMEOUT).toMillis(),
+                    TimeUnit.MILLISECONDS)) {
+                users.shutdownNow();
+            }
+        }
+
+        List<LoadTestReport.EndpointStats> endpoints = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            Operation op = operations.get(i);
+            Stats s = stats.get(i);
+            Histogram h = s.latencies;
+            Duration slo = Duration.ofNanos((long) (op.p99Slo().toNanos() * plan.sloScale()));
+            endpoints.add(new LoadTestReport.EndpointStats(op.name(), h.getTotalCount(), s.errors.sum(),
+                    s.shed.sum(), s.throttled.sum(), millis(h, 50), millis(h, 95), millis(h, 99),
+                    h.getMaxValue() / 1_000.0, slo));
+        }
+        return new LoadTestReport(plan.duration(), endpoints);
+    }
+
+    private void runUser(int user, ExecutorService io, long measureFrom, long end) {
+        SplittableRandom random = new SplittableRandom(plan.volume().seed() * 31 + user);
+        String principal = "employee" + (user % plan.volume().users() + 1) + "@example.com";
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .connectTimeout(REQUEST_TIMEOUT)
+                .executor(io)
+                .build()) {
+            while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                int index = pick(random);
+                for (HttpRequest template : operations.get(index).script().requests(base, random)) {
+                    HttpRequest request = HttpRequest.newBuilder(template, (name, value) -> true)
+                            .header(USER_HEADER, principal)
+                            .timeout(REQUEST_TIMEOUT)
+                            .build();
+                    long sent = System.nanoTime();
+                    int status = send(client, request);
+                    long finished = System.nanoTime();
+                    if (finished >= measureFrom && finished < end) {
+                        stats.get(index).record(status, finished - sent);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            return -1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private int pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.size(); i++) {
+            roll -= operations.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return operations.size() - 1;
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getTotalCount() == 0 ? 0 : h.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    /** Measured outcomes of one operation. */
+    private static final class Stats {
+        final ConcurrentHistogram latencies = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder shed = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+
+        void record(int status, long nanos) {
+            if (status >= 200 && status < 300) {
+                latencies.recordValue(Math.min(HIGHEST_MICROS, Math.max(1, nanos / 1_000)));
+            } else if (status == 503) {
+                shed.increment();
+            } else if (status == 429) {
+                throttled.increment();
+            } else {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.smartsupplypro.inventory.loadtest;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import com.smartsupplypro.inventory.testdata.SyntheticDataGenerator;
+
+/**
+ * Shape and pass criteria of a load-test run, read from {@code loadtest.*} system properties.
+ *
+ * @param concurrency   virtual users sending requests back-to-back (closed loop)
+ * @param warmup        time before latencies are recorded (JIT, caches, pool growth)
+ * @param duration      measured time
+ * @param volume        dataset seeded before the run
+ * @param minThroughput minimum successful (2xx) requests per second across all endpoints
+ * @param maxErrorRatio tolerated share of answers other than 2xx, 429 and 503, per endpoint
+ * @param maxShedRatio  tolerated share of 503 (adaptive shedding, bulkheads), per endpoint
+ * @param sloScale      multiplier applied to every per-endpoint p99 target
+ */
+public record LoadTestPlan(int concurrency, Duration warmup, Duration duration, SyntheticDataGenerator.Volume volume,
+                           double minThroughput, double maxErrorRatio, double maxShedRatio, double sloScale) {
+
+    /**
+     * Reads {@code loadtest.concurrency} (32), {@code loadtest.warmup} (30s),
+     * {@code loadtest.duration} (120s), {@code loadtest.volume} (medium),
+     * {@code loadtest.movements}, {@code loadtest.seed}, {@code loadtest.min-throughput} (50),
+     * {@code loadtest.max-error-ratio} (0.01), {@code loadtest.max-shed-ratio} (0.05) and
+     * {@code loadtest.slo-scale} (1.0). Durations use ISO-8601 or plain seconds.
+     */
+    public static LoadTestPlan fromSystemProperties() {
+        SyntheticDataGenerator.Volume volume = switch (property("volume", "medium").toLowerCase(Locale.ROOT)) {
+            case "small" -> SyntheticDataGenerator.Volume.small();
+            case "medium" -> SyntheticDataGenerator.Volume.medium();
+            case "large" -> SyntheticDataGenerator.Volume.large();
+            default -> throw new IllegalArgumentException("loadtest.volume must be small, medium or large");
+        };
+        if (System.getProperty("loadtest.movements") != null) {
+            volume = volume.withMovements(Integer.parseInt(property("movements", null)));
+        }
+        if (System.getProperty("loadtest.seed") != null) {
+            volume = volume.withSeed(Long.parseLong(property("seed", null)));
+        }
+        return new LoadTestPlan(
+                Integer.parseInt(property("concurrency", "32")),
+                duration(property("warmup", "30")),
+                duration(property("duration", "120")),
+                volume,
+                Double.parseDouble(property("min-throughput", "50")),
+                Double.parseDouble(property("max-error-ratio", "0.01")),
+                Double.parseDouble(property("max-shed-ratio", "0.05")),
+                Double.parseDouble(property("slo-scale", "1.0")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Duration duration(String value) {
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,87 @@
+package com.smartsupplypro.inventory.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Result of a load-test run and its evaluation against a {@link LoadTestPlan}.
+ *
+ * @param measured  measured wall time (warm-up excluded)
+ * @param endpoints per-operation statistics, in workload order
+ */
+public record LoadTestReport(Duration measured, List<EndpointStats> endpoints) {
+
+    /**
+     * Outcome counts and 2xx latencies of one operation; latencies in milliseconds.
+     *
+     * @param ok        2xx answers, the population of the percentiles
+     * @param errors    answers other than 2xx, 429 and 503, plus I/O failures
+     * @param shed      503 answers
+     * @param throttled 429 answers; reported, not judged
+     */
+    public record EndpointStats(String name, long ok, long errors, long shed, long throttled,
+                                double p50, double p95, double p99, double max, Duration p99Slo) {
+
+        public long requests() {
+            return ok + errors + shed + throttled;
+        }
+
+        double errorRatio() {
+            return requests() == 0 ? 0 : (double) errors / requests();
+        }
+
+        double shedRatio() {
+            return requests() == 0 ? 0 : (double) shed / requests();
+        }
+    }
+
+    /** Successful (2xx) requests per second across all operations. */
+    public double throughput() {
+        long total = endpoints.stream().mapToLong(EndpointStats::ok).sum();
+        return total / (measured.toNanos() / 1e9);
+    }
+
+    /** Every SLO the run breached; empty when the run passes. */
+    public List<String> violations(LoadTestPlan plan) {
+        List<String> violations = new ArrayList<>();
+        if (throughput() < plan.minThroughput()) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f req/s below %.1f req/s",
+                    throughput(), plan.minThroughput()));
+        }
+        for (EndpointStats e : endpoints) {
+            if (e.ok() == 0) {
+                violations.add(e.name() + ": no successful requests measured");
+                continue;
+            }
+            double sloMillis = e.p99Slo().toNanos() / 1e6;
+            if (e.p99() > sloMillis) {
+                violations.add(String.format(Locale.ROOT, "%s: p99 %.1f ms above %.1f ms", e.name(), e.p99(), sloMillis));
+            }
+            if (e.errorRatio() > plan.maxErrorRatio()) {
+                violations.add(String.format(Locale.ROOT, "%s: %d errors in %d requests", e.name(), e.errors(),
+                        e.requests()));
+            }
+            if (e.shedRatio() > plan.maxShedRatio()) {
+                violations.add(String.format(Locale.ROOT, "%s: %d shed (503) in %d requests", e.name(),
+                        e.shed(), e.requests()));
+            }
+        }
+        return violations;
+    }
+
+    /** Fixed-width table for the build log. */
+    public String format() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "%-22s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n", "operation", "ok", "errors", "shed",
+                "throttled", "p50 ms", "p95 ms", "p99 ms", "max ms", "p99 slo"));
+        for (EndpointStats e : endpoints) {
+            sb.append(String.format(Locale.ROOT, "%-22s %9d %7d %7d %9d %9.1f %9.1f %9.1f %9.1f %9d%n",
+                    e.name(), e.ok(), e.errors(), e.shed(), e.throttled(), e.p50(), e.p95(), e.p99(), e.max(),
+                    e.p99Slo().toMillis()));
+        }
+        sb.append(String.format(Locale.ROOT, "throughput %.1f req/s over %ds", throughput(), measured.toSeconds()));
+        return sb.toString();
+    }
+}
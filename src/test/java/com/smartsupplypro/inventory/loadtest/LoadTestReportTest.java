@@ -0,0 +1,52 @@
+package com.smartsupplypro.inventory.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.smartsupplypro.inventory.testdata.SyntheticDataGenerator;
+
+/**
+ * Unit tests for {@link LoadTestReport}: SLO evaluation and throughput accounting.
+ */
+class LoadTestReportTest {
+
+    private static final LoadTestPlan PLAN = new LoadTestPlan(4, Duration.ZERO, Duration.ofSeconds(10),
+            SyntheticDataGenerator.Volume.small(), 10, 0.01, 0.05, 1.0);
+
+    private static LoadTestReport.EndpointStats stats(String name, long ok, long errors, long shed, long throttled,
+                                                      double p99, long sloMillis) {
+        return new LoadTestReport.EndpointStats(name, ok, errors, shed, throttled, p99 / 2, p99, p99, p99,
+                Duration.ofMillis(sloMillis));
+    }
+
+    @Test
+    void withinSlos_hasNoViolations_andThrottlingIsNotJudged() {
+        LoadTestReport report = new LoadTestReport(Duration.ofSeconds(10), List.of(
+                stats("catalogue.page", 500, 0, 0, 0, 120, 250),
+                stats("dashboard.summary", 100, 1, 2, 400, 900, 1_500)));
+
+        assertEquals(60.0, report.throughput(), 1e-9);
+        assertTrue(report.violations(PLAN).isEmpty(), () -> report.violations(PLAN).toString());
+    }
+
+    @Test
+    void breaches_areAllReported() {
+        LoadTestReport report = new LoadTestReport(Duration.ofSeconds(10), List.of(
+                stats("catalogue.page", 50, 5, 0, 0, 400, 250),
+                stats("analytics.financial", 20, 0, 10, 0, 100, 3_000),
+                stats("analytics.movement", 0, 3, 0, 0, 0, 2_000)));
+
+        List<String> violations = report.violations(PLAN);
+
+        assertEquals(List.of(
+                "throughput 7.0 req/s below 10.0 req/s",
+                "catalogue.page: p99 400.0 ms above 250.0 ms",
+                "catalogue.page: 5 errors in 55 requests",
+                "analytics.financial: 10 shed (503) in 30 requests",
+                "analytics.movement: no successful requests measured"), violations);
+    }
+}
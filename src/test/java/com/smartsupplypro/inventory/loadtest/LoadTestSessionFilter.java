@@ -0,0 +1,45 @@
+package com.smartsupplypro.inventory.loadtest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Test-only stand-in for the Google login: the first request of a virtual user (no session yet)
+ * gets a session holding an OAuth2 authentication for the {@link LoadTestHarness#USER_HEADER}
+ * principal, shaped like the one {@code OAuth2LoginSuccessHandler} leaves behind. Later requests
+ * carry the session cookie and go through the normal session-based security chain, so the run
+ * needs no identity provider and no network.
+ *
+ * <p>Registered before the Spring Security filter chain; never part of the application context.</p>
+ */
+class LoadTestSessionFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String email = request.getHeader(LoadTestHarness.USER_HEADER);
+        if (email != null && request.getSession(false) == null) {
+            DefaultOAuth2User user = new DefaultOAuth2User(
+                    List.of(new SimpleGrantedAuthority("ROLE_ADMIN")),
+                    Map.of("email", email, "name", email.substring(0, email.indexOf('@'))),
+                    "email");
+            OAuth2AuthenticationToken token = new OAuth2AuthenticationToken(user, user.getAuthorities(), "google");
+            request.getSession(true).setAttribute(
+                    HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(token));
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,34 @@
+package com.smartsupplypro.inventory.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * One user action in the workload mix.
+ *
+ * <p>An action may issue several requests in sequence (typing a search term sends one
+ * request per keystroke); each is recorded under the operation's name and judged against
+ * its p99 target.</p>
+ *
+ * @param name   endpoint label used in the report
+ * @param weight relative frequency in the mix
+ * @param p99Slo 99th-percentile latency target per request
+ * @param script builds the requests of one execution
+ */
+public record Operation(String name, int weight, Duration p99Slo, Script script) {
+
+    /** Builds the requests of one execution against {@code base}. */
+    @FunctionalInterface
+    public interface Script {
+        List<HttpRequest> requests(URI base, SplittableRandom random);
+    }
+
+    public Operation {
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight must be positive: " + name);
+        }
+    }
+}
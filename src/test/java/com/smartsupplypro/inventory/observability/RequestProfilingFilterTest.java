@@ -0,0 +1,124 @@
+package com.smartsupplypro.inventory.observability;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * Unit tests for {@link RequestProfilingFilter}: header emission modes, the timing
+ * breakdown, buffering only when the header is emitted and pass-through of the event stream.
+ */
+class RequestProfilingFilterTest {
+
+    private final AppProperties.Profiling cfg = new AppProperties.Profiling();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /** Simulates a handler that runs two statements and then writes a body. */
+    private final FilterChain handler = (req, res) -> {
+        RequestProfile profile = RequestProfile.current();
+        profile.recordStatement(3_000_000);
+        profile.recordStatement(2_000_000);
+        profile.markHandlerReturned(System.nanoTime());
+        res.getWriter().write("{\"ok\":true}");
+    };
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new RequestProfilingFilter(cfg).doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void allMode_emitsBreakdown_andKeepsBody() throws Exception {
+        cfg.setServerTiming(AppProperties.Profiling.ServerTiming.ALL);
+
+        MockHttpServletResponse response = run(new MockHttpServletRequest("GET", "/api/analytics/summary"), handler);
+
+        String timing = response.getHeader(RequestProfilingFilter.SERVER_TIMING);
+        assertNotNull(timing);
+        assertTrue(timing.startsWith("db;dur=5.0;desc=\"2 statements\", app;dur="), timing);
+        assertTrue(timing.contains("ser;dur=") && timing.contains("total;dur="), timing);
+        assertEquals("{\"ok\":true}", response.getContentAsString());
+        assertNull(RequestProfile.current());
+    }
+
+    @Test
+    void adminsMode_emitsOnlyForAdmins() throws Exception {
+        cfg.setServerTiming(AppProperties.Profiling.ServerTiming.ADMINS);
+
+        assertNull(run(new MockHttpServletRequest("GET", "/api/inventory"), handler)
+                .getHeader(RequestProfilingFilter.SERVER_TIMING));
+
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        assertNotNull(run(new MockHttpServletRequest("GET", "/api/inventory"), handler)
+                .getHeader(RequestProfilingFilter.SERVER_TIMING));
+    }
+
+    @Test
+    void responseIsNotBuffered_whenHeaderIsNotEmitted() throws Exception {
+        cfg.setServerTiming(AppProperties.Profiling.ServerTiming.ADMINS);
+
+        MockHttpServletResponse response = run(new MockHttpServletRequest("GET", "/api/inventory"), (req, res) -> {
+            assertFalse(res instanceof ContentCachingResponseWrapper);
+            handler.doFilter(req, res);
+        });
+
+        assertEquals("{\"ok\":true}", response.getContentAsString());
+        assertNull(response.getHeader(RequestProfilingFilter.SERVER_TIMING));
+    }
+
+    @Test
+    void eventStream_isNotProfiled() throws Exception {
+        cfg.setServerTiming(AppProperties.Profiling.ServerTiming.ALL);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ssp/api/analytics/stream");
+        request.setContextPath("/ssp");
+
+        MockHttpServletResponse response = run(request, (req, res) -> assertNull(RequestProfile.current()));
+
+        assertNull(response.getHeader(RequestProfilingFilter.SERVER_TIMING));
+    }
+
+    @Test
+    void eventStreamAcceptHeader_doesNotExemptOtherPaths() throws Exception {
+        cfg.setServerTiming(AppProperties.Profiling.ServerTiming.ALL);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/analytics/summary");
+        request.addHeader("Accept", "text/event-stream");
+
+        assertNotNull(run(request, handler).getHeader(RequestProfilingFilter.SERVER_TIMING));
+    }
+
+    @Test
+    void breakdown_splitsServiceAndSerialisationAroundHandlerReturn() {
+        RequestProfile profile = new RequestProfile(0);
+        profile.recordStatement(40_000_000);
+        profile.markHandlerReturned(100_000_000);
+        profile.markHandlerReturned(120_000_000);
+
+        RequestProfile.Breakdown breakdown = profile.finish(130_000_000);
+
+        assertEquals(new RequestProfile.Breakdown(1, 40_000_000, 60_000_000, 30_000_000, 130_000_000), breakdown);
+        assertTrue(cfg.getSlowRequestThreshold().compareTo(Duration.ofMillis(breakdown.totalMillis())) > 0);
+    }
+}
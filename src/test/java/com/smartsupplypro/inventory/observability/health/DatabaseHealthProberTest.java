@@ -0,0 +1,277 @@
+package com.smartsupplypro.inventory.observability.health;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.smartsupplypro.inventory.bulkhead.PartitionedDataSource;
+import com.smartsupplypro.inventory.bulkhead.PoolPartition;
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.observability.health.DatabaseHealthProber.Status;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Unit tests for {@link DatabaseHealthProber}: probe outcomes, saturation handling (also
+ * behind the connection-pool bulkhead), staleness and latency retention, using mocked JDBC primitives and a controllable clock.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DatabaseHealthProberTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Mock private DataSource dataSource;
+    @Mock private Connection connection;
+    @Mock private DatabaseMetaData metaData;
+    @Mock private Clock clock;
+
+    private final AppProperties.Health cfg = new AppProperties.Health();
+    private DatabaseHealthProber prober;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(T0);
+        prober = new DatabaseHealthProber(dataSource, cfg, clock);
+    }
+
+    private void stubPing() throws SQLException {
+        stubPing("Oracle");
+    }
+
+    private void stubPing(String product) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(product);
+    }
+
+    @Test
+    void snapshot_isUnknown_beforeFirstProbe() {
+        assertEquals(Status.UNKNOWN, prober.snapshot().status());
+        assertEquals(0, prober.latencyPercentiles().samples());
+    }
+
+    @Test
+    void successfulProbe_publishesUp_andReadsProductNameOnce() throws Exception {
+        stubPing();
+
+        prober.probe();
+        prober.probe();
+
+        DatabaseHealthProber.Snapshot snapshot = prober.snapshot();
+        assertEquals(Status.UP, snapshot.status());
+        assertEquals("Oracle", snapshot.databaseProduct());
+        assertEquals(T0, snapshot.lastSuccess());
+        assertEquals(0, snapshot.consecutiveFailures());
+        assertEquals(2, prober.latencyPercentiles().samples());
+        verify(connection, times(1)).getMetaData();
+        verify(connection, times(2)).isValid(2);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void postgresql_isUp_withoutVendorSql() throws Exception {
+        stubPing("PostgreSQL");
+        // PostgreSQL has no DUAL table: any Oracle-style ping would fail here
+        when(connection.prepareStatement(anyString())).thenThrow(
+                new SQLSyntaxErrorException("relation \"dual\" does not exist"));
+
+        prober.probe();
+
+        DatabaseHealthProber.Snapshot snapshot = prober.snapshot();
+        assertEquals(Status.UP, snapshot.status());
+        assertEquals("PostgreSQL", snapshot.databaseProduct());
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void invalidConnection_publishesDown() throws Exception {
+        stubPing();
+        when(connection.isValid(2)).thenReturn(false);
+
+        prober.probe();
+
+        DatabaseHealthProber.Snapshot snapshot = prober.snapshot();
+        assertEquals(Status.DOWN, snapshot.status());
+        assertEquals("connection validation failed", snapshot.error());
+        assertEquals(0, prober.latencyPercentiles().samples());
+    }
+
+    @Test
+    void failedProbe_publishesDown_andKeepsLastSuccess() throws Exception {
+        stubPing();
+        prober.probe();
+
+        when(clock.instant()).thenReturn(T0.plusSeconds(10));
+        when(dataSource.getConnection()).thenThrow(new SQLException("db down"));
+        prober.probe();
+        prober.probe();
+
+        DatabaseHealthProber.Snapshot snapshot = prober.snapshot();
+        assertEquals(Status.DOWN, snapshot.status());
+        assertEquals("db down", snapshot.error());
+        assertEquals(2, snapshot.consecutiveFailures());
+        assertEquals(T0, snapshot.lastSuccess());
+        assertEquals("Oracle", snapshot.databaseProduct());
+    }
+
+    @Test
+    void poolTimeout_isSaturated_onlyWhileTheDatabaseAnsweredRecently() throws Exception {
+        stubPing();
+        prober.probe();
+
+        when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+        prober.probe();
+        assertEquals(Status.SATURATED, prober.snapshot().status());
+        assertTrue(prober.snapshot().databaseUp());
+
+        when(clock.instant()).thenReturn(T0.plus(cfg.getStaleAfter()).plusSeconds(1));
+        prober.probe();
+        assertEquals(Status.DOWN, prober.snapshot().status());
+    }
+
+    @Test
+    void poolTimeout_causedByConnectFailure_isDown() throws Exception {
+        stubPing();
+        prober.probe();
+
+        when(dataSource.getConnection()).thenThrow(
+                new SQLTransientConnectionException("pool timeout", new SQLException("listener refused")));
+        prober.probe();
+
+        assertEquals(Status.DOWN, prober.snapshot().status());
+    }
+
+    @Test
+    void saturatedPool_skipsTheBorrow() throws Exception {
+        stubPing();
+        prober.probe();
+
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikari);
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        when(hikari.getMaximumPoolSize()).thenReturn(5);
+        when(pool.getActiveConnections()).thenReturn(5);
+        when(pool.getTotalConnections()).thenReturn(5);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+
+        prober.probe();
+
+        assertEquals(Status.SATURATED, prober.snapshot().status());
+        assertEquals(new DatabaseHealthProber.PoolStats(5, 0, 5, 5, 3), prober.poolStats());
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void saturatedCrudPartition_isReportedSaturated_withoutQueueingForAPermit() throws Exception {
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(hikari.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(hikari.unwrap(HikariDataSource.class)).thenReturn(hikari);
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        when(hikari.getMaximumPoolSize()).thenReturn(5);
+        when(hikari.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("Oracle");
+        when(pool.getTotalConnections()).thenReturn(5);
+        when(pool.getIdleConnections()).thenReturn(1);
+
+        AppProperties.Bulkhead bulkhead = new AppProperties.Bulkhead();
+        bulkhead.getCrud().setMaxConcurrent(1);
+        bulkhead.getCrud().setAcquireTimeout(Duration.ofSeconds(5));
+        PartitionedDataSource partitioned = new PartitionedDataSource(hikari, bulkhead);
+        PartitionedDataSource.Partition crud = partitioned.partition(PoolPartition.CRUD);
+        prober = new DatabaseHealthProber(partitioned, cfg, clock);
+
+        // CRUD holds its only permit; the probe still reaches the database through the pool
+        Connection held = partitioned.getConnection();
+        prober.probe();
+        assertEquals(Status.UP, prober.snapshot().status());
+
+        // a request now queues for the permit and the pool has no idle connection left
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> {
+            try (Connection next = partitioned.getConnection()) {
+                next.isValid(1);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }, runnable -> Thread.ofVirtual().start(runnable));
+        while (crud.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        when(pool.getIdleConnections()).thenReturn(0);
+        when(pool.getActiveConnections()).thenReturn(5);
+
+        prober.probe();
+
+        assertEquals(Status.SATURATED, prober.snapshot().status());
+        assertEquals(1, prober.poolStats().pending());
+        verify(hikari, times(2)).getConnection();
+
+        held.close();
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void staleSnapshot_isReportedDown() throws Exception {
+        stubPing();
+        prober.probe();
+
+        when(clock.instant()).thenReturn(T0.plus(cfg.getStaleAfter()).plus(Duration.ofSeconds(1)));
+
+        DatabaseHealthProber.Snapshot snapshot = prober.snapshot();
+        assertEquals(Status.DOWN, snapshot.status());
+        assertEquals("health probe is stale", snapshot.error());
+    }
+
+    @Test
+    void latencyWindow_isBounded() throws Exception {
+        cfg.setLatencySamples(2);
+        prober = new DatabaseHealthProber(dataSource, cfg, clock);
+        stubPing();
+
+        prober.probe();
+        prober.probe();
+        prober.probe();
+
+        DatabaseHealthProber.LatencyPercentiles latency = prober.latencyPercentiles();
+        assertEquals(2, latency.samples());
+        assertTrue(latency.p50() <= latency.p99() && latency.p99() <= latency.max());
+    }
+
+    @Test
+    void nonHikariDataSource_hasNoPoolStats() throws Exception {
+        assertNull(prober.poolStats());
+        verify(dataSource, never()).unwrap(HikariDataSource.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.smartsupplypro.inventory.observability.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ObservedDataSource} against an in-memory H2 database.
+ */
+class ObservedDataSourceTest {
+
+    private final List<StatementExecution> executed = new ArrayList<>();
+    private JdbcDataSource h2;
+    private ObservedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:observed-ds;DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS t");
+            ddl.execute("CREATE TABLE t (id INT, supplier VARCHAR(10))");
+            ddl.execute("INSERT INTO t VALUES (1, 'a'), (2, 'a'), (3, 'b')");
+        }
+        dataSource = new ObservedDataSource(h2, List.of(executed::add));
+    }
+
+    @Test
+    void query_isReportedOnClose_withFetchedRowsAndNullBinds() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(
+                     "SELECT id FROM t WHERE (? IS NULL OR supplier = ?) AND id > ?")) {
+            select.setNull(1, Types.VARCHAR);
+            select.setString(2, null);
+            select.setInt(3, 0);
+            try (ResultSet rs = select.executeQuery()) {
+                assertTrue(executed.isEmpty(), "reported before rows are fetched");
+                while (rs.next()) {
+                    assertSame(select, rs.getStatement());
+                }
+            }
+            assertSame(connection, select.getConnection());
+
+            select.setString(1, "a");
+            select.setString(2, "a");
+            try (ResultSet rs = select.executeQuery()) {
+                assertTrue(rs.next());
+            }
+        }
+
+        assertEquals(2, executed.size());
+        StatementExecution all = executed.get(0);
+        assertEquals("SELECT id FROM t WHERE (? IS NULL OR supplier = ?) AND id > ?", all.sql());
+        assertEquals(3, all.rows());
+        assertEquals(List.of(1, 2), all.nullBinds());
+        assertFalse(all.failed());
+        assertEquals(1, executed.get(1).rows());
+        assertEquals(List.of(), executed.get(1).nullBinds());
+    }
+
+    @Test
+    void updates_reportAffectedRows_andUnclosedResultIsReportedOnReExecute() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertEquals(2, statement.executeUpdate("UPDATE t SET supplier = 'c' WHERE supplier = 'a'"));
+            statement.executeQuery("SELECT id FROM t").next();
+            statement.execute("DELETE FROM t WHERE id = 3");
+        }
+
+        assertEquals(List.of("UPDATE t SET supplier = 'c' WHERE supplier = 'a'", "SELECT id FROM t",
+                "DELETE FROM t WHERE id = 3"), executed.stream().map(StatementExecution::sql).toList());
+        assertEquals(2, executed.get(0).rows());
+        assertEquals(1, executed.get(1).rows());
+    }
+
+    @Test
+    void failedStatement_isReported_andDriverExceptionPropagates() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> statement.executeQuery("SELECT * FROM missing_table"));
+        }
+
+        assertEquals(1, executed.size());
+        assertTrue(executed.get(0).failed());
+    }
+
+    @Test
+    void unwrap_reachesTheTargetPool() throws Exception {
+        assertSame(h2, dataSource.unwrap(JdbcDataSource.class));
+    }
+}
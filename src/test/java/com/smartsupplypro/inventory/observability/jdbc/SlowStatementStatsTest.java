@@ -0,0 +1,95 @@
+package com.smartsupplypro.inventory.observability.jdbc;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.SqlStatementStatsDTO;
+
+/**
+ * Unit tests for {@link SlowStatementStats} aggregation and eviction, and for
+ * {@link SqlFingerprint} normalisation.
+ */
+class SlowStatementStatsTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final AppProperties.Profiling.Statements cfg = new AppProperties.Profiling.Statements();
+    private SlowStatementStats stats;
+
+    @BeforeEach
+    void setUp() {
+        cfg.setSlowThreshold(Duration.ofMillis(100));
+        stats = new SlowStatementStats(cfg, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static StatementExecution exec(String sql, long millis, long rows, Integer... nullBinds) {
+        return new StatementExecution(sql, millis * 1_000_000, rows, List.of(nullBinds), false);
+    }
+
+    @Test
+    void fingerprint_stripsLiterals_andNormalisesShape() {
+        assertEquals("select * from t where name = ? and qty > ? and id in (?+)",
+                SqlFingerprint.of("SELECT *\n  FROM t WHERE name = 'O''Brien' AND qty > -5 AND id IN (1, 2, 3)"));
+        assertEquals("select t1.id from t1 where created_at >= ? and price = ?",
+                SqlFingerprint.of("select t1.id from t1 where created_at >= TIMESTAMP '2026-01-01 00:00:00' and price = 9.99"));
+        assertEquals("<batch>", SqlFingerprint.of(null));
+    }
+
+    @Test
+    void aggregatesPerFingerprint_withNullBindPatterns() {
+        stats.statementExecuted(exec("SELECT * FROM t WHERE (? IS NULL OR s = ?) AND id = 1", 20, 4, 1, 2));
+        stats.statementExecuted(exec("SELECT * FROM t WHERE (? IS NULL OR s = ?) AND id = 2", 180, 10));
+        stats.statementExecuted(exec("SELECT * FROM t WHERE (? IS NULL OR s = ?) AND id = 3", 40, 1, 1, 2));
+
+        List<SqlStatementStatsDTO> top = stats.top(SlowStatementStats.Sort.TOTAL, 10);
+
+        assertEquals(1, top.size());
+        SqlStatementStatsDTO entry = top.get(0);
+        assertEquals("select * from t where (? is null or s = ?) and id = ?", entry.fingerprint());
+        assertEquals(3, entry.executions());
+        assertEquals(240.0, entry.totalMillis());
+        assertEquals(180.0, entry.maxMillis());
+        assertEquals(1, entry.slowExecutions());
+        assertEquals(5.0, entry.meanRows());
+        assertEquals(10, entry.maxRows());
+        assertEquals(Map.of("1,2", 2L, "", 1L), entry.nullBindPatterns());
+        assertEquals(NOW, entry.lastSeen());
+    }
+
+    @Test
+    void snapshots_exposeOnlyTheFingerprint_notRawLiterals() {
+        stats.statementExecuted(exec("SELECT * FROM app_user WHERE email = 'alice@example.com'", 5, 1));
+
+        SqlStatementStatsDTO entry = stats.top(SlowStatementStats.Sort.TOTAL, 1).get(0);
+
+        assertEquals("select * from app_user where email = ?", entry.fingerprint());
+        assertFalse(entry.toString().contains("alice@example.com"));
+    }
+
+    @Test
+    void ordering_andBoundedTable_keepTheRecentlyExecutedFingerprints() {
+        cfg.setMaxFingerprints(2);
+        stats.statementExecuted(exec("SELECT b FROM t", 500, 500));
+        stats.statementExecuted(exec("SELECT a FROM t", 50, 1));
+        stats.statementExecuted(exec("SELECT a FROM t", 50, 1));
+        // b cost the most but was executed least recently, so it makes room for c
+        stats.statementExecuted(exec("SELECT c FROM t", 70, 1));
+
+        assertEquals(List.of("select a from t", "select c from t"),
+                stats.top(SlowStatementStats.Sort.TOTAL, 10).stream().map(SqlStatementStatsDTO::fingerprint).toList());
+        assertEquals("select c from t", stats.top(SlowStatementStats.Sort.MAX, 1).get(0).fingerprint());
+
+        stats.reset();
+        assertEquals(List.of(), stats.top(SlowStatementStats.Sort.TOTAL, 10));
+    }
+}
@@ -0,0 +1,92 @@
+package com.smartsupplypro.inventory.observability.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests {@link StockMovementWriteEvent} transaction handling and the shipped
+ * {@code scripts/jfr/smartsupplypro.jfc} profile.
+ */
+class StockMovementWriteEventTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void profile_enablesAllApplicationEvents() throws Exception {
+        Configuration profile = Configuration.create(Path.of("scripts/jfr/smartsupplypro.jfc"));
+
+        for (String event : List.of(WacReplayEvent.NAME, AnalyticsQueryEvent.NAME, StockMovementWriteEvent.NAME)) {
+            assertEquals("true", profile.getSettings().get(event + "#enabled"), event);
+        }
+    }
+
+    @Test
+    void disabled_eventRegistersNoSynchronization() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            StockMovementWriteEvent event = new StockMovementWriteEvent();
+            event.beginItemLoad();
+            event.itemLoaded();
+            event.commitAfterTransaction("item-1", "SOLD", -2);
+
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void enabled_eventIsCommittedAfterTransactionCompletes() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(StockMovementWriteEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                StockMovementWriteEvent event = new StockMovementWriteEvent();
+                event.beginItemLoad();
+                event.itemLoaded();
+                event.commitAfterTransaction("item-1", "SOLD", -2);
+
+                List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+                assertEquals(1, syncs.size());
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                TransactionSynchronizationUtils.invokeAfterCompletion(syncs, TransactionSynchronization.STATUS_ROLLED_BACK);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            recording.stop();
+            Path file = tmp.resolve("write.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("item-1", event.getString("itemId"));
+        assertEquals("SOLD", event.getString("reason"));
+        assertEquals(-2, event.getInt("quantityChange"));
+        assertFalse(event.getBoolean("committed"));
+        assertTrue(event.getDuration("commitTime").toNanos() > 0);
+        assertTrue(Files.size(tmp.resolve("write.jfr")) > 0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.smartsupplypro.inventory.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.smartsupplypro.inventory.enums.AnalyticsJobStatus;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+import com.smartsupplypro.inventory.model.AnalyticsJob;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+
+/**
+ * Integration tests for the {@link AnalyticsJobRepository} lease statements: only jobs of
+ * a previous process or of an instance whose lease lapsed are failed.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
+class AnalyticsJobRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 10, 0);
+    private static final LocalDateTime STARTED = NOW.minusMinutes(1);
+
+    @Autowired
+    private AnalyticsJobRepository jobs;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private void save(String id, AnalyticsJobStatus status, String owner, LocalDateTime createdAt,
+                      LocalDateTime leaseUntil) {
+        jobs.save(AnalyticsJob.builder()
+                .id(id).type(AnalyticsJobType.STOCK_VALUE).status(status)
+                .startDate(LocalDate.of(2026, 1, 1)).endDate(LocalDate.of(2026, 1, 31))
+                .requestedBy("admin@example.com").stepsDone(0).stepsTotal(1)
+                .createdAt(createdAt).expiresAt(NOW.plusDays(1))
+                .ownerId(owner).leaseUntil(leaseUntil)
+                .build());
+    }
+
+    /** Bulk updates bypass the persistence context; re-read rows from the database. */
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private AnalyticsJobStatus status(String id) {
+        return jobs.findById(id).orElseThrow().getStatus();
+    }
+
+    @Test
+    void failOrphaned_leavesJobsOfLiveInstancesRunning() {
+        save("other-live", AnalyticsJobStatus.RUNNING, "node-b", NOW.minusMinutes(5), NOW.plusMinutes(1));
+        save("other-lapsed", AnalyticsJobStatus.RUNNING, "node-b", NOW.minusMinutes(5), NOW.minusSeconds(1));
+        save("own-previous", AnalyticsJobStatus.QUEUED, "node-a", STARTED.minusSeconds(30), NOW.plusMinutes(1));
+        save("own-current", AnalyticsJobStatus.RUNNING, "node-a", STARTED.plusSeconds(10), NOW.plusMinutes(1));
+        save("legacy", AnalyticsJobStatus.RUNNING, null, NOW.minusHours(1), null);
+        save("finished", AnalyticsJobStatus.SUCCEEDED, "node-b", NOW.minusHours(1), NOW.minusHours(1));
+        flushAndClear();
+
+        int failed = jobs.failOrphaned("interrupted", "node-a", STARTED, NOW);
+        flushAndClear();
+
+        assertEquals(3, failed);
+        assertEquals(AnalyticsJobStatus.RUNNING, status("other-live"));
+        assertEquals(AnalyticsJobStatus.FAILED, status("other-lapsed"));
+        assertEquals(AnalyticsJobStatus.FAILED, status("own-previous"));
+        assertEquals(AnalyticsJobStatus.RUNNING, status("own-current"));
+        assertEquals(AnalyticsJobStatus.FAILED, status("legacy"));
+        assertEquals(AnalyticsJobStatus.SUCCEEDED, status("finished"));
+    }
+
+    @Test
+    void renewLeases_extendsOnlyTheOwnersActiveJobs() {
+        save("own", AnalyticsJobStatus.RUNNING, "node-a", NOW, NOW.plusSeconds(10));
+        save("own-done", AnalyticsJobStatus.SUCCEEDED, "node-a", NOW, NOW.plusSeconds(10));
+        save("other", AnalyticsJobStatus.RUNNING, "node-b", NOW, NOW.plusSeconds(10));
+        flushAndClear();
+
+        assertEquals(1, jobs.renewLeases("node-a", NOW.plusMinutes(2)));
+        flushAndClear();
+        assertEquals(NOW.plusMinutes(2), jobs.findById("own").orElseThrow().getLeaseUntil());
+        assertEquals(NOW.plusSeconds(10), jobs.findById("other").orElseThrow().getLeaseUntil());
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import com.smartsupplypro.inventory.model.AppUser;
 import com.smartsupplypro.inventory.model.Role;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 /**
@@ -24,7 +25,7 @@ import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetect
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class AppUserRepositoryTest {
 
     @Autowired
@@ -13,7 +13,9 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.LowStockItemDTO;
 import com.smartsupplypro.inventory.model.InventoryItem;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 import jakarta.persistence.EntityManager;
@@ -29,7 +31,7 @@ import jakarta.persistence.PersistenceContext;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class InventoryItemRepositoryAnalyticsTest {
 
     @Autowired private InventoryItemRepository repository;
@@ -66,7 +68,7 @@ class InventoryItemRepositoryAnalyticsTest {
 
         @Test
         void should_return_only_items_strictly_below_minimum_for_supplier() {
-            List<Object[]> result = repository.findItemsBelowMinimumStockFiltered("S1");
+            List<LowStockItemDTO> result = repository.findItemsBelowMinimumStockFiltered("S1");
 
             // S1-eq (qty==min) and S1-high (qty>min) must be excluded
             assertEquals(1, result.size());
@@ -74,8 +76,8 @@ class InventoryItemRepositoryAnalyticsTest {
 
         @Test
         void should_isolate_results_to_the_requested_supplier() {
-            List<Object[]> s1 = repository.findItemsBelowMinimumStockFiltered("S1");
-            List<Object[]> s2 = repository.findItemsBelowMinimumStockFiltered("S2");
+            List<LowStockItemDTO> s1 = repository.findItemsBelowMinimumStockFiltered("S1");
+            List<LowStockItemDTO> s2 = repository.findItemsBelowMinimumStockFiltered("S2");
 
             assertEquals(1, s1.size());
             assertEquals(1, s2.size());
@@ -83,7 +85,7 @@ class InventoryItemRepositoryAnalyticsTest {
 
         @Test
         void should_return_all_below_minimum_rows_when_supplier_id_is_null() {
-            List<Object[]> all = repository.findItemsBelowMinimumStockFiltered(null);
+            List<LowStockItemDTO> all = repository.findItemsBelowMinimumStockFiltered(null);
 
             // S1-low and S2-low = 2 rows
             assertEquals(2, all.size());
@@ -11,14 +11,18 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.InventoryItemDTO;
+import com.smartsupplypro.inventory.mapper.InventoryItemMapper;
 import com.smartsupplypro.inventory.model.InventoryItem;
 import com.smartsupplypro.inventory.model.Supplier;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 /**
@@ -27,11 +31,12 @@ import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetect
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class InventoryItemRepositoryTest {
 
     @Autowired private InventoryItemRepository inventoryItemRepository;
     @Autowired private SupplierRepository supplierRepository;
+    @Autowired private TestEntityManager entityManager;
 
     private Supplier supplier1;
     private Supplier supplier2;
@@ -148,6 +153,35 @@ class InventoryItemRepositoryTest {
         }
     }
 
+    /**
+     * DTO projection of the active catalogue.
+     */
+    @Nested
+    class ListProjection {
+
+        @Test
+        void should_project_active_items_like_the_entity_mapper() {
+            inventoryItemRepository.save(InventoryItem.builder()
+                    .id("item-p1").name("Valve").sku("SKU-REP-P1").price(new BigDecimal("4.25"))
+                    .quantity(12).minimumQuantity(5).supplier(supplier1).supplierId("sup-1").createdBy("admin").build());
+            inventoryItemRepository.save(InventoryItem.builder()
+                    .id("item-p2").name("Old valve").sku("SKU-REP-P2").price(BigDecimal.ONE)
+                    .quantity(0).minimumQuantity(5).supplier(supplier2).supplierId("sup-2").createdBy("admin")
+                    .active(false).build());
+            entityManager.flush();
+            entityManager.clear();
+
+            List<InventoryItemDTO> result = inventoryItemRepository.findAllActiveAsDTO();
+
+            assertEquals(1, result.size());
+            InventoryItemDTO mapped = new InventoryItemMapper().toDTO(
+                    inventoryItemRepository.findById("item-p1").orElseThrow());
+            assertEquals(mapped, result.get(0));
+            assertEquals("Supplier One", result.get(0).getSupplierName());
+            assertEquals(0, new BigDecimal("51.00").compareTo(result.get(0).getTotalValue()));
+        }
+    }
+
     /**
      * Supplier active-stock existence checks.
      */
@@ -197,16 +231,21 @@ class InventoryItemRepositoryTest {
         }
 
         @Test
-        void should_count_items_with_quantity_strictly_below_threshold() {
+        void should_count_and_load_items_below_their_own_minimum() {
             inventoryItemRepository.save(InventoryItem.builder()
                     .id("item-cnt-1").name("Pin").sku("SKU-REP-9").quantity(3)
                     .minimumQuantity(5).price(BigDecimal.ONE).supplier(supplier1).build());
             inventoryItemRepository.save(InventoryItem.builder()
                     .id("item-cnt-2").name("Clip").sku("SKU-REP-10").quantity(10)
                     .minimumQuantity(5).price(BigDecimal.ONE).supplier(supplier1).build());
+            // below a fixed threshold of 5 but above its own minimum: not low stock
+            inventoryItemRepository.save(InventoryItem.builder()
+                    .id("item-cnt-3").name("Tack").sku("SKU-REP-11").quantity(4)
+                    .minimumQuantity(2).price(BigDecimal.ONE).supplier(supplier1).build());
 
-            assertEquals(1, inventoryItemRepository.countWithQuantityBelow(5));
-            assertEquals(0, inventoryItemRepository.countWithQuantityBelow(3));
+            assertEquals(1, inventoryItemRepository.countBelowMinimumStock());
+            assertEquals(List.of("item-cnt-1"), inventoryItemRepository.findAllBelowMinimumStock()
+                    .stream().map(InventoryItem::getId).toList());
         }
     }
 }
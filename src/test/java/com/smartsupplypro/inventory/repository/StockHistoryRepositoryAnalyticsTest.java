@@ -19,11 +19,17 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.ItemUpdateFrequencyDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
 import com.smartsupplypro.inventory.dto.PriceTrendDTO;
+import com.smartsupplypro.inventory.dto.StockPerSupplierDTO;
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.dto.StockValueOverTimeDTO;
 import com.smartsupplypro.inventory.enums.StockChangeReason;
 import com.smartsupplypro.inventory.model.InventoryItem;
 import com.smartsupplypro.inventory.model.StockHistory;
 import com.smartsupplypro.inventory.model.Supplier;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 /**
@@ -32,7 +38,7 @@ import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetect
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockHistoryRepositoryAnalyticsTest {
 
     @Autowired private StockHistoryRepository stockHistoryRepository;
@@ -84,6 +90,8 @@ class StockHistoryRepositoryAnalyticsTest {
                 .id("sh-4").itemId("item-2").supplierId("sup-b")
                 .change(-20).reason(StockChangeReason.SOLD).createdBy("admin")
                 .timestamp(now.minusDays(1)).priceAtChange(BigDecimal.valueOf(15)).build());
+        // the native analytics queries read through JDBC, which only sees flushed rows
+        stockHistoryRepository.flush();
     }
 
     /**
@@ -94,34 +102,35 @@ class StockHistoryRepositoryAnalyticsTest {
 
         @Test
         void should_return_stock_value_aggregated_by_day() {
-            List<Object[]> result = stockHistoryRepository.getDailyStockValuation(now.minusDays(3), now, null);
+            List<StockValueOverTimeDTO> result = stockHistoryRepository.getDailyStockValuation(now.minusDays(3), now, null);
 
             assertEquals(2, result.size());
-            result.forEach(row -> { assertNotNull(row[0]); assertNotNull(row[1]); });
+            assertEquals(now.minusDays(2).toLocalDate(), result.get(0).date());
+            assertEquals(now.minusDays(1).toLocalDate(), result.get(1).date());
         }
 
         @Test
         void should_return_total_stock_per_supplier() {
-            List<Object[]> result = stockHistoryRepository.getTotalStockBySupplier();
+            List<StockPerSupplierDTO> result = stockHistoryRepository.getTotalStockBySupplier();
 
             assertTrue(result.size() >= 2);
             result.forEach(row -> {
-                assertNotNull(row[0]);
-                assertTrue(((Number) row[1]).intValue() > 0);
+                assertNotNull(row.supplierName());
+                assertTrue(row.totalQuantity() > 0);
             });
         }
 
         @Test
         void should_return_update_counts_per_item_grouped_by_supplier() {
-            List<Object[]> result = stockHistoryRepository.getUpdateCountByItem(supplierA.getId());
+            List<ItemUpdateFrequencyDTO> result = stockHistoryRepository.getUpdateCountByItem(supplierA.getId());
 
             assertEquals(2, result.size());
-            Optional<Object[]> wrench = result.stream().filter(r -> "Wrench".equals(r[0])).findFirst();
-            Optional<Object[]> screwdriver = result.stream().filter(r -> "Screwdriver".equals(r[0])).findFirst();
+            Optional<ItemUpdateFrequencyDTO> wrench = result.stream().filter(r -> "Wrench".equals(r.itemName())).findFirst();
+            Optional<ItemUpdateFrequencyDTO> screwdriver = result.stream().filter(r -> "Screwdriver".equals(r.itemName())).findFirst();
             assertTrue(wrench.isPresent());
-            assertEquals(2L, ((Number) wrench.get()[1]).longValue());
+            assertEquals(2L, wrench.get().updateCount());
             assertTrue(screwdriver.isPresent());
-            assertEquals(1L, ((Number) screwdriver.get()[1]).longValue());
+            assertEquals(1L, screwdriver.get().updateCount());
         }
     }
 
@@ -133,42 +142,43 @@ class StockHistoryRepositoryAnalyticsTest {
 
         @Test
         void should_return_monthly_stock_movement_globally() {
-            List<Object[]> result = stockHistoryRepository.getMonthlyStockMovement(
+            List<MonthlyStockMovementDTO> result = stockHistoryRepository.getMonthlyStockMovement(
                     now.minusMonths(1), now.plusDays(1));
 
             assertEquals(1, result.size());
-            assertTrue(result.get(0)[0].toString().matches("\\d{4}-\\d{2}"));
-            assertNotNull(result.get(0)[1]);
-            assertNotNull(result.get(0)[2]);
+            assertEquals("2025-08", result.get(0).month());
+            assertEquals(25L, result.get(0).stockIn());
+            assertEquals(25L, result.get(0).stockOut());
         }
 
         @Test
         void should_return_monthly_stock_movement_filtered_by_supplier() {
-            List<Object[]> result = stockHistoryRepository.getMonthlyStockMovementBySupplier(
+            List<MonthlyStockMovementDTO> result = stockHistoryRepository.getMonthlyStockMovementBySupplier(
                     now.minusMonths(1), now.plusDays(1), supplierA.getId());
 
             assertEquals(1, result.size());
-            assertTrue(result.get(0)[0].toString().matches("\\d{4}-\\d{2}"));
+            assertEquals("2025-08", result.get(0).month());
         }
 
         @Test
         void should_return_items_below_minimum_stock_for_supplier() {
             item2.setQuantity(3);
             item2.setMinimumQuantity(5);
-            inventoryItemRepository.save(item2);
+            inventoryItemRepository.saveAndFlush(item2);
 
             assertEquals(1, stockHistoryRepository.findItemsBelowMinimumStock(supplierB.getId()).size());
         }
 
         @Test
         void should_return_filtered_stock_updates_for_tabular_export() {
-            List<Object[]> result = stockHistoryRepository.searchStockUpdates(
+            List<StockUpdateResultDTO> result = stockHistoryRepository.searchStockUpdates(
                     now.minusDays(3), now, "Wrench", supplierA.getId(), "admin", -10, 20);
 
             assertEquals(2, result.size());
-            assertEquals("Wrench", result.get(0)[0]);
-            assertEquals("Alpha GmbH", result.get(0)[1]);
-            assertEquals("admin", result.get(0)[4]);
+            assertEquals("Wrench", result.get(0).itemName());
+            assertEquals("Alpha GmbH", result.get(0).supplierName());
+            assertEquals("admin", result.get(0).createdBy());
+            assertEquals(now.minusDays(1), result.get(0).timestamp());
         }
     }
 
@@ -12,6 +12,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 import jakarta.persistence.EntityManager;
@@ -22,7 +24,7 @@ import jakarta.persistence.EntityManager;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockHistoryRepositoryEmployeeChangesTest {
 
     @Autowired private StockHistoryRepository stockHistoryRepository;
@@ -61,23 +63,24 @@ class StockHistoryRepositoryEmployeeChangesTest {
 
     @Test
     void paginates_andFiltersByCreator_caseInsensitive() {
-        Page<Object[]> page = stockHistoryRepository.findEmployeeChanges(
+        Page<StockUpdateResultDTO> page = stockHistoryRepository.findEmployeeChanges(
                 from, to, "ALICE@EXAMPLE.COM", null, PageRequest.of(0, 2));
 
         assertEquals(3L, page.getTotalElements());
         assertEquals(2, page.getContent().size());
         // newest first: ec3 (Feb 3) before ec2 (Feb 2)
-        Object[] first = page.getContent().get(0);
-        assertEquals("Item A", first[0]);
-        assertEquals("Supplier One", first[1]);
-        assertEquals(-2L, ((Number) first[2]).longValue());
-        assertEquals("SOLD", first[3]);
-        assertEquals("alice@example.com", first[4]);
+        StockUpdateResultDTO first = page.getContent().get(0);
+        assertEquals("Item A", first.itemName());
+        assertEquals("Supplier One", first.supplierName());
+        assertEquals(-2, first.change());
+        assertEquals("SOLD", first.reason());
+        assertEquals("alice@example.com", first.createdBy());
+        assertEquals(LocalDateTime.of(2026, 2, 3, 9, 0), first.timestamp());
     }
 
     @Test
     void nullCreator_returnsAllEmployees() {
-        Page<Object[]> page = stockHistoryRepository.findEmployeeChanges(
+        Page<StockUpdateResultDTO> page = stockHistoryRepository.findEmployeeChanges(
                 from, to, null, null, PageRequest.of(0, 10));
 
         assertEquals(4L, page.getTotalElements());
@@ -85,9 +88,9 @@ class StockHistoryRepositoryEmployeeChangesTest {
 
     @Test
     void filtersBySupplier_whenSupplierIdGiven() {
-        Page<Object[]> matching = stockHistoryRepository.findEmployeeChanges(
+        Page<StockUpdateResultDTO> matching = stockHistoryRepository.findEmployeeChanges(
                 from, to, null, "sup1", PageRequest.of(0, 10));
-        Page<Object[]> nonMatching = stockHistoryRepository.findEmployeeChanges(
+        Page<StockUpdateResultDTO> nonMatching = stockHistoryRepository.findEmployeeChanges(
                 from, to, null, "supX", PageRequest.of(0, 10));
 
         assertEquals(4L, matching.getTotalElements());
@@ -23,6 +23,7 @@ import com.smartsupplypro.inventory.enums.StockChangeReason;
 import com.smartsupplypro.inventory.model.InventoryItem;
 import com.smartsupplypro.inventory.model.StockHistory;
 import com.smartsupplypro.inventory.model.Supplier;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 /**
@@ -31,7 +32,7 @@ import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetect
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockHistoryRepositoryFilteringTest {
 
     @Autowired private StockHistoryRepository stockHistoryRepository;
@@ -11,6 +11,8 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 import jakarta.persistence.EntityManager;
@@ -21,7 +23,7 @@ import jakarta.persistence.EntityManager;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockHistoryRepositoryReasonBreakdownTest {
 
     @Autowired private StockHistoryRepository stockHistoryRepository;
@@ -64,46 +66,46 @@ class StockHistoryRepositoryReasonBreakdownTest {
 
     @Test
     void aggregates_signSplit_perReason_orderedByReason() {
-        List<Object[]> out = stockHistoryRepository.getReasonBreakdown(from, to, null, null);
+        List<ReasonBreakdownDTO> out = stockHistoryRepository.getReasonBreakdown(from, to, null, null);
 
         assertEquals(4, out.size());
         // alphabetical: INITIAL_STOCK, MANUAL_UPDATE, PRICE_CHANGE, SOLD
-        assertEquals("INITIAL_STOCK", out.get(0)[0]);
-        assertEquals(14L, ((Number) out.get(0)[1]).longValue());
-        assertEquals(0L,  ((Number) out.get(0)[2]).longValue());
+        assertEquals("INITIAL_STOCK", out.get(0).reason());
+        assertEquals(14L, out.get(0).increase());
+        assertEquals(0L,  out.get(0).decrease());
         // MANUAL_UPDATE contributes to BOTH sides (sign split)
-        assertEquals("MANUAL_UPDATE", out.get(1)[0]);
-        assertEquals(5L, ((Number) out.get(1)[1]).longValue());
-        assertEquals(3L, ((Number) out.get(1)[2]).longValue());
-        assertEquals("PRICE_CHANGE", out.get(2)[0]);
-        assertEquals(0L, ((Number) out.get(2)[1]).longValue());
-        assertEquals(0L, ((Number) out.get(2)[2]).longValue());
-        assertEquals("SOLD", out.get(3)[0]);
-        assertEquals(0L, ((Number) out.get(3)[1]).longValue());
-        assertEquals(7L, ((Number) out.get(3)[2]).longValue());
+        assertEquals("MANUAL_UPDATE", out.get(1).reason());
+        assertEquals(5L, out.get(1).increase());
+        assertEquals(3L, out.get(1).decrease());
+        assertEquals("PRICE_CHANGE", out.get(2).reason());
+        assertEquals(0L, out.get(2).increase());
+        assertEquals(0L, out.get(2).decrease());
+        assertEquals("SOLD", out.get(3).reason());
+        assertEquals(0L, out.get(3).increase());
+        assertEquals(7L, out.get(3).decrease());
     }
 
     @Test
     void filters_bySupplier() {
-        List<Object[]> out = stockHistoryRepository.getReasonBreakdown(from, to, "sup2", null);
+        List<ReasonBreakdownDTO> out = stockHistoryRepository.getReasonBreakdown(from, to, "sup2", null);
 
         assertEquals(1, out.size());
-        assertEquals("INITIAL_STOCK", out.get(0)[0]);
-        assertEquals(4L, ((Number) out.get(0)[1]).longValue());
+        assertEquals("INITIAL_STOCK", out.get(0).reason());
+        assertEquals(4L, out.get(0).increase());
     }
 
     @Test
     void filters_byPartialItemName_caseInsensitive() {
-        List<Object[]> out = stockHistoryRepository.getReasonBreakdown(from, to, null, "item b");
+        List<ReasonBreakdownDTO> out = stockHistoryRepository.getReasonBreakdown(from, to, null, "item b");
 
         assertEquals(1, out.size());
-        assertEquals("INITIAL_STOCK", out.get(0)[0]);
-        assertEquals(4L, ((Number) out.get(0)[1]).longValue());
+        assertEquals("INITIAL_STOCK", out.get(0).reason());
+        assertEquals(4L, out.get(0).increase());
     }
 
     @Test
     void emptyWindow_returnsNoRows() {
-        List<Object[]> out = stockHistoryRepository.getReasonBreakdown(
+        List<ReasonBreakdownDTO> out = stockHistoryRepository.getReasonBreakdown(
                 LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 23, 59), null, null);
 
         assertEquals(0, out.size());
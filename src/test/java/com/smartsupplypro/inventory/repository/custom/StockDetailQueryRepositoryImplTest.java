@@ -11,9 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.smartsupplypro.inventory.dto.StockEventRowDTO;
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 import jakarta.persistence.EntityManager;
@@ -26,10 +30,11 @@ import jakarta.persistence.EntityManager;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockDetailQueryRepositoryImplTest {
 
     @Autowired private EntityManager em;
+    @Autowired private JdbcClient jdbc;
 
     private void seedTestData() {
         em.createNativeQuery("DELETE FROM stock_history").executeUpdate();
@@ -69,31 +74,45 @@ class StockDetailQueryRepositoryImplTest {
         @Test
         void should_normalize_optional_filters_and_return_all_rows_in_h2_dialect() {
             seedTestData();
-            StockDetailQueryRepositoryImpl repo = repoWithDialect(true);
+            StockDetailQueryRepositoryImpl repo = repoWithDialect(DatabaseDialect.H2);
 
             // null/blank inputs normalize to SQL NULL -> no predicates applied
             assertEquals(3, repo.searchStockUpdates(null, null, null, "   ", null, null, null).size());
             assertEquals(3, repo.searchStockUpdates(null, null, "   ", null, "   ", null, null).size());
 
-            List<Object[]> filtered = repo.searchStockUpdates(null, null, "Item A", "sup1", "ALICE", -1, -1);
+            List<StockUpdateResultDTO> filtered = repo.searchStockUpdates(null, null, "Item A", "sup1", "ALICE", -1, -1);
             assertEquals(1, filtered.size());
-            assertEquals("Item A", filtered.get(0)[0]);
-            assertEquals("Supplier One", filtered.get(0)[1]);
-            assertEquals(-1, ((Number) filtered.get(0)[2]).intValue());
-            assertEquals("SOLD", String.valueOf(filtered.get(0)[3]));
-            assertEquals("alice", String.valueOf(filtered.get(0)[4]));
+            assertEquals("Item A", filtered.get(0).itemName());
+            assertEquals("Supplier One", filtered.get(0).supplierName());
+            assertEquals(-1, filtered.get(0).change());
+            assertEquals("SOLD", filtered.get(0).reason());
+            assertEquals("alice", filtered.get(0).createdBy());
+            assertEquals(LocalDateTime.of(2024, 2, 1, 10, 0), filtered.get(0).timestamp());
         }
 
         @Test
         void should_select_oracle_dialect_sql_and_narrow_results_by_supplier() {
             seedTestData();
-            StockDetailQueryRepositoryImpl repo = repoWithDialect(false);
+            StockDetailQueryRepositoryImpl repo = repoWithDialect(DatabaseDialect.ORACLE);
 
-            List<Object[]> out = repo.searchStockUpdates(null, null, "item", "sup1", "alice", null, null);
+            List<StockUpdateResultDTO> out = repo.searchStockUpdates(null, null, "item", "sup1", "alice", null, null);
 
             // Oracle SQL variant is selected; supplierId predicate narrows to itemA's events
             assertEquals(2, out.size());
-            assertEquals("Item A", out.get(0)[0]);
+            assertEquals("Item A", out.get(0).itemName());
+        }
+
+        @Test
+        void should_run_postgres_dialect_sql_with_cast_null_checks() {
+            seedTestData();
+            StockDetailQueryRepositoryImpl repo = repoWithDialect(DatabaseDialect.POSTGRESQL);
+
+            // untyped NULL parameters are cast before IS NULL; all filters off -> every row
+            assertEquals(3, repo.searchStockUpdates(null, null, null, null, null, null, null).size());
+
+            List<StockUpdateResultDTO> out = repo.searchStockUpdates(null, null, "item", "sup1", "alice", -1, 5);
+            assertEquals(2, out.size());
+            assertEquals("SOLD", out.get(0).reason());
         }
     }
 
@@ -106,7 +125,7 @@ class StockDetailQueryRepositoryImplTest {
         @Test
         void should_stream_events_ordered_by_item_then_time_with_supplier_filter() {
             seedTestData();
-            StockDetailQueryRepositoryImpl repo = repoWithDialect(true);
+            StockDetailQueryRepositoryImpl repo = repoWithDialect(DatabaseDialect.H2);
 
             LocalDateTime end = LocalDateTime.of(2024, 12, 31, 23, 59);
 
@@ -127,10 +146,8 @@ class StockDetailQueryRepositoryImplTest {
     }
 
     // forces the dialect branch without needing an Oracle database in CI
-    private StockDetailQueryRepositoryImpl repoWithDialect(boolean isH2) {
-        DatabaseDialectDetector detector = org.mockito.Mockito.mock(DatabaseDialectDetector.class);
-        org.mockito.Mockito.when(detector.isH2()).thenReturn(isH2);
-        StockDetailQueryRepositoryImpl repo = new StockDetailQueryRepositoryImpl(detector);
+    private StockDetailQueryRepositoryImpl repoWithDialect(DatabaseDialect dialect) {
+        StockDetailQueryRepositoryImpl repo = new StockDetailQueryRepositoryImpl(jdbc, AnalyticsSqlCatalog.forDialect(dialect));
         injectEntityManager(repo, em);
         return repo;
     }
@@ -1,6 +1,5 @@
 package com.smartsupplypro.inventory.repository.custom;
 
-import java.lang.reflect.Field;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -10,8 +9,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.ItemUpdateFrequencyDTO;
+import com.smartsupplypro.inventory.dto.LowStockItemDTO;
+import com.smartsupplypro.inventory.dto.StockPerSupplierDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 import jakarta.persistence.EntityManager;
@@ -24,10 +29,11 @@ import jakarta.persistence.EntityManager;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockMetricsRepositoryImplTest {
 
     @Autowired private EntityManager em;
+    @Autowired private JdbcClient jdbc;
 
     private void seedTestData() {
         em.createNativeQuery("DELETE FROM stock_history").executeUpdate();
@@ -67,15 +73,15 @@ class StockMetricsRepositoryImplTest {
         @Test
         void should_return_totals_ordered_by_quantity_in_h2_dialect() {
             seedTestData();
-            StockMetricsRepositoryImpl repo = repoWithDialect(true);
+            StockMetricsRepositoryImpl repo = repoWithDialect(DatabaseDialect.H2);
 
-            List<Object[]> out = repo.getTotalStockBySupplier();
+            List<StockPerSupplierDTO> out = repo.getTotalStockBySupplier();
 
             assertEquals(2, out.size());
-            assertEquals("Supplier Two", out.get(0)[0]);
-            assertEquals(20L, ((Number) out.get(0)[1]).longValue());
-            assertEquals("Supplier One", out.get(1)[0]);
-            assertEquals(2L, ((Number) out.get(1)[1]).longValue());
+            assertEquals("Supplier Two", out.get(0).supplierName());
+            assertEquals(20L, out.get(0).totalQuantity());
+            assertEquals("Supplier One", out.get(1).supplierName());
+            assertEquals(2L, out.get(1).totalQuantity());
         }
     }
 
@@ -88,18 +94,18 @@ class StockMetricsRepositoryImplTest {
         @Test
         void should_filter_by_supplier_and_treat_blank_as_null_in_oracle_dialect() {
             seedTestData();
-            StockMetricsRepositoryImpl repo = repoWithDialect(false);
+            StockMetricsRepositoryImpl repo = repoWithDialect(DatabaseDialect.ORACLE);
 
-            List<Object[]> forSup1 = repo.getUpdateCountByItem("sup1");
+            List<ItemUpdateFrequencyDTO> forSup1 = repo.getUpdateCountByItem("sup1");
             assertEquals(1, forSup1.size());
-            assertEquals("Item A", forSup1.get(0)[0]);
-            assertEquals(2L, ((Number) forSup1.get(0)[1]).longValue());
+            assertEquals("Item A", forSup1.get(0).itemName());
+            assertEquals(2L, forSup1.get(0).updateCount());
 
             // blank normalizes to null -> supplier filter disabled -> all items returned
-            List<Object[]> forAll = repo.getUpdateCountByItem("   ");
+            List<ItemUpdateFrequencyDTO> forAll = repo.getUpdateCountByItem("   ");
             assertTrue(forAll.size() >= 2);
-            assertEquals("Item A", forAll.get(0)[0]);
-            assertEquals(2L, ((Number) forAll.get(0)[1]).longValue());
+            assertEquals("Item A", forAll.get(0).itemName());
+            assertEquals(2L, forAll.get(0).updateCount());
         }
     }
 
@@ -112,36 +118,32 @@ class StockMetricsRepositoryImplTest {
         @Test
         void should_filter_below_minimum_stock_by_supplier_case_insensitive_in_oracle_dialect() {
             seedTestData();
-            StockMetricsRepositoryImpl repo = repoWithDialect(false);
+            StockMetricsRepositoryImpl repo = repoWithDialect(DatabaseDialect.ORACLE);
 
-            List<Object[]> all = repo.findItemsBelowMinimumStock(null);
+            List<LowStockItemDTO> all = repo.findItemsBelowMinimumStock(null);
             assertEquals(1, all.size());
-            assertEquals("Item A", all.get(0)[0]);
-            assertEquals(2L, ((Number) all.get(0)[1]).longValue());
-            assertEquals(10L, ((Number) all.get(0)[2]).longValue());
+            assertEquals("Item A", all.get(0).itemName());
+            assertEquals(2, all.get(0).quantity());
+            assertEquals(10, all.get(0).minimumQuantity());
 
             // case-insensitive: 'SUP1' must match 'sup1'
             assertEquals(1, repo.findItemsBelowMinimumStock("SUP1").size());
             assertEquals(0, repo.findItemsBelowMinimumStock("sup2").size());
         }
-    }
 
-    // forces the dialect branch without needing an Oracle database in CI
-    private StockMetricsRepositoryImpl repoWithDialect(boolean isH2) {
-        DatabaseDialectDetector detector = org.mockito.Mockito.mock(DatabaseDialectDetector.class);
-        org.mockito.Mockito.when(detector.isH2()).thenReturn(isH2);
-        StockMetricsRepositoryImpl repo = new StockMetricsRepositoryImpl(detector);
-        injectEntityManager(repo, em);
-        return repo;
-    }
+        @Test
+        void should_keep_case_insensitive_supplier_filter_in_postgres_dialect() {
+            seedTestData();
+            StockMetricsRepositoryImpl repo = repoWithDialect(DatabaseDialect.POSTGRESQL);
 
-    private static void injectEntityManager(Object target, EntityManager em) {
-        try {
-            Field f = target.getClass().getDeclaredField("em");
-            f.setAccessible(true);
-            f.set(target, em);
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException("Failed to inject EntityManager into repository under test", e);
+            assertEquals(1, repo.findItemsBelowMinimumStock(null).size());
+            assertEquals(1, repo.findItemsBelowMinimumStock("SUP1").size());
+            assertEquals(2L, repo.getUpdateCountByItem("SUP1").get(0).updateCount());
         }
     }
+
+    // forces the dialect branch without needing an Oracle database in CI
+    private StockMetricsRepositoryImpl repoWithDialect(DatabaseDialect dialect) {
+        return new StockMetricsRepositoryImpl(jdbc, AnalyticsSqlCatalog.forDialect(dialect));
+    }
 }
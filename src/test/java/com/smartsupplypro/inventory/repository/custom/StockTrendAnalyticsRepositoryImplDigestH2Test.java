@@ -0,0 +1,111 @@
+package com.smartsupplypro.inventory.repository.custom;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * H2 integration test for the shared window digest behind batched analytics.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
+class StockTrendAnalyticsRepositoryImplDigestH2Test {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 2, 28, 23, 59);
+
+    @Autowired private EntityManager em;
+    @Autowired private JdbcClient jdbc;
+
+    private void seedTestData() {
+        em.createNativeQuery("DELETE FROM stock_history").executeUpdate();
+        em.createNativeQuery("DELETE FROM inventory_item").executeUpdate();
+        em.createNativeQuery("DELETE FROM supplier").executeUpdate();
+
+        em.createNativeQuery(
+            "INSERT INTO supplier (id, name, created_at, created_by) VALUES " +
+            "('sup1','Supplier One', CURRENT_TIMESTAMP, 'test')," +
+            "('sup2','Supplier Two', CURRENT_TIMESTAMP, 'test')"
+        ).executeUpdate();
+
+        // itemB moved from sup1 to sup2 after its first movement
+        em.createNativeQuery(
+            "INSERT INTO inventory_item (id, sku, name, price, quantity, minimum_quantity, supplier_id, created_at, created_by, active) VALUES " +
+            "('itemA','SKU-DIG-A','Item A', 2.00, 0, 10, 'sup1', CURRENT_TIMESTAMP, 'test', 1)," +
+            "('itemB','SKU-DIG-B','Item B', 3.00, 0, 10, 'sup2', CURRENT_TIMESTAMP, 'test', 1)"
+        ).executeUpdate();
+
+        em.createNativeQuery(
+            "INSERT INTO stock_history (id, item_id, supplier_id, quantity_change, reason, created_by, created_at, price_at_change) VALUES " +
+            "('dg1','itemA','sup1', 5, 'INITIAL_STOCK', 'alice@example.com', TIMESTAMP '2026-02-05 09:00:00', 2.00)," +
+            "('dg2','itemA','sup1',-1, 'SOLD',          'alice@example.com', TIMESTAMP '2026-02-05 12:00:00', 2.00)," +
+            "('dg3','itemA','sup1',-2, 'SOLD',          'alice@example.com', TIMESTAMP '2026-02-05 15:00:00', 2.00)," +
+            "('dg4','itemB','sup1', 4, 'INITIAL_STOCK', 'bob@example.com',   TIMESTAMP '2026-02-06 10:00:00', 3.00)," +
+            "('dg5','itemB','sup2',-1, 'SOLD',          'bob@example.com',   TIMESTAMP '2026-02-07 10:00:00', 3.00)," +
+            "('dg6','itemA','sup1', 9, 'MANUAL_UPDATE', 'alice@example.com', TIMESTAMP '2026-03-01 10:00:00', 2.00)"
+        ).executeUpdate();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void groupsByDayReasonAndCreator_insideWindow() {
+        seedTestData();
+
+        List<WindowDigestRowDTO> out = repoH2().getWindowDigest(START, END, null);
+
+        assertEquals(4, out.size());
+        WindowDigestRowDTO sold = out.get(1);
+        assertEquals(LocalDate.of(2026, 2, 5), sold.day());
+        assertEquals("SOLD", sold.reason());
+        assertEquals("alice@example.com", sold.createdBy());
+        assertEquals(0L, sold.increase());
+        assertEquals(3L, sold.decrease());
+        assertEquals(2L, sold.changeCount());
+        assertTrue(sold.historySupplierMatch());
+        assertTrue(sold.itemSupplierMatch());
+    }
+
+    @Test
+    void flagsHistoryAndItemSupplierMatchSeparately() {
+        seedTestData();
+
+        List<WindowDigestRowDTO> out = repoH2().getWindowDigest(START, END, "sup1");
+
+        // dg1-dg3 match both ways, dg4 only via history; dg5 matches neither
+        assertEquals(3, out.size());
+        WindowDigestRowDTO moved = out.get(2);
+        assertEquals(LocalDate.of(2026, 2, 6), moved.day());
+        assertTrue(moved.historySupplierMatch());
+        assertFalse(moved.itemSupplierMatch());
+
+        List<WindowDigestRowDTO> sup2 = repoH2().getWindowDigest(START, END, "SUP2");
+        // item supplier matches case-insensitively on H2 (as monthly movement does), history supplier exactly
+        assertEquals(2, sup2.size());
+        assertFalse(sup2.get(0).historySupplierMatch());
+        assertTrue(sup2.get(0).itemSupplierMatch());
+    }
+
+    private StockTrendAnalyticsRepositoryImpl repoH2() {
+        return new StockTrendAnalyticsRepositoryImpl(jdbc, AnalyticsSqlCatalog.forDialect(DatabaseDialect.H2));
+    }
+}
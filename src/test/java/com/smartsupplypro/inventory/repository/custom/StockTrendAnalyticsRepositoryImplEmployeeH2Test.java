@@ -1,6 +1,6 @@
 package com.smartsupplypro.inventory.repository.custom;
 
-import java.lang.reflect.Field;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -9,8 +9,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 import jakarta.persistence.EntityManager;
@@ -20,10 +24,11 @@ import jakarta.persistence.EntityManager;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockTrendAnalyticsRepositoryImplEmployeeH2Test {
 
     @Autowired private EntityManager em;
+    @Autowired private JdbcClient jdbc;
 
     private void seedTestData() {
         em.createNativeQuery("DELETE FROM stock_history").executeUpdate();
@@ -57,20 +62,20 @@ class StockTrendAnalyticsRepositoryImplEmployeeH2Test {
         seedTestData();
         StockTrendAnalyticsRepositoryImpl repo = repoH2();
 
-        List<Object[]> out = repo.getDailyEmployeeActivity(
+        List<DailyEmployeeActivityRowDTO> out = repo.getDailyEmployeeActivity(
                 LocalDateTime.of(2026, 2, 1, 0, 0), LocalDateTime.of(2026, 2, 28, 23, 59), null);
 
         assertEquals(3, out.size());
         // ordered by day then creator
-        assertEquals("alice@example.com", out.get(0)[0]);
-        assertEquals("2026-02-05", out.get(0)[1]);
-        assertEquals(2L, ((Number) out.get(0)[2]).longValue());
-        assertEquals("alice@example.com", out.get(1)[0]);
-        assertEquals("2026-02-06", out.get(1)[1]);
-        assertEquals(1L, ((Number) out.get(1)[2]).longValue());
-        assertEquals("bob@example.com", out.get(2)[0]);
-        assertEquals("2026-02-06", out.get(2)[1]);
-        assertEquals(1L, ((Number) out.get(2)[2]).longValue());
+        assertEquals("alice@example.com", out.get(0).createdBy());
+        assertEquals(LocalDate.of(2026, 2, 5), out.get(0).day());
+        assertEquals(2L, out.get(0).changeCount());
+        assertEquals("alice@example.com", out.get(1).createdBy());
+        assertEquals(LocalDate.of(2026, 2, 6), out.get(1).day());
+        assertEquals(1L, out.get(1).changeCount());
+        assertEquals("bob@example.com", out.get(2).createdBy());
+        assertEquals(LocalDate.of(2026, 2, 6), out.get(2).day());
+        assertEquals(1L, out.get(2).changeCount());
     }
 
     @Test
@@ -78,9 +83,9 @@ class StockTrendAnalyticsRepositoryImplEmployeeH2Test {
         seedTestData();
         StockTrendAnalyticsRepositoryImpl repo = repoH2();
 
-        List<Object[]> matching = repo.getDailyEmployeeActivity(
+        List<DailyEmployeeActivityRowDTO> matching = repo.getDailyEmployeeActivity(
                 LocalDateTime.of(2026, 2, 1, 0, 0), LocalDateTime.of(2026, 2, 28, 23, 59), "sup1");
-        List<Object[]> nonMatching = repo.getDailyEmployeeActivity(
+        List<DailyEmployeeActivityRowDTO> nonMatching = repo.getDailyEmployeeActivity(
                 LocalDateTime.of(2026, 2, 1, 0, 0), LocalDateTime.of(2026, 2, 28, 23, 59), "supX");
 
         assertEquals(3, matching.size());
@@ -88,20 +93,6 @@ class StockTrendAnalyticsRepositoryImplEmployeeH2Test {
     }
 
     private StockTrendAnalyticsRepositoryImpl repoH2() {
-        DatabaseDialectDetector detector = org.mockito.Mockito.mock(DatabaseDialectDetector.class);
-        org.mockito.Mockito.when(detector.isH2()).thenReturn(true);
-        StockTrendAnalyticsRepositoryImpl repo = new StockTrendAnalyticsRepositoryImpl(detector);
-        injectEntityManager(repo, em);
-        return repo;
-    }
-
-    private static void injectEntityManager(Object target, EntityManager em) {
-        try {
-            Field f = target.getClass().getDeclaredField("em");
-            f.setAccessible(true);
-            f.set(target, em);
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException("Failed to inject EntityManager into repository under test", e);
-        }
+        return new StockTrendAnalyticsRepositoryImpl(jdbc, AnalyticsSqlCatalog.forDialect(DatabaseDialect.H2));
     }
 }
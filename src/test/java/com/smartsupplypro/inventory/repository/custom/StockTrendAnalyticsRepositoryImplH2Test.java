@@ -1,6 +1,5 @@
 package com.smartsupplypro.inventory.repository.custom;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,9 +12,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
 import com.smartsupplypro.inventory.dto.PriceTrendDTO;
+import com.smartsupplypro.inventory.dto.StockValueOverTimeDTO;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
 import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
 
 import jakarta.persistence.EntityManager;
@@ -28,10 +32,11 @@ import jakarta.persistence.EntityManager;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(DatabaseDialectDetector.class)
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
 class StockTrendAnalyticsRepositoryImplH2Test {
 
     @Autowired private EntityManager em;
+    @Autowired private JdbcClient jdbc;
 
     private void seedTestData() {
         em.createNativeQuery("DELETE FROM stock_history").executeUpdate();
@@ -81,18 +86,18 @@ class StockTrendAnalyticsRepositoryImplH2Test {
             seedTestData();
             StockTrendAnalyticsRepositoryImpl repo = repoH2();
 
-            List<Object[]> out = repo.getMonthlyStockMovement(
+            List<MonthlyStockMovementDTO> out = repo.getMonthlyStockMovement(
                     LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 31, 23, 59));
 
             assertEquals(2, out.size());
             // Feb: itemA +5, itemB +1 = 6 in; itemA -2 = 2 out
-            assertEquals("2024-02", out.get(0)[0]);
-            assertEquals(6L, ((Number) out.get(0)[1]).longValue());
-            assertEquals(2L, ((Number) out.get(0)[2]).longValue());
+            assertEquals("2024-02", out.get(0).month());
+            assertEquals(6L, out.get(0).stockIn());
+            assertEquals(2L, out.get(0).stockOut());
             // Mar: itemA +3 = 3 in; no out
-            assertEquals("2024-03", out.get(1)[0]);
-            assertEquals(3L, ((Number) out.get(1)[1]).longValue());
-            assertEquals(0L, ((Number) out.get(1)[2]).longValue());
+            assertEquals("2024-03", out.get(1).month());
+            assertEquals(3L, out.get(1).stockIn());
+            assertEquals(0L, out.get(1).stockOut());
         }
 
         @Test
@@ -100,18 +105,18 @@ class StockTrendAnalyticsRepositoryImplH2Test {
             seedTestData();
             StockTrendAnalyticsRepositoryImpl repo = repoH2();
 
-            List<Object[]> filtered = repo.getMonthlyStockMovementBySupplier(
+            List<MonthlyStockMovementDTO> filtered = repo.getMonthlyStockMovementBySupplier(
                     LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 31, 23, 59), "sup1");
 
             assertEquals(2, filtered.size());
-            assertEquals("2024-02", filtered.get(0)[0]);
-            assertEquals(5L, ((Number) filtered.get(0)[1]).longValue());
+            assertEquals("2024-02", filtered.get(0).month());
+            assertEquals(5L, filtered.get(0).stockIn());
 
             // blank supplier normalizes to null -> no filter applied
-            List<Object[]> blank = repo.getMonthlyStockMovementBySupplier(
+            List<MonthlyStockMovementDTO> blank = repo.getMonthlyStockMovementBySupplier(
                     LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 31, 23, 59), "   ");
             assertTrue(blank.size() >= 2);
-            assertEquals(6L, ((Number) blank.get(0)[1]).longValue());
+            assertEquals(6L, blank.get(0).stockIn());
         }
     }
 
@@ -126,19 +131,19 @@ class StockTrendAnalyticsRepositoryImplH2Test {
             seedTestData();
             StockTrendAnalyticsRepositoryImpl repo = repoH2();
 
-            List<Object[]> out = repo.getDailyStockValuation(
+            List<StockValueOverTimeDTO> out = repo.getDailyStockValuation(
                     LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 2, 0, 0), "sup1");
 
             assertEquals(3, out.size());
             // 2024-02-05: last price of day is 4.00; qty-after = 5; valuation = 20
-            assertEquals(LocalDate.of(2024, 2, 5), toLocalDate(out.get(0)[0]));
-            assertEquals(20L, ((Number) out.get(0)[1]).longValue());
+            assertEquals(LocalDate.of(2024, 2, 5), out.get(0).date());
+            assertEquals(20.0, out.get(0).totalValue(), 0.0001);
             // 2024-02-06: price 2.00; qty-after = 3; valuation = 6
-            assertEquals(LocalDate.of(2024, 2, 6), toLocalDate(out.get(1)[0]));
-            assertEquals(6L, ((Number) out.get(1)[1]).longValue());
+            assertEquals(LocalDate.of(2024, 2, 6), out.get(1).date());
+            assertEquals(6.0, out.get(1).totalValue(), 0.0001);
             // 2024-03-01: price 2.50; qty-after = 6; valuation = 15
-            assertEquals(LocalDate.of(2024, 3, 1), toLocalDate(out.get(2)[0]));
-            assertEquals(15L, ((Number) out.get(2)[1]).longValue());
+            assertEquals(LocalDate.of(2024, 3, 1), out.get(2).date());
+            assertEquals(15.0, out.get(2).totalValue(), 0.0001);
         }
     }
 
@@ -170,35 +175,6 @@ class StockTrendAnalyticsRepositoryImplH2Test {
 
     // forces the H2 dialect branch
     private StockTrendAnalyticsRepositoryImpl repoH2() {
-        DatabaseDialectDetector detector = org.mockito.Mockito.mock(DatabaseDialectDetector.class);
-        org.mockito.Mockito.when(detector.isH2()).thenReturn(true);
-        StockTrendAnalyticsRepositoryImpl repo = new StockTrendAnalyticsRepositoryImpl(detector);
-        injectEntityManager(repo, em);
-        return repo;
-    }
-
-    private static void injectEntityManager(Object target, EntityManager em) {
-        try {
-            Field f = target.getClass().getDeclaredField("em");
-            f.setAccessible(true);
-            f.set(target, em);
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException("Failed to inject EntityManager into repository under test", e);
-        }
-    }
-
-    /**
-     * Normalizes a native-query date cell to {@link LocalDate}. JDBC drivers may
-     * return either {@link java.sql.Date} or {@link java.time.LocalDate} depending
-     * on version, so this avoids a hard cast that breaks across driver upgrades.
-     */
-    private static LocalDate toLocalDate(Object cell) {
-        if (cell instanceof java.sql.Date d) {
-            return d.toLocalDate();
-        }
-        if (cell instanceof LocalDate ld) {
-            return ld;
-        }
-        throw new IllegalStateException("Unexpected date type: " + (cell == null ? "null" : cell.getClass()));
+        return new StockTrendAnalyticsRepositoryImpl(jdbc, AnalyticsSqlCatalog.forDialect(DatabaseDialect.H2));
     }
 }
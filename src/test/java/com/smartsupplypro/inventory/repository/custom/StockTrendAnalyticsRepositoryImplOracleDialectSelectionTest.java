@@ -1,6 +1,5 @@
 package com.smartsupplypro.inventory.repository.custom;
 
-import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.Collections;
 
@@ -10,11 +9,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
 
-import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
-
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialect;
 
 /**
  * Unit tests for Oracle dialect branch selection in {@link StockTrendAnalyticsRepositoryImpl}.
@@ -22,20 +21,19 @@ import jakarta.persistence.Query;
 @ExtendWith(MockitoExtension.class)
 class StockTrendAnalyticsRepositoryImplOracleDialectSelectionTest {
 
-    @Mock private DatabaseDialectDetector detector;
-    @Mock private EntityManager em;
-    @Mock private Query query;
+    @Mock private JdbcClient jdbc;
+    @Mock private JdbcClient.StatementSpec statement;
+    @Mock private JdbcClient.MappedQuerySpec<Object> mapped;
 
     @Test
     void should_select_oracle_sql_for_all_methods_and_normalize_blank_supplier_to_null() {
-        org.mockito.Mockito.when(detector.isH2()).thenReturn(false);
-        org.mockito.Mockito.when(em.createNativeQuery(org.mockito.ArgumentMatchers.anyString())).thenReturn(query);
-        org.mockito.Mockito.when(query.setParameter(org.mockito.ArgumentMatchers.anyString(), org.mockito.ArgumentMatchers.any()))
-            .thenReturn(query);
-        org.mockito.Mockito.when(query.getResultList()).thenReturn(Collections.emptyList());
+        org.mockito.Mockito.when(jdbc.sql(org.mockito.ArgumentMatchers.anyString())).thenReturn(statement);
+        org.mockito.Mockito.when(statement.param(org.mockito.ArgumentMatchers.anyString(), org.mockito.ArgumentMatchers.any()))
+            .thenReturn(statement);
+        org.mockito.Mockito.doReturn(mapped).when(statement).query(org.mockito.ArgumentMatchers.any(RowMapper.class));
+        org.mockito.Mockito.when(mapped.list()).thenReturn(Collections.emptyList());
 
-        StockTrendAnalyticsRepositoryImpl repo = new StockTrendAnalyticsRepositoryImpl(detector);
-        injectEntityManager(repo, em);
+        StockTrendAnalyticsRepositoryImpl repo = new StockTrendAnalyticsRepositoryImpl(jdbc, AnalyticsSqlCatalog.forDialect(DatabaseDialect.ORACLE));
 
         LocalDateTime start = LocalDateTime.of(2024, 2, 1, 0, 0);
         LocalDateTime end   = LocalDateTime.of(2024, 3, 31, 23, 59);
@@ -46,7 +44,7 @@ class StockTrendAnalyticsRepositoryImplOracleDialectSelectionTest {
         repo.getItemPriceTrend("itemA", "   ", start, end);
 
         ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
-        org.mockito.Mockito.verify(em, org.mockito.Mockito.times(4)).createNativeQuery(sql.capture());
+        org.mockito.Mockito.verify(jdbc, org.mockito.Mockito.times(4)).sql(sql.capture());
 
         // Oracle monthly movement uses TO_CHAR(..., 'YYYY-MM')
         assertTrue(sql.getAllValues().get(0).contains("TO_CHAR"));
@@ -59,17 +57,7 @@ class StockTrendAnalyticsRepositoryImplOracleDialectSelectionTest {
         assertTrue(sql.getAllValues().get(3).contains("YYYY-MM-DD"));
 
         // blank supplier must normalize to null so the supplier filter is disabled
-        org.mockito.Mockito.verify(query, org.mockito.Mockito.atLeastOnce())
-            .setParameter("supplierId", null);
-    }
-
-    private static void injectEntityManager(Object target, EntityManager em) {
-        try {
-            Field f = target.getClass().getDeclaredField("em");
-            f.setAccessible(true);
-            f.set(target, em);
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException("Failed to inject EntityManager into repository under test", e);
-        }
+        org.mockito.Mockito.verify(statement, org.mockito.Mockito.atLeastOnce())
+            .param("supplierId", null);
     }
 }
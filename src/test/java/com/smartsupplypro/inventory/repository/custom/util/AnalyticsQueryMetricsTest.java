@@ -0,0 +1,98 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
+import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link AnalyticsQueryMetrics}: which repository methods are timed and how
+ * the timer and row-count meters are tagged.
+ */
+class AnalyticsQueryMetricsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 2, 28, 23, 59);
+
+    private MeterRegistry registry;
+    private StockHistoryRepository target;
+    private StockHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        DatabaseDialectDetector detector = mock(DatabaseDialectDetector.class);
+        when(detector.dialect()).thenReturn(DatabaseDialect.H2);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(
+                Map.of("registry", registry, "detector", detector));
+
+        target = mock(StockHistoryRepository.class);
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setInterfaces(StockHistoryRepository.class);
+        factory.addAdvice(new AnalyticsQueryMetrics(
+                beans.getBeanProvider(MeterRegistry.class), beans.getBeanProvider(DatabaseDialectDetector.class)));
+        repository = (StockHistoryRepository) factory.getProxy();
+    }
+
+    @Test
+    void customFragmentQuery_recordsTimerAndRows_taggedBySupplierFilter() {
+        WindowDigestRowDTO row = new WindowDigestRowDTO(START.toLocalDate(), "SOLD", "alice", 0, 1, 1, true, true);
+        when(target.getWindowDigest(any(), any(), any())).thenReturn(List.of(row, row, row));
+
+        repository.getWindowDigest(START, END, "sup1");
+        repository.getWindowDigest(START, END, " ");
+
+        Timer filtered = registry.find(AnalyticsQueryMetrics.TIMER)
+                .tags("query", "getWindowDigest", "dialect", "h2", "supplier.filter", "true", "outcome", "success")
+                .timer();
+        Timer unfiltered = registry.find(AnalyticsQueryMetrics.TIMER)
+                .tags("query", "getWindowDigest", "supplier.filter", "false")
+                .timer();
+        assertNotNull(filtered);
+        assertEquals(1, filtered.count());
+        assertEquals(1, unfiltered.count());
+
+        var rows = registry.find(AnalyticsQueryMetrics.ROWS).tags("query", "getWindowDigest").summary();
+        assertEquals(2, rows.count());
+        assertEquals(6.0, rows.totalAmount());
+    }
+
+    @Test
+    void nativeQuery_isTimed_andFailuresAreTaggedAsErrors() {
+        when(target.getReasonBreakdown(any(), any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> repository.getReasonBreakdown(START, END, null, null));
+
+        Timer timer = registry.find(AnalyticsQueryMetrics.TIMER)
+                .tags("query", "getReasonBreakdown", "supplier.filter", "false", "outcome", "error")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertNull(registry.find(AnalyticsQueryMetrics.ROWS).summary());
+    }
+
+    @Test
+    void derivedFinder_isNotInstrumented() {
+        repository.findByItemIdOrderByTimestampDesc("item-1");
+
+        assertNull(registry.find(AnalyticsQueryMetrics.TIMER).timer());
+    }
+}
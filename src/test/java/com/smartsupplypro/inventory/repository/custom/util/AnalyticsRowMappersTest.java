@@ -0,0 +1,53 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
+
+/**
+ * Unit tests for the column positions and typed getters used by {@link AnalyticsRowMappers}.
+ */
+class AnalyticsRowMappersTest {
+
+    @Test
+    void windowDigest_readsDateColumn_andNumericFlagsAsBooleans() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(1, LocalDate.class)).thenReturn(LocalDate.of(2026, 2, 5));
+        when(rs.getString(2)).thenReturn("SOLD");
+        when(rs.getString(3)).thenReturn("alice@example.com");
+        when(rs.getLong(4)).thenReturn(0L);
+        when(rs.getLong(5)).thenReturn(3L);
+        when(rs.getLong(6)).thenReturn(2L);
+        when(rs.getInt(7)).thenReturn(1);
+        when(rs.getInt(8)).thenReturn(0);
+
+        assertEquals(
+                new WindowDigestRowDTO(LocalDate.of(2026, 2, 5), "SOLD", "alice@example.com", 0, 3, 2, true, false),
+                AnalyticsRowMappers.WINDOW_DIGEST.mapRow(rs, 0));
+    }
+
+    @Test
+    void stockUpdateResult_readsTimestampColumnAsLocalDateTime() throws SQLException {
+        LocalDateTime at = LocalDateTime.of(2024, 2, 1, 10, 0);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("Item A");
+        when(rs.getString(2)).thenReturn("Supplier One");
+        when(rs.getInt(3)).thenReturn(-1);
+        when(rs.getString(4)).thenReturn("SOLD");
+        when(rs.getString(5)).thenReturn("alice");
+        when(rs.getObject(6, LocalDateTime.class)).thenReturn(at);
+
+        assertEquals(
+                new StockUpdateResultDTO("Item A", "Supplier One", -1, "SOLD", "alice", at),
+                AnalyticsRowMappers.STOCK_UPDATE_RESULT.mapRow(rs, 0));
+    }
+}
@@ -0,0 +1,48 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Unit tests for the per-dialect statement set built by {@link AnalyticsSqlCatalog}.
+ */
+class AnalyticsSqlCatalogTest {
+
+    @ParameterizedTest
+    @EnumSource(DatabaseDialect.class)
+    void everyKey_hasSql_forEveryDialect(DatabaseDialect dialect) {
+        AnalyticsSqlCatalog catalog = AnalyticsSqlCatalog.forDialect(dialect);
+
+        assertEquals(dialect, catalog.dialect());
+        for (AnalyticsSqlCatalog.Key key : AnalyticsSqlCatalog.Key.values()) {
+            assertFalse(catalog.sql(key) == null || catalog.sql(key).isBlank(), key.name());
+        }
+    }
+
+    @Test
+    void statements_areDialectSpecific_andUnmodifiable() {
+        AnalyticsSqlCatalog oracle = AnalyticsSqlCatalog.forDialect(DatabaseDialect.ORACLE);
+
+        assertTrue(oracle.sql(AnalyticsSqlCatalog.Key.MONTHLY_MOVEMENT).contains("TO_CHAR"));
+        assertTrue(AnalyticsSqlCatalog.forDialect(DatabaseDialect.H2)
+                .sql(AnalyticsSqlCatalog.Key.SUPPLIER_TOTALS).contains("\"SUPPLIER\""));
+        assertThrows(UnsupportedOperationException.class,
+                () -> oracle.statements().put(AnalyticsSqlCatalog.Key.MONTHLY_MOVEMENT, "SELECT 1"));
+    }
+
+    @Test
+    void postgresStatements_castOptionalParameters_beforeNullChecks() {
+        AnalyticsSqlCatalog postgres = AnalyticsSqlCatalog.forDialect(DatabaseDialect.POSTGRESQL);
+
+        for (String sql : postgres.statements().values()) {
+            assertFalse(sql.matches("(?s).*[(\\s]:\\w+ IS NULL.*"), sql);
+        }
+        assertTrue(postgres.sql(AnalyticsSqlCatalog.Key.FILTERED_STOCK_SEARCH)
+                .contains("CAST(:minChange AS INTEGER) IS NULL"));
+    }
+}
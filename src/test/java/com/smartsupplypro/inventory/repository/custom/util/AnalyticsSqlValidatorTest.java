@@ -0,0 +1,104 @@
+package com.smartsupplypro.inventory.repository.custom.util;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for {@link AnalyticsSqlValidator} against the H2 test schema.
+ *
+ * <p>The context itself already ran the validator once; these tests check the resolved
+ * dialect, that a broken statement is reported by key, and what startup does with a broken
+ * statement or an unreachable database.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class, AnalyticsSqlValidator.class})
+class AnalyticsSqlValidatorTest {
+
+    @Autowired private AnalyticsSqlCatalog catalog;
+    @Autowired private AnalyticsSqlValidator validator;
+    @Autowired private DataSource dataSource;
+
+    @Test
+    void catalogue_isResolvedFromMetadata_andEveryStatementPrepares() {
+        assertEquals(DatabaseDialect.H2, catalog.dialect());
+        assertEquals(AnalyticsSqlCatalog.Key.values().length, catalog.statements().size());
+        assertDoesNotThrow(validator::validate);
+    }
+
+    @Test
+    void brokenStatement_failsValidation_namingItsKey() {
+        Map<AnalyticsSqlCatalog.Key, String> statements = new EnumMap<>(catalog.statements());
+        statements.put(AnalyticsSqlCatalog.Key.WINDOW_DIGEST, "SELECT missing_column FROM stock_history WHERE id = :id");
+        AnalyticsSqlValidator broken = new AnalyticsSqlValidator(
+                new AnalyticsSqlCatalog(DatabaseDialect.H2, statements), dataSource, new MockEnvironment());
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, broken::validate);
+
+        assertTrue(ex.getMessage().contains("WINDOW_DIGEST"));
+        assertFalse(ex.getMessage().contains("MONTHLY_MOVEMENT:"));
+    }
+
+    @Test
+    void brokenStatement_failsStartupByDefault_butOnlyLogsInWarnMode() {
+        Map<AnalyticsSqlCatalog.Key, String> statements = new EnumMap<>(catalog.statements());
+        statements.put(AnalyticsSqlCatalog.Key.WINDOW_DIGEST, "SELECT missing_column FROM stock_history");
+        AnalyticsSqlCatalog broken = new AnalyticsSqlCatalog(DatabaseDialect.H2, statements);
+
+        AnalyticsSqlValidator failing = new AnalyticsSqlValidator(broken, dataSource, new MockEnvironment());
+        AnalyticsSqlValidator warning = new AnalyticsSqlValidator(broken, dataSource,
+                new MockEnvironment().withProperty(AnalyticsSqlValidator.VALIDATION_PROPERTY, "warn"));
+
+        assertThrows(IllegalStateException.class, failing::afterSingletonsInstantiated);
+        assertDoesNotThrow(warning::afterSingletonsInstantiated);
+    }
+
+    @Test
+    void unreachableDatabase_doesNotFailStartup() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("connection refused"));
+        AnalyticsSqlValidator validator = new AnalyticsSqlValidator(catalog, down, new MockEnvironment());
+
+        assertThrows(DataAccessResourceFailureException.class, validator::validate);
+        assertDoesNotThrow(validator::afterSingletonsInstantiated);
+    }
+
+    @Test
+    void refreshOnlyStart_skipsValidation() {
+        Map<AnalyticsSqlCatalog.Key, String> statements = new EnumMap<>(catalog.statements());
+        statements.put(AnalyticsSqlCatalog.Key.WINDOW_DIGEST, "SELECT missing_column FROM stock_history");
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.context.exit", "onRefresh");
+        AnalyticsSqlValidator validator = new AnalyticsSqlValidator(
+                new AnalyticsSqlCatalog(DatabaseDialect.H2, statements), dataSource, environment);
+
+        assertDoesNotThrow(validator::afterSingletonsInstantiated);
+    }
+
+    @Test
+    void postgresCatalogue_preparesAgainstTheSameSchema() {
+        // H2 accepts the PostgreSQL variants' casts, TO_CHAR and OFFSET/FETCH; catches typos and
+        // column names, not PostgreSQL-only semantics
+        AnalyticsSqlValidator postgres = new AnalyticsSqlValidator(
+                AnalyticsSqlCatalog.forDialect(DatabaseDialect.POSTGRESQL), dataSource, new MockEnvironment());
+
+        assertDoesNotThrow(postgres::validate);
+    }
+}
@@ -1,79 +1,114 @@
 package com.smartsupplypro.inventory.repository.custom.util;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
 
 /**
- * Unit tests for dialect detection logic in {@link DatabaseDialectDetector}.
+ * Unit tests for metadata-based dialect resolution in {@link DatabaseDialectDetector},
+ * including the JDBC URL fallback while the database is unreachable.
  */
 @ExtendWith(MockitoExtension.class)
 class DatabaseDialectDetectorTest {
 
-    @Mock private Environment environment;
+    @Mock private DataSource dataSource;
+    @Mock private Connection connection;
+    @Mock private DatabaseMetaData metaData;
+
+    private void productName(String name) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(name);
+    }
 
     /**
-     * H2 dialect detection via 'test' or 'h2' profile match (case-insensitive).
+     * Product names reported by the supported drivers.
      */
     @Nested
-    class H2Detection {
+    class SupportedProducts {
+
+        @Test
+        void should_resolve_h2_from_product_name_and_close_the_connection() throws SQLException {
+            productName("H2");
+
+            assertEquals(DatabaseDialect.H2, new DatabaseDialectDetector(dataSource, new MockEnvironment()).dialect());
+            verify(connection).close();
+        }
 
         @Test
-        void should_detect_h2_when_test_profile_is_active_case_insensitive() {
-            org.mockito.Mockito.when(environment.getActiveProfiles()).thenReturn(new String[] {"TeSt"});
-            DatabaseDialectDetector detector = new DatabaseDialectDetector(environment);
+        void should_resolve_oracle_from_product_name() throws SQLException {
+            productName("Oracle");
 
-            assertTrue(detector.isH2());
-            assertFalse(detector.isOracle());
+            assertEquals(DatabaseDialect.ORACLE, new DatabaseDialectDetector(dataSource, new MockEnvironment()).dialect());
         }
 
         @Test
-        void should_detect_h2_when_h2_profile_is_active_case_insensitive() {
-            org.mockito.Mockito.when(environment.getActiveProfiles()).thenReturn(new String[] {"H2"});
-            DatabaseDialectDetector detector = new DatabaseDialectDetector(environment);
+        void should_resolve_postgresql_from_product_name() throws SQLException {
+            productName("PostgreSQL");
 
-            assertTrue(detector.isH2());
-            assertFalse(detector.isOracle());
+            assertEquals(DatabaseDialect.POSTGRESQL, new DatabaseDialectDetector(dataSource, new MockEnvironment()).dialect());
         }
 
         @Test
-        void should_detect_h2_when_one_of_multiple_profiles_is_h2() {
-            // anyMatch returns true when H2 appears among other non-matching profiles
-            org.mockito.Mockito.when(environment.getActiveProfiles()).thenReturn(new String[] {"prod", "H2"});
-            DatabaseDialectDetector detector = new DatabaseDialectDetector(environment);
+        void should_use_configured_dialect_without_opening_a_connection() {
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty(DatabaseDialectDetector.DIALECT_PROPERTY, "oracle");
 
-            assertTrue(detector.isH2());
-            assertFalse(detector.isOracle());
+            assertEquals(DatabaseDialect.ORACLE, new DatabaseDialectDetector(dataSource, environment).dialect());
+            verifyNoInteractions(dataSource);
+        }
+
+        @Test
+        void should_fall_back_to_the_jdbc_url_when_the_database_is_unreachable() throws SQLException {
+            when(dataSource.getConnection()).thenThrow(new SQLException("down"));
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty("spring.datasource.url", "jdbc:oracle:thin:@ssp_high?TNS_ADMIN=/app/wallet");
+
+            assertEquals(DatabaseDialect.ORACLE, new DatabaseDialectDetector(dataSource, environment).dialect());
         }
     }
 
     /**
-     * Oracle as the fallback when no H2 profiles are active.
+     * Startup fails when neither the database nor the URL names a supported dialect.
      */
     @Nested
-    class OracleFallback {
+    class Failures {
+
+        @Test
+        void should_reject_unsupported_product() throws SQLException {
+            productName("MySQL");
+
+            assertThrows(IllegalStateException.class, () -> new DatabaseDialectDetector(dataSource, new MockEnvironment()));
+        }
 
         @Test
-        void should_default_to_oracle_when_no_matching_profiles_are_active() {
-            org.mockito.Mockito.when(environment.getActiveProfiles()).thenReturn(new String[] {"prod", "oracle"});
-            DatabaseDialectDetector detector = new DatabaseDialectDetector(environment);
+        void should_fail_when_no_connection_can_be_opened_and_no_url_is_configured() throws SQLException {
+            when(dataSource.getConnection()).thenThrow(new SQLException("down"));
 
-            assertFalse(detector.isH2());
-            assertTrue(detector.isOracle());
+            assertThrows(IllegalStateException.class, () -> new DatabaseDialectDetector(dataSource, new MockEnvironment()));
         }
 
         @Test
-        void should_default_to_oracle_when_no_profiles_are_active() {
-            org.mockito.Mockito.when(environment.getActiveProfiles()).thenReturn(new String[0]);
-            DatabaseDialectDetector detector = new DatabaseDialectDetector(environment);
+        void should_fail_when_unreachable_and_the_url_names_an_unsupported_database() throws SQLException {
+            when(dataSource.getConnection()).thenThrow(new SQLException("down"));
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty("spring.datasource.url", "jdbc:mysql://localhost/ssp");
 
-            assertFalse(detector.isH2());
-            assertTrue(detector.isOracle());
+            assertThrows(IllegalStateException.class, () -> new DatabaseDialectDetector(dataSource, environment));
         }
     }
 }
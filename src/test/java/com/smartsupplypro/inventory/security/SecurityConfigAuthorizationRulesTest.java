@@ -32,6 +32,7 @@ import com.smartsupplypro.inventory.config.SecurityFilterHelper;
 @TestPropertySource(properties = {
     "app.demo-readonly=false",
     "app.frontend.base-url=https://frontend.test",
+    "app.metrics.scrape-token=scrape-secret",
     "spring.main.banner-mode=off",
     "logging.level.root=WARN"
 })
@@ -82,6 +83,18 @@ class SecurityConfigAuthorizationRulesTest {
             mvc.perform(get("/api/health").accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
         }
+
+        @Test
+        void should_redirect_when_prometheusScrapedWithoutToken() throws Exception {
+            mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().is3xxRedirection());
+        }
+
+        @Test
+        void should_reachMvc_when_prometheusScrapedWithToken() throws Exception {
+            mvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer scrape-secret"))
+                .andExpect(status().isNotFound());
+        }
     }
 
     /**
@@ -105,6 +118,13 @@ class SecurityConfigAuthorizationRulesTest {
                 .andExpect(content().string("admin ok"));
         }
 
+        @Test
+        @WithMockUser(username = "user", roles = "USER")
+        void should_return403_when_userRoleScrapesPrometheus() throws Exception {
+            mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        }
+
         @Test
         @WithMockUser(username = "user", roles = "USER")
         void should_return200_when_demoReadonlyOffAndAuthenticatedInventoryGet() throws Exception {
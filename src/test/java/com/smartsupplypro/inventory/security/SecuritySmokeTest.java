@@ -128,6 +128,9 @@ class SecuritySmokeTest {
                         chain.doFilter(req, res);
                     }
                 });
+            Mockito.when(mock.createMetricsScrapeTokenFilter(Mockito.any())).thenAnswer(inv ->
+                new com.smartsupplypro.inventory.config.SecurityFilterHelper()
+                    .createMetricsScrapeTokenFilter(inv.getArgument(0)));
             return mock;
         }
 
@@ -0,0 +1,163 @@
+package com.smartsupplypro.inventory.security;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.FactorGrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.OidcUserInfo;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Unit tests for {@link SessionAttributeSerializer}: OAuth2 logins round-trip through the
+ * compact record at a fraction of the Java-serialized size, and everything else (including
+ * rows written before the compact format) still goes through Java serialization.
+ */
+class SessionAttributeSerializerTest {
+
+    private static final Instant ISSUED = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final SessionAttributeSerializer serializer =
+            new SessionAttributeSerializer(getClass().getClassLoader());
+
+    private byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(value, out);
+        return out.toByteArray();
+    }
+
+    private Object deserialize(byte[] bytes) throws IOException {
+        return serializer.deserialize(new ByteArrayInputStream(bytes));
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DefaultSerializer().serialize(value, out);
+        return out.toByteArray();
+    }
+
+    /** Shaped like a Google login after CustomOidcUserService: provider authorities plus the app role. */
+    private static SecurityContext oidcLogin(Map<String, Object> extraClaims) throws Exception {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", URI.create("https://accounts.google.com").toURL());
+        claims.put("sub", "110248495921238986420");
+        claims.put("aud", List.of("test-client-id"));
+        claims.put("iat", ISSUED);
+        claims.put("exp", ISSUED.plusSeconds(3600));
+        claims.put("email", "alice@example.com");
+        claims.put("email_verified", true);
+        claims.put("name", "Alice Example");
+        claims.put("picture", "https://lh3.googleusercontent.com/a/alice");
+        claims.putAll(extraClaims);
+        OidcIdToken idToken = new OidcIdToken("eyJhbGciOiJSUzI1NiJ9.eyJzdWIiOiIxMTAyNDg0OTU5MjEyMzg5ODY0MjAifQ.sig",
+                ISSUED, ISSUED.plusSeconds(3600), claims);
+        OidcUserInfo userInfo = new OidcUserInfo(Map.of("sub", "110248495921238986420", "locale", "de"));
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new OidcUserAuthority(idToken, userInfo));
+        authorities.add(new SimpleGrantedAuthority("SCOPE_openid"));
+        authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        DefaultOidcUser user = new DefaultOidcUser(authorities, idToken, userInfo, "email");
+
+        List<GrantedAuthority> tokenAuthorities = new ArrayList<>(authorities);
+        tokenAuthorities.add(FactorGrantedAuthority.withAuthority(FactorGrantedAuthority.AUTHORIZATION_CODE_AUTHORITY)
+                .issuedAt(ISSUED).build());
+        OAuth2AuthenticationToken token = new OAuth2AuthenticationToken(user, tokenAuthorities, "google");
+        token.setDetails(new WebAuthenticationDetails("10.0.0.7", null));
+        return new SecurityContextImpl(token);
+    }
+
+    @Test
+    void should_restoreOidcLogin_when_serializedCompactly() throws Exception {
+        SecurityContext context = oidcLogin(Map.of());
+
+        byte[] bytes = serialize(context);
+        SecurityContext restored = (SecurityContext) deserialize(bytes);
+
+        assertEquals(context, restored);
+        OAuth2AuthenticationToken token = (OAuth2AuthenticationToken) restored.getAuthentication();
+        assertTrue(token.isAuthenticated());
+        assertEquals("google", token.getAuthorizedClientRegistrationId());
+        assertEquals("alice@example.com", token.getName());
+        DefaultOidcUser user = (DefaultOidcUser) token.getPrincipal();
+        assertEquals("de", user.getAttribute("locale"));
+        assertEquals(URI.create("https://accounts.google.com").toURL(), user.getIdToken().getIssuer());
+        assertEquals(ISSUED.plusSeconds(3600), user.getIdToken().getExpiresAt());
+        assertEquals(context.getAuthentication().getAuthorities(), token.getAuthorities());
+    }
+
+    @Test
+    void should_storeOidcLogin_inUnderHalfTheJavaSerializedSize() throws Exception {
+        SecurityContext context = oidcLogin(Map.of());
+
+        byte[] compact = serialize(context);
+        byte[] java = javaSerialize(context);
+
+        assertEquals(0x01, compact[0]);
+        assertTrue(compact.length * 2 < java.length, compact.length + " compact vs " + java.length + " java bytes");
+    }
+
+    @Test
+    void should_restoreOAuth2Login_when_principalIsPlainOAuth2User() throws Exception {
+        DefaultOAuth2User user = new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("ROLE_USER")),
+                Map.of("id", 42, "email", "bob@example.com", "appRole", "USER"), "email");
+        SecurityContext context = new SecurityContextImpl(
+                new OAuth2AuthenticationToken(user, user.getAuthorities(), "github"));
+
+        SecurityContext restored = (SecurityContext) deserialize(serialize(context));
+
+        assertEquals(context, restored);
+        assertEquals(42, ((DefaultOAuth2User) restored.getAuthentication().getPrincipal()).<Integer>getAttribute("id"));
+    }
+
+    @Test
+    void should_fallBackToJavaSerialization_when_claimTypeIsUnknown() throws Exception {
+        SecurityContext context = oidcLogin(Map.of("groups", Set.of("ops")));
+
+        byte[] bytes = serialize(context);
+
+        assertNotEquals(0x01, bytes[0]);
+        assertEquals(context, deserialize(bytes));
+    }
+
+    @Test
+    void should_fallBackToJavaSerialization_when_attributeIsNotAnOAuth2Login() throws Exception {
+        SecurityContext context = new SecurityContextImpl(new TestingAuthenticationToken("carol", null, "ROLE_USER"));
+
+        assertEquals(context, deserialize(serialize(context)));
+        assertEquals("/api/inventory", deserialize(serialize("/api/inventory")));
+    }
+
+    @Test
+    void should_readJavaSerializedAttribute_when_writtenBeforeCompactFormat() throws Exception {
+        SecurityContext context = oidcLogin(Map.of());
+
+        Object restored = deserialize(javaSerialize(context));
+
+        assertInstanceOf(SecurityContextImpl.class, restored);
+        assertEquals(context, restored);
+    }
+}
@@ -0,0 +1,177 @@
+package com.smartsupplypro.inventory.security;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+import com.smartsupplypro.inventory.InventoryServiceApplication;
+import com.smartsupplypro.inventory.model.AppUser;
+import com.smartsupplypro.inventory.model.Role;
+import com.smartsupplypro.inventory.repository.AppUserRepository;
+
+/**
+ * Two application instances on one database, as behind a load balancer: a login stored by
+ * one node is honoured by the other, a logout on either ends it everywhere, and either
+ * node's cleanup removes expired sessions. The security context is written through
+ * {@link SessionAttributeSerializer}'s compact record.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SessionStoreMultiNodeIntegrationTest {
+
+    private static final String DB_URL =
+            "jdbc:h2:mem:sessioncluster;MODE=Oracle;DATABASE_TO_UPPER=true;DB_CLOSE_DELAY=-1";
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    /** Arguments rather than default properties, which the test profile's fixed port would override. */
+    private static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(InventoryServiceApplication.class)
+                .profiles("test")
+                .run(Stream.concat(Stream.of("--server.port=0", "--spring.datasource.url=" + DB_URL,
+                        "--spring.jpa.show-sql=false", "--app.health.probe-enabled=false",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql=WARN"), Stream.of(args))
+                        .toArray(String[]::new));
+    }
+
+    @BeforeAll
+    void startNodes() {
+        nodeA = start();
+        // The second node joins the schema the first one created, like a scaled-out replica.
+        nodeB = start("--spring.jpa.hibernate.ddl-auto=none", "--spring.session.jdbc.initialize-schema=never");
+
+        AppUser alice = new AppUser("alice@example.com", "Alice Example");
+        alice.setRole(Role.ADMIN);
+        nodeA.getBean(AppUserRepository.class).save(alice);
+    }
+
+    @AfterAll
+    void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FindByIndexNameSessionRepository<Session> sessions(ConfigurableApplicationContext node) {
+        return node.getBean(FindByIndexNameSessionRepository.class);
+    }
+
+    /** Stores an OIDC login the way the security filter chain does after the Google callback. */
+    private static Session signIn(ConfigurableApplicationContext node, String email) {
+        Instant now = Instant.now();
+        OidcIdToken idToken = new OidcIdToken("id-token-" + email, now, now.plusSeconds(3600),
+                Map.of("sub", email, "email", email, "name", "Alice Example"));
+        DefaultOidcUser user = new DefaultOidcUser(
+                List.of(new OidcUserAuthority(idToken, null), new SimpleGrantedAuthority("ROLE_ADMIN")),
+                idToken, null, "email");
+        OAuth2AuthenticationToken token = new OAuth2AuthenticationToken(user, user.getAuthorities(), "google");
+
+        FindByIndexNameSessionRepository<Session> repository = sessions(node);
+        Session session = repository.createSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(token));
+        repository.save(session);
+        return session;
+    }
+
+    private HttpResponse<String> send(ConfigurableApplicationContext node, String method, String path,
+                                      Session session) throws Exception {
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+        String cookie = Base64.getEncoder().encodeToString(session.getId().getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Cookie", "SESSION=" + cookie)
+                .header("Accept", "application/json")
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void sessionCreatedOnOneNode_isAuthenticatedOnTheOther() throws Exception {
+        Session session = signIn(nodeA, "alice@example.com");
+
+        HttpResponse<String> onB = send(nodeB, "GET", "/api/me", session);
+        HttpResponse<String> onA = send(nodeA, "GET", "/api/me", session);
+
+        assertEquals(200, onB.statusCode(), onB.body());
+        assertTrue(onB.body().contains("\"role\":\"ADMIN\""), onB.body());
+        assertEquals(200, onA.statusCode(), onA.body());
+        assertTrue(sessions(nodeB).findByPrincipalName("alice@example.com").containsKey(session.getId()),
+                "principal index must be readable from every node");
+    }
+
+    @Test
+    void securityContext_isStoredInCompactFormat() {
+        Session session = signIn(nodeA, "alice@example.com");
+
+        byte[] stored = nodeA.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT A.ATTRIBUTE_BYTES FROM SPRING_SESSION_ATTRIBUTES A JOIN SPRING_SESSION S "
+                        + "ON S.PRIMARY_ID = A.SESSION_PRIMARY_ID WHERE S.SESSION_ID = ? AND A.ATTRIBUTE_NAME = ?",
+                byte[].class, session.getId(), HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+
+        assertEquals(0x01, stored[0]);
+    }
+
+    @Test
+    void logoutOnOneNode_endsTheSessionOnTheOther() throws Exception {
+        Session session = signIn(nodeB, "alice@example.com");
+        assertEquals(200, send(nodeA, "GET", "/api/me/authorities", session).statusCode());
+
+        assertEquals(204, send(nodeB, "POST", "/api/auth/logout", session).statusCode());
+
+        assertEquals(401, send(nodeA, "GET", "/api/me/authorities", session).statusCode());
+    }
+
+    @Test
+    void expiredSession_isRemovedByEitherNodesCleanup() {
+        Session session = signIn(nodeA, "alice@example.com");
+        session.setMaxInactiveInterval(Duration.ofSeconds(1));
+        session.setLastAccessedTime(Instant.now().minusSeconds(60));
+        sessions(nodeA).save(session);
+
+        nodeB.getBean(JdbcIndexedSessionRepository.class).cleanUpExpiredSessions();
+
+        JdbcTemplate jdbc = nodeA.getBean(JdbcTemplate.class);
+        assertEquals(0, jdbc.queryForObject(
+                "SELECT COUNT(*) FROM SPRING_SESSION WHERE SESSION_ID = ?", Integer.class, session.getId()));
+        assertEquals(0, jdbc.queryForObject(
+                "SELECT COUNT(*) FROM SPRING_SESSION_ATTRIBUTES WHERE SESSION_PRIMARY_ID NOT IN "
+                        + "(SELECT PRIMARY_ID FROM SPRING_SESSION)", Integer.class));
+    }
+}
@@ -0,0 +1,133 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.smartsupplypro.inventory.dto.AnalyticsBatchRequestDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsBatchResponseDTO;
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
+import com.smartsupplypro.inventory.dto.EmployeeActivityDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
+import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
+import com.smartsupplypro.inventory.dto.WindowDigestRowDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsWidget;
+import com.smartsupplypro.inventory.exception.InvalidRequestException;
+import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+
+/**
+ * Unit tests for widget routing and the digest aggregators of {@link AnalyticsBatchService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsBatchServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    @Mock private StockHistoryRepository stockHistoryRepository;
+    @Mock private StockAnalyticsService stockAnalyticsService;
+    @Mock private EmployeeAnalyticsService employeeAnalyticsService;
+    @Mock private FinancialAnalyticsService financialAnalyticsService;
+    @InjectMocks private AnalyticsBatchService service;
+
+    private static WindowDigestRowDTO digest(String day, String reason, String createdBy,
+                                             long inc, long dec, long count, boolean historyMatch, boolean itemMatch) {
+        return new WindowDigestRowDTO(LocalDate.parse(day), reason, createdBy, inc, dec, count, historyMatch, itemMatch);
+    }
+
+    private static AnalyticsBatchRequestDTO request(String supplierId, String itemName, AnalyticsWidget... widgets) {
+        return new AnalyticsBatchRequestDTO(List.of(widgets), FROM, TO, supplierId, null, itemName, null);
+    }
+
+    @Test
+    void movementWidgets_shareOneDigestScan_withPerWidgetSupplierScope() {
+        when(stockHistoryRepository.getWindowDigest(any(), any(), eq("sup1"))).thenReturn(List.of(
+                digest("2026-02-05", "INITIAL_STOCK", "alice@example.com", 5, 0, 1, true, true),
+                digest("2026-02-05", "SOLD",          "alice@example.com", 0, 1, 1, true, true),
+                // history row recorded under sup1, item since moved to another supplier
+                digest("2026-03-02", "SOLD",          "bob@example.com",   0, 2, 1, true, false),
+                // item now belongs to sup1, history row recorded under another supplier
+                digest("2026-03-03", "MANUAL_UPDATE", "bob@example.com",   3, 0, 2, false, true)));
+        when(employeeAnalyticsService.rollUpDailyActivity(anyList(), eq("monthly")))
+                .thenReturn(List.of(new EmployeeActivityDTO("2026-02", "alice@example.com", "Alice", 2)));
+
+        AnalyticsBatchResponseDTO out = service.execute(request("sup1", null,
+                AnalyticsWidget.MONTHLY_MOVEMENT, AnalyticsWidget.REASON_BREAKDOWN, AnalyticsWidget.EMPLOYEE_ACTIVITY));
+
+        verify(stockHistoryRepository).getWindowDigest(
+                LocalDateTime.of(2026, 2, 1, 0, 0), LocalDateTime.of(2026, 3, 31, 23, 59, 59, 999_999_999), "sup1");
+        verifyNoInteractions(stockAnalyticsService);
+
+        assertEquals(List.of(
+                new MonthlyStockMovementDTO("2026-02", 5, 1),
+                new MonthlyStockMovementDTO("2026-03", 3, 0)),
+                out.results().get(AnalyticsWidget.MONTHLY_MOVEMENT));
+        assertEquals(List.of(
+                new ReasonBreakdownDTO("INITIAL_STOCK", 5, 0),
+                new ReasonBreakdownDTO("SOLD", 0, 3)),
+                out.results().get(AnalyticsWidget.REASON_BREAKDOWN));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DailyEmployeeActivityRowDTO>> daily = ArgumentCaptor.forClass(List.class);
+        verify(employeeAnalyticsService).rollUpDailyActivity(daily.capture(), eq("monthly"));
+        // reasons collapse per creator and day; rows outside the history supplier scope are dropped
+        assertEquals(List.of(
+                new DailyEmployeeActivityRowDTO("alice@example.com", LocalDate.of(2026, 2, 5), 2),
+                new DailyEmployeeActivityRowDTO("bob@example.com", LocalDate.of(2026, 3, 2), 1)),
+                daily.getValue());
+    }
+
+    @Test
+    void singleMovementWidget_usesRegularServiceMethod() {
+        when(stockAnalyticsService.getMonthlyStockMovement(FROM, TO, null)).thenReturn(List.of());
+
+        service.execute(request(" ", null, AnalyticsWidget.MONTHLY_MOVEMENT, AnalyticsWidget.LOW_STOCK_ITEMS));
+
+        verify(stockHistoryRepository, never()).getWindowDigest(any(), any(), any());
+        verify(stockAnalyticsService).getMonthlyStockMovement(FROM, TO, null);
+        verify(stockAnalyticsService).getItemsBelowMinimumStock();
+    }
+
+    @Test
+    void nameFilteredReasonBreakdown_runsItsOwnQuery() {
+        when(stockHistoryRepository.getWindowDigest(any(), any(), any())).thenReturn(List.of());
+
+        service.execute(request(null, "widget", AnalyticsWidget.MONTHLY_MOVEMENT,
+                AnalyticsWidget.REASON_BREAKDOWN, AnalyticsWidget.EMPLOYEE_ACTIVITY));
+
+        verify(stockAnalyticsService).getReasonBreakdown(FROM, TO, null, "widget");
+        verify(stockAnalyticsService, never()).getMonthlyStockMovement(any(), any(), any());
+    }
+
+    @Test
+    void priceTrendWithoutItemId_isRejectedBeforeAnyQuery() {
+        assertThrows(InvalidRequestException.class, () -> service.execute(
+                request(null, null, AnalyticsWidget.STOCK_VALUE, AnalyticsWidget.PRICE_TREND)));
+
+        verifyNoInteractions(stockAnalyticsService, stockHistoryRepository);
+    }
+
+    @Test
+    void invertedWindow_isRejected() {
+        AnalyticsBatchRequestDTO inverted = new AnalyticsBatchRequestDTO(
+                List.of(AnalyticsWidget.STOCK_VALUE), TO, FROM, null, null, null, null);
+
+        assertThrows(InvalidRequestException.class, () -> service.execute(inverted));
+    }
+}
@@ -1,15 +1,14 @@
 package com.smartsupplypro.inventory.service.impl.analytics;
 
-import java.math.BigDecimal;
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,75 +19,23 @@ import org.junit.jupiter.api.Test;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
 
 /**
- * Unit tests for {@link AnalyticsConverterHelper} conversion and validation utilities
- * covering date, timestamp, numeric, and window-defaulting behaviors.
+ * Unit tests for {@link AnalyticsConverterHelper} query-event and validation utilities
+ * covering row pass-through, window defaulting, and string preconditions.
  */
 class AnalyticsConverterHelperTest {
 
     /**
-     * Tests for {@code asLocalDate} and {@code asLocalDateTime} date conversion methods.
+     * Tests for {@code queryRows}.
      */
     @Nested
-    class DateConversion {
+    class QueryRows {
 
         @Test
-        void should_convert_local_date_sql_date_timestamp_and_string_to_local_date() {
-            LocalDate d = LocalDate.parse("2024-02-01");
-            assertEquals(d, AnalyticsConverterHelper.asLocalDate(d));
-            assertEquals(d, AnalyticsConverterHelper.asLocalDate(java.sql.Date.valueOf(d)));
-            assertEquals(d, AnalyticsConverterHelper.asLocalDate(Timestamp.valueOf(LocalDateTime.of(d, LocalTime.NOON))));
-            assertEquals(d, AnalyticsConverterHelper.asLocalDate("2024-02-01 00:00:00.0"));
-        }
-
-        @Test
-        void should_parse_iso_datetime_string_via_to_string_fallback() {
-            Object o = new Object() {
-                @Override public String toString() { return "2024-02-01T10:00:00"; }
-            };
-            assertEquals(LocalDate.parse("2024-02-01"), AnalyticsConverterHelper.asLocalDate(o));
-        }
-
-        @Test
-        void should_throw_for_unsupported_date_type() {
-            IllegalStateException ex = assertThrows(IllegalStateException.class,
-                    () -> AnalyticsConverterHelper.asLocalDate(123));
-            assertNotNull(ex.getMessage());
-        }
-
-        @Test
-        void should_convert_local_date_time_and_timestamp() {
-            LocalDateTime ldt = LocalDateTime.parse("2024-02-01T10:00:00");
-            assertEquals(ldt, AnalyticsConverterHelper.asLocalDateTime(ldt));
-            assertEquals(ldt, AnalyticsConverterHelper.asLocalDateTime(Timestamp.valueOf(ldt)));
-        }
+        void should_return_fetched_rows_in_order_as_unmodifiable_list() {
+            List<String> rows = AnalyticsConverterHelper.queryRows("q", () -> new ArrayList<>(List.of("a", "b")));
 
-        @Test
-        void should_throw_for_unsupported_datetime_type() {
-            IllegalStateException ex = assertThrows(IllegalStateException.class,
-                    () -> AnalyticsConverterHelper.asLocalDateTime("2024-02-01"));
-            assertNotNull(ex.getMessage());
-        }
-    }
-
-    /**
-     * Tests for {@code asNumber}.
-     */
-    @Nested
-    class AsNumber {
-
-        @Test
-        void should_treat_null_as_zero_and_support_number_and_big_decimal() {
-            // null -> BigDecimal.ZERO to simplify aggregation
-            assertEquals(BigDecimal.ZERO, (BigDecimal) AnalyticsConverterHelper.asNumber(null));
-            assertEquals(3L, AnalyticsConverterHelper.asNumber(3L).longValue());
-            assertEquals(5L, AnalyticsConverterHelper.asNumber(new BigDecimal("5")).longValue());
-        }
-
-        @Test
-        void should_throw_for_unsupported_type() {
-            IllegalStateException ex = assertThrows(IllegalStateException.class,
-                    () -> AnalyticsConverterHelper.asNumber("not-a-number"));
-            assertNotNull(ex.getMessage());
+            assertEquals(List.of("a", "b"), rows);
+            assertThrows(UnsupportedOperationException.class, () -> rows.add("c"));
         }
     }
 
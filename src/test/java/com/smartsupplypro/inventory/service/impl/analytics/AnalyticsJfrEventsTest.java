@@ -0,0 +1,113 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartsupplypro.inventory.dto.PriceTrendDTO;
+import com.smartsupplypro.inventory.dto.StockEventRowDTO;
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.observability.jfr.AnalyticsQueryEvent;
+import com.smartsupplypro.inventory.observability.jfr.WacReplayEvent;
+import com.smartsupplypro.inventory.repository.InventoryItemRepository;
+import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.lowstock.LowStockIndex;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Verifies the JFR events emitted by the WAC replay and by {@link AnalyticsConverterHelper#queryRows},
+ * including the service queries routed through it.
+ */
+class AnalyticsJfrEventsTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void wacReplay_andAnalyticsQuery_areRecordedWithTheirFields() throws Exception {
+        StockHistoryRepository repository = mock(StockHistoryRepository.class);
+        when(repository.streamEventsForWAC(any(), any())).thenReturn(List.of(
+                new StockEventRowDTO("i1", "s1", LocalDateTime.of(2024, 1, 10, 9, 0), 10, new BigDecimal("2.00"), StockChangeReason.INITIAL_STOCK),
+                new StockEventRowDTO("i2", "s1", LocalDateTime.of(2024, 2, 10, 9, 0), 5, new BigDecimal("3.00"), StockChangeReason.INITIAL_STOCK),
+                new StockEventRowDTO("i1", "s1", LocalDateTime.of(2024, 2, 11, 9, 0), -4, null, StockChangeReason.SOLD)));
+        FinancialAnalyticsService service = new FinancialAnalyticsService(repository);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(WacReplayEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(AnalyticsQueryEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            service.getFinancialSummaryWAC(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), " ");
+            AnalyticsConverterHelper.queryRows("getTotalStockBySupplier", () -> List.of("a", "b"));
+
+            recording.stop();
+            Path file = tmp.resolve("analytics.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        RecordedEvent replay = only(events, WacReplayEvent.NAME);
+        assertEquals(3, replay.getInt("events"));
+        assertEquals(2, replay.getInt("items"));
+        assertEquals("2024-02-01", replay.getString("from"));
+        assertEquals("2024-02-29", replay.getString("to"));
+        assertNull(replay.getString("supplierId"));
+        for (String phase : List.of("loadTime", "openingTime", "periodTime", "endingTime")) {
+            assertFalse(replay.getDuration(phase).isNegative(), phase);
+        }
+
+        RecordedEvent query = only(events, AnalyticsQueryEvent.NAME);
+        assertEquals("getTotalStockBySupplier", query.getString("query"));
+        assertEquals(2, query.getInt("rows"));
+    }
+
+    @Test
+    void priceTrend_isRecordedAsAnAnalyticsQuery() throws Exception {
+        StockHistoryRepository repository = mock(StockHistoryRepository.class);
+        when(repository.getItemPriceTrend(any(), any(), any(), any())).thenReturn(List.of(
+                new PriceTrendDTO("2024-02-01", new BigDecimal("4.25"))));
+        StockAnalyticsService service = new StockAnalyticsService(repository,
+                mock(InventoryItemRepository.class), mock(LowStockIndex.class));
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(AnalyticsQueryEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            service.getPriceTrend("i1", null, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+
+            recording.stop();
+            Path file = tmp.resolve("price-trend.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        RecordedEvent query = only(events, AnalyticsQueryEvent.NAME);
+        assertEquals("getItemPriceTrend", query.getString("query"));
+        assertEquals(1, query.getInt("rows"));
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,68 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.smartsupplypro.inventory.dto.AnalyticsJobDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsJobRequestDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsJobStatus;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+
+/**
+ * Runs report jobs end to end on the job executor against the test schema: the job and
+ * its result are persisted, and the stored result downloads as the endpoint's JSON shape.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analyticsjobs;MODE=Oracle;DATABASE_TO_UPPER=true;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "app.health.probe-enabled=false"
+})
+@ActiveProfiles("test")
+class AnalyticsJobIntegrationTest {
+
+    @Autowired
+    private AnalyticsJobService jobService;
+
+    private AnalyticsJobDTO awaitFinished(String id) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            AnalyticsJobDTO job = jobService.find(id);
+            if (!job.status().isActive()) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("analytics job " + id + " did not finish");
+    }
+
+    @Test
+    void financialSummaryJob_persistsResult_forRepeatedDownload() throws Exception {
+        AnalyticsJobDTO submitted = jobService.submit(new AnalyticsJobRequestDTO(AnalyticsJobType.FINANCIAL_SUMMARY,
+                LocalDate.of(2021, 1, 1), LocalDate.of(2025, 12, 31), null, null), "admin@example.com");
+
+        AnalyticsJobDTO job = awaitFinished(submitted.id());
+
+        assertEquals(AnalyticsJobStatus.SUCCEEDED, job.status(), job.error());
+        assertEquals(100, job.progress());
+        String result = jobService.result(job.id());
+        assertTrue(result.contains("\"fromDate\":\"2021-01-01\""), result);
+        assertEquals(result, jobService.result(job.id()));
+    }
+
+    @Test
+    void employeeChangesJob_storesAllRowsAsOneList() throws Exception {
+        AnalyticsJobDTO submitted = jobService.submit(new AnalyticsJobRequestDTO(AnalyticsJobType.EMPLOYEE_CHANGES,
+                LocalDate.of(2021, 1, 1), LocalDate.of(2025, 12, 31), null, "nobody@example.com"), "admin@example.com");
+
+        AnalyticsJobDTO job = awaitFinished(submitted.id());
+
+        assertEquals(AnalyticsJobStatus.SUCCEEDED, job.status(), job.error());
+        assertEquals(0, job.resultRows());
+        assertEquals("[]", jobService.result(job.id()));
+    }
+}
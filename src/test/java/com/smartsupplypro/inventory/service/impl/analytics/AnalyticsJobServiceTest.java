@@ -0,0 +1,260 @@
+package com.smartsupplypro.inventory.service.impl.analytics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.AnalyticsJobDTO;
+import com.smartsupplypro.inventory.dto.AnalyticsJobRequestDTO;
+import com.smartsupplypro.inventory.dto.FinancialSummaryDTO;
+import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
+import com.smartsupplypro.inventory.enums.AnalyticsJobStatus;
+import com.smartsupplypro.inventory.enums.AnalyticsJobType;
+import com.smartsupplypro.inventory.exception.ServiceUnavailableException;
+import com.smartsupplypro.inventory.model.AnalyticsJob;
+import com.smartsupplypro.inventory.model.AnalyticsJobResult;
+import com.smartsupplypro.inventory.repository.AnalyticsJobRepository;
+import com.smartsupplypro.inventory.repository.AnalyticsJobResultRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for {@link AnalyticsJobService}: job lifecycle, request deduplication,
+ * paged progress, queue rejection, expiry and job leases, against an in-memory job store.
+ */
+class AnalyticsJobServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2021, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    private final AnalyticsJobRepository jobs = mock(AnalyticsJobRepository.class);
+    private final AnalyticsJobResultRepository results = mock(AnalyticsJobResultRepository.class);
+    private final FinancialAnalyticsService financial = mock(FinancialAnalyticsService.class);
+    private final StockAnalyticsService stock = mock(StockAnalyticsService.class);
+    private final EmployeeAnalyticsService employee = mock(EmployeeAnalyticsService.class);
+    private final Map<String, AnalyticsJob> store = new HashMap<>();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final AppProperties props = new AppProperties();
+
+    @BeforeEach
+    void setUp() {
+        when(jobs.save(any())).thenAnswer(inv -> {
+            AnalyticsJob job = inv.getArgument(0);
+            store.put(job.getId(), job);
+            return job;
+        });
+        when(jobs.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(store.get(inv.<String>getArgument(0))));
+        doAnswer(inv -> store.remove(inv.<String>getArgument(0))).when(jobs).deleteById(anyString());
+    }
+
+    private AnalyticsJobService service(Executor executor) {
+        return new AnalyticsJobService(jobs, results, financial, stock, employee, executor,
+                JsonMapper.builder().build(), props, CLOCK);
+    }
+
+    private static AnalyticsJobRequestDTO request(AnalyticsJobType type, String supplierId, String createdBy) {
+        return new AnalyticsJobRequestDTO(type, FROM, TO, supplierId, createdBy);
+    }
+
+    private static StockUpdateResultDTO row(int n) {
+        return new StockUpdateResultDTO("item" + n, "sup", n, "SOLD", "alice@example.com",
+                LocalDateTime.of(2024, 1, n, 12, 0));
+    }
+
+    @Test
+    void should_storeResultAndReportDone_when_jobSucceeds() {
+        when(financial.getFinancialSummaryWAC(FROM, TO, "sup1"))
+                .thenReturn(FinancialSummaryDTO.builder().method("WAC").fromDate("2021-01-01").toDate("2025-12-31").build());
+        AnalyticsJobService service = service(Runnable::run);
+
+        AnalyticsJobDTO job = service.submit(request(AnalyticsJobType.FINANCIAL_SUMMARY, " sup1 ", null), "alice");
+
+        AnalyticsJobDTO status = service.find(job.id());
+        assertEquals(AnalyticsJobStatus.SUCCEEDED, status.status());
+        assertEquals(100, status.progress());
+        assertEquals("sup1", status.supplierId());
+        assertEquals(LocalDateTime.now(CLOCK).plusHours(24), status.expiresAt());
+
+        ArgumentCaptor<AnalyticsJobResult> stored = ArgumentCaptor.forClass(AnalyticsJobResult.class);
+        verify(results).save(stored.capture());
+        assertEquals(job.id(), stored.getValue().getJobId());
+        assertTrue(stored.getValue().getPayload().contains("\"method\":\"WAC\""));
+
+        when(results.findById(job.id())).thenReturn(Optional.of(stored.getValue()));
+        assertEquals(stored.getValue().getPayload(), service.result(job.id()));
+    }
+
+    @Test
+    void should_joinQueuedJob_when_identicalRequestArrives() {
+        AnalyticsJobService service = service(queued::add);
+
+        AnalyticsJobDTO first = service.submit(request(AnalyticsJobType.EMPLOYEE_CHANGES, "sup1", "Alice@Example.com"), "a");
+        AnalyticsJobDTO second = service.submit(request(AnalyticsJobType.EMPLOYEE_CHANGES, " sup1", "alice@example.com"), "b");
+        AnalyticsJobDTO otherWindow = service.submit(
+                new AnalyticsJobRequestDTO(AnalyticsJobType.EMPLOYEE_CHANGES, FROM, TO.minusDays(1), "sup1", null), "c");
+
+        assertEquals(first.id(), second.id());
+        assertNotEquals(first.id(), otherWindow.id());
+        assertEquals(2, queued.size());
+        assertEquals(AnalyticsJobStatus.QUEUED, second.status());
+    }
+
+    @Test
+    void should_startNewJob_when_identicalJobAlreadyFinished() {
+        when(stock.getTotalStockValueOverTime(FROM, TO, null)).thenReturn(List.of());
+        AnalyticsJobService service = service(queued::add);
+
+        AnalyticsJobDTO first = service.submit(request(AnalyticsJobType.STOCK_VALUE, null, null), "a");
+        queued.remove(0).run();
+        AnalyticsJobDTO second = service.submit(request(AnalyticsJobType.STOCK_VALUE, null, null), "a");
+
+        assertNotEquals(first.id(), second.id());
+        assertEquals(0, service.find(first.id()).resultRows());
+    }
+
+    @Test
+    void should_readEmployeeChangesPageByPage_when_reportSpansSeveralPages() {
+        props.getAnalytics().getJobs().setPageSize(2);
+        List<StockUpdateResultDTO> rows = List.of(row(1), row(2), row(3), row(4), row(5));
+        when(employee.scanEmployeeChanges(eq(null), eq(FROM), eq(TO), eq(null), any())).thenAnswer(inv -> {
+            Pageable pageable = inv.getArgument(4);
+            int from = (int) pageable.getOffset();
+            return new PageImpl<>(rows.subList(from, Math.min(from + 2, rows.size())), pageable, rows.size());
+        });
+        AnalyticsJobService service = service(Runnable::run);
+
+        AnalyticsJobDTO job = service.find(service.submit(request(AnalyticsJobType.EMPLOYEE_CHANGES, null, null), "a").id());
+
+        assertEquals(AnalyticsJobStatus.SUCCEEDED, job.status());
+        assertEquals(3, job.stepsTotal());
+        assertEquals(3, job.stepsDone());
+        assertEquals(5, job.resultRows());
+        verify(employee, times(3)).scanEmployeeChanges(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void should_failJob_when_reportExceedsRowLimit() {
+        props.getAnalytics().getJobs().setMaxResultRows(3);
+        when(employee.scanEmployeeChanges(any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(row(1)), PageRequest.of(0, 1), 10));
+        AnalyticsJobService service = service(Runnable::run);
+
+        AnalyticsJobDTO job = service.find(service.submit(request(AnalyticsJobType.EMPLOYEE_CHANGES, null, null), "a").id());
+
+        assertEquals(AnalyticsJobStatus.FAILED, job.status());
+        assertTrue(job.error().contains("narrow the window"), job.error());
+        assertThrows(IllegalStateException.class, () -> service.result(job.id()));
+    }
+
+    @Test
+    void should_retryQuery_when_analyticsPartitionIsSaturated() {
+        when(financial.getFinancialSummaryWAC(FROM, TO, null))
+                .thenThrow(new ServiceUnavailableException("busy", Duration.ZERO))
+                .thenReturn(FinancialSummaryDTO.builder().method("WAC").build());
+        AnalyticsJobService service = service(Runnable::run);
+
+        AnalyticsJobDTO job = service.find(service.submit(request(AnalyticsJobType.FINANCIAL_SUMMARY, null, null), "a").id());
+
+        assertEquals(AnalyticsJobStatus.SUCCEEDED, job.status());
+        verify(financial, times(2)).getFinancialSummaryWAC(FROM, TO, null);
+    }
+
+    @Test
+    void should_rejectWith503_when_jobQueueIsFull() {
+        AnalyticsJobService service = service(task -> { throw new RejectedExecutionException("full"); });
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> service.submit(request(AnalyticsJobType.STOCK_VALUE, null, null), "a"));
+
+        assertEquals(Duration.ofSeconds(30), ex.getRetryAfter());
+        assertTrue(store.isEmpty(), "rejected job must not stay queued");
+    }
+
+    @Test
+    void should_hideJob_when_expired() {
+        AnalyticsJobService service = service(queued::add);
+        AnalyticsJobDTO job = service.submit(request(AnalyticsJobType.STOCK_VALUE, null, null), "a");
+
+        store.get(job.id()).setExpiresAt(LocalDateTime.now(CLOCK).minusSeconds(1));
+
+        assertThrows(NoSuchElementException.class, () -> service.find(job.id()));
+        assertThrows(NoSuchElementException.class, () -> service.result(job.id()));
+    }
+
+    @Test
+    void should_purgeExpiredJobs_when_newJobIsSubmitted() {
+        service(queued::add).submit(request(AnalyticsJobType.STOCK_VALUE, null, null), "a");
+
+        verify(results).deleteExpired(LocalDateTime.now(CLOCK));
+        verify(jobs).deleteExpired(LocalDateTime.now(CLOCK));
+    }
+
+    @Test
+    void should_recordOwnerAndLease_when_jobIsSubmitted() {
+        props.getAnalytics().getJobs().setInstanceId("machine-1");
+        AnalyticsJobDTO job = service(queued::add).submit(request(AnalyticsJobType.STOCK_VALUE, null, null), "a");
+
+        AnalyticsJob stored = store.get(job.id());
+        assertEquals("machine-1", stored.getOwnerId());
+        assertEquals(LocalDateTime.now(CLOCK).plusMinutes(2), stored.getLeaseUntil());
+    }
+
+    @Test
+    void should_failOnlyOrphanedJobs_when_started() {
+        props.getAnalytics().getJobs().setInstanceId("machine-1");
+
+        service(queued::add).failInterruptedJobs();
+
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        verify(jobs).failOrphaned(AnalyticsJobService.INTERRUPTED, "machine-1", now, now);
+    }
+
+    @Test
+    void should_renewLeasesOfActiveJobs_and_sweepOrphans_onHeartbeat() {
+        props.getAnalytics().getJobs().setInstanceId("machine-1");
+        AnalyticsJobService service = service(queued::add);
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+
+        service.renewLeases();
+        verify(jobs, never()).renewLeases(anyString(), any());
+
+        service.submit(request(AnalyticsJobType.STOCK_VALUE, null, null), "a");
+        service.renewLeases();
+
+        verify(jobs).renewLeases("machine-1", now.plusMinutes(2));
+        verify(jobs, times(2)).failOrphaned(AnalyticsJobService.INTERRUPTED, "machine-1", now, now);
+    }
+}
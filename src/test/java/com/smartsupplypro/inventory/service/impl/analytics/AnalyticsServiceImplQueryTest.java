@@ -1,13 +1,13 @@
 package com.smartsupplypro.inventory.service.impl.analytics;
 
 import java.math.BigDecimal;
-import java.sql.Date;
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -33,16 +34,18 @@ import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
 import com.smartsupplypro.inventory.dto.StockValueOverTimeDTO;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
 import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.lowstock.LowStockIndex;
 
 /**
- * Unit tests for {@link StockAnalyticsService} query methods — DTO mapping, repository delegation,
- * mixed numeric type coercion, and blank-to-null normalization.
+ * Unit tests for {@link StockAnalyticsService} query methods — repository delegation,
+ * low-stock index fallback, and blank-to-null normalization.
  */
 @ExtendWith(MockitoExtension.class)
 class AnalyticsServiceImplQueryTest {
 
     @Mock private StockHistoryRepository stockHistoryRepository;
     @Mock private InventoryItemRepository inventoryItemRepository;
+    @Mock private LowStockIndex lowStockIndex;
     @InjectMocks private StockAnalyticsService service;
 
     /**
@@ -52,11 +55,11 @@ class AnalyticsServiceImplQueryTest {
     class AggregatedStockQueries {
 
         @Test
-        void should_map_date_and_numeric_columns_to_dto() {
+        void should_return_daily_valuation_rows_from_repository() {
             when(stockHistoryRepository.getDailyStockValuation(any(), any(), isNull()))
                     .thenReturn(Arrays.asList(
-                            new Object[]{Date.valueOf("2024-02-01"), new BigDecimal("10.50")},
-                            new Object[]{Date.valueOf("2024-02-02"), new BigDecimal("12.00")}
+                            new StockValueOverTimeDTO(LocalDate.parse("2024-02-01"), 10.50),
+                            new StockValueOverTimeDTO(LocalDate.parse("2024-02-02"), 12.00)
                     ));
 
             List<StockValueOverTimeDTO> out = service.getTotalStockValueOverTime(
@@ -68,11 +71,11 @@ class AnalyticsServiceImplQueryTest {
         }
 
         @Test
-        void should_map_supplier_name_and_convert_mixed_numeric_types_to_long() {
+        void should_return_supplier_totals_from_repository() {
             when(stockHistoryRepository.getTotalStockBySupplier())
                     .thenReturn(Arrays.asList(
-                            new Object[]{"Acme",   new BigDecimal("42")},
-                            new Object[]{"Globex", 7}
+                            new StockPerSupplierDTO("Acme",   42),
+                            new StockPerSupplierDTO("Globex", 7)
                     ));
 
             List<StockPerSupplierDTO> out = service.getTotalStockPerSupplier();
@@ -90,11 +93,11 @@ class AnalyticsServiceImplQueryTest {
     class SupplierScopedQueries {
 
         @Test
-        void should_map_item_update_frequency_with_mixed_numeric_types() {
+        void should_return_item_update_frequency_from_repository() {
             when(stockHistoryRepository.getUpdateCountByItem("S1"))
                     .thenReturn(Arrays.asList(
-                            new Object[]{"ItemA", new BigDecimal("5")},
-                            new Object[]{"ItemB", 2}
+                            new ItemUpdateFrequencyDTO("ItemA", 5),
+                            new ItemUpdateFrequencyDTO("ItemB", 2)
                     ));
 
             List<ItemUpdateFrequencyDTO> out = service.getItemUpdateFrequency("S1");
@@ -105,11 +108,11 @@ class AnalyticsServiceImplQueryTest {
         }
 
         @Test
-        void should_unpack_low_stock_items_with_mixed_numeric_types() {
+        void should_return_low_stock_items_for_supplier() {
             when(inventoryItemRepository.findItemsBelowMinimumStockFiltered("S1"))
                     .thenReturn(Arrays.asList(
-                            new Object[]{"ItemA", 3,                    5},
-                            new Object[]{"ItemB", new BigDecimal("1"),  new BigDecimal("2")}
+                            new LowStockItemDTO("ItemA", 3, 5),
+                            new LowStockItemDTO("ItemB", 1, 2)
                     ));
 
             List<LowStockItemDTO> out = service.getItemsBelowMinimumStock("S1");
@@ -121,11 +124,11 @@ class AnalyticsServiceImplQueryTest {
         }
 
         @Test
-        void should_unpack_low_stock_items_for_all_suppliers_when_unfiltered() {
+        void should_return_low_stock_items_for_all_suppliers_when_unfiltered() {
             when(inventoryItemRepository.findItemsBelowMinimumStockFiltered(null))
                     .thenReturn(Arrays.asList(
-                            new Object[]{"ItemA", 1,                    5},
-                            new Object[]{"ItemB", new BigDecimal("2"),  new BigDecimal("9")}
+                            new LowStockItemDTO("ItemA", 1, 5),
+                            new LowStockItemDTO("ItemB", 2, 9)
                     ));
 
             List<LowStockItemDTO> out = service.getItemsBelowMinimumStock();
@@ -135,6 +138,30 @@ class AnalyticsServiceImplQueryTest {
             assertEquals(1, out.get(0).quantity());
             assertEquals(5, out.get(0).minimumQuantity());
         }
+
+        @Test
+        void should_serve_low_stock_from_index_without_sql_once_ready() {
+            List<LowStockItemDTO> top = List.of(new LowStockItemDTO("ItemA", 1, 5));
+            when(lowStockIndex.top("S1", 3)).thenReturn(Optional.of(top));
+            when(lowStockIndex.count(null)).thenReturn(OptionalLong.of(7L));
+
+            assertEquals(top, service.getTopLowStockItems("S1", 3));
+            assertEquals(7L, service.lowStockCount());
+            verifyNoInteractions(inventoryItemRepository);
+        }
+
+        @Test
+        void should_limit_sql_fallback_and_count_against_minimum_quantity_while_index_not_ready() {
+            when(inventoryItemRepository.findItemsBelowMinimumStockFiltered(null))
+                    .thenReturn(Arrays.asList(
+                            new LowStockItemDTO("ItemA", 1, 5),
+                            new LowStockItemDTO("ItemB", 2, 9)
+                    ));
+            when(inventoryItemRepository.countBelowMinimumStock()).thenReturn(2L);
+
+            assertEquals(1, service.getTopLowStockItems(" ", 1).size());
+            assertEquals(2L, service.lowStockCount());
+        }
     }
 
     /**
@@ -144,11 +171,11 @@ class AnalyticsServiceImplQueryTest {
     class FilteredStockUpdates {
 
         @Test
-        void should_map_all_result_row_fields_to_dto() {
-            Timestamp ts = Timestamp.valueOf(LocalDateTime.of(2024, 2, 10, 12, 0));
+        void should_return_all_result_row_fields() {
+            LocalDateTime ts = LocalDateTime.of(2024, 2, 10, 12, 0);
             when(stockHistoryRepository.searchStockUpdates(any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(Collections.singletonList(
-                            new Object[]{"ItemA", "SuppA", 5, "SOLD", "alice", ts}
+                            new StockUpdateResultDTO("ItemA", "SuppA", 5, "SOLD", "alice", ts)
                     ));
 
             StockUpdateFilterDTO filter = new StockUpdateFilterDTO();
@@ -166,7 +193,7 @@ class AnalyticsServiceImplQueryTest {
             assertEquals(5, r.change());
             assertEquals("SOLD", r.reason());
             assertEquals("alice", r.createdBy());
-            assertEquals(ts.toLocalDateTime(), r.timestamp());
+            assertEquals(ts, r.timestamp());
         }
 
         @Test
@@ -197,11 +224,11 @@ class AnalyticsServiceImplQueryTest {
     class TimeSeriesQueries {
 
         @Test
-        void should_map_month_and_convert_stock_in_and_out_to_long() {
+        void should_return_monthly_movement_rows_from_repository() {
             when(stockHistoryRepository.getMonthlyStockMovementBySupplier(any(), any(), isNull()))
                     .thenReturn(Arrays.asList(
-                            new Object[]{"2024-02", new BigDecimal("5"), 2},
-                            new Object[]{"2024-03", 7,                   new BigDecimal("4")}
+                            new MonthlyStockMovementDTO("2024-02", 5, 2),
+                            new MonthlyStockMovementDTO("2024-03", 7, 4)
                     ));
 
             List<MonthlyStockMovementDTO> out = service.getMonthlyStockMovement(
@@ -229,5 +256,14 @@ class AnalyticsServiceImplQueryTest {
             verify(stockHistoryRepository).getItemPriceTrend(eq("I1"), eq("S1"),
                     any(LocalDateTime.class), any(LocalDateTime.class));
         }
+
+        @Test
+        void should_query_price_trend_with_null_supplier_when_blank() {
+            service.getPriceTrend("I1", "  ", LocalDate.parse("2024-02-01"), LocalDate.parse("2024-02-03"));
+
+            // same query as supplierId=null, so sharing its cache entry is correct
+            verify(stockHistoryRepository).getItemPriceTrend(eq("I1"), isNull(),
+                    any(LocalDateTime.class), any(LocalDateTime.class));
+        }
     }
 }
@@ -16,6 +16,7 @@ import com.smartsupplypro.inventory.dto.StockUpdateFilterDTO;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
 import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.lowstock.LowStockIndex;
 
 /**
  * Unit tests for {@link StockAnalyticsService} input validation —
@@ -26,6 +27,7 @@ class AnalyticsServiceImplValidationTest {
 
     @Mock private StockHistoryRepository stockHistoryRepository;
     @Mock private InventoryItemRepository inventoryItemRepository;
+    @Mock private LowStockIndex lowStockIndex;
     @InjectMocks private StockAnalyticsService service;
 
     /**
@@ -19,9 +19,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
 import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.lowstock.LowStockIndex;
 
 /**
  * Unit tests for {@link StockAnalyticsService} date-window defaulting and boundary validation
@@ -32,6 +34,7 @@ class AnalyticsServiceImplWindowTest {
 
     @Mock private StockHistoryRepository stockHistoryRepository;
     @Mock private InventoryItemRepository inventoryItemRepository;
+    @Mock private LowStockIndex lowStockIndex;
     @InjectMocks private StockAnalyticsService service;
 
     /**
@@ -43,7 +46,7 @@ class AnalyticsServiceImplWindowTest {
         @Test
         void should_apply_default_date_window_when_both_dates_are_null() {
             // Repository call with null supplier to verify date defaulting
-            Object[] r = {"2024-02", 0L, 0L};
+            MonthlyStockMovementDTO r = new MonthlyStockMovementDTO("2024-02", 0L, 0L);
             when(stockHistoryRepository.getMonthlyStockMovementBySupplier(any(), any(), isNull()))
                     .thenReturn(java.util.Collections.singletonList(r));
 
@@ -1,6 +1,5 @@
 package com.smartsupplypro.inventory.service.impl.analytics;
 
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Page;
 
+import com.smartsupplypro.inventory.dto.DailyEmployeeActivityRowDTO;
 import com.smartsupplypro.inventory.dto.EmployeeActivityDTO;
 import com.smartsupplypro.inventory.dto.StockUpdateResultDTO;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
@@ -27,7 +27,7 @@ import com.smartsupplypro.inventory.repository.StockHistoryRepository;
 
 /**
  * Unit tests for granularity rollups, display-name resolution, and the
- * paginated projection mapping.
+ * paginated change list.
  */
 @ExtendWith(MockitoExtension.class)
 class EmployeeAnalyticsServiceTest {
@@ -36,8 +36,8 @@ class EmployeeAnalyticsServiceTest {
     @Mock private AppUserRepository appUserRepository;
     @InjectMocks private EmployeeAnalyticsService service;
 
-    private static Object[] row(String createdBy, String day, long count) {
-        return new Object[] { createdBy, day, count };
+    private static DailyEmployeeActivityRowDTO row(String createdBy, String day, long count) {
+        return new DailyEmployeeActivityRowDTO(createdBy, LocalDate.parse(day), count);
     }
 
     private static AppUser user(String email, String name) {
@@ -101,7 +101,7 @@ class EmployeeAnalyticsServiceTest {
     @Test
     void displayNameLookup_toleratesNullUserName() {
         when(stockHistoryRepository.getDailyEmployeeActivity(any(), any(), any()))
-                .thenReturn(List.<Object[]>of(row("ghost@example.com", "2026-02-01", 1)));
+                .thenReturn(List.of(row("ghost@example.com", "2026-02-01", 1)));
         when(appUserRepository.findAll()).thenReturn(List.of(user("ghost@example.com", null)));
 
         List<EmployeeActivityDTO> out = service.getEmployeeActivity(
@@ -117,13 +117,12 @@ class EmployeeAnalyticsServiceTest {
     }
 
     @Test
-    void getEmployeeChanges_mapsProjectionRows() {
-        Object[] r = new Object[] {
+    void getEmployeeChanges_returnsRepositoryPage() {
+        StockUpdateResultDTO r = new StockUpdateResultDTO(
                 "Item A", "Supplier One", -3, "SOLD", "jonas.weber@example.com",
-                Timestamp.valueOf(LocalDateTime.of(2026, 2, 3, 9, 0))
-        };
+                LocalDateTime.of(2026, 2, 3, 9, 0));
         when(stockHistoryRepository.findEmployeeChanges(any(), any(), any(), any(), any()))
-                .thenReturn(new PageImpl<>(List.<Object[]>of(r), PageRequest.of(0, 25), 1));
+                .thenReturn(new PageImpl<>(List.of(r), PageRequest.of(0, 25), 1));
 
         Page<StockUpdateResultDTO> out = service.getEmployeeChanges(
                 "jonas.weber@example.com", LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28),
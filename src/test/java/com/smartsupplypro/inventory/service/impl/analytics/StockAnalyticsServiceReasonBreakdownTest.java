@@ -1,6 +1,5 @@
 package com.smartsupplypro.inventory.service.impl.analytics;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -18,21 +17,23 @@ import com.smartsupplypro.inventory.dto.ReasonBreakdownDTO;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
 import com.smartsupplypro.inventory.repository.StockHistoryRepository;
+import com.smartsupplypro.inventory.service.impl.analytics.lowstock.LowStockIndex;
 
 /**
- * Unit test for the reason-breakdown projection mapping and window validation.
+ * Unit test for the reason-breakdown delegation and window validation.
  */
 @ExtendWith(MockitoExtension.class)
 class StockAnalyticsServiceReasonBreakdownTest {
 
     @Mock private StockHistoryRepository stockHistoryRepository;
     @Mock private InventoryItemRepository inventoryItemRepository;
+    @Mock private LowStockIndex lowStockIndex;
     @InjectMocks private StockAnalyticsService service;
 
     @Test
-    void mapsProjectionRows_toDTO() {
+    void returnsRepositoryRows() {
         when(stockHistoryRepository.getReasonBreakdown(any(), any(), any(), any()))
-                .thenReturn(List.<Object[]>of(new Object[] { "SOLD", BigDecimal.ZERO, BigDecimal.valueOf(7) }));
+                .thenReturn(List.of(new ReasonBreakdownDTO("SOLD", 0, 7)));
 
         List<ReasonBreakdownDTO> out = service.getReasonBreakdown(
                 LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28), null, null);
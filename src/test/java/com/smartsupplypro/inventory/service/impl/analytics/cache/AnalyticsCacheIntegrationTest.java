@@ -0,0 +1,124 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.smartsupplypro.inventory.dto.ItemUpdateFrequencyDTO;
+import com.smartsupplypro.inventory.dto.MonthlyStockMovementDTO;
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.service.InventoryItemService;
+import com.smartsupplypro.inventory.service.impl.analytics.StockAnalyticsService;
+import com.smartsupplypro.inventory.testdata.SyntheticDataGenerator;
+import com.smartsupplypro.inventory.testdata.SyntheticDataLoader;
+
+/**
+ * Runs the analytics cache end to end with {@code app.analytics.cache.enabled=true}: the
+ * {@code @Cacheable} proxies store entries under {@link AnalyticsCacheKey}s from the
+ * normalising key generator, a repeated call is a hit, and the after-commit listeners of
+ * {@link AnalyticsCacheInvalidator} evict what a stock movement or an item rename changed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analyticscache;MODE=Oracle;DATABASE_TO_UPPER=true;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "app.health.probe-enabled=false",
+        "app.analytics.cache.enabled=true"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyticsCacheIntegrationTest {
+
+    private static final SyntheticDataGenerator.Volume VOLUME = new SyntheticDataGenerator.Volume(
+            3, 30, 2, 200, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 6, 30), 11);
+    private static final String ITEM = "syn-item-0000003";
+    private static final LocalDate PAST_FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate PAST_TO = LocalDate.of(2026, 1, 31);
+
+    @Autowired
+    private StockAnalyticsService analytics;
+
+    @Autowired
+    private InventoryItemService items;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private String supplierId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        SyntheticDataLoader.load(dataSource, VOLUME, SyntheticDataLoader.DEFAULT_BATCH_SIZE, true);
+        supplierId = items.getById(ITEM).orElseThrow().getSupplierId();
+    }
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(AnalyticsCaches.NAME).clear();
+    }
+
+    private Set<Object> cachedKeys() {
+        Cache<?, ?> nativeCache = (Cache<?, ?>) cacheManager.getCache(AnalyticsCaches.NAME).getNativeCache();
+        return new HashSet<>(nativeCache.asMap().keySet());
+    }
+
+    @Test
+    void repeatedCall_isAHit_underTheNormalisedKey() {
+        List<ItemUpdateFrequencyDTO> first = analytics.getItemUpdateFrequency(supplierId);
+        // the key generator trims the supplier, so the padded filter hits the same entry
+        List<ItemUpdateFrequencyDTO> second = analytics.getItemUpdateFrequency("  " + supplierId + " ");
+
+        assertSame(first, second);
+        Set<Object> keys = cachedKeys();
+        assertEquals(1, keys.size());
+        AnalyticsCacheKey key = (AnalyticsCacheKey) keys.iterator().next();
+        assertTrue(key.query().endsWith("getItemUpdateFrequency"), key.query());
+        assertEquals(supplierId, key.supplierId());
+    }
+
+    @Test
+    void committedMovement_evictsOpenWindows_andKeepsFullyPastOnes() {
+        LocalDate today = LocalDate.now();
+        List<MonthlyStockMovementDTO> open = analytics.getMonthlyStockMovement(today.minusDays(30), today, supplierId);
+        List<MonthlyStockMovementDTO> past = analytics.getMonthlyStockMovement(PAST_FROM, PAST_TO, supplierId);
+        assertSame(open, analytics.getMonthlyStockMovement(today.minusDays(30), today, supplierId));
+
+        items.adjustQuantity(ITEM, 4, StockChangeReason.MANUAL_UPDATE);
+
+        assertNotSame(open, analytics.getMonthlyStockMovement(today.minusDays(30), today, supplierId));
+        assertSame(past, analytics.getMonthlyStockMovement(PAST_FROM, PAST_TO, supplierId));
+    }
+
+    @Test
+    void committedRename_evictsResultsListingTheItem() {
+        // a movement guarantees the item appears in its supplier's update frequency
+        items.adjustQuantity(ITEM, 1, StockChangeReason.MANUAL_UPDATE);
+        List<ItemUpdateFrequencyDTO> before = analytics.getItemUpdateFrequency(supplierId);
+        assertSame(before, analytics.getItemUpdateFrequency(supplierId));
+
+        items.renameItem(ITEM, "Cache Probe Renamed");
+
+        List<ItemUpdateFrequencyDTO> after = analytics.getItemUpdateFrequency(supplierId);
+        assertNotSame(before, after);
+        assertTrue(after.stream().anyMatch(f -> f.itemName().equals("Cache Probe Renamed")), after::toString);
+    }
+}
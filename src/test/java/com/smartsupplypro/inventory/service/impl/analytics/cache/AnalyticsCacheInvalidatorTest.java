@@ -0,0 +1,93 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent.Snapshot;
+import com.smartsupplypro.inventory.event.StockMovementRecordedEvent;
+
+/**
+ * Unit tests for {@link AnalyticsCacheInvalidator} selective eviction on movements and item edits.
+ */
+class AnalyticsCacheInvalidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private static final AnalyticsCacheKey CURRENT_S1 =
+            new AnalyticsCacheKey("q", "S1", null, TODAY.minusDays(30), TODAY, List.of());
+    private static final AnalyticsCacheKey CURRENT_S2 =
+            new AnalyticsCacheKey("q", "S2", null, TODAY.minusDays(30), TODAY, List.of());
+    private static final AnalyticsCacheKey PAST_S1 =
+            new AnalyticsCacheKey("q", "S1", null, TODAY.minusDays(60), TODAY.minusDays(31), List.of());
+    private static final AnalyticsCacheKey SNAPSHOT_ALL =
+            new AnalyticsCacheKey("count", null, null, null, null, List.of());
+
+    private Cache cache;
+    private AnalyticsCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache(AnalyticsCaches.NAME, Caffeine.newBuilder().build());
+        cache = manager.getCache(AnalyticsCaches.NAME);
+        invalidator = new AnalyticsCacheInvalidator(manager);
+
+        cache.put(CURRENT_S1, "a");
+        cache.put(CURRENT_S2, "b");
+        cache.put(PAST_S1, "c");
+        cache.put(SNAPSHOT_ALL, 42L);
+    }
+
+    private static StockMovementRecordedEvent movement(String supplierId) {
+        return new StockMovementRecordedEvent("item-1", supplierId, StockChangeReason.SOLD, -1, null,
+                LocalDateTime.now());
+    }
+
+    @Test
+    void should_evict_only_entries_the_movement_can_affect() {
+        invalidator.onStockMovement(movement("S1"));
+
+        assertNull(cache.get(CURRENT_S1));
+        assertNull(cache.get(SNAPSHOT_ALL));
+        assertNotNull(cache.get(CURRENT_S2));
+        assertNotNull(cache.get(PAST_S1));
+    }
+
+    @Test
+    void should_evict_every_window_when_item_is_renamed() {
+        invalidator.onItemChanged(new InventoryItemChangedEvent("item-1",
+                new Snapshot("Bolt", "S1", 10, 5, true), new Snapshot("Bolt M8", "S1", 10, 5, true)));
+
+        assertNull(cache.get(PAST_S1));
+        assertNull(cache.get(CURRENT_S2));
+    }
+
+    @Test
+    void should_evict_only_current_state_entries_when_minimum_changes() {
+        invalidator.onItemChanged(new InventoryItemChangedEvent("item-1",
+                new Snapshot("Bolt", "S1", 10, 5, true), new Snapshot("Bolt", "S1", 10, 8, true)));
+
+        assertNull(cache.get(SNAPSHOT_ALL));
+        assertNotNull(cache.get(CURRENT_S1));
+        assertNotNull(cache.get(PAST_S1));
+    }
+
+    @Test
+    void should_ignore_events_when_cache_is_disabled() {
+        new AnalyticsCacheInvalidator(new NoOpCacheManager()).onStockMovement(movement("S1"));
+
+        assertNotNull(cache.get(CURRENT_S1));
+    }
+}
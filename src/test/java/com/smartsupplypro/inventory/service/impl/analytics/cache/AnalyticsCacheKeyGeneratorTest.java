@@ -0,0 +1,115 @@
+package com.smartsupplypro.inventory.service.impl.analytics.cache;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.smartsupplypro.inventory.service.impl.analytics.FinancialAnalyticsService;
+import com.smartsupplypro.inventory.service.impl.analytics.StockAnalyticsService;
+
+/**
+ * Unit tests for {@link AnalyticsCacheKeyGenerator} argument normalisation and
+ * {@link AnalyticsCacheKey} past-window / invalidation predicates.
+ */
+class AnalyticsCacheKeyGeneratorTest {
+
+    private final AnalyticsCacheKeyGenerator generator = new AnalyticsCacheKeyGenerator();
+
+    private static Method method(Class<?> type, String name, Class<?>... params) throws NoSuchMethodException {
+        return type.getMethod(name, params);
+    }
+
+    @Test
+    void should_lift_supplier_and_window_and_collapse_blank_filters() throws Exception {
+        Method m = method(StockAnalyticsService.class, "getReasonBreakdown",
+                LocalDate.class, LocalDate.class, String.class, String.class);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+
+        AnalyticsCacheKey blank = (AnalyticsCacheKey) generator.generate(null, m, from, to, "   ", " ");
+        AnalyticsCacheKey none = (AnalyticsCacheKey) generator.generate(null, m, from, to, null, null);
+        AnalyticsCacheKey padded = (AnalyticsCacheKey) generator.generate(null, m, from, to, " S1 ", "bolt");
+
+        assertEquals("StockAnalyticsService.getReasonBreakdown", none.query());
+        assertNull(blank.supplierId());
+        assertEquals(none, blank);
+        assertEquals("S1", padded.supplierId());
+        assertEquals(from, padded.from());
+        assertEquals(to, padded.to());
+        assertEquals(List.of("bolt"), padded.args());
+    }
+
+    @Test
+    void should_resolve_missing_bounds_to_default_thirty_day_window() throws Exception {
+        Method m = method(StockAnalyticsService.class, "getReasonBreakdown",
+                LocalDate.class, LocalDate.class, String.class, String.class);
+        LocalDate today = LocalDate.now();
+
+        AnalyticsCacheKey implicit = (AnalyticsCacheKey) generator.generate(null, m, null, null, null, null);
+        AnalyticsCacheKey explicit = (AnalyticsCacheKey) generator.generate(null, m, today.minusDays(30), today, null, "");
+
+        assertEquals(explicit, implicit);
+    }
+
+    @Test
+    void should_keep_windowless_queries_unbounded_and_distinguish_methods() throws Exception {
+        Method count = method(StockAnalyticsService.class, "lowStockCount");
+        Method perSupplier = method(StockAnalyticsService.class, "getTotalStockPerSupplier");
+
+        AnalyticsCacheKey countKey = (AnalyticsCacheKey) generator.generate(null, count);
+        AnalyticsCacheKey perSupplierKey = (AnalyticsCacheKey) generator.generate(null, perSupplier);
+
+        assertNull(countKey.from());
+        assertNull(countKey.to());
+        assertNotEquals(countKey, perSupplierKey);
+    }
+
+    @Test
+    void should_recognise_from_to_parameter_names() throws Exception {
+        Method m = method(FinancialAnalyticsService.class, "getFinancialSummaryWAC",
+                LocalDate.class, LocalDate.class, String.class);
+        LocalDate from = LocalDate.of(2024, 2, 1);
+        LocalDate to = LocalDate.of(2024, 2, 29);
+
+        AnalyticsCacheKey key = (AnalyticsCacheKey) generator.generate(null, m, from, to, "S2");
+
+        assertEquals(from, key.from());
+        assertEquals(to, key.to());
+        assertEquals("S2", key.supplierId());
+    }
+
+    @Test
+    void should_treat_only_windows_ending_before_today_as_fully_past() {
+        LocalDate today = LocalDate.of(2024, 6, 15);
+        AnalyticsCacheKey past = new AnalyticsCacheKey("q", null, null, today.minusDays(10), today.minusDays(1), List.of());
+        AnalyticsCacheKey current = new AnalyticsCacheKey("q", null, null, today.minusDays(10), today, List.of());
+        AnalyticsCacheKey windowless = new AnalyticsCacheKey("q", null, null, null, null, List.of());
+
+        assertTrue(past.isFullyPast(today));
+        assertFalse(current.isFullyPast(today));
+        assertFalse(windowless.isFullyPast(today));
+    }
+
+    @Test
+    void should_match_movements_by_supplier_item_and_window_end() {
+        LocalDate day = LocalDate.of(2024, 6, 15);
+        AnalyticsCacheKey s1 = new AnalyticsCacheKey("q", "S1", null, day.minusDays(30), day, List.of());
+        AnalyticsCacheKey all = new AnalyticsCacheKey("q", null, null, null, null, List.of());
+        AnalyticsCacheKey item = new AnalyticsCacheKey("q", null, "item-1", day.minusDays(30), day, List.of());
+        AnalyticsCacheKey past = new AnalyticsCacheKey("q", "S1", null, day.minusDays(30), day.minusDays(1), List.of());
+
+        assertTrue(s1.isTouchedBy("s1", "item-9", day));
+        assertFalse(s1.isTouchedBy("S2", "item-9", day));
+        assertTrue(all.isTouchedBy("S2", "item-9", day));
+        assertTrue(item.isTouchedBy("S2", "item-1", day));
+        assertFalse(item.isTouchedBy("S2", "item-2", day));
+        assertFalse(past.isTouchedBy("S1", "item-1", day));
+    }
+}
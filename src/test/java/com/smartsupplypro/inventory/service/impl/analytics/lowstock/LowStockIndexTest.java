@@ -0,0 +1,158 @@
+package com.smartsupplypro.inventory.service.impl.analytics.lowstock;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartsupplypro.inventory.dto.LowStockItemDTO;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent.Snapshot;
+import com.smartsupplypro.inventory.model.InventoryItem;
+import com.smartsupplypro.inventory.repository.InventoryItemRepository;
+
+/**
+ * Unit tests for {@link LowStockIndex} rebuild, incremental maintenance, ordering,
+ * reconciliation with writes it did not see, and reads and writes during a reload.
+ */
+class LowStockIndexTest {
+
+    private InventoryItemRepository repository;
+    private LowStockIndex index;
+
+    private static InventoryItem item(String id, String name, String supplierId, int quantity, int minimum) {
+        InventoryItem item = InventoryItem.builder()
+                .id(id).name(name).sku("SKU-" + id).quantity(quantity)
+                .minimumQuantity(minimum).price(BigDecimal.ONE).build();
+        item.setSupplierId(supplierId);
+        return item;
+    }
+
+    private void change(String itemId, Snapshot before, Snapshot after) {
+        index.onItemChanged(new InventoryItemChangedEvent(itemId, before, after));
+    }
+
+    private long count(String supplierId) {
+        return index.count(supplierId).orElseThrow();
+    }
+
+    private List<LowStockItemDTO> top(String supplierId, int limit) {
+        return index.top(supplierId, limit).orElseThrow();
+    }
+
+    private List<String> names() {
+        return top(null, 10).stream().map(LowStockItemDTO::itemName).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(InventoryItemRepository.class);
+        index = new LowStockIndex(repository);
+        when(repository.findAllBelowMinimumStock()).thenReturn(List.of(
+                item("a", "Bolt", "S1", 3, 10),
+                item("b", "Nut", "S1", 1, 5),
+                item("c", "Screw", "S2", 2, 4)));
+        index.rebuild();
+    }
+
+    @Test
+    void rebuild_loadsCountsAndCriticalityOrder() {
+        assertTrue(index.isReady());
+        assertEquals(3, count(null));
+        assertEquals(2, count("S1"));
+        assertEquals(0, count("S9"));
+        assertEquals(List.of("Nut", "Screw", "Bolt"), names());
+        assertEquals(List.of(new LowStockItemDTO("Nut", 1, 5)), top("S1", 1));
+    }
+
+    @Test
+    void reconcile_correctsDriftFromOutOfBandWrites() {
+        // another instance restocked "b" and a direct SQL update dropped "d" below its minimum
+        when(repository.findAllBelowMinimumStock()).thenReturn(List.of(
+                item("a", "Bolt", "S1", 3, 10),
+                item("c", "Screw", "S2", 2, 4),
+                item("d", "Washer", "S2", 0, 2)));
+        assertEquals(2, count("S1"));
+
+        index.reconcile();
+
+        assertTrue(index.isReady());
+        assertEquals(3, count(null));
+        assertEquals(1, count("S1"));
+        assertEquals(2, count("S2"));
+        assertEquals(List.of("Washer", "Screw", "Bolt"), names());
+    }
+
+    @Test
+    void restock_removesItem_andDrop_reordersIt() {
+        change("b", new Snapshot("Nut", "S1", 1, 5, true), new Snapshot("Nut", "S1", 8, 5, true));
+        change("a", new Snapshot("Bolt", "S1", 3, 10, true), new Snapshot("Bolt", "S1", 0, 10, true));
+
+        assertEquals(2, count(null));
+        assertEquals(1, count("S1"));
+        assertEquals(List.of(new LowStockItemDTO("Bolt", 0, 10), new LowStockItemDTO("Screw", 2, 4)),
+                top(null, 5));
+    }
+
+    @Test
+    void newItem_thresholdRaise_supplierMove_andDeactivation_areTracked() {
+        change("d", null, new Snapshot("Washer", "S2", 0, 1, true));
+        assertEquals(4, count(null));
+
+        // threshold raised above the on-hand quantity
+        change("e", new Snapshot("Pin", "S2", 6, 5, true), new Snapshot("Pin", "S2", 6, 7, true));
+        assertEquals(3, count("S2"));
+
+        change("a", new Snapshot("Bolt", "S1", 3, 10, true), new Snapshot("Bolt", "S2", 3, 10, true));
+        assertEquals(1, count("S1"));
+        assertEquals(4, count("S2"));
+
+        change("c", new Snapshot("Screw", "S2", 2, 4, true), new Snapshot("Screw", "S2", 2, 4, false));
+        assertEquals(3, count("S2"));
+        assertEquals(4, count(null));
+    }
+
+    @Test
+    void failedRebuild_leavesIndexNotReady() {
+        when(repository.findAllBelowMinimumStock()).thenThrow(new IllegalStateException("db down"));
+
+        index.rebuild();
+
+        assertFalse(index.isReady());
+        assertTrue(index.count(null).isEmpty());
+        assertTrue(index.top(null, 5).isEmpty());
+    }
+
+    @Test
+    void reload_keepsServingThePreviousState_andReplaysWritesCommittedMeanwhile() {
+        when(repository.findAllBelowMinimumStock()).thenAnswer(invocation -> {
+            // a request reading while the reload query runs sees the previous content
+            assertEquals(3, count(null));
+            assertEquals(List.of("Nut", "Screw", "Bolt"), names());
+
+            // a restock commits on another thread; it must not wait for the query
+            Thread writer = new Thread(() -> change("a",
+                    new Snapshot("Bolt", "S1", 3, 10, true), new Snapshot("Bolt", "S1", 20, 10, true)));
+            writer.start();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(writer.isAlive(), "item write blocked behind the reload query");
+            assertEquals(2, count(null));
+
+            // the query read its rows before that commit
+            return List.of(item("a", "Bolt", "S1", 3, 10), item("b", "Nut", "S1", 1, 5),
+                    item("c", "Screw", "S2", 2, 4));
+        });
+
+        index.reconcile();
+
+        assertEquals(2, count(null));
+        assertEquals(List.of("Nut", "Screw"), names());
+    }
+}
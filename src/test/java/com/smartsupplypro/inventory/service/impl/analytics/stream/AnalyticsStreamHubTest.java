@@ -0,0 +1,69 @@
+package com.smartsupplypro.inventory.service.impl.analytics.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.dto.AnalyticsStreamEventDTO;
+
+/**
+ * Unit tests for {@link AnalyticsStreamHub} subscriber limits, draining and
+ * slow-consumer eviction. The sender executor is controlled by each test.
+ */
+class AnalyticsStreamHubTest {
+
+    private static AppProperties props(int bufferSize, int maxSubscribers) {
+        AppProperties props = new AppProperties();
+        props.getAnalytics().getStream().setBufferSize(bufferSize);
+        props.getAnalytics().getStream().setMaxSubscribers(maxSubscribers);
+        return props;
+    }
+
+    private static AnalyticsStreamEventDTO movement() {
+        return new AnalyticsStreamEventDTO(AnalyticsStreamEventDTO.MOVEMENT, "item-1", null, "S1",
+                null, null, -1, "SOLD", null);
+    }
+
+    @Test
+    void should_evict_subscriber_whose_buffer_is_full() {
+        List<Runnable> parked = new ArrayList<>();
+        Executor stalled = parked::add; // nothing is ever sent: the client is not reading
+        AnalyticsStreamHub hub = new AnalyticsStreamHub(props(2, 10), stalled);
+
+        hub.subscribe();            // ready event takes one slot
+        hub.broadcast(movement());  // second slot
+        assertEquals(1, hub.subscriberCount());
+
+        hub.broadcast(movement());  // overflow
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    @Test
+    void should_keep_subscriber_that_drains_its_buffer() {
+        Executor inline = Runnable::run;
+        AnalyticsStreamHub hub = new AnalyticsStreamHub(props(2, 10), inline);
+
+        hub.subscribe();
+        for (int i = 0; i < 20; i++) {
+            hub.broadcast(movement());
+        }
+
+        assertEquals(1, hub.subscriberCount());
+    }
+
+    @Test
+    void should_reject_subscribers_beyond_limit_with_503() {
+        AnalyticsStreamHub hub = new AnalyticsStreamHub(props(4, 1), Runnable::run);
+        hub.subscribe();
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, hub::subscribe);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+    }
+}
@@ -0,0 +1,96 @@
+package com.smartsupplypro.inventory.service.impl.analytics.stream;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartsupplypro.inventory.dto.AnalyticsStreamEventDTO;
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent;
+import com.smartsupplypro.inventory.event.InventoryItemChangedEvent.Snapshot;
+import com.smartsupplypro.inventory.event.StockMovementRecordedEvent;
+
+/**
+ * Unit tests for {@link AnalyticsStreamPublisher} delta derivation from domain events.
+ */
+class AnalyticsStreamPublisherTest {
+
+    private AnalyticsStreamHub hub;
+    private AnalyticsStreamPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        hub = mock(AnalyticsStreamHub.class);
+        when(hub.subscriberCount()).thenReturn(1);
+        publisher = new AnalyticsStreamPublisher(hub);
+    }
+
+    private List<AnalyticsStreamEventDTO> broadcasts(int expected) {
+        ArgumentCaptor<AnalyticsStreamEventDTO> captor = ArgumentCaptor.forClass(AnalyticsStreamEventDTO.class);
+        verify(hub, times(expected)).broadcast(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    void should_emit_quantity_and_low_stock_entered_when_crossing_minimum_downwards() {
+        publisher.onItemChanged(new InventoryItemChangedEvent("i1",
+                new Snapshot("Bolt", "S1", 10, 5, true),
+                new Snapshot("Bolt", "S1", 3, 5, true)));
+
+        List<AnalyticsStreamEventDTO> sent = broadcasts(2);
+        assertEquals(AnalyticsStreamEventDTO.ITEM_QUANTITY, sent.get(0).type());
+        assertEquals(3, sent.get(0).quantity());
+        assertEquals(AnalyticsStreamEventDTO.LOW_STOCK_ENTERED, sent.get(1).type());
+    }
+
+    @Test
+    void should_emit_low_stock_left_when_threshold_lowered_without_quantity_change() {
+        publisher.onItemChanged(new InventoryItemChangedEvent("i1",
+                new Snapshot("Bolt", "S1", 3, 5, true),
+                new Snapshot("Bolt", "S1", 3, 2, true)));
+
+        List<AnalyticsStreamEventDTO> sent = broadcasts(1);
+        assertEquals(AnalyticsStreamEventDTO.LOW_STOCK_LEFT, sent.get(0).type());
+    }
+
+    @Test
+    void should_emit_nothing_for_rename_only() {
+        publisher.onItemChanged(new InventoryItemChangedEvent("i1",
+                new Snapshot("Bolt", "S1", 10, 5, true),
+                new Snapshot("Bolt M8", "S1", 10, 5, true)));
+
+        verify(hub, never()).broadcast(any());
+    }
+
+    @Test
+    void should_emit_movement_with_reason_and_supplier() {
+        LocalDateTime ts = LocalDateTime.of(2025, 3, 1, 10, 0);
+        publisher.onStockMovement(new StockMovementRecordedEvent("i1", "S1", StockChangeReason.SOLD, -2, null, ts));
+
+        AnalyticsStreamEventDTO sent = broadcasts(1).get(0);
+        assertEquals(AnalyticsStreamEventDTO.MOVEMENT, sent.type());
+        assertEquals("S1", sent.supplierId());
+        assertEquals("SOLD", sent.reason());
+        assertEquals(-2, sent.change());
+        assertEquals(ts, sent.timestamp());
+    }
+
+    @Test
+    void should_skip_work_without_subscribers() {
+        when(hub.subscriberCount()).thenReturn(0);
+        publisher.onStockMovement(new StockMovementRecordedEvent("i1", "S1", StockChangeReason.SOLD, -2, null,
+                LocalDateTime.now()));
+
+        verify(hub, never()).broadcast(any());
+    }
+}
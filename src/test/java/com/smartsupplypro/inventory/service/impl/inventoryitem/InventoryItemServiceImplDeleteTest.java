@@ -22,6 +22,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.context.ApplicationEventPublisher;
+
 import com.smartsupplypro.inventory.model.InventoryItem;
 import com.smartsupplypro.inventory.repository.InventoryItemRepository;
 import com.smartsupplypro.inventory.repository.SupplierRepository;
@@ -46,6 +48,7 @@ class InventoryItemServiceImplDeleteTest {
     @Mock private StockHistoryService stockHistoryService;
     @Mock private InventoryItemValidationHelper validationHelper;
     @Mock private InventoryItemAuditHelper auditHelper;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @InjectMocks private InventoryItemServiceImpl service;
 
     private InventoryItem existing;
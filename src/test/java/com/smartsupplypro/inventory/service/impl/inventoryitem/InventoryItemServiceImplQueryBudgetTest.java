@@ -0,0 +1,99 @@
+package com.smartsupplypro.inventory.service.impl.inventoryitem;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.smartsupplypro.inventory.budget.MaxQueries;
+import com.smartsupplypro.inventory.budget.StatementCounter;
+import com.smartsupplypro.inventory.dto.InventoryItemDTO;
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.service.InventoryItemService;
+import com.smartsupplypro.inventory.testdata.SyntheticDataGenerator;
+import com.smartsupplypro.inventory.testdata.SyntheticDataLoader;
+
+/**
+ * Query budgets for {@link com.smartsupplypro.inventory.service.impl.InventoryItemServiceImpl}
+ * against a real persistence context, complementing the mock-based tests in this package.
+ *
+ * <p>The read paths are the N+1-prone ones: {@code getAll} maps every item's supplier and
+ * must stay a single joined select however many items exist.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:servicebudget;MODE=Oracle;DATABASE_TO_UPPER=true;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "app.health.probe-enabled=false"
+})
+@ActiveProfiles("test")
+@Import(StatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InventoryItemServiceImplQueryBudgetTest {
+
+    private static final SyntheticDataGenerator.Volume VOLUME = new SyntheticDataGenerator.Volume(
+            4, 120, 3, 600, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 6, 30), 7);
+    private static final String ITEM = "syn-item-0000002";
+
+    @Autowired
+    private InventoryItemService service;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void seed() throws Exception {
+        SyntheticDataLoader.load(dataSource, VOLUME, SyntheticDataLoader.DEFAULT_BATCH_SIZE, true);
+    }
+
+    @Test
+    @MaxQueries(value = 1, allocatedBytes = 16 * 1024 * 1024)
+    void getAll_isOneSelectRegardlessOfItemCount() {
+        assertEquals(VOLUME.items(), service.getAll().size());
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getById_loadsItemAndSupplier() {
+        assertTrue(service.getById(ITEM).isPresent());
+    }
+
+    @Test
+    @MaxQueries(4)
+    void adjustQuantity_loadsOnceAndWritesItemAndHistory() {
+        InventoryItemDTO adjusted = service.adjustQuantity(ITEM, 5, StockChangeReason.MANUAL_UPDATE);
+        assertTrue(adjusted.getQuantity() >= 5);
+    }
+
+    @Test
+    @MaxQueries(6)
+    void update_readsThenWritesItemAndHistory() {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        DefaultOAuth2User admin = new DefaultOAuth2User(
+                authorities, Map.of("email", "employee1@example.com"), "email");
+        SecurityContextHolder.getContext().setAuthentication(
+                new OAuth2AuthenticationToken(admin, authorities, "google"));
+        try {
+            InventoryItemDTO dto = service.getById(ITEM).orElseThrow();
+            dto.setQuantity(dto.getQuantity() + 1);
+            assertTrue(service.update(ITEM, dto).isPresent());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -44,6 +45,7 @@ class InventoryItemServiceImplReadAndAdjustmentsTest {
     @Mock private InventoryItemRepository repository;
     @Mock private InventoryItemValidationHelper validationHelper;
     @Mock private InventoryItemAuditHelper auditHelper;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @SuppressWarnings("FieldMayBeFinal")
     @Spy  private InventoryItemMapper inventoryItemMapper = new InventoryItemMapper();
     @InjectMocks private InventoryItemServiceImpl service;
@@ -60,10 +62,11 @@ class InventoryItemServiceImplReadAndAdjustmentsTest {
     class ReadOperations {
 
         @Test
-        void should_map_all_entities_to_dtos() {
+        void should_return_projected_dtos_for_active_items() {
             InventoryItem e1 = item("i-1", "Widget", 10, new BigDecimal("2.50"), "S1");
             InventoryItem e2 = item("i-2", "Gadget", 0,  new BigDecimal("9.99"), "S2");
-            when(repository.findByActiveTrue()).thenReturn(List.of(e1, e2));
+            List<InventoryItemDTO> projected = List.of(inventoryItemMapper.toDTO(e1), inventoryItemMapper.toDTO(e2));
+            when(repository.findAllActiveAsDTO()).thenReturn(projected);
 
             List<InventoryItemDTO> result = service.getAll();
 
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.smartsupplypro.inventory.dto.InventoryItemDTO;
@@ -47,6 +48,7 @@ class InventoryItemServiceImplSaveTest {
     @Mock private StockHistoryService stockHistoryService;
     @Mock private InventoryItemValidationHelper validationHelper;
     @Mock private InventoryItemAuditHelper auditHelper;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @SuppressWarnings("FieldMayBeFinal")
     @Spy  private InventoryItemMapper inventoryItemMapper = new InventoryItemMapper();
     @InjectMocks private InventoryItemServiceImpl service;
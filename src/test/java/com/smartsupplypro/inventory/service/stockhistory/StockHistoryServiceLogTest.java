@@ -12,6 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -19,6 +21,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.event.StockMovementRecordedEvent;
 import com.smartsupplypro.inventory.exception.InvalidRequestException;
 import com.smartsupplypro.inventory.model.StockHistory;
 
@@ -43,6 +46,21 @@ class StockHistoryServiceLogTest extends StockHistoryServiceTestBase {
         assertNotNull(saved.getTimestamp());
     }
 
+    @Test
+    void should_publish_movement_event_with_denormalized_supplier() {
+        service.logStockChange(ITEM_1, 3, StockChangeReason.INITIAL_STOCK, ADMIN, new BigDecimal("2.50"));
+
+        StockHistory saved = captureSavedHistory();
+        ArgumentCaptor<StockMovementRecordedEvent> captor = ArgumentCaptor.forClass(StockMovementRecordedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        StockMovementRecordedEvent event = captor.getValue();
+        assertEquals(ITEM_1, event.itemId());
+        assertEquals(SUPPLIER_1, event.supplierId());
+        assertEquals(3, event.change());
+        assertEquals(new BigDecimal("2.50"), event.priceAtChange());
+        assertEquals(saved.getTimestamp(), event.timestamp());
+    }
+
     @Test
     void should_throw_when_reason_is_null() {
         Exception ex = assertThrows(IllegalArgumentException.class,
@@ -37,13 +37,14 @@ class StockHistoryServiceReadTest extends StockHistoryServiceTestBase {
     class GetAll {
 
         @Test
-        void should_return_mapped_dto_list_for_all_history_entries() {
+        void should_return_projected_dto_list_for_all_history_entries() {
             LocalDateTime t1 = LocalDateTime.of(2024, 1, 1, 12, 0);
             LocalDateTime t2 = LocalDateTime.of(2024, 1, 2, 12, 0);
             var h1 = mkHistory("sh-1", ITEM_1, SUPPLIER_1, 10,  StockChangeReason.SOLD,     ADMIN,  t1, new BigDecimal("12.50"));
             var h2 = mkHistory("sh-2", ITEM_2, SUPPLIER_2, -5, StockChangeReason.SCRAPPED, "bob",  t2, null);
 
-            when(repository.findAll()).thenReturn(List.of(h1, h2));
+            List<StockHistoryDTO> projected = List.of(mapper.toDTO(h1), mapper.toDTO(h2));
+            when(repository.findAllAsDTO()).thenReturn(projected);
 
             List<StockHistoryDTO> out = service.getAll();
 
@@ -60,10 +61,11 @@ class StockHistoryServiceReadTest extends StockHistoryServiceTestBase {
     class GetByItemId {
 
         @Test
-        void should_delegate_to_ordered_finder_and_map_to_dtos() {
+        void should_delegate_to_ordered_projection() {
             LocalDateTime t = LocalDateTime.of(2024, 2, 1, 10, 30);
             var h = mkHistory("sh-3", ITEM_1, SUPPLIER_1, 1, StockChangeReason.MANUAL_UPDATE, ADMIN, t, null);
-            when(repository.findByItemIdOrderByTimestampDesc(ITEM_1)).thenReturn(List.of(h));
+            StockHistoryDTO projected = mapper.toDTO(h);
+            when(repository.findByItemIdAsDTO(ITEM_1)).thenReturn(List.of(projected));
 
             List<StockHistoryDTO> out = service.getByItemId(ITEM_1);
 
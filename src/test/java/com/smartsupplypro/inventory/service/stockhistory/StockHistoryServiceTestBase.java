@@ -12,6 +12,8 @@ import org.mockito.Spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.springframework.context.ApplicationEventPublisher;
+
 import com.smartsupplypro.inventory.dto.StockHistoryDTO;
 import com.smartsupplypro.inventory.enums.StockChangeReason;
 import com.smartsupplypro.inventory.mapper.StockHistoryMapper;
@@ -38,6 +40,9 @@ abstract class StockHistoryServiceTestBase {
     @Mock
     protected InventoryItemRepository itemRepository;
 
+    @Mock
+    protected ApplicationEventPublisher eventPublisher;
+
     @Spy
     protected StockHistoryMapper mapper = new StockHistoryMapper();
 
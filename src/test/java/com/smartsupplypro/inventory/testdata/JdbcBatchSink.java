@@ -0,0 +1,161 @@
+package com.smartsupplypro.inventory.testdata;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.model.Role;
+
+/**
+ * Writes generated rows with JDBC batches, committing every {@code batchSize} rows.
+ *
+ * <p>Plain JDBC so it runs against H2, Oracle and PostgreSQL alike and loads millions of rows in
+ * minutes instead of hours through JPA. Auto-commit is switched off for the duration of
+ * the load and restored by {@link #close()}; the caller owns the connection.</p>
+ */
+public final class JdbcBatchSink implements SyntheticDataGenerator.Sink, AutoCloseable {
+
+    private static final String INSERT_SUPPLIER = "INSERT INTO SUPPLIER "
+            + "(ID, NAME, CONTACT_NAME, PHONE, EMAIL, CREATED_BY, CREATED_AT) VALUES (?, ?, ?, ?, ?, 'synthetic', ?)";
+    private static final String INSERT_USER = "INSERT INTO users_app "
+            + "(ID, EMAIL, NAME, ROLE, CREATED_AT) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ITEM = "INSERT INTO INVENTORY_ITEM "
+            + "(ID, SKU, NAME, QUANTITY, PRICE, SUPPLIER_ID, CREATED_BY, MINIMUM_QUANTITY, CREATED_AT, ACTIVE) "
+            + "VALUES (?, ?, ?, 0, ?, ?, ?, ?, ?, 1)";
+    private static final String INSERT_MOVEMENT = "INSERT INTO STOCK_HISTORY "
+            + "(ID, ITEM_ID, SUPPLIER_ID, QUANTITY_CHANGE, REASON, CREATED_BY, CREATED_AT, PRICE_AT_CHANGE) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ITEM = "UPDATE INVENTORY_ITEM SET QUANTITY = ?, PRICE = ? WHERE ID = ?";
+
+    private final Connection connection;
+    private final int batchSize;
+    private final boolean autoCommit;
+    private final PreparedStatement suppliers;
+    private final PreparedStatement users;
+    private final PreparedStatement items;
+    private final PreparedStatement movements;
+    private final PreparedStatement itemStates;
+    private PreparedStatement pending;
+    private int pendingRows;
+    private long rowsWritten;
+
+    public JdbcBatchSink(Connection connection, int batchSize) throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        this.suppliers = connection.prepareStatement(INSERT_SUPPLIER);
+        this.users = connection.prepareStatement(INSERT_USER);
+        this.items = connection.prepareStatement(INSERT_ITEM);
+        this.movements = connection.prepareStatement(INSERT_MOVEMENT);
+        this.itemStates = connection.prepareStatement(UPDATE_ITEM);
+    }
+
+    /**
+     * Deletes every previously generated row (ids starting with
+     * {@link SyntheticDataGenerator#ID_PREFIX}), children first.
+     *
+     * @return number of rows deleted
+     */
+    public static int deleteGenerated(Connection connection) throws SQLException {
+        String like = " LIKE '" + SyntheticDataGenerator.ID_PREFIX + "%'";
+        int deleted = 0;
+        try (Statement stmt = connection.createStatement()) {
+            deleted += stmt.executeUpdate("DELETE FROM STOCK_HISTORY WHERE ID" + like);
+            deleted += stmt.executeUpdate("DELETE FROM INVENTORY_ITEM WHERE ID" + like);
+            deleted += stmt.executeUpdate("DELETE FROM SUPPLIER WHERE ID" + like);
+            deleted += stmt.executeUpdate("DELETE FROM users_app WHERE ID" + like);
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+        return deleted;
+    }
+
+    /** Rows sent to the database so far, including the pending batch once {@link #close()} ran. */
+    public long rowsWritten() {
+        return rowsWritten;
+    }
+
+    @Override
+    public void supplier(String id, String name, String contactName, String phone, String email,
+                         LocalDateTime createdAt) {
+        add(suppliers, id, name, contactName, phone, email, Timestamp.valueOf(createdAt));
+    }
+
+    @Override
+    public void user(String id, String email, String name, Role role, LocalDateTime createdAt) {
+        add(users, id, email, name, role.name(), Timestamp.valueOf(createdAt));
+    }
+
+    @Override
+    public void item(String id, String sku, String name, String supplierId, BigDecimal price, int minimumQuantity,
+                     String createdBy, LocalDateTime createdAt) {
+        add(items, id, sku, name, price, supplierId, createdBy, minimumQuantity, Timestamp.valueOf(createdAt));
+    }
+
+    @Override
+    public void movement(String id, String itemId, String supplierId, int quantityChange, StockChangeReason reason,
+                         String createdBy, LocalDateTime createdAt, BigDecimal priceAtChange) {
+        add(movements, id, itemId, supplierId, quantityChange, reason.name(), createdBy,
+                Timestamp.valueOf(createdAt), priceAtChange);
+    }
+
+    @Override
+    public void itemState(String id, int quantity, BigDecimal price) {
+        add(itemStates, quantity, price, id);
+    }
+
+    /** Flushes the last batch, commits and restores the connection's auto-commit mode. */
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            for (PreparedStatement stmt : new PreparedStatement[] { suppliers, users, items, movements, itemStates }) {
+                stmt.close();
+            }
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Adds one row to {@code stmt}'s batch. Switching tables flushes first, so parent rows
+     * are always written before the children that reference them.
+     */
+    private void add(PreparedStatement stmt, Object... values) {
+        try {
+            if (pending != stmt) {
+                flush();
+                pending = stmt;
+            }
+            for (int i = 0; i < values.length; i++) {
+                stmt.setObject(i + 1, values[i]);
+            }
+            stmt.addBatch();
+            if (++pendingRows >= batchSize) {
+                flush();
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Synthetic data load failed after " + rowsWritten + " rows", ex);
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (pending == null || pendingRows == 0) {
+            return;
+        }
+        pending.executeBatch();
+        connection.commit();
+        rowsWritten += pendingRows;
+        pendingRows = 0;
+    }
+}
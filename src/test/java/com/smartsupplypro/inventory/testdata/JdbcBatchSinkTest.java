@@ -0,0 +1,75 @@
+package com.smartsupplypro.inventory.testdata;
+
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smartsupplypro.inventory.repository.custom.util.AnalyticsSqlCatalog;
+import com.smartsupplypro.inventory.repository.custom.util.DatabaseDialectDetector;
+
+/**
+ * Integration test for {@link JdbcBatchSink} and {@link SyntheticDataLoader} against the
+ * H2 schema Hibernate creates: row counts, reconciliation in SQL and idempotent reloads.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+@Import({DatabaseDialectDetector.class, AnalyticsSqlCatalog.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcBatchSinkTest {
+
+    private static final SyntheticDataGenerator.Volume VOLUME = new SyntheticDataGenerator.Volume(
+            2, 25, 3, 2_000, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30), 11);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        try (var connection = dataSource.getConnection()) {
+            JdbcBatchSink.deleteGenerated(connection);
+        }
+    }
+
+    @Test
+    void load_writesReconciledRows_inBatches() throws Exception {
+        long rows = SyntheticDataLoader.load(dataSource, VOLUME, 128, false);
+
+        assertEquals(2 + 3 + 25 + 2_000 + 25, rows);
+        assertEquals(2_000, count("SELECT COUNT(*) FROM STOCK_HISTORY WHERE ID LIKE 'syn-%'"));
+        assertEquals(0, count("""
+                SELECT COUNT(*) FROM INVENTORY_ITEM i
+                WHERE i.ID LIKE 'syn-%'
+                  AND i.QUANTITY <> (SELECT COALESCE(SUM(h.QUANTITY_CHANGE), 0)
+                                     FROM STOCK_HISTORY h WHERE h.ITEM_ID = i.ID)
+                """));
+        assertEquals(0, count("SELECT COUNT(*) FROM INVENTORY_ITEM WHERE ID LIKE 'syn-%' AND QUANTITY < 0"));
+    }
+
+    @Test
+    void replace_reloadsTheSameDataset() throws Exception {
+        SyntheticDataLoader.load(dataSource, VOLUME, 500, false);
+        long before = count("SELECT SUM(QUANTITY) FROM INVENTORY_ITEM WHERE ID LIKE 'syn-%'");
+
+        SyntheticDataLoader.load(dataSource, VOLUME, 500, true);
+
+        assertEquals(2_000, count("SELECT COUNT(*) FROM STOCK_HISTORY WHERE ID LIKE 'syn-%'"));
+        assertEquals(before, count("SELECT SUM(QUANTITY) FROM INVENTORY_ITEM WHERE ID LIKE 'syn-%'"));
+    }
+
+    private long count(String sql) {
+        return new JdbcTemplate(dataSource).queryForObject(sql, Long.class);
+    }
+}
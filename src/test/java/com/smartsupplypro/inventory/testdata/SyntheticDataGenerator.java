@@ -0,0 +1,277 @@
+package com.smartsupplypro.inventory.testdata;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.model.Role;
+
+/**
+ * Deterministic generator for production-scale inventory data.
+ *
+ * <p>The same {@link Volume} and seed always produce the same rows, in the same order,
+ * so load tests, benchmarks and capacity experiments on different machines see identical
+ * data. Rows are streamed to a {@link Sink} ({@link JdbcBatchSink} for H2 or Oracle)
+ * and nothing but per-item running state is held in memory, so millions of movements
+ * need a few megabytes.</p>
+ *
+ * <p>Realism rules:</p>
+ * <ul>
+ *   <li><b>Reconciled</b>: every item opens with {@code INITIAL_STOCK}; outbound movements
+ *       never exceed the running quantity, and each item's final {@code QUANTITY} and
+ *       {@code PRICE} are the result of its own history.</li>
+ *   <li><b>Seasonality</b>: daily volume follows a yearly sine (peak in Q4) and drops at
+ *       weekends; movements fall within business hours.</li>
+ *   <li><b>Popularity</b>: items and employees are picked with Zipf-like weights, so a few
+ *       items and users dominate, as in real warehouses.</li>
+ *   <li><b>Reason mix</b>: mostly sales and restocks, plus customer returns, supplier
+ *       returns, all write-off reasons and {@code PRICE_CHANGE} rows (quantity 0).</li>
+ *   <li><b>Price drift</b>: prices move by a few percent per change with an upward trend.</li>
+ * </ul>
+ */
+public final class SyntheticDataGenerator {
+
+    /** Id prefix of every generated row; {@link JdbcBatchSink#deleteGenerated} removes by it. */
+    public static final String ID_PREFIX = "syn-";
+
+    private static final String[] CATEGORIES = { "BRG", "FST", "STL", "WLD", "PKG", "LOG", "PPE", "SEA", "TLS", "ELC" };
+    private static final String[] NOUNS = { "Bearing", "Bolt Set", "Steel Sheet", "Welding Wire", "Stretch Film",
+        "Pallet", "Gloves", "Gasket", "Drill Bit Set", "Cable Reel" };
+    private static final StockChangeReason[] WRITE_OFFS = { StockChangeReason.DAMAGED, StockChangeReason.DESTROYED,
+        StockChangeReason.SCRAPPED, StockChangeReason.EXPIRED, StockChangeReason.LOST };
+
+    /**
+     * Size and shape of a generated dataset.
+     *
+     * @param suppliers number of suppliers
+     * @param items     number of items, spread round-robin over suppliers
+     * @param users     number of employees movements are attributed to
+     * @param movements number of {@code STOCK_HISTORY} rows
+     * @param from      first day of history
+     * @param to        last day of history
+     * @param seed      random seed; same seed and volume give identical rows
+     */
+    public record Volume(int suppliers, int items, int users, int movements, LocalDate from, LocalDate to, long seed) {
+
+        private static final LocalDate DEFAULT_TO = LocalDate.of(2026, 6, 30);
+
+        /** A few thousand rows: fast enough for integration tests. */
+        public static Volume small() {
+            return new Volume(6, 200, 5, 20_000, DEFAULT_TO.minusYears(1).plusDays(1), DEFAULT_TO, 42);
+        }
+
+        /** One million movements over two years; the load-test default. */
+        public static Volume medium() {
+            return new Volume(50, 5_000, 25, 1_000_000, DEFAULT_TO.minusYears(2).plusDays(1), DEFAULT_TO, 42);
+        }
+
+        /** Production-scale capacity run. */
+        public static Volume large() {
+            return new Volume(200, 20_000, 100, 5_000_000, DEFAULT_TO.minusYears(3).plusDays(1), DEFAULT_TO, 42);
+        }
+
+        public Volume withMovements(int movements) {
+            return new Volume(suppliers, items, users, movements, from, to, seed);
+        }
+
+        public Volume withSeed(long seed) {
+            return new Volume(suppliers, items, users, movements, from, to, seed);
+        }
+    }
+
+    /** Receives generated rows in dependency order: suppliers, users, items, movements, final item state. */
+    public interface Sink {
+        void supplier(String id, String name, String contactName, String phone, String email, LocalDateTime createdAt);
+
+        void user(String id, String email, String name, Role role, LocalDateTime createdAt);
+
+        void item(String id, String sku, String name, String supplierId, BigDecimal price, int minimumQuantity,
+                  String createdBy, LocalDateTime createdAt);
+
+        void movement(String id, String itemId, String supplierId, int quantityChange, StockChangeReason reason,
+                      String createdBy, LocalDateTime createdAt, BigDecimal priceAtChange);
+
+        /** Final reconciled quantity and price of an item, after all of its movements. */
+        void itemState(String id, int quantity, BigDecimal price);
+    }
+
+    private final Volume volume;
+
+    public SyntheticDataGenerator(Volume volume) {
+        if (volume.suppliers() < 1 || volume.items() < 1 || volume.users() < 1 || volume.movements() < 0
+                || volume.to().isBefore(volume.from())) {
+            throw new IllegalArgumentException("Invalid volume: " + volume);
+        }
+        this.volume = volume;
+    }
+
+    /** Streams the whole dataset into {@code sink}. */
+    public void generate(Sink sink) {
+        SplittableRandom random = new SplittableRandom(volume.seed());
+        LocalDateTime opened = volume.from().atTime(7, 0);
+
+        String[] supplierIds = new String[volume.suppliers()];
+        for (int s = 0; s < supplierIds.length; s++) {
+            supplierIds[s] = id("sup-", s + 1, 4);
+            sink.supplier(supplierIds[s], "Synthetic Supplier " + (s + 1), "Contact " + (s + 1),
+                    "+49 30 " + (5_550_000 + s), "supplier" + (s + 1) + "@example.com", opened);
+        }
+
+        String[] userEmails = new String[volume.users()];
+        for (int u = 0; u < userEmails.length; u++) {
+            userEmails[u] = "employee" + (u + 1) + "@example.com";
+            sink.user(id("user-", u + 1, 4), userEmails[u], "Employee " + (u + 1), u == 0 ? Role.ADMIN : Role.USER, opened);
+        }
+
+        Item[] items = new Item[volume.items()];
+        for (int i = 0; i < items.length; i++) {
+            int category = i % CATEGORIES.length;
+            long cents = 100 + random.nextInt(49_900);
+            items[i] = new Item(id("item-", i + 1, 7), supplierIds[i % supplierIds.length], cents,
+                    5 + random.nextInt(46));
+            sink.item(items[i].id, "SYN-" + CATEGORIES[category] + "-" + (i + 1),
+                    NOUNS[category] + " #" + (i + 1), items[i].supplierId, price(cents), items[i].minimumQuantity,
+                    userEmails[0], opened);
+        }
+
+        double[] itemWeights = zipf(items.length, 0.8);
+        double[] userWeights = zipf(userEmails.length, 1.0);
+        int[] perDay = dailyCounts(random);
+        long sequence = 0;
+        LocalDate day = volume.from();
+        for (int count : perDay) {
+            int[] seconds = new int[count];
+            for (int k = 0; k < count; k++) {
+                seconds[k] = 8 * 3_600 + random.nextInt(10 * 3_600);
+            }
+            Arrays.sort(seconds);
+            for (int k = 0; k < count; k++) {
+                Item item = items[pick(itemWeights, random)];
+                String user = userEmails[pick(userWeights, random)];
+                emit(sink, item, user, day.atStartOfDay().plusSeconds(seconds[k]), ++sequence, random);
+            }
+            day = day.plusDays(1);
+        }
+
+        for (Item item : items) {
+            sink.itemState(item.id, item.quantity, price(item.cents));
+        }
+    }
+
+    /** Emits one movement for {@code item}, keeping its running quantity non-negative. */
+    private void emit(Sink sink, Item item, String user, LocalDateTime at, long sequence, SplittableRandom random) {
+        String id = id("sh-", sequence, 9);
+        if (!item.opened) {
+            item.opened = true;
+            move(sink, id, item, 50 + random.nextInt(451), StockChangeReason.INITIAL_STOCK, user, at);
+            return;
+        }
+        if (item.quantity < item.minimumQuantity) {
+            move(sink, id, item, item.minimumQuantity * (2 + random.nextInt(5)), StockChangeReason.MANUAL_UPDATE, user, at);
+            return;
+        }
+        int roll = random.nextInt(100);
+        if (roll < 58) {
+            move(sink, id, item, -outbound(item, 1 + random.nextInt(25)), StockChangeReason.SOLD, user, at);
+        } else if (roll < 76) {
+            move(sink, id, item, 20 + random.nextInt(181), StockChangeReason.MANUAL_UPDATE, user, at);
+        } else if (roll < 82) {
+            move(sink, id, item, 1 + random.nextInt(10), StockChangeReason.RETURNED_BY_CUSTOMER, user, at);
+        } else if (roll < 91) {
+            move(sink, id, item, -outbound(item, 1 + random.nextInt(8)),
+                    WRITE_OFFS[random.nextInt(WRITE_OFFS.length)], user, at);
+        } else if (roll < 95) {
+            move(sink, id, item, -outbound(item, 1 + random.nextInt(30)),
+                    StockChangeReason.RETURNED_TO_SUPPLIER, user, at);
+        } else {
+            // drift of -3% .. +5%: prices trend upwards over the years
+            long next = Math.max(1, item.cents + item.cents * (random.nextInt(9) - 3) / 100);
+            item.cents = next;
+            sink.movement(id, item.id, item.supplierId, 0, StockChangeReason.PRICE_CHANGE, user, at, price(next));
+        }
+    }
+
+    /** Outbound amount capped at stock; callers only get here with at least the minimum quantity on hand. */
+    private static int outbound(Item item, int wanted) {
+        return Math.min(item.quantity, wanted);
+    }
+
+    private static void move(Sink sink, String id, Item item, int change, StockChangeReason reason,
+                             String user, LocalDateTime at) {
+        item.quantity += change;
+        sink.movement(id, item.id, item.supplierId, change, reason, user, at, price(item.cents));
+    }
+
+    /** Movements per day: yearly sine peaking in Q4, weekends at 30 %, summing exactly to the volume. */
+    private int[] dailyCounts(SplittableRandom random) {
+        int days = (int) (volume.to().toEpochDay() - volume.from().toEpochDay()) + 1;
+        double[] weights = new double[days];
+        double total = 0;
+        for (int d = 0; d < days; d++) {
+            LocalDate day = volume.from().plusDays(d);
+            double season = 1 + 0.35 * Math.sin(2 * Math.PI * (day.getDayOfYear() - 200) / 365.0);
+            boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+            weights[d] = season * (weekend ? 0.3 : 1.0) * (0.9 + 0.2 * random.nextDouble());
+            total += weights[d];
+        }
+        int[] counts = new int[days];
+        int assigned = 0;
+        double cumulative = 0;
+        for (int d = 0; d < days; d++) {
+            cumulative += weights[d];
+            int upTo = (int) Math.round(volume.movements() * cumulative / total);
+            counts[d] = upTo - assigned;
+            assigned = upTo;
+        }
+        return counts;
+    }
+
+    /** Cumulative Zipf weights {@code 1/rank^s}, normalised to 1. */
+    private static double[] zipf(int n, double s) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, s);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    private static BigDecimal price(long cents) {
+        return BigDecimal.valueOf(cents, 2).setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static String id(String kind, long n, int width) {
+        return ID_PREFIX + kind + String.format("%0" + width + "d", n);
+    }
+
+    /** Running state of one item while its movements are generated. */
+    private static final class Item {
+        final String id;
+        final String supplierId;
+        final int minimumQuantity;
+        long cents;
+        int quantity;
+        boolean opened;
+
+        Item(String id, String supplierId, long cents, int minimumQuantity) {
+            this.id = id;
+            this.supplierId = supplierId;
+            this.cents = cents;
+            this.minimumQuantity = minimumQuantity;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.smartsupplypro.inventory.testdata;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.smartsupplypro.inventory.enums.StockChangeReason;
+import com.smartsupplypro.inventory.model.Role;
+
+/**
+ * Unit tests for {@link SyntheticDataGenerator}: reproducibility from the seed and
+ * the reconciliation invariants every generated dataset must satisfy.
+ */
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataGenerator.Volume VOLUME = new SyntheticDataGenerator.Volume(
+            3, 40, 4, 5_000, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), 7);
+
+    @Test
+    void sameSeed_producesIdenticalRows_differentSeedDoesNot() throws Exception {
+        String first = digest(VOLUME);
+
+        assertEquals(first, digest(VOLUME));
+        assertNotEquals(first, digest(VOLUME.withSeed(8)));
+    }
+
+    @Test
+    void movements_reconcileWithFinalItemState_andNeverGoNegative() {
+        Recorder recorder = new Recorder();
+        new SyntheticDataGenerator(VOLUME).generate(recorder);
+
+        assertEquals(VOLUME.movements(), recorder.movements);
+        assertEquals(VOLUME.items(), recorder.finalQuantity.size());
+        assertFalse(recorder.wentNegative);
+        assertEquals(recorder.finalQuantity, recorder.running);
+        recorder.finalPrice.forEach((id, price) -> assertEquals(recorder.lastPrice.get(id), price));
+        assertEquals(EnumSet.allOf(StockChangeReason.class), recorder.reasons);
+    }
+
+    @Test
+    void movements_areChronological_withinTheWindow_andWeekdaysDominate() {
+        Recorder recorder = new Recorder();
+        new SyntheticDataGenerator(VOLUME).generate(recorder);
+
+        assertFalse(recorder.outOfOrder);
+        assertFalse(recorder.first.toLocalDate().isBefore(VOLUME.from()));
+        assertFalse(recorder.last.toLocalDate().isAfter(VOLUME.to()));
+        // weekends carry 30 % weight: well under 2/7 of all movements
+        assertTrue(recorder.weekend < VOLUME.movements() * 0.15, "weekend movements: " + recorder.weekend);
+    }
+
+    private static String digest(SyntheticDataGenerator.Volume volume) throws Exception {
+        MessageDigest sha = MessageDigest.getInstance("SHA-256");
+        new SyntheticDataGenerator(volume).generate(new SyntheticDataGenerator.Sink() {
+            @Override
+            public void supplier(String id, String name, String contactName, String phone, String email,
+                                 LocalDateTime createdAt) {
+                update(id, name, contactName, phone, email, createdAt);
+            }
+
+            @Override
+            public void user(String id, String email, String name, Role role, LocalDateTime createdAt) {
+                update(id, email, name, role, createdAt);
+            }
+
+            @Override
+            public void item(String id, String sku, String name, String supplierId, BigDecimal price,
+                             int minimumQuantity, String createdBy, LocalDateTime createdAt) {
+                update(id, sku, name, supplierId, price, minimumQuantity, createdBy, createdAt);
+            }
+
+            @Override
+            public void movement(String id, String itemId, String supplierId, int quantityChange,
+                                 StockChangeReason reason, String createdBy, LocalDateTime createdAt,
+                                 BigDecimal priceAtChange) {
+                update(id, itemId, supplierId, quantityChange, reason, createdBy, createdAt, priceAtChange);
+            }
+
+            @Override
+            public void itemState(String id, int quantity, BigDecimal price) {
+                update(id, quantity, price);
+            }
+
+            private void update(Object... values) {
+                for (Object value : values) {
+                    sha.update(String.valueOf(value).getBytes());
+                    sha.update((byte) '|');
+                }
+            }
+        });
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    /** Replays movements per item and records invariant violations. */
+    private static final class Recorder implements SyntheticDataGenerator.Sink {
+        final Map<String, Integer> running = new HashMap<>();
+        final Map<String, BigDecimal> lastPrice = new HashMap<>();
+        final Map<String, Integer> finalQuantity = new HashMap<>();
+        final Map<String, BigDecimal> finalPrice = new HashMap<>();
+        final Set<StockChangeReason> reasons = EnumSet.noneOf(StockChangeReason.class);
+        int movements;
+        int weekend;
+        boolean wentNegative;
+        boolean outOfOrder;
+        LocalDateTime first;
+        LocalDateTime last;
+
+        @Override
+        public void supplier(String id, String name, String contactName, String phone, String email,
+                             LocalDateTime createdAt) {
+        }
+
+        @Override
+        public void user(String id, String email, String name, Role role, LocalDateTime createdAt) {
+        }
+
+        @Override
+        public void item(String id, String sku, String name, String supplierId, BigDecimal price,
+                         int minimumQuantity, String createdBy, LocalDateTime createdAt) {
+            running.put(id, 0);
+            lastPrice.put(id, price);
+        }
+
+        @Override
+        public void movement(String id, String itemId, String supplierId, int quantityChange,
+                             StockChangeReason reason, String createdBy, LocalDateTime createdAt,
+                             BigDecimal priceAtChange) {
+            movements++;
+            reasons.add(reason);
+            int quantity = running.merge(itemId, quantityChange, Integer::sum);
+            wentNegative |= quantity < 0;
+            lastPrice.put(itemId, priceAtChange);
+            outOfOrder |= last != null && createdAt.isBefore(last);
+            if (first == null) {
+                first = createdAt;
+            }
+            last = createdAt;
+            if (createdAt.getDayOfWeek().getValue() >= 6) {
+                weekend++;
+            }
+        }
+
+        @Override
+        public void itemState(String id, int quantity, BigDecimal price) {
+            finalQuantity.put(id, quantity);
+            finalPrice.put(id, price);
+        }
+    }
+}
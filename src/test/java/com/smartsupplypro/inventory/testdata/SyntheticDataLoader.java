@@ -0,0 +1,106 @@
+package com.smartsupplypro.inventory.testdata;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads a {@link SyntheticDataGenerator} dataset into an existing schema.
+ *
+ * <p>Used programmatically by tests and the load-test harness, and as a command-line tool
+ * through the {@code seed} Maven profile:</p>
+ * <pre>
+ * mvn -Pseed test-compile exec:exec@seed -Dseed.args="--url jdbc:oracle:thin:@//host:1521/svc \
+ *     --user inventory --password ... --volume medium --seed 7 --replace"
+ * </pre>
+ *
+ * <p>Options: {@code --url} (required), {@code --user}, {@code --password},
+ * {@code --volume small|medium|large} (default small), {@code --movements N},
+ * {@code --seed N}, {@code --batch-size N} (default 1000) and {@code --replace}, which
+ * deletes earlier synthetic rows first. The schema must exist (Flyway or Hibernate).</p>
+ */
+public final class SyntheticDataLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private SyntheticDataLoader() {
+    }
+
+    /**
+     * Generates {@code volume} into {@code dataSource}.
+     *
+     * @param replace delete earlier synthetic rows first; otherwise ids must not collide
+     * @return rows written
+     */
+    public static long load(DataSource dataSource, SyntheticDataGenerator.Volume volume, int batchSize,
+                            boolean replace) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return load(connection, volume, batchSize, replace);
+        }
+    }
+
+    /** As {@link #load(DataSource, SyntheticDataGenerator.Volume, int, boolean)} on a caller-owned connection. */
+    public static long load(Connection connection, SyntheticDataGenerator.Volume volume, int batchSize,
+                            boolean replace) throws SQLException {
+        long start = System.nanoTime();
+        if (replace) {
+            log.info("Deleted {} earlier synthetic rows", JdbcBatchSink.deleteGenerated(connection));
+        }
+        JdbcBatchSink sink = new JdbcBatchSink(connection, batchSize);
+        try {
+            new SyntheticDataGenerator(volume).generate(sink);
+        } finally {
+            sink.close();
+        }
+        long rows = sink.rowsWritten();
+        log.info("Loaded {} synthetic rows ({}) in {} ms", rows, volume, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = parse(args);
+        String url = options.get("url");
+        if (url == null) {
+            throw new IllegalArgumentException("--url is required");
+        }
+        SyntheticDataGenerator.Volume volume = switch (options.getOrDefault("volume", "small").toLowerCase(Locale.ROOT)) {
+            case "small" -> SyntheticDataGenerator.Volume.small();
+            case "medium" -> SyntheticDataGenerator.Volume.medium();
+            case "large" -> SyntheticDataGenerator.Volume.large();
+            default -> throw new IllegalArgumentException("--volume must be small, medium or large");
+        };
+        if (options.containsKey("movements")) {
+            volume = volume.withMovements(Integer.parseInt(options.get("movements")));
+        }
+        if (options.containsKey("seed")) {
+            volume = volume.withSeed(Long.parseLong(options.get("seed")));
+        }
+        int batchSize = Integer.parseInt(options.getOrDefault("batch-size", String.valueOf(DEFAULT_BATCH_SIZE)));
+        try (Connection connection = DriverManager.getConnection(url, options.get("user"), options.get("password"))) {
+            load(connection, volume, batchSize, options.containsKey("replace"));
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String key = args[i].substring(2);
+            boolean flag = i + 1 >= args.length || args[i + 1].startsWith("--");
+            options.put(key, flag ? "true" : args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,43 @@
+package com.smartsupplypro.inventory.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the real warm-up steps during context startup against the test schema: every
+ * catalogue and analytics query must succeed, and the application must be ready afterwards.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warmup;MODE=Oracle;DATABASE_TO_UPPER=true;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "app.health.probe-enabled=false",
+        "app.warmup.enabled=true",
+        "app.warmup.budget=60s",
+        "app.warmup.rounds=2"
+})
+@ActiveProfiles("test")
+class StartupWarmupIntegrationTest {
+
+    @Autowired
+    private StartupWarmup warmup;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    void warmupCompletesWithoutFailures_beforeReadiness() {
+        StartupWarmup.Result result = warmup.result();
+
+        assertEquals(StartupWarmup.State.COMPLETED, result.state());
+        assertEquals(2, result.rounds());
+        assertEquals(0, result.failed());
+        assertTrue(result.succeeded() >= 6, "one-shot steps once plus repeated catalogue steps");
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+}
@@ -0,0 +1,100 @@
+package com.smartsupplypro.inventory.warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.smartsupplypro.inventory.config.AppProperties;
+import com.smartsupplypro.inventory.warmup.StartupWarmup.Result;
+import com.smartsupplypro.inventory.warmup.StartupWarmup.State;
+import com.smartsupplypro.inventory.warmup.StartupWarmup.Step;
+
+/** Verifies that {@link StartupWarmup} repeats, isolates failures and respects its budget. */
+class StartupWarmupTest {
+
+    private static AppProperties.Warmup cfg(boolean enabled, Duration budget, int rounds) {
+        AppProperties.Warmup cfg = new AppProperties.Warmup();
+        cfg.setEnabled(enabled);
+        cfg.setBudget(budget);
+        cfg.setRounds(rounds);
+        return cfg;
+    }
+
+    @Test
+    void should_runNothing_when_disabled() {
+        AtomicInteger calls = new AtomicInteger();
+        StartupWarmup warmup = new StartupWarmup(cfg(false, Duration.ofSeconds(5), 3),
+                List.of(new Step("catalogue", true, calls::incrementAndGet)));
+
+        Result result = warmup.warmUp();
+
+        assertEquals(State.DISABLED, result.state());
+        assertEquals(0, calls.get());
+        assertEquals(result, warmup.result());
+    }
+
+    @Test
+    void should_repeatOnlyRepeatableSteps_when_severalRounds() {
+        AtomicInteger repeated = new AtomicInteger();
+        AtomicInteger once = new AtomicInteger();
+        StartupWarmup warmup = new StartupWarmup(cfg(true, Duration.ofSeconds(5), 3), List.of(
+                new Step("connection-pool", false, once::incrementAndGet),
+                new Step("catalogue", true, repeated::incrementAndGet)));
+
+        Result result = warmup.warmUp();
+
+        assertEquals(State.COMPLETED, result.state());
+        assertEquals(3, result.rounds());
+        assertEquals(3, repeated.get());
+        assertEquals(1, once.get());
+        assertEquals(4, result.succeeded());
+        assertEquals(0, result.failed());
+    }
+
+    @Test
+    void should_countFailureAndContinue_when_stepThrows() {
+        AtomicInteger after = new AtomicInteger();
+        StartupWarmup warmup = new StartupWarmup(cfg(true, Duration.ofSeconds(5), 1), List.of(
+                new Step("dashboard", false, () -> { throw new IllegalStateException("analytics down"); }),
+                new Step("catalogue", true, after::incrementAndGet)));
+
+        Result result = warmup.warmUp();
+
+        assertEquals(State.COMPLETED, result.state());
+        assertEquals(1, result.failed());
+        assertEquals(1, result.succeeded());
+        assertEquals(1, after.get());
+    }
+
+    @Test
+    void should_stopAtBudget_when_stepIsSlow() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowDone = new CountDownLatch(1);
+        AtomicInteger after = new AtomicInteger();
+        StartupWarmup warmup = new StartupWarmup(cfg(true, Duration.ofMillis(100), 1), List.of(
+                new Step("analytics-batch", false, () -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    slowDone.countDown();
+                }),
+                new Step("catalogue", true, after::incrementAndGet)));
+
+        Result result = warmup.warmUp();
+        release.countDown();
+
+        assertEquals(State.TIMED_OUT, result.state());
+        assertTrue(result.elapsedMillis() < 5_000, "must not wait for the slow step");
+        assertTrue(slowDone.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50); // the worker would run the next step right after the slow one
+        assertEquals(0, after.get());
+    }
+}